@@ -0,0 +1,225 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.benchmarks;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares JMH JSON results (as produced with {@code -rf json}) against a baseline, reporting any benchmark whose
+ * primary score or normalized allocation rate ({@code gc.alloc.rate.norm}, available with {@code -prof gc}) is worse
+ * than the baseline by more than a threshold.
+ * <p>
+ * Usage: {@code BenchmarkBaselineComparator <baseline.json> <results.json> [threshold]}, where the threshold is a
+ * fraction (default 0.1). The process exits with status 1 if there are any regressions.
+ */
+public class BenchmarkBaselineComparator
+{
+    public static final double DEFAULT_THRESHOLD = 0.1;
+
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+    private BenchmarkBaselineComparator()
+    {
+        // Utility class
+    }
+
+    public static void main(String[] args) throws IOException, ParseException
+    {
+        if ((args.length < 2) || (args.length > 3))
+        {
+            System.err.println("Usage: " + BenchmarkBaselineComparator.class.getSimpleName() + " <baseline.json> <results.json> [threshold]");
+            System.exit(2);
+        }
+        double threshold = (args.length == 3) ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD;
+        ListIterable<Comparison> comparisons = compare(readResults(Paths.get(args[0])), readResults(Paths.get(args[1])), threshold);
+        comparisons.forEach(System.out::println);
+        ListIterable<Comparison> regressions = comparisons.select(Comparison::isRegression);
+        if (regressions.notEmpty())
+        {
+            System.out.println(regressions.size() + " regression(s) beyond threshold " + threshold);
+            System.exit(1);
+        }
+    }
+
+    public static JSONArray readResults(Path path) throws IOException, ParseException
+    {
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8))
+        {
+            return (JSONArray) new JSONParser().parse(reader);
+        }
+    }
+
+    /**
+     * Compare results against a baseline. Only benchmarks (including mode and parameters) present in both are
+     * compared.
+     *
+     * @param baseline  baseline results
+     * @param results   current results
+     * @param threshold relative change beyond which a worse result is a regression
+     * @return comparisons
+     */
+    public static ListIterable<Comparison> compare(JSONArray baseline, JSONArray results, double threshold)
+    {
+        if (threshold < 0.0)
+        {
+            throw new IllegalArgumentException("Invalid threshold: " + threshold);
+        }
+        MutableMap<String, JSONObject> baselineByKey = Maps.mutable.empty();
+        for (Object result : baseline)
+        {
+            baselineByKey.put(getKey((JSONObject) result), (JSONObject) result);
+        }
+
+        MutableList<Comparison> comparisons = Lists.mutable.empty();
+        for (Object r : results)
+        {
+            JSONObject result = (JSONObject) r;
+            String key = getKey(result);
+            JSONObject base = baselineByKey.get(key);
+            if (base != null)
+            {
+                boolean higherIsBetter = "thrpt".equals(result.get("mode"));
+                comparisons.add(new Comparison(key, (String) getPrimaryMetric(result).get("scoreUnit"), getScore(getPrimaryMetric(base)), getScore(getPrimaryMetric(result)), higherIsBetter, threshold));
+
+                JSONObject baseAllocation = getAllocationMetric(base);
+                JSONObject allocation = getAllocationMetric(result);
+                if ((baseAllocation != null) && (allocation != null))
+                {
+                    comparisons.add(new Comparison(key + " " + ALLOCATION_METRIC, (String) allocation.get("scoreUnit"), getScore(baseAllocation), getScore(allocation), false, threshold));
+                }
+            }
+        }
+        return comparisons;
+    }
+
+    private static String getKey(JSONObject result)
+    {
+        StringBuilder builder = new StringBuilder((String) result.get("benchmark")).append(" [").append(result.get("mode")).append(']');
+        JSONObject params = (JSONObject) result.get("params");
+        if ((params != null) && !params.isEmpty())
+        {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> sortedParams = new TreeMap<>(params);
+            builder.append(' ').append(sortedParams);
+        }
+        return builder.toString();
+    }
+
+    private static JSONObject getPrimaryMetric(JSONObject result)
+    {
+        return (JSONObject) result.get("primaryMetric");
+    }
+
+    private static JSONObject getAllocationMetric(JSONObject result)
+    {
+        JSONObject secondaryMetrics = (JSONObject) result.get("secondaryMetrics");
+        if (secondaryMetrics == null)
+        {
+            return null;
+        }
+        for (Object key : secondaryMetrics.keySet())
+        {
+            if (((String) key).endsWith(ALLOCATION_METRIC))
+            {
+                return (JSONObject) secondaryMetrics.get(key);
+            }
+        }
+        return null;
+    }
+
+    private static double getScore(JSONObject metric)
+    {
+        return ((Number) metric.get("score")).doubleValue();
+    }
+
+    public static class Comparison
+    {
+        private final String name;
+        private final String unit;
+        private final double baseline;
+        private final double result;
+        private final boolean higherIsBetter;
+        private final double threshold;
+
+        private Comparison(String name, String unit, double baseline, double result, boolean higherIsBetter, double threshold)
+        {
+            this.name = name;
+            this.unit = unit;
+            this.baseline = baseline;
+            this.result = result;
+            this.higherIsBetter = higherIsBetter;
+            this.threshold = threshold;
+        }
+
+        public String getName()
+        {
+            return this.name;
+        }
+
+        public double getBaseline()
+        {
+            return this.baseline;
+        }
+
+        public double getResult()
+        {
+            return this.result;
+        }
+
+        /**
+         * Relative change from the baseline, where positive values are improvements and negative values are
+         * deteriorations.
+         *
+         * @return relative improvement
+         */
+        public double getRelativeImprovement()
+        {
+            if (this.baseline == 0.0)
+            {
+                return (this.result == 0.0) ? 0.0 : (this.higherIsBetter ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY);
+            }
+            double change = (this.result - this.baseline) / Math.abs(this.baseline);
+            return this.higherIsBetter ? change : -change;
+        }
+
+        public boolean isRegression()
+        {
+            return getRelativeImprovement() < -this.threshold;
+        }
+
+        @Override
+        public String toString()
+        {
+            return String.format("%s %s: %.3f -> %.3f %s (%+.1f%%)", isRegression() ? "REGRESSION" : "ok        ", this.name, this.baseline, this.result, this.unit, 100.0 * getRelativeImprovement());
+        }
+    }
+}
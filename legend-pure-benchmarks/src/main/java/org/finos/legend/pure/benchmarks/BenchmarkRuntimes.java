@@ -0,0 +1,130 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.benchmarks;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.tuple.Pair;
+import org.finos.legend.pure.m3.coreinstance.CoreInstanceFactoryRegistry;
+import org.finos.legend.pure.m3.execution.FunctionExecution;
+import org.finos.legend.pure.m3.serialization.filesystem.repository.CodeRepository;
+import org.finos.legend.pure.m3.serialization.filesystem.repository.CodeRepositoryProviderHelper;
+import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.MutableRepositoryCodeStorage;
+import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.classpath.ClassLoaderCodeStorage;
+import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.composite.CompositeCodeStorage;
+import org.finos.legend.pure.m3.serialization.runtime.GraphLoader;
+import org.finos.legend.pure.m3.serialization.runtime.Message;
+import org.finos.legend.pure.m3.serialization.runtime.PureRuntime;
+import org.finos.legend.pure.m3.serialization.runtime.PureRuntimeBuilder;
+import org.finos.legend.pure.m3.serialization.runtime.binary.PureRepositoryJar;
+import org.finos.legend.pure.m3.serialization.runtime.binary.SimplePureRepositoryJarLibrary;
+
+/**
+ * Helpers for building Pure runtimes for benchmarks.
+ */
+public class BenchmarkRuntimes
+{
+    private BenchmarkRuntimes()
+    {
+        // Utility class
+    }
+
+    public static RichIterable<CodeRepository> getCodeRepositories()
+    {
+        return CodeRepositoryProviderHelper.findCodeRepositories(Thread.currentThread().getContextClassLoader(), true);
+    }
+
+    public static MutableRepositoryCodeStorage newCodeStorage()
+    {
+        return new CompositeCodeStorage(new ClassLoaderCodeStorage(Thread.currentThread().getContextClassLoader(), getCodeRepositories()));
+    }
+
+    /**
+     * Build a runtime which is not yet initialized.
+     *
+     * @param functionExecution function execution (may be null)
+     * @param registry          factory registry override (may be null)
+     * @return new runtime
+     */
+    public static PureRuntime newRuntime(FunctionExecution functionExecution, CoreInstanceFactoryRegistry registry)
+    {
+        Message message = new Message("");
+        PureRuntime runtime = new PureRuntimeBuilder(newCodeStorage())
+                .withFactoryRegistryOverride(registry)
+                .setTransactionalByDefault(false)
+                .withMessage(message)
+                .build();
+        if (functionExecution != null)
+        {
+            functionExecution.init(runtime, message);
+        }
+        return runtime;
+    }
+
+    /**
+     * Build a runtime and initialize it, loading repositories from PAR files if they are available for all
+     * repositories and compiling them from source otherwise.
+     *
+     * @param functionExecution function execution (may be null)
+     * @param registry          factory registry override (may be null)
+     * @return initialized runtime
+     */
+    public static PureRuntime newInitializedRuntime(FunctionExecution functionExecution, CoreInstanceFactoryRegistry registry)
+    {
+        PureRuntime runtime = newRuntime(functionExecution, registry);
+        Message message = new Message("");
+        ListIterable<PureRepositoryJar> jars = findRepositoryJars(runtime, message);
+        if (jars.size() < runtime.getCodeStorage().getAllRepositories().size())
+        {
+            runtime.loadAndCompileCore(message);
+        }
+        else
+        {
+            newGraphLoader(runtime, jars).loadAll(message);
+        }
+        runtime.loadAndCompileSystem(message);
+        return runtime;
+    }
+
+    public static ListIterable<PureRepositoryJar> findRepositoryJars(PureRuntime runtime, Message message)
+    {
+        ListIterable<String> repoNames = Lists.mutable.withAll(runtime.getCodeStorage().getAllRepositories().collect(CodeRepository::getName));
+        return GraphLoader.findJars(repoNames, Thread.currentThread().getContextClassLoader(), message, false);
+    }
+
+    public static GraphLoader newGraphLoader(PureRuntime runtime, ListIterable<PureRepositoryJar> jars)
+    {
+        return new GraphLoader(runtime.getModelRepository(), runtime.getContext(), runtime.getIncrementalCompiler().getParserLibrary(), runtime.getIncrementalCompiler().getDslLibrary(), runtime.getSourceRegistry(), runtime.getURLPatternLibrary(), SimplePureRepositoryJarLibrary.newLibrary(jars));
+    }
+
+    /**
+     * Remove the given sources from the runtime and recompile.
+     *
+     * @param runtime runtime
+     * @param sources sources to remove
+     */
+    public static void deleteAndCompile(PureRuntime runtime, Iterable<? extends Pair<String, String>> sources)
+    {
+        sources.forEach(source ->
+        {
+            if (runtime.getSourceById(source.getOne()) != null)
+            {
+                runtime.delete(source.getOne());
+            }
+        });
+        runtime.compile();
+    }
+}
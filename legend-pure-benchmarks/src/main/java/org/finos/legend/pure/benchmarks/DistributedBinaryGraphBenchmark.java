@@ -0,0 +1,80 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.benchmarks;
+
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.map.MutableMap;
+import org.finos.legend.pure.m3.serialization.runtime.PureRuntime;
+import org.finos.legend.pure.runtime.java.compiled.serialization.binary.DistributedBinaryGraphDeserializer;
+import org.finos.legend.pure.runtime.java.compiled.serialization.binary.DistributedBinaryGraphSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization of the graph with {@link DistributedBinaryGraphSerializer} and deserialization of all instances with
+ * {@link DistributedBinaryGraphDeserializer}, both in memory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class DistributedBinaryGraphBenchmark
+{
+    private PureRuntime runtime;
+    private MutableMap<String, byte[]> fileBytes;
+
+    @Setup
+    public void setUp()
+    {
+        this.runtime = BenchmarkRuntimes.newInitializedRuntime(null, null);
+        this.fileBytes = Maps.mutable.empty();
+        DistributedBinaryGraphSerializer.newSerializer(this.runtime).serializeToInMemoryByteArrays(this.fileBytes);
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        this.runtime.reset();
+    }
+
+    @Benchmark
+    public int serialize()
+    {
+        MutableMap<String, byte[]> bytes = Maps.mutable.empty();
+        DistributedBinaryGraphSerializer.newSerializer(this.runtime).serializeToInMemoryByteArrays(bytes);
+        return bytes.size();
+    }
+
+    @Benchmark
+    public void deserialize(Blackhole blackhole)
+    {
+        DistributedBinaryGraphDeserializer deserializer = DistributedBinaryGraphDeserializer.fromInMemoryByteArrays(this.fileBytes);
+        deserializer.getClassifiers().forEach(classifier -> blackhole.consume(deserializer.getInstances(classifier, deserializer.getClassifierInstanceIds(classifier))));
+    }
+}
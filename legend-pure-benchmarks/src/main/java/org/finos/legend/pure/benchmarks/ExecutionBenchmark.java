@@ -0,0 +1,106 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.benchmarks;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.finos.legend.pure.m3.execution.FunctionExecution;
+import org.finos.legend.pure.m3.navigation.ProcessorSupport;
+import org.finos.legend.pure.m3.navigation.ValueSpecificationBootstrap;
+import org.finos.legend.pure.m3.serialization.runtime.PureRuntime;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.runtime.java.compiled.execution.FunctionExecutionCompiledBuilder;
+import org.finos.legend.pure.runtime.java.compiled.factory.JavaModelFactoryRegistryLoader;
+import org.finos.legend.pure.runtime.java.interpreted.FunctionExecutionInterpreted;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Execution of a chain of synthetic model functions (each instantiating a class and calling a qualified property) with
+ * the interpreted or compiled engine.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class ExecutionBenchmark
+{
+    @Param({"interpreted", "compiled"})
+    public String engine;
+
+    private PureRuntime runtime;
+    private FunctionExecution functionExecution;
+    private CoreInstance function;
+    private ImmutableList<CoreInstance> arguments;
+
+    @Setup
+    public void setUp()
+    {
+        switch (this.engine)
+        {
+            case "interpreted":
+            {
+                this.functionExecution = new FunctionExecutionInterpreted();
+                this.runtime = BenchmarkRuntimes.newInitializedRuntime(this.functionExecution, null);
+                break;
+            }
+            case "compiled":
+            {
+                this.functionExecution = new FunctionExecutionCompiledBuilder().build();
+                this.runtime = BenchmarkRuntimes.newInitializedRuntime(this.functionExecution, JavaModelFactoryRegistryLoader.loader());
+                break;
+            }
+            default:
+            {
+                throw new IllegalArgumentException("Unknown engine: " + this.engine);
+            }
+        }
+        SyntheticModelGenerator generator = SyntheticModelGenerator.builder().withClassCount(10).withFunctionCount(10).build();
+        this.runtime.createInMemoryAndCompile(generator.generate());
+        this.function = this.runtime.getFunction(generator.getChainFunctionDescriptor(0));
+        if (this.function == null)
+        {
+            throw new IllegalStateException("Could not find function: " + generator.getChainFunctionDescriptor(0));
+        }
+        ProcessorSupport processorSupport = this.runtime.getProcessorSupport();
+        this.arguments = Lists.immutable.with(ValueSpecificationBootstrap.wrapValueSpecification(ValueSpecificationBootstrap.newIntegerLiteral(this.runtime.getModelRepository(), 1, processorSupport), true, processorSupport));
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        this.runtime.reset();
+    }
+
+    @Benchmark
+    public CoreInstance execute()
+    {
+        return this.functionExecution.start(this.function, this.arguments);
+    }
+}
@@ -0,0 +1,69 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.benchmarks;
+
+import org.eclipse.collections.api.list.ListIterable;
+import org.finos.legend.pure.m3.serialization.runtime.GraphLoader;
+import org.finos.legend.pure.m3.serialization.runtime.Message;
+import org.finos.legend.pure.m3.serialization.runtime.PureRuntime;
+import org.finos.legend.pure.m3.serialization.runtime.binary.PureRepositoryJar;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loading of all available repositories from PAR files with {@link GraphLoader}. A fresh runtime is created before
+ * each invocation, outside the measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class GraphLoadBenchmark
+{
+    private PureRuntime runtime;
+    private GraphLoader loader;
+
+    @Setup(Level.Invocation)
+    public void setUp()
+    {
+        this.runtime = BenchmarkRuntimes.newRuntime(null, null);
+        ListIterable<PureRepositoryJar> jars = BenchmarkRuntimes.findRepositoryJars(this.runtime, new Message(""));
+        if (jars.isEmpty())
+        {
+            throw new IllegalStateException("No PAR files found on the classpath");
+        }
+        this.loader = BenchmarkRuntimes.newGraphLoader(this.runtime, jars);
+    }
+
+    @Benchmark
+    public PureRuntime loadAll()
+    {
+        this.loader.loadAll(new Message(""));
+        return this.runtime;
+    }
+}
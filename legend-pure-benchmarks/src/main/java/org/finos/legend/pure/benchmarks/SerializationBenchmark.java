@@ -0,0 +1,129 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.benchmarks;
+
+import org.eclipse.collections.api.list.ListIterable;
+import org.finos.legend.pure.m3.navigation.ProcessorSupport;
+import org.finos.legend.pure.m3.serialization.compiler.PureCompilerSerializer;
+import org.finos.legend.pure.m3.serialization.compiler.element.ConcreteElementSerializer;
+import org.finos.legend.pure.m3.serialization.compiler.file.FileDeserializer;
+import org.finos.legend.pure.m3.serialization.compiler.file.FilePathProvider;
+import org.finos.legend.pure.m3.serialization.compiler.file.FileSerializer;
+import org.finos.legend.pure.m3.serialization.compiler.metadata.ConcreteElementMetadata;
+import org.finos.legend.pure.m3.serialization.compiler.metadata.ModuleMetadataGenerator;
+import org.finos.legend.pure.m3.serialization.compiler.metadata.ModuleMetadataSerializer;
+import org.finos.legend.pure.m3.serialization.runtime.PureRuntime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Serialization of a module with {@link PureCompilerSerializer} and deserialization of all of its elements with
+ * {@link FileDeserializer}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class SerializationBenchmark
+{
+    @Param({"platform"})
+    public String module;
+
+    private PureRuntime runtime;
+    private PureCompilerSerializer serializer;
+    private FileDeserializer deserializer;
+    private Path directory;
+    private ListIterable<String> elementPaths;
+
+    @Setup
+    public void setUp() throws IOException
+    {
+        this.runtime = BenchmarkRuntimes.newInitializedRuntime(null, null);
+        ProcessorSupport processorSupport = this.runtime.getProcessorSupport();
+        FileSerializer fileSerializer = FileSerializer.builder()
+                .withFilePathProvider(FilePathProvider.builder().withLoadedExtensions().build())
+                .withSerializers(ConcreteElementSerializer.builder(processorSupport).withLoadedExtensions().build(), ModuleMetadataSerializer.builder().withLoadedExtensions().build())
+                .build();
+        this.serializer = PureCompilerSerializer.builder()
+                .withFileSerializer(fileSerializer)
+                .withModuleMetadataGenerator(ModuleMetadataGenerator.fromPureRuntime(this.runtime))
+                .withProcessorSupport(processorSupport)
+                .build();
+        this.deserializer = fileSerializer.getDeserializer();
+        this.directory = Files.createTempDirectory("pure-serialization-benchmark");
+        this.serializer.serializeModule(this.directory, this.module);
+        this.elementPaths = this.deserializer.deserializeModuleManifest(this.directory, this.module).getElements().collect(ConcreteElementMetadata::getPath);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException
+    {
+        this.runtime.reset();
+        try (Stream<Path> stream = Files.walk(this.directory))
+        {
+            stream.sorted(Comparator.reverseOrder()).forEach(path ->
+            {
+                try
+                {
+                    Files.delete(path);
+                }
+                catch (IOException e)
+                {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    @Benchmark
+    public int serialize() throws IOException
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream stream = new ZipOutputStream(bytes))
+        {
+            this.serializer.serializeModule(stream, this.module);
+        }
+        return bytes.size();
+    }
+
+    @Benchmark
+    public void deserialize(Blackhole blackhole)
+    {
+        this.elementPaths.forEach(path -> blackhole.consume(this.deserializer.deserializeElement(this.directory, path)));
+    }
+}
@@ -0,0 +1,268 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.benchmarks;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.tuple.Tuples;
+
+/**
+ * Generates a deterministic synthetic Pure model for benchmarking. The model consists of:
+ * <ul>
+ *     <li>classes in {@code bench::model}, each with an id, a name, a configurable number of optional String
+ *     properties, a qualified property, and a reference to the previous class;</li>
+ *     <li>functions in {@code bench::functions}, each of which instantiates one of the classes and calls the previous
+ *     function in its chain (chains have a bounded length, so the call depth stays small);</li>
+ *     <li>Pure model-to-model mappings in {@code bench::mappings}, each mapping one of the classes (these require the
+ *     mapping DSL to be available).</li>
+ * </ul>
+ * Elements are spread across sources with a bounded number of elements per source.
+ */
+public class SyntheticModelGenerator
+{
+    public static final String MODEL_PACKAGE = "bench::model";
+    public static final String FUNCTIONS_PACKAGE = "bench::functions";
+    public static final String MAPPINGS_PACKAGE = "bench::mappings";
+
+    private static final int FUNCTION_CHAIN_LENGTH = 10;
+
+    private final int classCount;
+    private final int propertiesPerClass;
+    private final int functionCount;
+    private final int mappingCount;
+    private final int elementsPerSource;
+
+    private SyntheticModelGenerator(int classCount, int propertiesPerClass, int functionCount, int mappingCount, int elementsPerSource)
+    {
+        this.classCount = classCount;
+        this.propertiesPerClass = propertiesPerClass;
+        this.functionCount = functionCount;
+        this.mappingCount = mappingCount;
+        this.elementsPerSource = elementsPerSource;
+    }
+
+    public int getClassCount()
+    {
+        return this.classCount;
+    }
+
+    public int getFunctionCount()
+    {
+        return this.functionCount;
+    }
+
+    public int getMappingCount()
+    {
+        return this.mappingCount;
+    }
+
+    /**
+     * Generate the model sources as pairs of source id and code.
+     *
+     * @return source ids and code
+     */
+    public ImmutableList<Pair<String, String>> generate()
+    {
+        MutableList<Pair<String, String>> sources = Lists.mutable.empty();
+        generateSources(sources, "classes", this.classCount, this::appendClass, "");
+        generateSources(sources, "functions", this.functionCount, this::appendFunction, "");
+        generateSources(sources, "mappings", this.mappingCount, this::appendMapping, "###Mapping\n");
+        return sources.toImmutable();
+    }
+
+    /**
+     * Get the path of the function at the end of the given chain. Executing it executes the whole chain.
+     *
+     * @param chain chain number
+     * @return function path
+     */
+    public String getChainFunctionPath(int chain)
+    {
+        int last = Math.min(((chain + 1) * FUNCTION_CHAIN_LENGTH), this.functionCount) - 1;
+        if ((last < 0) || (last < (chain * FUNCTION_CHAIN_LENGTH)))
+        {
+            throw new IllegalArgumentException("Invalid chain: " + chain);
+        }
+        return getFunctionName(last);
+    }
+
+    /**
+     * Get the function descriptor (for use with {@code PureRuntime.getFunction}) of the function at the end of the
+     * given chain.
+     *
+     * @param chain chain number
+     * @return function descriptor
+     */
+    public String getChainFunctionDescriptor(int chain)
+    {
+        return getChainFunctionPath(chain) + "(Integer[1]):Integer[1]";
+    }
+
+    private void generateSources(MutableList<Pair<String, String>> sources, String kind, int count, ElementAppender appender, String header)
+    {
+        for (int start = 0; start < count; start += this.elementsPerSource)
+        {
+            int end = Math.min(start + this.elementsPerSource, count);
+            StringBuilder builder = new StringBuilder(header);
+            for (int i = start; i < end; i++)
+            {
+                appender.append(builder, i);
+            }
+            sources.add(Tuples.pair("/bench/" + kind + "_" + start + ".pure", builder.toString()));
+        }
+    }
+
+    private void appendClass(StringBuilder builder, int i)
+    {
+        builder.append("Class ").append(getClassName(i)).append("\n{\n");
+        builder.append("    id : Integer[1];\n");
+        builder.append("    name : String[1];\n");
+        for (int j = 0; j < this.propertiesPerClass; j++)
+        {
+            builder.append("    p").append(j).append(" : String[0..1];\n");
+        }
+        if (i > 0)
+        {
+            builder.append("    previous : ").append(getClassName(i - 1)).append("[0..1];\n");
+        }
+        builder.append("    idPlus(n : Integer[1]) { $this.id + $n }: Integer[1];\n");
+        builder.append("}\n\n");
+    }
+
+    private void appendFunction(StringBuilder builder, int i)
+    {
+        String className = getClassName((this.classCount == 0) ? -1 : (i % this.classCount));
+        builder.append("function ").append(getFunctionName(i)).append("(x : Integer[1]) : Integer[1]\n{\n");
+        if (className == null)
+        {
+            builder.append("    $x + ").append(i);
+        }
+        else
+        {
+            builder.append("    let c = ^").append(className).append("(id = $x, name = 'n").append(i).append("');\n");
+            builder.append("    let s = $c.name->length() + $c.idPlus(").append(i).append(");\n");
+            builder.append("    $s");
+        }
+        if ((i % FUNCTION_CHAIN_LENGTH) != 0)
+        {
+            builder.append(" + ").append(getFunctionName(i - 1)).append("($x)");
+        }
+        builder.append(";\n}\n\n");
+    }
+
+    private void appendMapping(StringBuilder builder, int i)
+    {
+        if (this.classCount == 0)
+        {
+            throw new IllegalStateException("Mappings require at least one class");
+        }
+        String className = getClassName(i % this.classCount);
+        builder.append("Mapping ").append(MAPPINGS_PACKAGE).append("::M").append(i).append("\n(\n");
+        builder.append("    ").append(className).append(" : Pure\n");
+        builder.append("    {\n");
+        builder.append("        ~src ").append(className).append("\n");
+        builder.append("        id : $src.id + ").append(i).append(",\n");
+        builder.append("        name : $src.name\n");
+        builder.append("    }\n");
+        builder.append(")\n\n");
+    }
+
+    private static String getClassName(int i)
+    {
+        return (i < 0) ? null : (MODEL_PACKAGE + "::C" + i);
+    }
+
+    private static String getFunctionName(int i)
+    {
+        return FUNCTIONS_PACKAGE + "::f" + i;
+    }
+
+    public static Builder builder()
+    {
+        return new Builder();
+    }
+
+    public static class Builder
+    {
+        private int classCount = 100;
+        private int propertiesPerClass = 5;
+        private int functionCount = 100;
+        private int mappingCount = 0;
+        private int elementsPerSource = 50;
+
+        private Builder()
+        {
+        }
+
+        public Builder withClassCount(int classCount)
+        {
+            this.classCount = checkNonNegative(classCount, "class count");
+            return this;
+        }
+
+        public Builder withPropertiesPerClass(int propertiesPerClass)
+        {
+            this.propertiesPerClass = checkNonNegative(propertiesPerClass, "properties per class");
+            return this;
+        }
+
+        public Builder withFunctionCount(int functionCount)
+        {
+            this.functionCount = checkNonNegative(functionCount, "function count");
+            return this;
+        }
+
+        public Builder withMappingCount(int mappingCount)
+        {
+            this.mappingCount = checkNonNegative(mappingCount, "mapping count");
+            return this;
+        }
+
+        public Builder withElementsPerSource(int elementsPerSource)
+        {
+            if (elementsPerSource < 1)
+            {
+                throw new IllegalArgumentException("Invalid elements per source: " + elementsPerSource);
+            }
+            this.elementsPerSource = elementsPerSource;
+            return this;
+        }
+
+        public SyntheticModelGenerator build()
+        {
+            if ((this.mappingCount > 0) && (this.classCount == 0))
+            {
+                throw new IllegalStateException("Mappings require at least one class");
+            }
+            return new SyntheticModelGenerator(this.classCount, this.propertiesPerClass, this.functionCount, this.mappingCount, this.elementsPerSource);
+        }
+
+        private static int checkNonNegative(int value, String description)
+        {
+            if (value < 0)
+            {
+                throw new IllegalArgumentException("Invalid " + description + ": " + value);
+            }
+            return value;
+        }
+    }
+
+    private interface ElementAppender
+    {
+        void append(StringBuilder builder, int i);
+    }
+}
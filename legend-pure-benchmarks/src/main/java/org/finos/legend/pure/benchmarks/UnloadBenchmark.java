@@ -0,0 +1,85 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.benchmarks;
+
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.tuple.Pair;
+import org.finos.legend.pure.m3.serialization.runtime.PureRuntime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unloading of the synthetic model (deleting its sources and recompiling, which unbinds and unloads all references
+ * to it). The model is compiled again before each invocation, outside the measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class UnloadBenchmark
+{
+    @Param({"100", "1000"})
+    public int classCount;
+
+    @Param({"100"})
+    public int functionCount;
+
+    private PureRuntime runtime;
+    private ImmutableList<Pair<String, String>> sources;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        this.runtime = BenchmarkRuntimes.newInitializedRuntime(null, null);
+        this.sources = SyntheticModelGenerator.builder()
+                .withClassCount(this.classCount)
+                .withFunctionCount(this.functionCount)
+                .build()
+                .generate();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+    {
+        this.runtime.reset();
+    }
+
+    @Setup(Level.Invocation)
+    public void load()
+    {
+        this.runtime.createInMemoryAndCompile(this.sources);
+    }
+
+    @Benchmark
+    public void unload()
+    {
+        BenchmarkRuntimes.deleteAndCompile(this.runtime, this.sources);
+    }
+}
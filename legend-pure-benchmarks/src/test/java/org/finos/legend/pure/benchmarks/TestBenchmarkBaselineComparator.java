@@ -0,0 +1,66 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.benchmarks;
+
+import org.eclipse.collections.api.list.ListIterable;
+import org.json.simple.JSONArray;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestBenchmarkBaselineComparator
+{
+    @Test
+    public void testCompare() throws ParseException
+    {
+        JSONArray baseline = parse(
+                result("a.Parse.parse", "thrpt", "{\"classCount\":\"100\"}", 100.0, null),
+                result("a.Compile.compile", "avgt", "{\"classCount\":\"100\"}", 50.0, 1000.0),
+                result("a.Unload.unload", "avgt", "{}", 10.0, null));
+        JSONArray results = parse(
+                result("a.Parse.parse", "thrpt", "{\"classCount\":\"100\"}", 85.0, null),
+                result("a.Compile.compile", "avgt", "{\"classCount\":\"100\"}", 52.0, 1500.0),
+                result("a.Compile.compile", "avgt", "{\"classCount\":\"1000\"}", 500.0, null));
+
+        ListIterable<BenchmarkBaselineComparator.Comparison> comparisons = BenchmarkBaselineComparator.compare(baseline, results, 0.1);
+        Assert.assertEquals(
+                "[a.Parse.parse [thrpt] {classCount=100}, a.Compile.compile [avgt] {classCount=100}, a.Compile.compile [avgt] {classCount=100} gc.alloc.rate.norm]",
+                comparisons.collect(BenchmarkBaselineComparator.Comparison::getName).makeString("[", ", ", "]"));
+        Assert.assertEquals(
+                "[true, false, true]",
+                comparisons.collect(BenchmarkBaselineComparator.Comparison::isRegression).makeString("[", ", ", "]"));
+        Assert.assertEquals(-0.15, comparisons.get(0).getRelativeImprovement(), 1e-9);
+        Assert.assertEquals(-0.04, comparisons.get(1).getRelativeImprovement(), 1e-9);
+    }
+
+    @Test
+    public void testInvalidThreshold() throws ParseException
+    {
+        Assert.assertThrows(IllegalArgumentException.class, () -> BenchmarkBaselineComparator.compare(parse(), parse(), -0.5));
+    }
+
+    private static String result(String benchmark, String mode, String params, double score, Double allocation)
+    {
+        return "{\"benchmark\":\"" + benchmark + "\",\"mode\":\"" + mode + "\",\"params\":" + params +
+                ",\"primaryMetric\":{\"score\":" + score + ",\"scoreUnit\":\"ms/op\"}" +
+                ",\"secondaryMetrics\":{" + ((allocation == null) ? "" : ("\"\u00b7gc.alloc.rate.norm\":{\"score\":" + allocation + ",\"scoreUnit\":\"B/op\"}")) + "}}";
+    }
+
+    private static JSONArray parse(String... results) throws ParseException
+    {
+        return (JSONArray) new JSONParser().parse("[" + String.join(",", results) + "]");
+    }
+}
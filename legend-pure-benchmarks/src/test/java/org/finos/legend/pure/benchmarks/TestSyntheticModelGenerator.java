@@ -0,0 +1,76 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.benchmarks;
+
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.tuple.Pair;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestSyntheticModelGenerator
+{
+    @Test
+    public void testDeterministic()
+    {
+        SyntheticModelGenerator generator = SyntheticModelGenerator.builder().withClassCount(20).withFunctionCount(20).withMappingCount(5).build();
+        Assert.assertEquals(generator.generate(), generator.generate());
+    }
+
+    @Test
+    public void testSources()
+    {
+        ImmutableList<Pair<String, String>> sources = SyntheticModelGenerator.builder()
+                .withClassCount(120)
+                .withFunctionCount(30)
+                .withMappingCount(5)
+                .withElementsPerSource(50)
+                .build()
+                .generate();
+        Assert.assertEquals(
+                "[/bench/classes_0.pure, /bench/classes_50.pure, /bench/classes_100.pure, /bench/functions_0.pure, /bench/mappings_0.pure]",
+                sources.collect(Pair::getOne).makeString("[", ", ", "]"));
+
+        String classes = sources.get(0).getTwo();
+        Assert.assertTrue(classes, classes.startsWith("Class bench::model::C0\n{\n    id : Integer[1];\n"));
+        Assert.assertTrue(classes, classes.contains("Class bench::model::C49\n"));
+        Assert.assertFalse(classes, classes.contains("Class bench::model::C50\n"));
+        Assert.assertTrue(classes, classes.contains("    previous : bench::model::C48[0..1];\n"));
+
+        String functions = sources.get(3).getTwo();
+        Assert.assertTrue(functions, functions.contains("function bench::functions::f0(x : Integer[1]) : Integer[1]\n{\n    let c = ^bench::model::C0(id = $x, name = 'n0');\n    let s = $c.name->length() + $c.idPlus(0);\n    $s;\n}\n"));
+        Assert.assertTrue(functions, functions.contains("    $s + bench::functions::f10($x);\n"));
+        Assert.assertFalse(functions, functions.contains("bench::functions::f9($x)"));
+
+        String mappings = sources.get(4).getTwo();
+        Assert.assertTrue(mappings, mappings.startsWith("###Mapping\nMapping bench::mappings::M0\n(\n    bench::model::C0 : Pure\n"));
+    }
+
+    @Test
+    public void testChainFunctions()
+    {
+        SyntheticModelGenerator generator = SyntheticModelGenerator.builder().withFunctionCount(25).build();
+        Assert.assertEquals("bench::functions::f9", generator.getChainFunctionPath(0));
+        Assert.assertEquals("bench::functions::f24(Integer[1]):Integer[1]", generator.getChainFunctionDescriptor(2));
+        Assert.assertThrows(IllegalArgumentException.class, () -> generator.getChainFunctionPath(3));
+    }
+
+    @Test
+    public void testInvalidConfiguration()
+    {
+        Assert.assertThrows(IllegalArgumentException.class, () -> SyntheticModelGenerator.builder().withClassCount(-1));
+        Assert.assertThrows(IllegalArgumentException.class, () -> SyntheticModelGenerator.builder().withElementsPerSource(0));
+        Assert.assertThrows(IllegalStateException.class, () -> SyntheticModelGenerator.builder().withClassCount(0).withMappingCount(1).build());
+    }
+}
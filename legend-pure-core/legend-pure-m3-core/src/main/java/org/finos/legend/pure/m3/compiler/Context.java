@@ -19,6 +19,7 @@ import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.factory.Sets;
 import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.map.ConcurrentMutableMap;
 import org.eclipse.collections.api.map.ImmutableMap;
 import org.eclipse.collections.api.map.MapIterable;
@@ -28,6 +29,7 @@ import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.api.set.SetIterable;
 import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
 import org.eclipse.collections.impl.utility.Iterate;
+import org.finos.legend.pure.m3.compiler.postprocessing.functionmatch.FunctionResolutionCache;
 import org.finos.legend.pure.m3.compiler.visibility.AccessLevel;
 import org.finos.legend.pure.m3.navigation.M3Paths;
 import org.finos.legend.pure.m3.navigation.M3Properties;
@@ -37,6 +39,7 @@ import org.finos.legend.pure.m3.navigation.PrimitiveUtilities;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.tools.ConcurrentHashSet;
 
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 
 public class Context
@@ -45,11 +48,13 @@ public class Context
     private final ConcurrentMutableMap<CoreInstance, CoreInstance> functionTypes = ConcurrentHashMap.newMap();
     private final ConcurrentMutableMap<CoreInstance, ImmutableMap<String, CoreInstance>> classPropertiesByName = ConcurrentHashMap.newMap();
     private final ConcurrentMutableMap<CoreInstance, ImmutableList<CoreInstance>> generalizations = ConcurrentHashMap.newMap();
+    private final AtomicLong generalizationsVersion = new AtomicLong();
     private final ConcurrentMutableMap<CoreInstance, AccessLevel> accessLevels = ConcurrentHashMap.newMap();
     private final ConcurrentMutableMap<CoreInstance, ImmutableList<String>> propertyPaths = ConcurrentHashMap.newMap();
     private final ConcurrentMutableMap<CoreInstance, MutableSet<CoreInstance>> instancesByClassifier = ConcurrentHashMap.newMap();
     private final ConcurrentMutableMap<String, MutableSet<CoreInstance>> functionsByName = ConcurrentHashMap.newMap();
-    private final ConcurrentMutableMap<CoreInstance, ImmutableSet<CoreInstance>> typeGeneralizationSets = ConcurrentHashMap.newMap();
+    private final TypeHierarchyIndex typeHierarchyIndex = new TypeHierarchyIndex();
+    private final FunctionResolutionCache functionResolutionCache = new FunctionResolutionCache();
 
     private CoreInstance anyType;
     private CoreInstance nilType;
@@ -81,6 +86,19 @@ public class Context
         return type.isPersistent() ? this.generalizations.getIfAbsentPutWithKey(type, generator) : generator.valueOf(type);
     }
 
+    /**
+     * Get the current version of the generalization hierarchy. This changes
+     * whenever cached generalizations are invalidated, so anything derived
+     * from generalizations may be cached along with the version and reused
+     * while the version is unchanged.
+     *
+     * @return generalizations version
+     */
+    public long getGeneralizationsVersion()
+    {
+        return this.generalizationsVersion.get();
+    }
+
     /**
      * Get the properties of a class, including those inherited from
      * generalizations, indexed by name.  If this is not stored in the
@@ -96,6 +114,38 @@ public class Context
         return classifier.isPersistent() ? this.classPropertiesByName.getIfAbsentPutWithKey(classifier, generator) : generator.valueOf(classifier);
     }
 
+    /**
+     * Register precomputed generalizations for type, such as those loaded
+     * from serialized metadata.  These must be the same as would be
+     * computed for type; any existing value is kept.
+     *
+     * @param type            type
+     * @param generalizations generalizations of type
+     */
+    public void registerGeneralizations(CoreInstance type, ImmutableList<CoreInstance> generalizations)
+    {
+        if (type.isPersistent())
+        {
+            this.generalizations.putIfAbsent(type, generalizations);
+        }
+    }
+
+    /**
+     * Register precomputed properties by name for a class, such as those
+     * loaded from serialized metadata.  These must be the same as would be
+     * computed for classifier; any existing value is kept.
+     *
+     * @param classifier       class
+     * @param propertiesByName properties by name
+     */
+    public void registerPropertiesByName(CoreInstance classifier, ImmutableMap<String, CoreInstance> propertiesByName)
+    {
+        if (classifier.isPersistent())
+        {
+            this.classPropertiesByName.putIfAbsent(classifier, propertiesByName);
+        }
+    }
+
     /**
      * Get the path for a property.  If this is not stored in the
      * context, then calculate it by evaluating generator on property,
@@ -147,9 +197,35 @@ public class Context
         return function.isPersistent() ? this.functionTypes.getIfAbsentPutWithKey(function, generator) : generator.valueOf(function);
     }
 
+    /**
+     * Get the set of a type and its generalizations from the type hierarchy
+     * index. The generator is only used if the type's ancestors are not
+     * already indexed for the current generalizations version.
+     *
+     * @param type      type
+     * @param generator function to compute the set of a type and its generalizations
+     * @return type and its generalizations
+     * @deprecated use {@link #isSubTypeOf} for subtype checks
+     */
+    @Deprecated
     public ImmutableSet<CoreInstance> getIfAbsentPutTypeGeneralizationSet(CoreInstance type, Function<CoreInstance, ? extends ImmutableSet<CoreInstance>> generator)
     {
-        return type.isPersistent() ? this.typeGeneralizationSets.getIfAbsentPutWithKey(type, generator) : generator.valueOf(type);
+        return type.isPersistent() ? this.typeHierarchyIndex.getAncestors(type, this.generalizationsVersion.get(), t -> generator.valueOf(t).toList()) : generator.valueOf(type);
+    }
+
+    /**
+     * Return whether type is a subtype of possibleSuperType according to its
+     * generalization resolution order, using the type hierarchy index. Top
+     * and bottom types receive no special treatment here.
+     *
+     * @param type                          type
+     * @param possibleSuperType             possible super type
+     * @param generalizationResolutionOrder function to compute the generalization resolution order of a type
+     * @return whether type is a subtype of possibleSuperType
+     */
+    public boolean isSubTypeOf(CoreInstance type, CoreInstance possibleSuperType, Function<? super CoreInstance, ? extends ListIterable<? extends CoreInstance>> generalizationResolutionOrder)
+    {
+        return this.typeHierarchyIndex.isSubTypeOf(type, possibleSuperType, this.generalizationsVersion.get(), generalizationResolutionOrder);
     }
 
     /**
@@ -230,6 +306,7 @@ public class Context
     public void registerFunctionByName(String functionName, CoreInstance function)
     {
         this.functionsByName.getIfAbsentPut(functionName, ConcurrentHashSet::newSet).add(function);
+        this.functionResolutionCache.invalidateFunctionName(functionName);
     }
 
     public void registerFunctionsByName(String functionName, Iterable<? extends CoreInstance> functions)
@@ -237,6 +314,7 @@ public class Context
         if (Iterate.notEmpty(functions))
         {
             this.functionsByName.getIfAbsentPut(functionName, ConcurrentHashSet::newSet).addAllIterable(functions);
+            this.functionResolutionCache.invalidateFunctionName(functionName);
         }
     }
 
@@ -275,6 +353,17 @@ public class Context
         return this.functionsByName.keysView();
     }
 
+    /**
+     * Get the cache used to speed up function resolution. This is
+     * invalidated along with the rest of the context.
+     *
+     * @return function resolution cache
+     */
+    public FunctionResolutionCache getFunctionResolutionCache()
+    {
+        return this.functionResolutionCache;
+    }
+
     public CoreInstance getIfAbsentPutAny(Supplier<? extends CoreInstance> factory)
     {
         if (this.anyType == null)
@@ -314,6 +403,9 @@ public class Context
         {
             instances.remove(coreInstance);
         }
+        // Cached resolutions may refer to the removed instance (e.g., as a parameter type), so we clear them all
+        this.functionResolutionCache.clear();
+        this.typeHierarchyIndex.remove(coreInstance);
         this.update(coreInstance);
     }
 
@@ -328,13 +420,15 @@ public class Context
         this.coreInstanceByPath.remove(PackageableElement.getUserPathForPackageableElement(coreInstance));
         this.functionTypes.remove(coreInstance);
         this.accessLevels.remove(coreInstance);
+        this.functionResolutionCache.invalidateFunction(coreInstance);
         // If there is a change to the generalization hierarchy, then we have to invalidate everything depending on the hierarchy.
         if (this.generalizations.containsKey(coreInstance))
         {
             this.classPropertiesByName.clear();
             this.generalizations.clear();
             this.propertyPaths.clear();
-            this.typeGeneralizationSets.clear();
+            this.generalizationsVersion.incrementAndGet();
+            this.functionResolutionCache.invalidateMatches();
         }
         if (this.anyType == coreInstance)
         {
@@ -356,10 +450,12 @@ public class Context
         this.classPropertiesByName.clear();
         this.functionsByName.clear();
         this.generalizations.clear();
+        this.generalizationsVersion.incrementAndGet();
         this.accessLevels.clear();
         this.propertyPaths.clear();
         this.instancesByClassifier.clear();
-        this.typeGeneralizationSets.clear();
+        this.functionResolutionCache.clear();
+        this.typeHierarchyIndex.clear();
         this.anyType = null;
         this.nilType = null;
     }
@@ -0,0 +1,201 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.compiler;
+
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.map.ConcurrentMutableMap;
+import org.eclipse.collections.api.set.ImmutableSet;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Index of the type hierarchy used for fast subtype checks. Each persistent
+ * type is assigned a dense integer id, and the ids of its strict ancestors
+ * are stored as a sorted array. A subtype check is then a lookup of the two
+ * types followed by a search of a small int array, with no hashing of the
+ * ancestors themselves.
+ * <p>
+ * Ancestors are stamped with the generalizations version of the
+ * {@link Context} they were computed in, and are recomputed lazily when the
+ * version changes. Ids are stable until the type is removed or the index is
+ * cleared.
+ */
+public class TypeHierarchyIndex
+{
+    private final ConcurrentMutableMap<CoreInstance, TypeNode> nodes = ConcurrentHashMap.newMap();
+    private final ConcurrentMutableMap<Integer, CoreInstance> typesById = ConcurrentHashMap.newMap();
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    /**
+     * Get the id of a type, assigning one if necessary.
+     *
+     * @param type persistent type
+     * @return type id
+     */
+    public int getTypeId(CoreInstance type)
+    {
+        return getNode(type).id;
+    }
+
+    /**
+     * Return whether type is a strict or non-strict subtype of
+     * possibleSuperType according to its generalization resolution order.
+     * Top and bottom types receive no special treatment here.
+     *
+     * @param type                         type
+     * @param possibleSuperType            possible super type
+     * @param generalizationsVersion       current generalizations version
+     * @param generalizationResolutionOrder function to compute the generalization resolution order of a type
+     * @return whether type is a subtype of possibleSuperType
+     */
+    public boolean isSubTypeOf(CoreInstance type, CoreInstance possibleSuperType, long generalizationsVersion, Function<? super CoreInstance, ? extends ListIterable<? extends CoreInstance>> generalizationResolutionOrder)
+    {
+        if (type == possibleSuperType)
+        {
+            return true;
+        }
+        if (!type.isPersistent() || !possibleSuperType.isPersistent())
+        {
+            return generalizationResolutionOrder.valueOf(type).contains(possibleSuperType);
+        }
+
+        int[] ancestorIds = getAncestorIds(getNode(type), type, generalizationsVersion, generalizationResolutionOrder);
+        // If the possible super type has no id, then it cannot be an ancestor of any type
+        TypeNode superTypeNode = this.nodes.get(possibleSuperType);
+        return (superTypeNode != null) && (Arrays.binarySearch(ancestorIds, superTypeNode.id) >= 0);
+    }
+
+    /**
+     * Get the strict and non-strict persistent ancestors of a type, according
+     * to its generalization resolution order. Non-persistent types are not
+     * indexed, so for those this is simply the resolution order.
+     *
+     * @param type                          type
+     * @param generalizationsVersion        current generalizations version
+     * @param generalizationResolutionOrder function to compute the generalization resolution order of a type
+     * @return type and its ancestors
+     */
+    public ImmutableSet<CoreInstance> getAncestors(CoreInstance type, long generalizationsVersion, Function<? super CoreInstance, ? extends ListIterable<? extends CoreInstance>> generalizationResolutionOrder)
+    {
+        if (!type.isPersistent())
+        {
+            return Sets.immutable.withAll(generalizationResolutionOrder.valueOf(type));
+        }
+
+        int[] ancestorIds = getAncestorIds(getNode(type), type, generalizationsVersion, generalizationResolutionOrder);
+        MutableSet<CoreInstance> ancestors = Sets.mutable.ofInitialCapacity(ancestorIds.length + 1);
+        ancestors.add(type);
+        for (int id : ancestorIds)
+        {
+            CoreInstance ancestor = this.typesById.get(id);
+            if (ancestor != null)
+            {
+                ancestors.add(ancestor);
+            }
+        }
+        return ancestors.toImmutable();
+    }
+
+    /**
+     * Remove a type from the index. Ids are not reused until the index is
+     * cleared, so ancestor ids of other types which refer to the removed
+     * type can never match a new type.
+     *
+     * @param type type
+     */
+    public void remove(CoreInstance type)
+    {
+        TypeNode node = this.nodes.remove(type);
+        if (node != null)
+        {
+            this.typesById.remove(node.id, type);
+        }
+    }
+
+    /**
+     * Clear the index.
+     */
+    public void clear()
+    {
+        this.nodes.clear();
+        this.typesById.clear();
+        this.nextId.set(0);
+    }
+
+    private TypeNode getNode(CoreInstance type)
+    {
+        TypeNode node = this.nodes.get(type);
+        return (node == null) ? this.nodes.getIfAbsentPut(type, () -> newNode(type)) : node;
+    }
+
+    private TypeNode newNode(CoreInstance type)
+    {
+        TypeNode node = new TypeNode(this.nextId.getAndIncrement());
+        this.typesById.put(node.id, type);
+        return node;
+    }
+
+    private int[] getAncestorIds(TypeNode node, CoreInstance type, long generalizationsVersion, Function<? super CoreInstance, ? extends ListIterable<? extends CoreInstance>> generalizationResolutionOrder)
+    {
+        Ancestors ancestors = node.ancestors;
+        if ((ancestors == null) || (ancestors.generalizationsVersion != generalizationsVersion))
+        {
+            ListIterable<? extends CoreInstance> resolutionOrder = generalizationResolutionOrder.valueOf(type);
+            int[] ids = new int[resolutionOrder.size()];
+            int count = 0;
+            for (CoreInstance ancestor : resolutionOrder)
+            {
+                if ((ancestor != type) && ancestor.isPersistent())
+                {
+                    ids[count++] = getNode(ancestor).id;
+                }
+            }
+            int[] ancestorIds = (count == ids.length) ? ids : Arrays.copyOf(ids, count);
+            Arrays.sort(ancestorIds);
+            ancestors = new Ancestors(generalizationsVersion, ancestorIds);
+            node.ancestors = ancestors;
+        }
+        return ancestors.ids;
+    }
+
+    private static class TypeNode
+    {
+        private final int id;
+        private volatile Ancestors ancestors;
+
+        private TypeNode(int id)
+        {
+            this.id = id;
+        }
+    }
+
+    private static class Ancestors
+    {
+        private final long generalizationsVersion;
+        private final int[] ids;
+
+        private Ancestors(long generalizationsVersion, int[] ids)
+        {
+            this.generalizationsVersion = generalizationsVersion;
+            this.ids = ids;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.compiler.postprocessing;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.set.primitive.MutableIntSet;
+import org.eclipse.collections.impl.factory.primitive.IntSets;
+import org.finos.legend.pure.m3.navigation.M3Properties;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Groups top-level functions into sets which can be post-processed independently of each other. Two functions end up
+ * in the same group if one may reference the other, directly or through other functions in the set.
+ * <p>
+ * Dependencies are found before post-processing, when function references are still unresolved names. The analysis
+ * is therefore conservative: a reference by name links all functions with that name, whatever their package or
+ * signature.
+ */
+class FunctionDependencyGroups
+{
+    private static final String[] WALKED_PROPERTIES = {
+            M3Properties.expressionSequence,
+            M3Properties.parametersValues,
+            M3Properties.values,
+            M3Properties.expression,
+            M3Properties.preConstraints,
+            M3Properties.postConstraints,
+            M3Properties.functionDefinition,
+            M3Properties.messageFunction
+    };
+
+    private FunctionDependencyGroups()
+    {
+        // Utility class
+    }
+
+    /**
+     * Group functions by potential dependencies. Groups are ordered by their first function, and functions within a
+     * group keep their relative order from the input.
+     *
+     * @param functions top-level functions
+     * @return function groups
+     */
+    static ListIterable<MutableList<CoreInstance>> group(ListIterable<? extends CoreInstance> functions)
+    {
+        int size = functions.size();
+        MutableMap<String, MutableIntSet> indexesByName = Maps.mutable.empty();
+        functions.forEachWithIndex((function, i) ->
+        {
+            indexesByName.getIfAbsentPut(function.getName(), IntSets.mutable::empty).add(i);
+            CoreInstance functionName = function.getValueForMetaPropertyToOne(M3Properties.functionName);
+            if (functionName != null)
+            {
+                indexesByName.getIfAbsentPut(functionName.getName(), IntSets.mutable::empty).add(i);
+            }
+        });
+
+        int[] parents = new int[size];
+        for (int i = 0; i < size; i++)
+        {
+            parents[i] = i;
+        }
+
+        // Functions which reference a common function are linked transitively through it. References to functions
+        // outside the given set need no linking, as those have already been processed.
+        functions.forEachWithIndex((function, i) -> collectReferencedNames(function).forEach(name ->
+        {
+            MutableIntSet targets = indexesByName.get(name);
+            if (targets != null)
+            {
+                targets.forEach(j -> union(parents, i, j));
+            }
+        }));
+
+        MutableMap<Integer, MutableList<CoreInstance>> groupsByRoot = Maps.mutable.empty();
+        MutableList<MutableList<CoreInstance>> groups = Lists.mutable.empty();
+        functions.forEachWithIndex((function, i) -> groupsByRoot.getIfAbsentPut(find(parents, i), () ->
+        {
+            MutableList<CoreInstance> group = Lists.mutable.empty();
+            groups.add(group);
+            return group;
+        }).add(function));
+        return groups;
+    }
+
+    private static MutableSet<String> collectReferencedNames(CoreInstance function)
+    {
+        MutableSet<String> names = Sets.mutable.empty();
+        MutableSet<CoreInstance> visited = Sets.mutable.empty();
+        Deque<CoreInstance> deque = new ArrayDeque<>();
+        walkChildren(function, deque);
+        while (!deque.isEmpty())
+        {
+            CoreInstance instance = deque.pollFirst();
+            if (visited.add(instance))
+            {
+                CoreInstance functionName = instance.getValueForMetaPropertyToOne(M3Properties.functionName);
+                if (functionName != null)
+                {
+                    names.add(getLastPathElement(functionName.getName()));
+                }
+                CoreInstance idOrPath = instance.getValueForMetaPropertyToOne(M3Properties.idOrPath);
+                if (idOrPath != null)
+                {
+                    names.add(getLastPathElement(idOrPath.getName()));
+                }
+                if (instance.getValueForMetaPropertyToOne(M3Properties._package) == null)
+                {
+                    walkChildren(instance, deque);
+                }
+                else
+                {
+                    // A reference to a packageable element: do not walk into it
+                    names.add(instance.getName());
+                }
+            }
+        }
+        return names;
+    }
+
+    private static void walkChildren(CoreInstance instance, Deque<CoreInstance> deque)
+    {
+        for (String property : WALKED_PROPERTIES)
+        {
+            instance.getValueForMetaPropertyToMany(property).forEach(deque::addLast);
+        }
+    }
+
+    private static String getLastPathElement(String path)
+    {
+        return path.substring(path.lastIndexOf(':') + 1);
+    }
+
+    private static int find(int[] parents, int i)
+    {
+        int root = i;
+        while (parents[root] != root)
+        {
+            root = parents[root];
+        }
+        while (parents[i] != root)
+        {
+            int next = parents[i];
+            parents[i] = root;
+            i = next;
+        }
+        return root;
+    }
+
+    private static void union(int[] parents, int i, int j)
+    {
+        int rootI = find(parents, i);
+        int rootJ = find(parents, j);
+        if (rootI != rootJ)
+        {
+            // Keep the smaller index as the root so that groups are stable
+            if (rootI < rootJ)
+            {
+                parents[rootJ] = rootI;
+            }
+            else
+            {
+                parents[rootI] = rootJ;
+            }
+        }
+    }
+}
@@ -16,7 +16,9 @@ package org.finos.legend.pure.m3.compiler.postprocessing;
 
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.api.set.SetIterable;
 import org.finos.legend.pure.m3.SourceMutation;
 import org.finos.legend.pure.m3.compiler.Context;
@@ -42,19 +44,40 @@ import org.finos.legend.pure.m3.serialization.grammar.ParserLibrary;
 import org.finos.legend.pure.m3.serialization.grammar.m3parser.inlinedsl.InlineDSLLibrary;
 import org.finos.legend.pure.m3.serialization.runtime.Message;
 import org.finos.legend.pure.m3.serialization.runtime.pattern.URLPatternLibrary;
+import org.finos.legend.pure.m3.tools.forkjoin.ForkJoinTools;
 import org.finos.legend.pure.m3.tools.matcher.Matcher;
 import org.finos.legend.pure.m4.ModelRepository;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.exception.PureCompilationException;
+import org.finos.legend.pure.m4.transaction.ModelRepositoryTransaction;
+import org.finos.legend.pure.m4.transaction.framework.ThreadLocalTransactionContext;
+
+import java.util.concurrent.ForkJoinPool;
 
 public class PostProcessor
 {
+    static final int PARALLEL_FUNCTIONS_THRESHOLD = 100;
+
     public static SourceMutation process(Iterable<? extends CoreInstance> newInstancesConsolidated, ModelRepository modelRepository, ParserLibrary parserLibrary, InlineDSLLibrary inlineDSLLibrary, RepositoryCodeStorage codeStorage, Context context, ProcessorSupport processorSupport, URLPatternLibrary URLPatternLibrary, Message message) throws PureCompilationException
     {
         return process(newInstancesConsolidated, modelRepository, parserLibrary, inlineDSLLibrary, codeStorage, context, processorSupport, URLPatternLibrary, message, null);
     }
 
     public static SourceMutation process(Iterable<? extends CoreInstance> newInstancesConsolidated, ModelRepository modelRepository, ParserLibrary parserLibrary, InlineDSLLibrary inlineDSLLibrary, RepositoryCodeStorage codeStorage, Context context, ProcessorSupport processorSupport, URLPatternLibrary URLPatternLibrary, Message message, PostProcessorObserver observer) throws PureCompilationException
+    {
+        return process(newInstancesConsolidated, modelRepository, parserLibrary, inlineDSLLibrary, codeStorage, context, processorSupport, URLPatternLibrary, message, observer, null);
+    }
+
+    /**
+     * Post-process new instances. If a fork join pool is supplied and there are enough new functions, functions are
+     * processed in parallel: all other instances (classes, associations, enumerations, etc.) are processed first,
+     * then functions are split into groups with no dependencies between them (see {@link FunctionDependencyGroups})
+     * and the groups are processed concurrently, each with its own {@link ProcessorState}. If an observer is supplied,
+     * calls to it are synchronized in that case.
+     *
+     * @param forkJoinPool fork join pool for parallel processing (may be null)
+     */
+    public static SourceMutation process(Iterable<? extends CoreInstance> newInstancesConsolidated, ModelRepository modelRepository, ParserLibrary parserLibrary, InlineDSLLibrary inlineDSLLibrary, RepositoryCodeStorage codeStorage, Context context, ProcessorSupport processorSupport, URLPatternLibrary URLPatternLibrary, Message message, PostProcessorObserver observer, ForkJoinPool forkJoinPool) throws PureCompilationException
     {
         CoreInstance concreteFunctionDefinition = processorSupport.package_getByUserPath(M3Paths.ConcreteFunctionDefinition);
         CoreInstance nativeFunction = processorSupport.package_getByUserPath(M3Paths.NativeFunction);
@@ -75,18 +98,62 @@ public class PostProcessor
         addMatchersComingFromParsers(parserLibrary, matcher);
         inlineDSLLibrary.getInlineDSLs().forEach(dsl -> dsl.getProcessors().forEach(matcher::addMatchIfTypeIsKnown));
 
-        ProcessorState state = new ProcessorState(VariableContext.newVariableContext(), parserLibrary, inlineDSLLibrary, processorSupport, URLPatternLibrary, codeStorage, message, observer);
-        allInstancesConsolidated.forEach(coreInstance ->
+        MutableList<CoreInstance> functions = (forkJoinPool == null) ? Lists.mutable.empty() : allInstancesConsolidated.select(i -> i.getClassifier() == concreteFunctionDefinition);
+        if (functions.size() <= PARALLEL_FUNCTIONS_THRESHOLD)
         {
-            state.resetVariableContext();
-            processElement(matcher, coreInstance, state, processorSupport);
-        });
+            ProcessorState state = new ProcessorState(VariableContext.newVariableContext(), parserLibrary, inlineDSLLibrary, processorSupport, URLPatternLibrary, codeStorage, message, observer);
+            processElements(matcher, allInstancesConsolidated, state, processorSupport);
+            state.getFunctionDefinitions().forEach(functionDef -> GenericTypeTraceability.addTraceForFunctionDefinition((FunctionDefinition<?>) functionDef, modelRepository, processorSupport));
+            return state.getSourceMutation();
+        }
 
-        state.getFunctionDefinitions().forEach(functionDef -> GenericTypeTraceability.addTraceForFunctionDefinition((FunctionDefinition<?>) functionDef, modelRepository, processorSupport));
+        PostProcessorObserver syncObserver = (observer == null) ? null : new SynchronizedPostProcessorObserver(observer);
+        ProcessorState state = new ProcessorState(VariableContext.newVariableContext(), parserLibrary, inlineDSLLibrary, processorSupport, URLPatternLibrary, codeStorage, message, syncObserver);
+        processElements(matcher, allInstancesConsolidated.reject(i -> i.getClassifier() == concreteFunctionDefinition), state, processorSupport);
 
+        // Worker threads must see the state of the compiler's transaction, which is only open in the current thread
+        ModelRepositoryTransaction transaction = modelRepository.getTransaction();
+        ListIterable<MutableList<CoreInstance>> groups = FunctionDependencyGroups.group(functions);
+        ListIterable<GroupResult> results = ForkJoinTools.collect(forkJoinPool, groups, group ->
+        {
+            ProcessorState groupState = new ProcessorState(VariableContext.newVariableContext(), parserLibrary, inlineDSLLibrary, processorSupport, URLPatternLibrary, codeStorage, message, syncObserver);
+            try (ThreadLocalTransactionContext ignored = ((transaction != null) && transaction.isOpen()) ? transaction.openInCurrentThread() : null)
+            {
+                processElements(matcher, group, groupState, processorSupport);
+                return new GroupResult(groupState, null);
+            }
+            catch (RuntimeException e)
+            {
+                return new GroupResult(groupState, e);
+            }
+        }, 1);
+
+        // Report the error from the first failing group, so that the error does not depend on thread scheduling
+        GroupResult failed = results.detect(r -> r.error != null);
+        if (failed != null)
+        {
+            throw failed.error;
+        }
+
+        MutableSet<CoreInstance> functionDefinitions = Sets.mutable.withAll(state.getFunctionDefinitions());
+        results.forEach(r ->
+        {
+            state.getSourceMutation().merge(r.state.getSourceMutation());
+            functionDefinitions.addAllIterable(r.state.getFunctionDefinitions());
+        });
+        functionDefinitions.forEach(functionDef -> GenericTypeTraceability.addTraceForFunctionDefinition((FunctionDefinition<?>) functionDef, modelRepository, processorSupport));
         return state.getSourceMutation();
     }
 
+    private static void processElements(Matcher matcher, Iterable<? extends CoreInstance> instances, ProcessorState state, ProcessorSupport processorSupport)
+    {
+        instances.forEach(coreInstance ->
+        {
+            state.resetVariableContext();
+            processElement(matcher, coreInstance, state, processorSupport);
+        });
+    }
+
     private static void addMatchersComingFromParsers(ParserLibrary parserLibrary, Matcher matcher)
     {
         parserLibrary.getParsers().forEach(parser -> parser.getProcessors().forEach(matcher::addMatchIfTypeIsKnown));
@@ -182,4 +249,38 @@ public class PostProcessor
             GenericTypeValidator.validateClassifierGenericTypeForInstance(instance, false, processorSupport);
         }
     }
+
+    private static class GroupResult
+    {
+        private final ProcessorState state;
+        private final RuntimeException error;
+
+        private GroupResult(ProcessorState state, RuntimeException error)
+        {
+            this.state = state;
+            this.error = error;
+        }
+    }
+
+    private static class SynchronizedPostProcessorObserver implements PostProcessorObserver
+    {
+        private final PostProcessorObserver delegate;
+
+        private SynchronizedPostProcessorObserver(PostProcessorObserver delegate)
+        {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public synchronized void startProcessing(CoreInstance instance)
+        {
+            this.delegate.startProcessing(instance);
+        }
+
+        @Override
+        public synchronized void finishProcessing(CoreInstance instance, Exception e)
+        {
+            this.delegate.finishProcessing(instance, e);
+        }
+    }
 }
@@ -18,6 +18,7 @@ import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.list.ImmutableList;
 import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.MutableMap;
@@ -34,6 +35,7 @@ import org.finos.legend.pure.m3.navigation.ProcessorSupport;
 import org.finos.legend.pure.m3.navigation._package._Package;
 import org.finos.legend.pure.m3.navigation.imports.Imports;
 import org.finos.legend.pure.m3.tools.ListHelper;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.coreinstance.SourceInformation;
 import org.finos.legend.pure.m4.exception.PureCompilationException;
 
@@ -48,7 +50,7 @@ public class FunctionExpressionMatcher
         String functionToFindName = splitFunctionPath.get(lastIndex);
         ListIterable<String> functionPkg = (lastIndex == 0) ? Lists.immutable.with() : splitFunctionPath.take(lastIndex);
 
-        RichIterable<Function<?>> functionsToSearch = getFunctionsWithMatchingName(functionToFindName, functionPkg, functionExpression, processorSupport);
+        RichIterable<Function<?>> functionsToSearch = getFunctionsWithMatchingName(functionToFindName, functionPkg, functionExpression, ListHelper.wrapListIterable(parametersValues), processorSupport);
 
         SourceInformation sourceInformation = functionExpression.getSourceInformation();
 
@@ -64,10 +66,12 @@ public class FunctionExpressionMatcher
     {
         try
         {
+            FunctionResolutionCache cache = processorSupport.function_getResolutionCache();
+            ImmutableList<Object> argumentSignature = (cache == null) ? null : FunctionResolutionCache.getArgumentSignature(parametersValues, lenient, processorSupport);
             MutableMap<FunctionMatch, MutableList<T>> functionsByMatch = Maps.mutable.empty();
             functionsToSearch.forEach(function ->
             {
-                FunctionMatch match = FunctionMatch.newFunctionMatch(function, functionToFindName, parametersValues, lenient, processorSupport);
+                FunctionMatch match = newFunctionMatch(function, functionToFindName, parametersValues, lenient, cache, argumentSignature, processorSupport);
                 if (match != null)
                 {
                     functionsByMatch.getIfAbsentPut(match, Lists.mutable::empty).add(function);
@@ -94,9 +98,11 @@ public class FunctionExpressionMatcher
 
         try
         {
+            FunctionResolutionCache cache = processorSupport.function_getResolutionCache();
+            ImmutableList<Object> argumentSignature = (cache == null) ? null : FunctionResolutionCache.getArgumentSignature(parametersValues, lenient, processorSupport);
             for (T function : functionsToSearch)
             {
-                FunctionMatch match = FunctionMatch.newFunctionMatch(function, functionToFindName, parametersValues, lenient, processorSupport);
+                FunctionMatch match = newFunctionMatch(function, functionToFindName, parametersValues, lenient, cache, argumentSignature, processorSupport);
                 if (match != null)
                 {
                     if (bestMatch == null)
@@ -150,10 +156,21 @@ public class FunctionExpressionMatcher
         return bestFunctions.getFirst();
     }
 
-    private static RichIterable<Function<?>> getFunctionsWithMatchingName(String functionName, ListIterable<String> functionPackage, FunctionExpression functionExpression, ProcessorSupport processorSupport)
+    private static FunctionMatch newFunctionMatch(Function<?> function, String functionToFindName, ListIterable<? extends ValueSpecification> parametersValues, boolean lenient, FunctionResolutionCache cache, ImmutableList<Object> argumentSignature, ProcessorSupport processorSupport)
+    {
+        if ((cache == null) || (argumentSignature == null) || !functionToFindName.equals(function._functionName()))
+        {
+            return FunctionMatch.newFunctionMatch(function, functionToFindName, parametersValues, lenient, processorSupport);
+        }
+        return cache.getIfAbsentPutMatch(function, argumentSignature, () -> FunctionMatch.newFunctionMatch(function, functionToFindName, parametersValues, lenient, processorSupport));
+    }
+
+    private static RichIterable<Function<?>> getFunctionsWithMatchingName(String functionName, ListIterable<String> functionPackage, FunctionExpression functionExpression, ListIterable<? extends ValueSpecification> parametersValues, ProcessorSupport processorSupport)
     {
         SetIterable<org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.PackageableElement> packages = getValidPackages(functionPackage, functionExpression, processorSupport);
-        return processorSupport.function_getFunctionsForName(functionName).collectIf(f -> packages.contains(((PackageableFunction<?>) f)._package()), f -> (Function<?>) f, Lists.mutable.empty());
+        FunctionResolutionCache cache = processorSupport.function_getResolutionCache();
+        RichIterable<CoreInstance> candidates = (cache == null) ? processorSupport.function_getFunctionsForName(functionName) : cache.getCandidateFunctions(functionName, parametersValues, processorSupport);
+        return candidates.collectIf(f -> packages.contains(((PackageableFunction<?>) f)._package()), f -> (Function<?>) f, Lists.mutable.empty());
     }
 
     private static SetIterable<org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.PackageableElement> getValidPackages(ListIterable<String> functionPackage, FunctionExpression functionExpression, ProcessorSupport processorSupport)
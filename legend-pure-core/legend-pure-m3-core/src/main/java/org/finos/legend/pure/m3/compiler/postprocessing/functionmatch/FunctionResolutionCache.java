@@ -0,0 +1,269 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.compiler.postprocessing.functionmatch;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.ConcurrentMutableMap;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.primitive.ImmutableIntObjectMap;
+import org.eclipse.collections.api.map.primitive.MutableIntObjectMap;
+import org.eclipse.collections.impl.factory.primitive.IntObjectMaps;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.FunctionType;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.valuespecification.ValueSpecification;
+import org.finos.legend.pure.m3.navigation.Instance;
+import org.finos.legend.pure.m3.navigation.M3Properties;
+import org.finos.legend.pure.m3.navigation.ProcessorSupport;
+import org.finos.legend.pure.m3.navigation.multiplicity.Multiplicity;
+import org.finos.legend.pure.m3.tools.ListHelper;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Cache used to speed up function resolution. It has two parts:
+ * <ul>
+ *     <li>an index of the functions registered for each name, keyed by arity and by the raw type of the first
+ *     parameter, which is used to skip candidates which cannot possibly match;</li>
+ *     <li>a memo of function matches, keyed by the function and the signature of the argument types and
+ *     multiplicities.</li>
+ * </ul>
+ * Only concrete, packaged types are used for either, so that a cached result is fully determined by its key. The
+ * cache is owned by the {@link org.finos.legend.pure.m3.compiler.Context}, which invalidates it whenever functions
+ * are registered or removed, or the generalization hierarchy changes.
+ */
+public class FunctionResolutionCache
+{
+    private static final Object NO_MATCH = new Object();
+
+    private final ConcurrentMutableMap<String, ImmutableIntObjectMap<ImmutableList<IndexEntry>>> indexesByName = ConcurrentHashMap.newMap();
+    private final ConcurrentMutableMap<CoreInstance, ConcurrentMutableMap<ImmutableList<Object>, Object>> matchesByFunction = ConcurrentHashMap.newMap();
+    private final AtomicLong indexModCount = new AtomicLong();
+
+    /**
+     * Invalidate the index for the given function name.
+     *
+     * @param functionName function name
+     */
+    public void invalidateFunctionName(String functionName)
+    {
+        this.indexModCount.incrementAndGet();
+        this.indexesByName.remove(functionName);
+    }
+
+    /**
+     * Invalidate everything cached for the given function.
+     *
+     * @param function function
+     */
+    public void invalidateFunction(CoreInstance function)
+    {
+        this.matchesByFunction.remove(function);
+        CoreInstance functionName = function.getValueForMetaPropertyToOne(M3Properties.functionName);
+        if (functionName != null)
+        {
+            invalidateFunctionName(functionName.getName());
+        }
+    }
+
+    /**
+     * Invalidate all cached function matches, but not the function indexes.
+     * This is necessary whenever the generalization hierarchy changes.
+     */
+    public void invalidateMatches()
+    {
+        this.matchesByFunction.clear();
+    }
+
+    /**
+     * Clear the cache.
+     */
+    public void clear()
+    {
+        this.indexModCount.incrementAndGet();
+        this.indexesByName.clear();
+        this.matchesByFunction.clear();
+    }
+
+    /**
+     * Get the functions registered for the given name which could possibly
+     * match the given parameter values. The result is a subset of the
+     * functions registered for the name, in the same order.
+     *
+     * @param functionName     function name
+     * @param parametersValues parameter values
+     * @param processorSupport processor support
+     * @return candidate functions
+     */
+    public ListIterable<CoreInstance> getCandidateFunctions(String functionName, ListIterable<? extends ValueSpecification> parametersValues, ProcessorSupport processorSupport)
+    {
+        ImmutableList<IndexEntry> entries = getIndex(functionName, processorSupport).get(parametersValues.size());
+        if (entries == null)
+        {
+            return Lists.immutable.empty();
+        }
+
+        CoreInstance firstValueRawType = parametersValues.isEmpty() ? null : getIndexableRawType(Instance.getValueForMetaPropertyToOneResolved(parametersValues.get(0), M3Properties.genericType, processorSupport), processorSupport);
+        if (firstValueRawType == null)
+        {
+            return entries.collect(e -> e.function);
+        }
+
+        // Subtype checks are done once per distinct first parameter raw type rather than once per function
+        MutableMap<CoreInstance, Boolean> compatible = Maps.mutable.empty();
+        return entries.collectIf(
+                e -> (e.firstParameterRawType == null) || compatible.getIfAbsentPutWithKey(e.firstParameterRawType, t -> processorSupport.type_subTypeOf(firstValueRawType, t)),
+                e -> e.function);
+    }
+
+    FunctionMatch getIfAbsentPutMatch(CoreInstance function, ImmutableList<Object> argumentSignature, Supplier<? extends FunctionMatch> matcher)
+    {
+        if ((argumentSignature == null) || !function.isPersistent())
+        {
+            return matcher.get();
+        }
+
+        ConcurrentMutableMap<ImmutableList<Object>, Object> matches = this.matchesByFunction.getIfAbsentPut(function, ConcurrentHashMap::newMap);
+        Object match = matches.get(argumentSignature);
+        if (match == null)
+        {
+            FunctionMatch newMatch = matcher.get();
+            matches.put(argumentSignature, (newMatch == null) ? NO_MATCH : newMatch);
+            return newMatch;
+        }
+        return (match == NO_MATCH) ? null : (FunctionMatch) match;
+    }
+
+    int getMatchCount()
+    {
+        return (int) this.matchesByFunction.valuesView().sumOfInt(ConcurrentMutableMap::size);
+    }
+
+    private ImmutableIntObjectMap<ImmutableList<IndexEntry>> getIndex(String functionName, ProcessorSupport processorSupport)
+    {
+        ImmutableIntObjectMap<ImmutableList<IndexEntry>> index = this.indexesByName.get(functionName);
+        if (index == null)
+        {
+            long modCount = this.indexModCount.get();
+            index = buildIndex(functionName, processorSupport);
+            ImmutableIntObjectMap<ImmutableList<IndexEntry>> existing = this.indexesByName.putIfAbsent(functionName, index);
+            if (existing != null)
+            {
+                index = existing;
+            }
+            else if (this.indexModCount.get() != modCount)
+            {
+                // functions were registered or removed while building the index, so it may already be stale
+                this.indexesByName.remove(functionName, index);
+            }
+        }
+        return index;
+    }
+
+    private static ImmutableIntObjectMap<ImmutableList<IndexEntry>> buildIndex(String functionName, ProcessorSupport processorSupport)
+    {
+        MutableIntObjectMap<MutableList<IndexEntry>> entriesByArity = IntObjectMaps.mutable.empty();
+        processorSupport.function_getFunctionsForName(functionName).forEach(function ->
+        {
+            FunctionType functionType = (FunctionType) processorSupport.function_getFunctionType(function);
+            ListIterable<? extends CoreInstance> parameters = ListHelper.wrapListIterable(functionType._parameters());
+            CoreInstance firstParameterRawType = parameters.isEmpty() ? null : getIndexableRawType(Instance.getValueForMetaPropertyToOneResolved(parameters.get(0), M3Properties.genericType, processorSupport), processorSupport);
+            entriesByArity.getIfAbsentPut(parameters.size(), Lists.mutable::empty).add(new IndexEntry(function, firstParameterRawType));
+        });
+        MutableIntObjectMap<ImmutableList<IndexEntry>> index = IntObjectMaps.mutable.ofInitialCapacity(entriesByArity.size());
+        entriesByArity.forEachKeyValue((arity, entries) -> index.put(arity, entries.toImmutable()));
+        return index.toImmutable();
+    }
+
+    /**
+     * Compute the signature of the generic types and multiplicities of the
+     * given parameter values. If any of them is not fully concrete, null is
+     * returned and the match should not be cached.
+     *
+     * @param parametersValues parameter values
+     * @param lenient          whether matching is lenient
+     * @param processorSupport processor support
+     * @return argument signature or null
+     */
+    static ImmutableList<Object> getArgumentSignature(ListIterable<? extends ValueSpecification> parametersValues, boolean lenient, ProcessorSupport processorSupport)
+    {
+        MutableList<Object> signature = Lists.mutable.ofInitialCapacity(1 + (4 * parametersValues.size()));
+        signature.add(lenient);
+        for (ValueSpecification value : parametersValues)
+        {
+            CoreInstance genericType = Instance.getValueForMetaPropertyToOneResolved(value, M3Properties.genericType, processorSupport);
+            if ((genericType == null) || !appendGenericTypeSignature(signature, genericType, processorSupport))
+            {
+                return null;
+            }
+            CoreInstance multiplicity = Instance.getValueForMetaPropertyToOneResolved(value, M3Properties.multiplicity, processorSupport);
+            if ((multiplicity == null) || !Multiplicity.isMultiplicityConcrete(multiplicity))
+            {
+                return null;
+            }
+            signature.add(Multiplicity.multiplicityLowerBoundToInt(multiplicity));
+            signature.add(Multiplicity.multiplicityUpperBoundToInt(multiplicity));
+        }
+        return signature.toImmutable();
+    }
+
+    private static boolean appendGenericTypeSignature(MutableList<Object> signature, CoreInstance genericType, ProcessorSupport processorSupport)
+    {
+        CoreInstance rawType = getIndexableRawType(genericType, processorSupport);
+        if ((rawType == null) ||
+                genericType.getValueForMetaPropertyToMany(M3Properties.typeVariableValues).notEmpty() ||
+                genericType.getValueForMetaPropertyToMany(M3Properties.multiplicityArguments).notEmpty())
+        {
+            return false;
+        }
+
+        ListIterable<? extends CoreInstance> typeArguments = Instance.getValueForMetaPropertyToManyResolved(genericType, M3Properties.typeArguments, processorSupport);
+        signature.add(rawType);
+        signature.add(typeArguments.size());
+        return typeArguments.allSatisfy(typeArgument -> appendGenericTypeSignature(signature, typeArgument, processorSupport));
+    }
+
+    /**
+     * Get the raw type of a generic type if it is a packaged type (such as a
+     * class, primitive type, or enumeration). Otherwise, return null. Type
+     * parameters, function types, and relation types are never packaged.
+     */
+    private static CoreInstance getIndexableRawType(CoreInstance genericType, ProcessorSupport processorSupport)
+    {
+        if (genericType == null)
+        {
+            return null;
+        }
+        CoreInstance rawType = Instance.getValueForMetaPropertyToOneResolved(genericType, M3Properties.rawType, processorSupport);
+        return ((rawType != null) && rawType.isPersistent() && (rawType.getValueForMetaPropertyToOne(M3Properties._package) != null)) ? rawType : null;
+    }
+
+    private static class IndexEntry
+    {
+        private final CoreInstance function;
+        private final CoreInstance firstParameterRawType;
+
+        private IndexEntry(CoreInstance function, CoreInstance firstParameterRawType)
+        {
+            this.function = function;
+            this.firstParameterRawType = firstParameterRawType;
+        }
+    }
+}
@@ -21,13 +21,13 @@ import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.treepath.RootRo
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.ClassProjection;
 import org.finos.legend.pure.m3.navigation.M3Paths;
 import org.finos.legend.pure.m3.navigation.ProcessorSupport;
-import org.finos.legend.pure.m3.tools.matcher.MatchRunner;
 import org.finos.legend.pure.m3.tools.matcher.Matcher;
 import org.finos.legend.pure.m3.tools.matcher.MatcherState;
+import org.finos.legend.pure.m3.tools.matcher.ThreadSafeMatchRunner;
 import org.finos.legend.pure.m4.ModelRepository;
 import org.finos.legend.pure.m4.exception.PureCompilationException;
 
-public class ClassProjectionValidator implements MatchRunner<ClassProjection>
+public class ClassProjectionValidator implements ThreadSafeMatchRunner<ClassProjection>
 {
     @Override
     public void run(ClassProjection classProjection, MatcherState state, Matcher matcher, ModelRepository modelRepository, Context context) throws PureCompilationException
@@ -15,6 +15,8 @@
 package org.finos.legend.pure.m3.compiler.validation;
 
 import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+import org.eclipse.collections.impl.factory.primitive.IntLists;
 import org.eclipse.collections.impl.factory.Lists;
 import org.finos.legend.pure.m3.SourceMutation;
 import org.finos.legend.pure.m3.compiler.Context;
@@ -30,15 +32,23 @@ import org.finos.legend.pure.m3.navigation._class._Class;
 import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.RepositoryCodeStorage;
 import org.finos.legend.pure.m3.serialization.grammar.ParserLibrary;
 import org.finos.legend.pure.m3.serialization.grammar.m3parser.inlinedsl.InlineDSLLibrary;
+import org.finos.legend.pure.m3.tools.forkjoin.ForkJoinTools;
 import org.finos.legend.pure.m3.tools.matcher.MatchRunner;
 import org.finos.legend.pure.m3.tools.matcher.Matcher;
+import org.finos.legend.pure.m3.tools.matcher.ThreadSafeMatchRunner;
 import org.finos.legend.pure.m4.ModelRepository;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.coreinstance.SourceInformation;
 import org.finos.legend.pure.m4.exception.PureCompilationException;
+import org.finos.legend.pure.m4.transaction.ModelRepositoryTransaction;
+import org.finos.legend.pure.m4.transaction.framework.ThreadLocalTransactionContext;
+
+import java.util.concurrent.ForkJoinPool;
 
 public class Validator
 {
+    static final int PARALLEL_VALIDATION_THRESHOLD = 100;
+
     private Validator()
     {
     }
@@ -49,6 +59,22 @@ public class Validator
     }
 
     public static void validateM3(Iterable<? extends CoreInstance> newInstancesConsolidated, ValidationType validationType, ParserLibrary parserLibrary, InlineDSLLibrary inlineDSLLibrary, Iterable<? extends MatchRunner> additionalValidators, RepositoryCodeStorage codeStorage, ModelRepository modelRepository, Context context, ProcessorSupport processorSupport) throws PureCompilationException
+    {
+        validateM3(newInstancesConsolidated, validationType, parserLibrary, inlineDSLLibrary, additionalValidators, codeStorage, modelRepository, context, processorSupport, null);
+    }
+
+    /**
+     * Validate new instances. All instances are validated, even if some fail. If any fail, the error for the first
+     * failing instance (in iteration order) is thrown, with the errors for any other failing instances added as
+     * suppressed exceptions. This is independent of the order in which instances are actually validated.
+     * <p>
+     * If a fork join pool is supplied and there are enough instances, instances whose validators are all thread-safe
+     * (see {@link ThreadSafeMatchRunner}) are validated concurrently, each with its own {@link ValidatorState}.
+     * Any other instances are validated serially first.
+     *
+     * @param forkJoinPool fork join pool for parallel validation (may be null)
+     */
+    public static void validateM3(Iterable<? extends CoreInstance> newInstancesConsolidated, ValidationType validationType, ParserLibrary parserLibrary, InlineDSLLibrary inlineDSLLibrary, Iterable<? extends MatchRunner> additionalValidators, RepositoryCodeStorage codeStorage, ModelRepository modelRepository, Context context, ProcessorSupport processorSupport, ForkJoinPool forkJoinPool) throws PureCompilationException
     {
         // Post Process
         Matcher matcher = new Matcher(modelRepository, context, processorSupport);
@@ -57,8 +83,77 @@ public class Validator
         inlineDSLLibrary.getInlineDSLs().forEach(d -> d.getValidators().forEach(matcher::addMatchIfTypeIsKnown));
         additionalValidators.forEach(matcher::addMatchIfTypeIsKnown);
 
+        ListIterable<? extends CoreInstance> instances = Lists.mutable.withAll(newInstancesConsolidated);
+        Throwable[] errors = new Throwable[instances.size()];
         ValidatorState validatorState = new ValidatorState(validationType, codeStorage, inlineDSLLibrary, processorSupport);
-        newInstancesConsolidated.forEach(i -> validate(i, validatorState, matcher, processorSupport));
+        if ((forkJoinPool == null) || (instances.size() <= PARALLEL_VALIDATION_THRESHOLD))
+        {
+            instances.forEachWithIndex((instance, i) -> validate(instance, i, validatorState, matcher, processorSupport, errors));
+        }
+        else
+        {
+            MutableIntList concurrentIndexes = IntLists.mutable.empty();
+            instances.forEachWithIndex((instance, i) ->
+            {
+                if (matcher.hasOnlyThreadSafeRunners(instance))
+                {
+                    concurrentIndexes.add(i);
+                }
+                else
+                {
+                    validate(instance, i, validatorState, matcher, processorSupport, errors);
+                }
+            });
+            // Worker threads must see the state of the compiler's transaction, which is only open in the current thread
+            ModelRepositoryTransaction transaction = modelRepository.getTransaction();
+            ForkJoinTools.forEach(forkJoinPool, concurrentIndexes.collect(i -> i, Lists.mutable.ofInitialCapacity(concurrentIndexes.size())), i ->
+            {
+                try (ThreadLocalTransactionContext ignored = ((transaction != null) && transaction.isOpen()) ? transaction.openInCurrentThread() : null)
+                {
+                    validate(instances.get(i), i, new ValidatorState(validationType, codeStorage, inlineDSLLibrary, processorSupport), matcher, processorSupport, errors);
+                }
+            }, PARALLEL_VALIDATION_THRESHOLD);
+        }
+
+        Throwable first = null;
+        for (Throwable error : errors)
+        {
+            if (error != null)
+            {
+                if (first == null)
+                {
+                    first = error;
+                }
+                else if (error != first)
+                {
+                    first.addSuppressed(error);
+                }
+            }
+        }
+        if (first instanceof RuntimeException)
+        {
+            throw (RuntimeException) first;
+        }
+        if (first instanceof Error)
+        {
+            throw (Error) first;
+        }
+        if (first != null)
+        {
+            throw new RuntimeException(first);
+        }
+    }
+
+    private static void validate(CoreInstance coreInstance, int index, ValidatorState validatorState, Matcher matcher, ProcessorSupport processorSupport, Throwable[] errors)
+    {
+        try
+        {
+            validate(coreInstance, validatorState, matcher, processorSupport);
+        }
+        catch (Throwable t)
+        {
+            errors[index] = t;
+        }
     }
 
     public static void validate(CoreInstance coreInstance, ValidatorState validatorState, Matcher matcher, ProcessorSupport processorSupport) throws PureCompilationException
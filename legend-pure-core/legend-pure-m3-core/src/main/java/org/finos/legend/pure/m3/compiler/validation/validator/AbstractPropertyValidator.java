@@ -20,13 +20,13 @@ import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.PropertyOwner;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.property.AbstractProperty;
 import org.finos.legend.pure.m3.navigation.M3Paths;
 import org.finos.legend.pure.m3.navigation.PackageableElement.PackageableElement;
-import org.finos.legend.pure.m3.tools.matcher.MatchRunner;
 import org.finos.legend.pure.m3.tools.matcher.Matcher;
 import org.finos.legend.pure.m3.tools.matcher.MatcherState;
+import org.finos.legend.pure.m3.tools.matcher.ThreadSafeMatchRunner;
 import org.finos.legend.pure.m4.ModelRepository;
 import org.finos.legend.pure.m4.exception.PureCompilationException;
 
-public class AbstractPropertyValidator implements MatchRunner<AbstractProperty<?>>
+public class AbstractPropertyValidator implements ThreadSafeMatchRunner<AbstractProperty<?>>
 {
     @Override
     public String getClassName()
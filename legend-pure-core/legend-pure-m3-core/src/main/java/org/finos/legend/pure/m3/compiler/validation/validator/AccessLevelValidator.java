@@ -37,15 +37,15 @@ import org.finos.legend.pure.m3.navigation.PrimitiveUtilities;
 import org.finos.legend.pure.m3.navigation.ProcessorSupport;
 import org.finos.legend.pure.m3.navigation.function.FunctionDescriptor;
 import org.finos.legend.pure.m3.navigation.importstub.ImportStub;
-import org.finos.legend.pure.m3.tools.matcher.MatchRunner;
 import org.finos.legend.pure.m3.tools.matcher.Matcher;
 import org.finos.legend.pure.m3.tools.matcher.MatcherState;
+import org.finos.legend.pure.m3.tools.matcher.ThreadSafeMatchRunner;
 import org.finos.legend.pure.m4.ModelRepository;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.coreinstance.indexing.IndexSpecifications;
 import org.finos.legend.pure.m4.exception.PureCompilationException;
 
-public class AccessLevelValidator implements MatchRunner
+public class AccessLevelValidator implements ThreadSafeMatchRunner
 {
     @Override
     public String getClassName()
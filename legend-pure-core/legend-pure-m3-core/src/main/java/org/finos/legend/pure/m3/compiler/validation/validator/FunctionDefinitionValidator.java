@@ -35,15 +35,15 @@ import org.finos.legend.pure.m3.navigation.generictype.match.GenericTypeMatch;
 import org.finos.legend.pure.m3.navigation.generictype.match.NullMatchBehavior;
 import org.finos.legend.pure.m3.navigation.generictype.match.ParameterMatchBehavior;
 import org.finos.legend.pure.m3.navigation.multiplicity.MultiplicityMatch;
-import org.finos.legend.pure.m3.tools.matcher.MatchRunner;
 import org.finos.legend.pure.m3.tools.matcher.Matcher;
 import org.finos.legend.pure.m3.tools.matcher.MatcherState;
+import org.finos.legend.pure.m3.tools.matcher.ThreadSafeMatchRunner;
 import org.finos.legend.pure.m4.ModelRepository;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.coreinstance.SourceInformation;
 import org.finos.legend.pure.m4.exception.PureCompilationException;
 
-public class FunctionDefinitionValidator implements MatchRunner<FunctionDefinition<CoreInstance>>
+public class FunctionDefinitionValidator implements ThreadSafeMatchRunner<FunctionDefinition<CoreInstance>>
 {
     private static final ImmutableSet<String> EQUALITY_FUNCTION_NAMES = Sets.immutable.with("is", "eq", "equal");
 
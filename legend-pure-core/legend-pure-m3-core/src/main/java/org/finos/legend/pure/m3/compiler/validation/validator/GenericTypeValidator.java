@@ -40,9 +40,9 @@ import org.finos.legend.pure.m3.navigation.relation._Column;
 import org.finos.legend.pure.m3.navigation.relation._RelationType;
 import org.finos.legend.pure.m3.navigation.type.Type;
 import org.finos.legend.pure.m3.tools.ListHelper;
-import org.finos.legend.pure.m3.tools.matcher.MatchRunner;
 import org.finos.legend.pure.m3.tools.matcher.Matcher;
 import org.finos.legend.pure.m3.tools.matcher.MatcherState;
+import org.finos.legend.pure.m3.tools.matcher.ThreadSafeMatchRunner;
 import org.finos.legend.pure.m4.ModelRepository;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.coreinstance.SourceInformation;
@@ -50,7 +50,7 @@ import org.finos.legend.pure.m4.exception.PureCompilationException;
 
 import java.util.Objects;
 
-public class GenericTypeValidator implements MatchRunner<GenericType>
+public class GenericTypeValidator implements ThreadSafeMatchRunner<GenericType>
 {
     @Override
     public String getClassName()
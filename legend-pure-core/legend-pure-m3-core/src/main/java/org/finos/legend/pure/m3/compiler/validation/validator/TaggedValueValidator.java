@@ -20,13 +20,13 @@ import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.extension.Tagge
 import org.finos.legend.pure.m3.navigation.M3Paths;
 import org.finos.legend.pure.m3.navigation.ProcessorSupport;
 import org.finos.legend.pure.m3.navigation.importstub.ImportStub;
-import org.finos.legend.pure.m3.tools.matcher.MatchRunner;
 import org.finos.legend.pure.m3.tools.matcher.Matcher;
 import org.finos.legend.pure.m3.tools.matcher.MatcherState;
+import org.finos.legend.pure.m3.tools.matcher.ThreadSafeMatchRunner;
 import org.finos.legend.pure.m4.ModelRepository;
 import org.finos.legend.pure.m4.exception.PureCompilationException;
 
-public class TaggedValueValidator implements MatchRunner<TaggedValue>
+public class TaggedValueValidator implements ThreadSafeMatchRunner<TaggedValue>
 {
     @Override
     public String getClassName()
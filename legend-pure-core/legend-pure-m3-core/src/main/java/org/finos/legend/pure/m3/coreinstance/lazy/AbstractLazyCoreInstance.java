@@ -474,6 +474,26 @@ public abstract class AbstractLazyCoreInstance extends AbstractCoreInstance impl
                ManyValues.fromSuppliers(children.collect(child -> LazyCoreInstanceUtilities.packageableElementSupplier(packagePathResolver, child.getPath()), Lists.mutable.ofInitialCapacity(children.size())), fromCoreInstanceFn);
     }
 
+    protected static <V extends CoreInstance> ManyValues<V> newBackReferencePropertyValue(PropertyValues propertyValues, ListIterable<? extends BackReference> backReferences, String property, ReferenceIdResolver extResolver, IntFunction<? extends CoreInstance> intResolver, PrimitiveValueResolver primitiveValueResolver, ElementBuilder elementBuilder, boolean allowEagerValueResolution)
+    {
+        return LazyCoreInstanceUtilities.newBackReferencePropertyValue(propertyValues, backReferences, property, extResolver, intResolver, primitiveValueResolver, elementBuilder, allowEagerValueResolution);
+    }
+
+    protected static <V extends CoreInstance> ManyValues<V> newBackReferencePropertyValue(PropertyValues propertyValues, ListIterable<? extends BackReference> backReferences, String property, ReferenceIdResolver extResolver, IntFunction<? extends CoreInstance> intResolver, PrimitiveValueResolver primitiveValueResolver, ElementBuilder elementBuilder, boolean allowEagerValueResolution, Function<? super CoreInstance, ? extends V> fromCoreInstanceFn)
+    {
+        return LazyCoreInstanceUtilities.newBackReferencePropertyValue(propertyValues, backReferences, property, extResolver, intResolver, primitiveValueResolver, elementBuilder, allowEagerValueResolution, fromCoreInstanceFn);
+    }
+
+    protected static <V extends CoreInstance> ManyValues<V> newBackReferencePropertyValue(ListIterable<? extends BackReference> backReferences, String property, ReferenceIdResolvers referenceIds, ElementBuilder elementBuilder)
+    {
+        return LazyCoreInstanceUtilities.newBackReferencePropertyValue(backReferences, property, referenceIds, elementBuilder);
+    }
+
+    protected static <V extends CoreInstance> ManyValues<V> newBackReferencePropertyValue(ListIterable<? extends BackReference> backReferences, String property, ReferenceIdResolvers referenceIds, ElementBuilder elementBuilder, Function<? super CoreInstance, ? extends V> fromCoreInstanceFn)
+    {
+        return LazyCoreInstanceUtilities.newBackReferencePropertyValue(backReferences, property, referenceIds, elementBuilder, fromCoreInstanceFn);
+    }
+
     protected static <FE extends CoreInstance, AE extends CoreInstance, P extends CoreInstance, QP extends CoreInstance, RU extends CoreInstance, G extends CoreInstance>
     void collectBackReferences(ListIterable<? extends BackReference> backReferences,
                                ReferenceIdResolvers referenceIds,
@@ -17,6 +17,7 @@ package org.finos.legend.pure.m3.coreinstance.lazy;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.list.MutableList;
+import org.finos.legend.pure.m3.coreinstance.lazy.resolution.LazyResolutionLists;
 import org.finos.legend.pure.m3.navigation.M3Paths;
 import org.finos.legend.pure.m3.navigation.M3Properties;
 import org.finos.legend.pure.m3.serialization.compiler.element.ElementBuilder;
@@ -626,6 +627,116 @@ public class LazyCoreInstanceUtilities
         });
     }
 
+    /**
+     * Create a new property value for the given back reference property. If the back references are deferred (see
+     * {@link LazyResolutionLists#isDeferred}), the back references for the property are not collected until the
+     * property value is first accessed.
+     */
+    public static <V extends CoreInstance> ManyValues<V> newBackReferencePropertyValue(PropertyValues propertyValues, ListIterable<? extends BackReference> backReferences, String property, ReferenceIdResolver extResolver, IntFunction<? extends CoreInstance> intResolver, PrimitiveValueResolver primitiveValueResolver, ElementBuilder elementBuilder, boolean allowEagerValueResolution)
+    {
+        return newBackReferencePropertyValue(propertyValues, backReferences, property, extResolver, intResolver, primitiveValueResolver, elementBuilder, allowEagerValueResolution, null);
+    }
+
+    public static <V extends CoreInstance> ManyValues<V> newBackReferencePropertyValue(PropertyValues propertyValues, ListIterable<? extends BackReference> backReferences, String property, ReferenceIdResolver extResolver, IntFunction<? extends CoreInstance> intResolver, PrimitiveValueResolver primitiveValueResolver, ElementBuilder elementBuilder, boolean allowEagerValueResolution, Function<? super CoreInstance, ? extends V> fromCoreInstanceFn)
+    {
+        if (LazyResolutionLists.isDeferred(backReferences))
+        {
+            return ManyValues.fromDeferredSuppliers(() ->
+            {
+                MutableList<Supplier<? extends V>> suppliers = Lists.mutable.empty();
+                ListIterable<ValueOrReference> pvList = (propertyValues == null) ? null : propertyValues.getValues();
+                if ((pvList != null) && pvList.notEmpty())
+                {
+                    pvList.collect(LazyCoreInstanceUtilities.<V>getSupplierVisitor(extResolver, intResolver, primitiveValueResolver, allowEagerValueResolution), suppliers);
+                }
+                collectBackReferences(backReferences, property, extResolver, intResolver, elementBuilder, suppliers);
+                return suppliers;
+            }, fromCoreInstanceFn);
+        }
+        MutableList<Supplier<? extends V>> suppliers = Lists.mutable.empty();
+        collectBackReferences(backReferences, property, extResolver, intResolver, elementBuilder, suppliers);
+        return (fromCoreInstanceFn == null) ?
+               newToManyPropertyValue(propertyValues, extResolver, intResolver, primitiveValueResolver, allowEagerValueResolution, suppliers) :
+               newToManyPropertyValue(propertyValues, extResolver, intResolver, primitiveValueResolver, allowEagerValueResolution, suppliers, fromCoreInstanceFn);
+    }
+
+    /**
+     * Create a new property value for the given back reference property of a virtual package. If the back references
+     * are deferred (see {@link LazyResolutionLists#isDeferred}), the back references for the property are not
+     * collected until the property value is first accessed.
+     */
+    public static <V extends CoreInstance> ManyValues<V> newBackReferencePropertyValue(ListIterable<? extends BackReference> backReferences, String property, ReferenceIdResolvers referenceIds, ElementBuilder elementBuilder)
+    {
+        return newBackReferencePropertyValue(backReferences, property, referenceIds, elementBuilder, null);
+    }
+
+    public static <V extends CoreInstance> ManyValues<V> newBackReferencePropertyValue(ListIterable<? extends BackReference> backReferences, String property, ReferenceIdResolvers referenceIds, ElementBuilder elementBuilder, Function<? super CoreInstance, ? extends V> fromCoreInstanceFn)
+    {
+        if (LazyResolutionLists.isDeferred(backReferences))
+        {
+            return ManyValues.fromDeferredSuppliers(() ->
+            {
+                MutableList<Supplier<? extends V>> suppliers = Lists.mutable.empty();
+                collectBackReferences(backReferences, property, referenceIds.resolver(), null, elementBuilder, suppliers);
+                return suppliers;
+            }, fromCoreInstanceFn);
+        }
+        MutableList<Supplier<? extends V>> suppliers = Lists.mutable.empty();
+        collectBackReferences(backReferences, property, referenceIds.resolver(), null, elementBuilder, suppliers);
+        return ManyValues.fromSuppliers(suppliers, fromCoreInstanceFn);
+    }
+
+    /**
+     * Collect the suppliers for the back references of a single back reference property.
+     *
+     * @param backReferences     back references
+     * @param property           back reference property name
+     * @param refIdResolver      reference id resolver
+     * @param internalIdResolver internal id resolver (may be null)
+     * @param elementBuilder     element builder
+     * @param target             target collection
+     */
+    public static <V extends CoreInstance> void collectBackReferences(ListIterable<? extends BackReference> backReferences, String property, ReferenceIdResolver refIdResolver, IntFunction<? extends CoreInstance> internalIdResolver, ElementBuilder elementBuilder, Collection<? super Supplier<? extends V>> target)
+    {
+        switch (property)
+        {
+            case M3Properties.applications:
+            {
+                LazyCoreInstanceUtilities.<V, CoreInstance, CoreInstance, CoreInstance, CoreInstance, CoreInstance>collectBackReferences(backReferences, refIdResolver, internalIdResolver, elementBuilder, target, null, null, null, null, null);
+                break;
+            }
+            case M3Properties.modelElements:
+            {
+                LazyCoreInstanceUtilities.<CoreInstance, V, CoreInstance, CoreInstance, CoreInstance, CoreInstance>collectBackReferences(backReferences, refIdResolver, internalIdResolver, elementBuilder, null, target, null, null, null, null);
+                break;
+            }
+            case M3Properties.propertiesFromAssociations:
+            {
+                LazyCoreInstanceUtilities.<CoreInstance, CoreInstance, V, CoreInstance, CoreInstance, CoreInstance>collectBackReferences(backReferences, refIdResolver, internalIdResolver, elementBuilder, null, null, target, null, null, null);
+                break;
+            }
+            case M3Properties.qualifiedPropertiesFromAssociations:
+            {
+                LazyCoreInstanceUtilities.<CoreInstance, CoreInstance, CoreInstance, V, CoreInstance, CoreInstance>collectBackReferences(backReferences, refIdResolver, internalIdResolver, elementBuilder, null, null, null, target, null, null);
+                break;
+            }
+            case M3Properties.referenceUsages:
+            {
+                LazyCoreInstanceUtilities.<CoreInstance, CoreInstance, CoreInstance, CoreInstance, V, CoreInstance>collectBackReferences(backReferences, refIdResolver, internalIdResolver, elementBuilder, null, null, null, null, target, null);
+                break;
+            }
+            case M3Properties.specializations:
+            {
+                LazyCoreInstanceUtilities.<CoreInstance, CoreInstance, CoreInstance, CoreInstance, CoreInstance, V>collectBackReferences(backReferences, refIdResolver, internalIdResolver, elementBuilder, null, null, null, null, null, target);
+                break;
+            }
+            default:
+            {
+                throw new IllegalArgumentException("Unknown back reference property: " + property);
+            }
+        }
+    }
+
     @SuppressWarnings("unchecked")
     public static <FE extends CoreInstance> Supplier<FE> getApplicationSupplier(BackReference.Application application, ReferenceIdResolver idResolver)
     {
@@ -362,6 +362,29 @@ public abstract class ManyValues<T> extends AbstractPropertyValue<T>
         return new ManyValuesTF<>(((suppliers == null) || suppliers.isEmpty()) ? Lists.immutable.empty() : LazyResolutionLists.newImmutable(suppliers), toCoreInstanceFn, fromCoreInstanceFn);
     }
 
+    /**
+     * Create a new many values property value whose suppliers are not computed until the values are first accessed.
+     *
+     * @param suppliers supplier of value suppliers
+     * @param <V>       value type
+     * @return many values
+     */
+    public static <V extends CoreInstance> ManyValues<V> fromDeferredSuppliers(Supplier<? extends ListIterable<? extends Supplier<? extends V>>> suppliers)
+    {
+        return fromDeferredSuppliers(suppliers, null);
+    }
+
+    public static <V extends CoreInstance> ManyValues<V> fromDeferredSuppliers(Supplier<? extends ListIterable<? extends Supplier<? extends V>>> suppliers, Function<? super CoreInstance, ? extends V> fromCoreInstanceFn)
+    {
+        ListIterable<V> values = LazyResolutionLists.newDeferred(suppliers);
+        return (fromCoreInstanceFn == null) ? new ManyValuesCI<>(values) : new ManyValuesF<>(values, fromCoreInstanceFn);
+    }
+
+    public static <V> ManyValues<V> fromDeferredSuppliers(Supplier<? extends ListIterable<? extends Supplier<? extends V>>> suppliers, Function<? super V, ? extends CoreInstance> toCoreInstanceFn, Function<? super CoreInstance, ? extends V> fromCoreInstanceFn)
+    {
+        return new ManyValuesTF<>(LazyResolutionLists.newDeferred(suppliers), toCoreInstanceFn, fromCoreInstanceFn);
+    }
+
     private class Indexes
     {
         private MutableMap<IndexSpecification<?>, IDIndex<?, CoreInstance>> idIndexes;
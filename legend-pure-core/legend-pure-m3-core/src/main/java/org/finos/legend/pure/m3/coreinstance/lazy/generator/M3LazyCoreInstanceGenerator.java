@@ -1563,32 +1563,18 @@ public class M3LazyCoreInstanceGenerator
         builder.append("            super(instanceData);\n");
         if (simpleProperties.notEmpty())
         {
-            MutableSet<String> backRefProperties = Sets.mutable.empty();
+            builder.append("            MutableMap<String, PropertyValues> propertyValuesByName = indexPropertyValues(instanceData);\n");
             simpleProperties.forEach(propertyInfo ->
             {
+                builder.append("            this._").append(propertyInfo.name).append(" = ");
                 if (propertyInfo.isBackRef())
                 {
-                    backRefProperties.add(propertyInfo.name);
-                    builder.append("            MutableList<Supplier<? extends ").append(propertyInfo.holderTypeJava).append(">> ").append(propertyInfo.name).append(" = Lists.mutable.empty();\n");
+                    builder.append("newBackReferencePropertyValue(propertyValuesByName.get(\"").append(propertyInfo.name).append("\"), backReferences, \"").append(propertyInfo.name).append("\", referenceIdResolver, internalIdResolver, primitiveValueResolver, elementBuilder, true");
                 }
-            });
-            if (backRefProperties.notEmpty())
-            {
-                builder.append("            collectBackReferences(backReferences, referenceIdResolver, internalIdResolver, elementBuilder");
-                M3PropertyPaths.BACK_REFERENCE_PROPERTY_PATHS.collect(ImmutableList::getLast, Lists.mutable.ofInitialCapacity(M3PropertyPaths.BACK_REFERENCE_PROPERTY_PATHS.size()))
-                        .sortThis()
-                        .forEach(p -> builder.append(", ").append(backRefProperties.contains(p) ? p : "null"));
-                builder.append(");\n");
-            }
-            builder.append("            MutableMap<String, PropertyValues> propertyValuesByName = indexPropertyValues(instanceData);\n");
-            simpleProperties.forEach(propertyInfo ->
-            {
-                builder.append("            this._").append(propertyInfo.name).append(" = ")
-                        .append(propertyInfo.isToOne() ? "newToOnePropertyValue" : "newToManyPropertyValue")
-                        .append("(propertyValuesByName.get(\"").append(propertyInfo.name).append("\"), referenceIdResolver, internalIdResolver, primitiveValueResolver, true");
-                if (propertyInfo.isBackRef())
+                else
                 {
-                    builder.append(", ").append(propertyInfo.name);
+                    builder.append(propertyInfo.isToOne() ? "newToOnePropertyValue" : "newToManyPropertyValue")
+                            .append("(propertyValuesByName.get(\"").append(propertyInfo.name).append("\"), referenceIdResolver, internalIdResolver, primitiveValueResolver, true");
                 }
                 if (!"CoreInstance".equals(propertyInfo.holderTypeJava) && (propertyInfo.wrapperTypeJava != null))
                 {
@@ -1653,23 +1639,6 @@ public class M3LazyCoreInstanceGenerator
         builder.append("            super(instanceData);\n");
         if (simpleProperties.notEmpty())
         {
-            MutableSet<String> backRefProperties = Sets.mutable.empty();
-            simpleProperties.forEach(propertyInfo ->
-            {
-                if (propertyInfo.isBackRef())
-                {
-                    backRefProperties.add(propertyInfo.name);
-                    builder.append("            MutableList<Supplier<? extends ").append(propertyInfo.holderTypeJava).append(">> ").append(propertyInfo.name).append(" = Lists.mutable.empty();\n");
-                }
-            });
-            if (backRefProperties.notEmpty())
-            {
-                builder.append("            collectBackReferences(backReferences, referenceIdResolver, internalIdResolver, elementBuilder");
-                M3PropertyPaths.BACK_REFERENCE_PROPERTY_PATHS.collect(ImmutableList::getLast, Lists.mutable.ofInitialCapacity(M3PropertyPaths.BACK_REFERENCE_PROPERTY_PATHS.size()))
-                        .sortThis()
-                        .forEach(p -> builder.append(", ").append(backRefProperties.contains(p) ? p : "null"));
-                builder.append(");\n");
-            }
             builder.append("            MutableMap<String, PropertyValues> propertyValuesByName = indexPropertyValues(instanceData);\n");
             simpleProperties.forEach(propertyInfo ->
             {
@@ -1680,11 +1649,14 @@ public class M3LazyCoreInstanceGenerator
                 }
                 else
                 {
-                    builder.append(propertyInfo.isToOne() ? "newToOnePropertyValue" : "newToManyPropertyValue")
-                            .append("(propertyValuesByName.get(\"").append(propertyInfo.name).append("\"), referenceIdResolver, internalIdResolver, primitiveValueResolver, true");
                     if (propertyInfo.isBackRef())
                     {
-                        builder.append(", ").append(propertyInfo.name);
+                        builder.append("newBackReferencePropertyValue(propertyValuesByName.get(\"").append(propertyInfo.name).append("\"), backReferences, \"").append(propertyInfo.name).append("\", referenceIdResolver, internalIdResolver, primitiveValueResolver, elementBuilder, true");
+                    }
+                    else
+                    {
+                        builder.append(propertyInfo.isToOne() ? "newToOnePropertyValue" : "newToManyPropertyValue")
+                                .append("(propertyValuesByName.get(\"").append(propertyInfo.name).append("\"), referenceIdResolver, internalIdResolver, primitiveValueResolver, true");
                     }
                     if (!"CoreInstance".equals(propertyInfo.holderTypeJava) && (propertyInfo.wrapperTypeJava != null))
                     {
@@ -1751,23 +1723,6 @@ public class M3LazyCoreInstanceGenerator
         builder.append("            super(init);\n");
         if (simpleProperties.notEmpty())
         {
-            MutableSet<String> backRefProperties = Sets.mutable.empty();
-            simpleProperties.forEach(propertyInfo ->
-            {
-                if (propertyInfo.isBackRef())
-                {
-                    backRefProperties.add(propertyInfo.name);
-                    builder.append("            MutableList<Supplier<? extends ").append(propertyInfo.holderTypeJava).append(">> ").append(propertyInfo.name).append(" = Lists.mutable.empty();\n");
-                }
-            });
-            if (backRefProperties.notEmpty())
-            {
-                builder.append("            collectBackReferences(backReferences, referenceIds, elementBuilder");
-                M3PropertyPaths.BACK_REFERENCE_PROPERTY_PATHS.collect(ImmutableList::getLast, Lists.mutable.ofInitialCapacity(M3PropertyPaths.BACK_REFERENCE_PROPERTY_PATHS.size()))
-                        .sortThis()
-                        .forEach(p -> builder.append(", ").append(backRefProperties.contains(p) ? p : "null"));
-                builder.append(");\n");
-            }
             simpleProperties.forEach(propertyInfo ->
             {
                 builder.append("            this._").append(propertyInfo.name).append(" = ");
@@ -1777,7 +1732,7 @@ public class M3LazyCoreInstanceGenerator
                 }
                 else if (propertyInfo.isBackRef())
                 {
-                    builder.append("ManyValues.fromSuppliers(").append(propertyInfo.name);
+                    builder.append("newBackReferencePropertyValue(backReferences, \"").append(propertyInfo.name).append("\", referenceIds, elementBuilder");
                     if (!"CoreInstance".equals(propertyInfo.holderTypeJava) && (propertyInfo.wrapperTypeJava != null))
                     {
                         builder.append(", ").append(propertyInfo.wrapperTypeJava).append(".FROM_CORE_INSTANCE_FN");
@@ -0,0 +1,115 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.coreinstance.lazy.resolution;
+
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ListIterable;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A lazy resolution list whose items are not known until first access. The items supplier is called at most once,
+ * the first time the size or any item of the list is required. Until then, the list is considered to be unresolved.
+ * Once the items are known, each item is resolved lazily, as in any other lazy resolution list.
+ *
+ * @param <T> item type
+ */
+class LazyResolutionDeferredList<T> extends AbstractLazyResolutionImmutableList<T>
+{
+    private static final Object[] EMPTY = new Object[0];
+
+    private volatile Supplier<Object[]> itemsSupplier;
+    private volatile Object[] items;
+
+    private LazyResolutionDeferredList(Supplier<Object[]> itemsSupplier)
+    {
+        this.itemsSupplier = Objects.requireNonNull(itemsSupplier);
+    }
+
+    @Override
+    public int size()
+    {
+        return getItems().length;
+    }
+
+    @Override
+    Object getRaw(int index)
+    {
+        return getItems()[index];
+    }
+
+    @Override
+    public boolean isAnyUnresolved()
+    {
+        return !isMaterialized() || super.isAnyUnresolved();
+    }
+
+    @Override
+    public LazyIterable<T> resolvedOnly()
+    {
+        return isMaterialized() ? super.resolvedOnly() : Lists.immutable.<T>empty().asLazy();
+    }
+
+    boolean isMaterialized()
+    {
+        return this.itemsSupplier == null;
+    }
+
+    private Object[] getItems()
+    {
+        if (this.itemsSupplier != null)
+        {
+            synchronized (this)
+            {
+                Supplier<Object[]> local = this.itemsSupplier;
+                if (local != null)
+                {
+                    Object[] result = local.get();
+                    this.items = (result == null) ? EMPTY : result;
+                    this.itemsSupplier = null;
+                }
+            }
+        }
+        return this.items;
+    }
+
+    static <T> LazyResolutionDeferredList<T> newList(Supplier<? extends ListIterable<? extends Supplier<? extends T>>> suppliers)
+    {
+        Objects.requireNonNull(suppliers);
+        return new LazyResolutionDeferredList<>(() ->
+        {
+            ListIterable<? extends Supplier<? extends T>> list = suppliers.get();
+            if ((list == null) || list.isEmpty())
+            {
+                return EMPTY;
+            }
+            Object[] items = new Object[list.size()];
+            list.forEachWithIndex((supplier, i) -> items[i] = LazyResolver.fromSupplier(supplier));
+            return items;
+        });
+    }
+
+    static <T> LazyResolutionDeferredList<T> newListFromValues(Supplier<? extends ListIterable<? extends T>> values)
+    {
+        Objects.requireNonNull(values);
+        return new LazyResolutionDeferredList<>(() ->
+        {
+            ListIterable<? extends T> list = values.get();
+            return ((list == null) || list.isEmpty()) ? EMPTY : list.toArray();
+        });
+    }
+}
@@ -81,4 +81,41 @@ public class LazyResolutionLists
     {
         return LazyResolutionImmutableSingletonList.newList(supplier);
     }
+
+    /**
+     * Create a new immutable list whose suppliers are not computed until the list is first accessed. This can be used
+     * to defer the (possibly expensive) computation of the suppliers themselves, and not just of their values.
+     *
+     * @param suppliers supplier of the list of suppliers
+     * @param <T>       value type
+     * @return deferred immutable list
+     */
+    public static <T> ImmutableList<T> newDeferred(Supplier<? extends ListIterable<? extends Supplier<? extends T>>> suppliers)
+    {
+        return LazyResolutionDeferredList.newList(suppliers);
+    }
+
+    /**
+     * Create a new immutable list whose values are not computed until the list is first accessed.
+     *
+     * @param values supplier of the list values
+     * @param <T>    value type
+     * @return deferred immutable list
+     */
+    public static <T> ImmutableList<T> newDeferredFromValues(Supplier<? extends ListIterable<? extends T>> values)
+    {
+        return LazyResolutionDeferredList.newListFromValues(values);
+    }
+
+    /**
+     * Return whether the given list is a deferred list (see {@link #newDeferred}) whose contents have not yet been
+     * computed.
+     *
+     * @param list list
+     * @return whether list is an unmaterialized deferred list
+     */
+    public static boolean isDeferred(ListIterable<?> list)
+    {
+        return (list instanceof LazyResolutionDeferredList) && !((LazyResolutionDeferredList<?>) list).isMaterialized();
+    }
 }
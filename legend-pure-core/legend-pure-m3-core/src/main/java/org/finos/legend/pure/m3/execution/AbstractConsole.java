@@ -22,6 +22,7 @@ import java.io.PrintStream;
 public abstract class AbstractConsole implements Console
 {
     private final MutableList<String> lines = Lists.mutable.empty();
+    private final ThreadLocal<PrintStream> threadPrintStream = new ThreadLocal<>();
     private PrintStream printStream = System.out;
     private boolean isEnabled = true;
     private boolean isConsole = true;
@@ -34,7 +35,10 @@ public abstract class AbstractConsole implements Console
         {
             throw new RuntimeException("Console is currently disabled");
         }
-        return this.lines.get(lineNb);
+        synchronized (this.lines)
+        {
+            return this.lines.get(lineNb);
+        }
     }
 
     @Override
@@ -47,9 +51,13 @@ public abstract class AbstractConsole implements Console
             {
                 if (this.bufferLines)
                 {
-                    this.lines.add(line);
+                    synchronized (this.lines)
+                    {
+                        this.lines.add(line);
+                    }
                 }
-                this.printStream.print(line);
+                PrintStream stream = this.threadPrintStream.get();
+                ((stream == null) ? this.printStream : stream).print(line);
             }
         }
     }
@@ -67,6 +75,18 @@ public abstract class AbstractConsole implements Console
         this.isConsole = false;
     }
 
+    @Override
+    public void setThreadPrintStream(PrintStream printStream)
+    {
+        this.threadPrintStream.set(printStream);
+    }
+
+    @Override
+    public void clearThreadPrintStream()
+    {
+        this.threadPrintStream.remove();
+    }
+
     @Override
     public boolean isConsole()
     {
@@ -82,7 +102,10 @@ public abstract class AbstractConsole implements Console
     @Override
     public void clear()
     {
-        this.lines.clear();
+        synchronized (this.lines)
+        {
+            this.lines.clear();
+        }
     }
 
     @Override
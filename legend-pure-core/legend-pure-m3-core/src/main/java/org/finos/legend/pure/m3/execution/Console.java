@@ -24,6 +24,25 @@ public interface Console
 
     void setPrintStream(PrintStream printStream);
 
+    /**
+     * Set a print stream to be used for output printed by the current thread only. This allows output to be captured
+     * separately for concurrent executions. Implementations which do not support this fall back to
+     * {@link #setPrintStream}.
+     *
+     * @param printStream print stream for the current thread
+     */
+    default void setThreadPrintStream(PrintStream printStream)
+    {
+        setPrintStream(printStream);
+    }
+
+    /**
+     * Clear the print stream set for the current thread by {@link #setThreadPrintStream}.
+     */
+    default void clearThreadPrintStream()
+    {
+    }
+
     boolean isConsole();
 
     void setConsole(boolean b);
@@ -0,0 +1,29 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.execution.test;
+
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+
+/**
+ * Hook for isolating thread-bound or otherwise mutable state (e.g., the authenticated user or temporary database
+ * connections) between test executions. When tests are run in parallel, {@link #beforeTest} and {@link #afterTest}
+ * are called on the thread which executes the test.
+ */
+public interface TestIsolationHandler
+{
+    void beforeTest(CoreInstance testFunction);
+
+    void afterTest(CoreInstance testFunction);
+}
@@ -30,6 +30,7 @@ import org.finos.legend.pure.m3.navigation.ValueSpecificationBootstrap;
 import org.finos.legend.pure.m3.navigation._package._Package;
 import org.finos.legend.pure.m3.pct.shared.PCTTools;
 import org.finos.legend.pure.m3.serialization.runtime.PureRuntime;
+import org.finos.legend.pure.m3.tools.forkjoin.ForkJoinTools;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.exception.PureException;
 
@@ -38,8 +39,17 @@ import java.io.IOException;
 import java.io.PrintStream;
 import java.io.UncheckedIOException;
 import java.util.Collections;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+/**
+ * Runs the tests in a {@link TestCollection}. By default, tests are run serially on the calling thread. If a
+ * parallelism greater than 1 is specified, the tests and sub-collections of each collection are run concurrently on a
+ * dedicated pool. In that case, the before functions of a package are guaranteed to complete before any of its tests
+ * (or those of its sub-packages) start, its after functions run only once all of those have completed, and results are
+ * reported to the {@link TestCallBack} in the same order as they would be for a serial run. The function execution
+ * must support concurrent execution for parallel runs.
+ */
 public class TestRunner implements Runnable
 {
     private final TestCollection tests;
@@ -48,6 +58,8 @@ public class TestRunner implements Runnable
     private final FunctionExecution functionExecution;
     private final TestCallBack testCallBack;
     private final boolean shuffle;
+    private final int parallelism;
+    private final TestIsolationHandler isolationHandler;
     private final AtomicBoolean stopped = new AtomicBoolean(false);
     protected final MutableSet<String> passedTests;
     protected final MutableSet<String> failedTests;
@@ -62,18 +74,29 @@ public class TestRunner implements Runnable
         this(tests, includeAlloyOnlyTests, functionExecution, callBack, shuffle, null);
     }
 
-    // TODO: consider refactoring this to use builder pattern
     public TestRunner(TestCollection tests, boolean includeAlloyOnlyTests, FunctionExecution functionExecution, TestCallBack callBack, boolean shuffle, String pctAdapter)
     {
+        this(tests, includeAlloyOnlyTests, functionExecution, callBack, shuffle, pctAdapter, 1, null);
+    }
+
+    // TODO: consider refactoring this to use builder pattern
+    public TestRunner(TestCollection tests, boolean includeAlloyOnlyTests, FunctionExecution functionExecution, TestCallBack callBack, boolean shuffle, String pctAdapter, int parallelism, TestIsolationHandler isolationHandler)
+    {
+        if (parallelism < 1)
+        {
+            throw new IllegalArgumentException("Invalid parallelism: " + parallelism);
+        }
         this.tests = tests;
         this.includeAlloyOnlyTests = includeAlloyOnlyTests;
         this.pctAdapter = pctAdapter == null ? "meta::pure::test::pct::testAdapterForInMemoryExecution_Function_1__X_o_" : pctAdapter;
         this.functionExecution = functionExecution;
         this.testCallBack = callBack;
         this.shuffle = shuffle;
+        this.parallelism = parallelism;
+        this.isolationHandler = isolationHandler;
         callBack.foundTests(this.tests.getAllTestFunctions(includeAlloyOnlyTests));
-        this.passedTests = Sets.mutable.empty();
-        this.failedTests = Sets.mutable.empty();
+        this.passedTests = Sets.mutable.<String>empty().asSynchronized();
+        this.failedTests = Sets.mutable.<String>empty().asSynchronized();
     }
 
     public TestRunner(TestCollection tests, FunctionExecution functionExecution, TestCallBack callBack)
@@ -113,7 +136,14 @@ public class TestRunner implements Runnable
         {
             Console console = this.functionExecution.getConsole();
             console.setConsole(true);
-            runTestsFromCollection(this.tests, console);
+            if (this.parallelism > 1)
+            {
+                runTestsInParallel(console);
+            }
+            else
+            {
+                runTestsFromCollection(this.tests, console);
+            }
         }
         catch (IOException e)
         {
@@ -131,6 +161,11 @@ public class TestRunner implements Runnable
         return this.tests;
     }
 
+    public int getParallelism()
+    {
+        return this.parallelism;
+    }
+
     private void runTestsFromCollection(TestCollection testCollection, Console console) throws IOException
     {
         // Execute before functions
@@ -172,28 +207,85 @@ public class TestRunner implements Runnable
             ByteArrayOutputStream stream = new ByteArrayOutputStream();
             PrintStream ps = new PrintStream(stream);
             console.setPrintStream(ps);
+            TestStatus status = executeTest(test, testCollection);
+            this.testCallBack.executedTest(test, testCollection.getTestParameterizationId(), stream.toString(), status);
+            stream.flush();
+        }
+
+        // Execute after functions
+        for (CoreInstance after : testCollection.getAfterFunctions())
+        {
+            if (this.stopped.get())
+            {
+                return;
+            }
             try
             {
-                executeTestFunc(test, testCollection.getTestFunctionParam(), testCollection.getTestFunctionParamCustomizer());
-                this.testCallBack.executedTest(test, testCollection.getTestParameterizationId(), stream.toString(), TestStatus.SUCCESS);
-                this.passedTests.add(PackageableElement.getUserPathForPackageableElement(test) + (testCollection.getTestParameterizationId() == null ? "" : "[" + testCollection.getTestParameterizationId() + "]"));
+                executeTestFunc(after, testCollection.getTestFunctionParam(), testCollection.getTestFunctionParamCustomizer());
             }
             catch (Throwable t)
             {
-                PureException exception = PureException.findPureException(t);
-                if (exception instanceof PureAssertFailException)
-                {
-                    this.testCallBack.executedTest(test, testCollection.getTestParameterizationId(), stream.toString(), new AssertFailTestStatus((PureAssertFailException) exception));
-                }
-                else
-                {
-                    this.testCallBack.executedTest(test, testCollection.getTestParameterizationId(), stream.toString(), new ErrorTestStatus(t));
-                }
-                this.failedTests.add(PackageableElement.getUserPathForPackageableElement(test) + (testCollection.getTestParameterizationId() == null ? "" : "[" + testCollection.getTestParameterizationId() + "]"));
+                // TODO what should we do with this
+            }
+        }
+    }
+
+    private void runTestsInParallel(Console console)
+    {
+        CollectionPlan plan = buildCollectionPlan(this.tests, new int[]{0});
+        OrderedReporter reporter = new OrderedReporter(plan.end);
+        ForkJoinPool pool = new ForkJoinPool(this.parallelism);
+        try
+        {
+            runCollectionPlan(plan, console, pool, reporter);
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+    }
+
+    private CollectionPlan buildCollectionPlan(TestCollection testCollection, int[] nextIndex)
+    {
+        // Indexes are assigned in the order in which a serial run would report the tests
+        int start = nextIndex[0];
+        ListIterable<CollectionPlan> subPlans = getSubCollections(testCollection).collect(sc -> buildCollectionPlan(sc, nextIndex));
+        ListIterable<CoreInstance> testFunctions = getTests(testCollection);
+        int firstTestIndex = nextIndex[0];
+        nextIndex[0] += testFunctions.size();
+        return new CollectionPlan(testCollection, subPlans, testFunctions, start, firstTestIndex, nextIndex[0]);
+    }
+
+    private void runCollectionPlan(CollectionPlan plan, Console console, ForkJoinPool pool, OrderedReporter reporter)
+    {
+        TestCollection testCollection = plan.collection;
+
+        // Execute before functions
+        for (CoreInstance before : testCollection.getBeforeFunctions())
+        {
+            if (this.stopped.get())
+            {
+                reporter.skip(plan.start, plan.end);
+                return;
+            }
+            try
+            {
+                executeTestFunc(before, testCollection.getTestFunctionParam(), testCollection.getTestFunctionParamCustomizer());
+            }
+            catch (Throwable t)
+            {
+                // One of the set-up functions failed, so we fail all the tests in this collection and sub-collections
+                failCollectionPlanWithErrorStatus(plan, new ErrorTestStatus(t), reporter);
+                return;
             }
-            stream.flush();
         }
 
+        // Execute tests and sub-collections concurrently
+        MutableList<Runnable> tasks = Lists.mutable.ofInitialCapacity(plan.subPlans.size() + plan.tests.size());
+        plan.subPlans.forEach(subPlan -> tasks.add(() -> runCollectionPlan(subPlan, console, pool, reporter)));
+        plan.tests.forEachWithIndex((test, i) -> tasks.add(() -> runTestInParallel(test, testCollection, plan.firstTestIndex + i, console, reporter)));
+        ForkJoinTools.forEach(pool, tasks, Runnable::run, 1);
+
         // Execute after functions
         for (CoreInstance after : testCollection.getAfterFunctions())
         {
@@ -212,6 +304,61 @@ public class TestRunner implements Runnable
         }
     }
 
+    private void runTestInParallel(CoreInstance test, TestCollection testCollection, int index, Console console, OrderedReporter reporter)
+    {
+        if (this.stopped.get())
+        {
+            reporter.skip(index, index + 1);
+            return;
+        }
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        console.setThreadPrintStream(new PrintStream(stream));
+        try
+        {
+            TestStatus status = executeTest(test, testCollection);
+            String output = stream.toString();
+            reporter.report(index, () -> this.testCallBack.executedTest(test, testCollection.getTestParameterizationId(), output, status));
+        }
+        finally
+        {
+            console.clearThreadPrintStream();
+        }
+    }
+
+    private void failCollectionPlanWithErrorStatus(CollectionPlan plan, ErrorTestStatus status, OrderedReporter reporter)
+    {
+        plan.subPlans.forEach(subPlan -> failCollectionPlanWithErrorStatus(subPlan, status, reporter));
+        plan.tests.forEachWithIndex((test, i) -> reporter.report(plan.firstTestIndex + i, () -> this.testCallBack.executedTest(test, plan.collection.getTestParameterizationId(), "", status)));
+    }
+
+    private TestStatus executeTest(CoreInstance test, TestCollection testCollection)
+    {
+        String testId = PackageableElement.getUserPathForPackageableElement(test) + (testCollection.getTestParameterizationId() == null ? "" : "[" + testCollection.getTestParameterizationId() + "]");
+        if (this.isolationHandler != null)
+        {
+            this.isolationHandler.beforeTest(test);
+        }
+        try
+        {
+            executeTestFunc(test, testCollection.getTestFunctionParam(), testCollection.getTestFunctionParamCustomizer());
+            this.passedTests.add(testId);
+            return TestStatus.SUCCESS;
+        }
+        catch (Throwable t)
+        {
+            this.failedTests.add(testId);
+            PureException exception = PureException.findPureException(t);
+            return (exception instanceof PureAssertFailException) ? new AssertFailTestStatus((PureAssertFailException) exception) : new ErrorTestStatus(t);
+        }
+        finally
+        {
+            if (this.isolationHandler != null)
+            {
+                this.isolationHandler.afterTest(test);
+            }
+        }
+    }
+
     private void executeTestFunc(CoreInstance testFunc, Object testFunctionParam, CoreInstance testFunctionParamCustomizer)
     {
         ProcessorSupport processorSupport = this.functionExecution.getProcessorSupport();
@@ -296,4 +443,69 @@ public class TestRunner implements Runnable
         }
         return testFunctions;
     }
+
+    private static class CollectionPlan
+    {
+        private final TestCollection collection;
+        private final ListIterable<CollectionPlan> subPlans;
+        private final ListIterable<CoreInstance> tests;
+        private final int start;
+        private final int firstTestIndex;
+        private final int end;
+
+        private CollectionPlan(TestCollection collection, ListIterable<CollectionPlan> subPlans, ListIterable<CoreInstance> tests, int start, int firstTestIndex, int end)
+        {
+            this.collection = collection;
+            this.subPlans = subPlans;
+            this.tests = tests;
+            this.start = start;
+            this.firstTestIndex = firstTestIndex;
+            this.end = end;
+        }
+    }
+
+    /**
+     * Buffers test results which complete out of order and releases them in index order.
+     */
+    private static class OrderedReporter
+    {
+        private final Runnable[] pending;
+        private final boolean[] done;
+        private int next = 0;
+
+        private OrderedReporter(int size)
+        {
+            this.pending = new Runnable[size];
+            this.done = new boolean[size];
+        }
+
+        synchronized void report(int index, Runnable report)
+        {
+            this.pending[index] = report;
+            this.done[index] = true;
+            flush();
+        }
+
+        synchronized void skip(int start, int end)
+        {
+            for (int i = start; i < end; i++)
+            {
+                this.done[i] = true;
+            }
+            flush();
+        }
+
+        private void flush()
+        {
+            while ((this.next < this.done.length) && this.done[this.next])
+            {
+                Runnable report = this.pending[this.next];
+                this.pending[this.next++] = null;
+                if (report != null)
+                {
+                    report.run();
+                }
+            }
+        }
+    }
 }
@@ -15,12 +15,12 @@
 package org.finos.legend.pure.m3.navigation;
 
 import org.eclipse.collections.api.RichIterable;
-import org.eclipse.collections.api.factory.Sets;
 import org.eclipse.collections.api.list.ImmutableList;
 import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.set.SetIterable;
 import org.finos.legend.pure.m3.compiler.Context;
+import org.finos.legend.pure.m3.compiler.postprocessing.functionmatch.FunctionResolutionCache;
 import org.finos.legend.pure.m3.navigation._class._Class;
 import org.finos.legend.pure.m3.navigation._package._Package;
 import org.finos.legend.pure.m3.navigation.function.Function;
@@ -136,6 +136,12 @@ public class M3ProcessorSupport implements ProcessorSupport
         return this.context.getFunctionsForName(functionName);
     }
 
+    @Override
+    public FunctionResolutionCache function_getResolutionCache()
+    {
+        return this.context.getFunctionResolutionCache();
+    }
+
     @Override
     public CoreInstance newCoreInstance(String name, CoreInstance classifier, SourceInformation sourceInformation)
     {
@@ -209,7 +215,7 @@ public class M3ProcessorSupport implements ProcessorSupport
         return (type == possibleSuperType) ||
                 (type == type_BottomType()) ||
                 (possibleSuperType == type_TopType()) ||
-                this.context.getIfAbsentPutTypeGeneralizationSet(type, t -> Sets.immutable.withAll(Type.getGeneralizationResolutionOrder(t, this))).contains(possibleSuperType);
+                this.context.isSubTypeOf(type, possibleSuperType, t -> Type.getGeneralizationResolutionOrder(t, this));
     }
 
     @Override
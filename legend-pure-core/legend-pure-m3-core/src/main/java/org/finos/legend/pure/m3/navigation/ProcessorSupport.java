@@ -20,6 +20,7 @@ import org.eclipse.collections.api.list.ImmutableList;
 import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.set.SetIterable;
+import org.finos.legend.pure.m3.compiler.postprocessing.functionmatch.FunctionResolutionCache;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.coreinstance.SourceInformation;
 
@@ -49,6 +50,17 @@ public interface ProcessorSupport
 
     SetIterable<CoreInstance> function_getFunctionsForName(String functionName);
 
+    /**
+     * Get the cache used to speed up function resolution, if any. If this
+     * returns null, functions are resolved without caching.
+     *
+     * @return function resolution cache or null
+     */
+    default FunctionResolutionCache function_getResolutionCache()
+    {
+        return null;
+    }
+
     CoreInstance newCoreInstance(String name, CoreInstance classifier, SourceInformation sourceInformation);
 
     ImmutableList<CoreInstance> type_getTypeGeneralizations(CoreInstance type, Function<? super CoreInstance, ? extends ImmutableList<CoreInstance>> generator);
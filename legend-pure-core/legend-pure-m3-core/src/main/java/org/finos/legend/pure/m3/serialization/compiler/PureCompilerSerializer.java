@@ -14,23 +14,36 @@
 
 package org.finos.legend.pure.m3.serialization.compiler;
 
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.factory.Sets;
 import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.api.set.SetIterable;
+import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.set.mutable.SetAdapter;
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.finos.legend.pure.m3.navigation.PackageableElement.PackageableElement;
 import org.finos.legend.pure.m3.navigation.ProcessorSupport;
+import org.finos.legend.pure.m3.serialization.compiler.file.ContentHashTracker;
 import org.finos.legend.pure.m3.serialization.compiler.file.FileSerializer;
 import org.finos.legend.pure.m3.serialization.compiler.metadata.ModuleMetadata;
 import org.finos.legend.pure.m3.serialization.compiler.metadata.ModuleMetadataGenerator;
+import org.finos.legend.pure.m3.serialization.compiler.metadata.ModuleTypeHierarchyMetadata;
 import org.finos.legend.pure.m3.tools.GraphTools;
+import org.finos.legend.pure.m3.tools.forkjoin.ForkJoinTools;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.Predicate;
 import java.util.zip.ZipOutputStream;
 
@@ -38,15 +51,23 @@ public class PureCompilerSerializer
 {
     private static final Logger LOGGER = LoggerFactory.getLogger(PureCompilerSerializer.class);
 
+    private static final int PARALLEL_THRESHOLD = 32;
+
     private final FileSerializer fileSerializer;
     private final ModuleMetadataGenerator moduleMetadataGenerator;
     private final ProcessorSupport processorSupport;
+    private final boolean packElements;
+    private final boolean incremental;
+    private final ForkJoinPool forkJoinPool;
 
-    private PureCompilerSerializer(FileSerializer fileSerializer, ModuleMetadataGenerator moduleMetadataGenerator, ProcessorSupport processorSupport)
+    private PureCompilerSerializer(FileSerializer fileSerializer, ModuleMetadataGenerator moduleMetadataGenerator, ProcessorSupport processorSupport, boolean packElements, boolean incremental, ForkJoinPool forkJoinPool)
     {
         this.fileSerializer = Objects.requireNonNull(fileSerializer);
         this.moduleMetadataGenerator = Objects.requireNonNull(moduleMetadataGenerator);
         this.processorSupport = Objects.requireNonNull(processorSupport);
+        this.packElements = packElements;
+        this.incremental = incremental;
+        this.forkJoinPool = forkJoinPool;
     }
 
     // Serialize all
@@ -117,12 +138,13 @@ public class PureCompilerSerializer
 
     private Serializer newSerializer(Path directory)
     {
-        return new DirectorySerializer(this.fileSerializer, directory);
+        ContentHashTracker tracker = this.incremental ? this.fileSerializer.newContentHashTracker(directory) : null;
+        return new DirectorySerializer(this.fileSerializer.withContentHashTracker(tracker), directory, tracker, this.packElements, this.forkJoinPool);
     }
 
     private Serializer newSerializer(ZipOutputStream stream)
     {
-        return new ZipStreamSerializer(this.fileSerializer, stream);
+        return new ZipStreamSerializer(this.fileSerializer, stream, this.packElements, this.forkJoinPool);
     }
 
     private void serializeAll(Serializer serializer, boolean includeRootModule)
@@ -143,10 +165,11 @@ public class PureCompilerSerializer
                     if ((moduleName != null) && (includeRootModule || ModuleHelper.isNonRootModule(moduleName)))
                     {
                         moduleNames.add(moduleName);
-                        serializer.serializeElement(e);
+                        serializer.serializeElement(moduleName, e);
                         eltCount[0]++;
                     }
                 });
+                serializer.finishElements();
             }
             finally
             {
@@ -155,6 +178,7 @@ public class PureCompilerSerializer
             }
 
             generateAndSerializeAllModuleMetadata(serializer, includeRootModule);
+            serializer.finish();
         }
         catch (Throwable t)
         {
@@ -183,10 +207,11 @@ public class PureCompilerSerializer
                 {
                     if (ModuleHelper.isElementInModule(e, moduleName))
                     {
-                        serializer.serializeElement(e);
+                        serializer.serializeElement(ModuleHelper.getElementModule(e), e);
                         eltCount[0]++;
                     }
                 });
+                serializer.finishElements();
             }
             finally
             {
@@ -218,6 +243,9 @@ public class PureCompilerSerializer
                 long modMetaSerEnd = System.nanoTime();
                 LOGGER.info("Finished serialization of module metadata for {} in {}s", moduleName, (modMetaSerEnd - modMetaSerStart) / 1_000_000_000.0);
             }
+
+            generateAndSerializeTypeHierarchyMetadata(serializer, Lists.immutable.with(moduleMetadata.getName()));
+            serializer.finish();
         }
         catch (Throwable t)
         {
@@ -288,12 +316,14 @@ public class PureCompilerSerializer
                     {
                         GraphTools.getTopLevelAndPackagedElements(this.processorSupport).forEach(e ->
                         {
-                            if (moduleNames.contains(ModuleHelper.getElementModule(e)))
+                            String moduleName = ModuleHelper.getElementModule(e);
+                            if (moduleNames.contains(moduleName))
                             {
-                                serializer.serializeElement(e);
+                                serializer.serializeElement(moduleName, e);
                                 eltCount[0]++;
                             }
                         });
+                        serializer.finishElements();
                     }
                     finally
                     {
@@ -302,6 +332,7 @@ public class PureCompilerSerializer
                     }
 
                     generateAndSerializeModuleMetadata(serializer, moduleNames);
+                    serializer.finish();
                 }
                 catch (Throwable t)
                 {
@@ -336,10 +367,11 @@ public class PureCompilerSerializer
                     if ((moduleName != null) && moduleFilter.test(moduleName))
                     {
                         moduleNames.add(moduleName);
-                        serializer.serializeElement(e);
+                        serializer.serializeElement(moduleName, e);
                         eltCount[0]++;
                     }
                 });
+                serializer.finishElements();
             }
             finally
             {
@@ -348,6 +380,7 @@ public class PureCompilerSerializer
             }
 
             generateAndSerializeModuleMetadata(serializer, moduleNames);
+            serializer.finish();
         }
         catch (Throwable t)
         {
@@ -377,6 +410,7 @@ public class PureCompilerSerializer
         }
 
         serializeModuleMetadata(serializer, moduleMetadata);
+        generateAndSerializeTypeHierarchyMetadata(serializer, moduleMetadata.collect(ModuleMetadata::getName));
     }
 
     private void generateAndSerializeModuleMetadata(Serializer serializer, SetIterable<? extends String> moduleNames)
@@ -395,6 +429,22 @@ public class PureCompilerSerializer
         }
 
         serializeModuleMetadata(serializer, moduleMetadata);
+        generateAndSerializeTypeHierarchyMetadata(serializer, moduleMetadata.collect(ModuleMetadata::getName));
+    }
+
+    private void generateAndSerializeTypeHierarchyMetadata(Serializer serializer, Iterable<? extends String> moduleNames)
+    {
+        long start = System.nanoTime();
+        LOGGER.info("Starting type hierarchy metadata generation and serialization");
+        try
+        {
+            this.moduleMetadataGenerator.generateTypeHierarchyMetadata(moduleNames).forEach(serializer::serializeTypeHierarchyMetadata);
+        }
+        finally
+        {
+            long end = System.nanoTime();
+            LOGGER.info("Finished type hierarchy metadata generation and serialization in {}s", (end - start) / 1_000_000_000.0);
+        }
     }
 
     private void serializeModuleMetadata(Serializer serializer, MutableList<ModuleMetadata> moduleMetadata)
@@ -449,6 +499,9 @@ public class PureCompilerSerializer
         private FileSerializer fileSerializer;
         private ModuleMetadataGenerator moduleMetadataGenerator;
         private ProcessorSupport processorSupport;
+        private boolean packElements = false;
+        private boolean incremental = false;
+        private ForkJoinPool forkJoinPool;
 
         private Builder()
         {
@@ -472,36 +525,177 @@ public class PureCompilerSerializer
             return this;
         }
 
+        /**
+         * Whether to pack the elements of each module into element segment files (plus a segment index), rather than
+         * serializing each element to its own file. This is false by default.
+         *
+         * @param packElements whether to pack elements into segments
+         * @return this builder
+         */
+        public Builder withPackedElements(boolean packElements)
+        {
+            this.packElements = packElements;
+            return this;
+        }
+
+        /**
+         * Whether to serialize incrementally when serializing to a directory. If true, a hash of the content of each file
+         * serialized for a module is recorded in the directory, and on later serializations files are only written if
+         * their content has changed; files for elements which no longer exist are deleted. This has no effect when
+         * serializing to a zip stream. This is false by default.
+         *
+         * @param incremental whether to serialize incrementally
+         * @return this builder
+         * @see ContentHashTracker
+         */
+        public Builder withIncremental(boolean incremental)
+        {
+            this.incremental = incremental;
+            return this;
+        }
+
+        /**
+         * Set a fork-join pool for serializing elements in parallel. When serializing to a zip stream, elements are
+         * serialized in parallel and written to the stream by a single thread in the same order as they would be
+         * sequentially. If no pool is set, elements are serialized sequentially.
+         *
+         * @param forkJoinPool fork-join pool
+         * @return this builder
+         */
+        public Builder withForkJoinPool(ForkJoinPool forkJoinPool)
+        {
+            this.forkJoinPool = forkJoinPool;
+            return this;
+        }
+
         public PureCompilerSerializer build()
         {
-            return new PureCompilerSerializer(this.fileSerializer, this.moduleMetadataGenerator, this.processorSupport);
+            return new PureCompilerSerializer(this.fileSerializer, this.moduleMetadataGenerator, this.processorSupport, this.packElements, this.incremental, this.forkJoinPool);
         }
     }
 
     private interface Serializer
     {
-        void serializeElement(CoreInstance element);
+        void serializeElement(String moduleName, CoreInstance element);
+
+        void finishElements();
 
         void serializeModuleMetadata(ModuleMetadata moduleMetadata);
+
+        void serializeTypeHierarchyMetadata(ModuleTypeHierarchyMetadata typeHierarchyMetadata);
+
+        void finish();
+    }
+
+    private abstract static class AbstractSerializer implements Serializer
+    {
+        private final MutableMap<String, MutableList<CoreInstance>> pendingElements;
+        final ForkJoinPool forkJoinPool;
+        private final MutableList<CoreInstance> pendingParallelElements;
+
+        private AbstractSerializer(boolean packElements, ForkJoinPool forkJoinPool)
+        {
+            this.pendingElements = packElements ? Maps.mutable.empty() : null;
+            this.forkJoinPool = forkJoinPool;
+            this.pendingParallelElements = (!packElements && (forkJoinPool != null)) ? Lists.mutable.empty() : null;
+        }
+
+        @Override
+        public void serializeElement(String moduleName, CoreInstance element)
+        {
+            if (this.pendingElements != null)
+            {
+                this.pendingElements.getIfAbsentPut(moduleName, Lists.mutable::empty).add(element);
+            }
+            else if (this.pendingParallelElements != null)
+            {
+                this.pendingParallelElements.add(element);
+            }
+            else
+            {
+                serializeElement(element);
+            }
+        }
+
+        @Override
+        public void finishElements()
+        {
+            if ((this.pendingParallelElements != null) && this.pendingParallelElements.notEmpty())
+            {
+                long start = System.nanoTime();
+                int count = this.pendingParallelElements.size();
+                LOGGER.info("Serializing {} elements in parallel (parallelism: {})", count, this.forkJoinPool.getParallelism());
+                try
+                {
+                    serializeElementsInParallel(this.pendingParallelElements);
+                }
+                finally
+                {
+                    this.pendingParallelElements.clear();
+                    long end = System.nanoTime();
+                    LOGGER.info("Finished serializing {} elements in parallel in {}s", count, (end - start) / 1_000_000_000.0);
+                }
+            }
+            if ((this.pendingElements != null) && this.pendingElements.notEmpty())
+            {
+                this.pendingElements.forEachKeyValue((moduleName, elements) ->
+                {
+                    long start = System.nanoTime();
+                    LOGGER.info("Packing {} elements of module {} into segments", elements.size(), moduleName);
+                    try
+                    {
+                        serializeModuleElements(moduleName, elements);
+                    }
+                    finally
+                    {
+                        long end = System.nanoTime();
+                        LOGGER.info("Finished packing {} elements of module {} into segments in {}s", elements.size(), moduleName, (end - start) / 1_000_000_000.0);
+                    }
+                });
+                this.pendingElements.clear();
+            }
+        }
+
+        abstract void serializeElement(CoreInstance element);
+
+        abstract void serializeElementsInParallel(MutableList<CoreInstance> elements);
+
+        abstract void serializeModuleElements(String moduleName, MutableList<CoreInstance> elements);
     }
 
-    private static class DirectorySerializer implements Serializer
+    private static class DirectorySerializer extends AbstractSerializer
     {
         private final FileSerializer fileSerializer;
         private final Path directory;
+        private final ContentHashTracker contentHashTracker;
 
-        private DirectorySerializer(FileSerializer fileSerializer, Path directory)
+        private DirectorySerializer(FileSerializer fileSerializer, Path directory, ContentHashTracker contentHashTracker, boolean packElements, ForkJoinPool forkJoinPool)
         {
+            super(packElements, forkJoinPool);
             this.fileSerializer = fileSerializer;
             this.directory = directory;
+            this.contentHashTracker = contentHashTracker;
         }
 
         @Override
-        public void serializeElement(CoreInstance element)
+        void serializeElement(CoreInstance element)
         {
             this.fileSerializer.serializeElement(this.directory, element);
         }
 
+        @Override
+        void serializeElementsInParallel(MutableList<CoreInstance> elements)
+        {
+            // each element has its own file, so they can be written independently
+            ForkJoinTools.forEach(this.forkJoinPool, elements, this::serializeElement, PARALLEL_THRESHOLD);
+        }
+
+        @Override
+        void serializeModuleElements(String moduleName, MutableList<CoreInstance> elements)
+        {
+            this.fileSerializer.serializeModuleElements(this.directory, moduleName, elements);
+        }
+
         @Override
         public void serializeModuleMetadata(ModuleMetadata moduleMetadata)
         {
@@ -511,25 +705,81 @@ public class PureCompilerSerializer
             this.fileSerializer.serializeModuleBackReferenceMetadata(this.directory, moduleMetadata.getBackReferenceMetadata());
             this.fileSerializer.serializeModuleFunctionNameMetadata(this.directory, moduleMetadata.getFunctionNameMetadata());
         }
+
+        @Override
+        public void serializeTypeHierarchyMetadata(ModuleTypeHierarchyMetadata typeHierarchyMetadata)
+        {
+            this.fileSerializer.serializeModuleTypeHierarchyMetadata(this.directory, typeHierarchyMetadata);
+        }
+
+        @Override
+        public void finish()
+        {
+            if (this.contentHashTracker != null)
+            {
+                this.contentHashTracker.finish();
+            }
+        }
     }
 
-    private static class ZipStreamSerializer implements Serializer
+    private static class ZipStreamSerializer extends AbstractSerializer
     {
         private final FileSerializer fileSerializer;
         private final ZipOutputStream stream;
 
-        private ZipStreamSerializer(FileSerializer fileSerializer, ZipOutputStream stream)
+        private ZipStreamSerializer(FileSerializer fileSerializer, ZipOutputStream stream, boolean packElements, ForkJoinPool forkJoinPool)
         {
+            super(packElements, forkJoinPool);
             this.fileSerializer = fileSerializer;
             this.stream = stream;
         }
 
         @Override
-        public void serializeElement(CoreInstance element)
+        void serializeElement(CoreInstance element)
         {
             this.fileSerializer.serializeElement(this.stream, element);
         }
 
+        @Override
+        void serializeElementsInParallel(MutableList<CoreInstance> elements)
+        {
+            // Elements are serialized to memory on the pool, while this thread writes them to the stream in order. The
+            // number of elements in flight is bounded, so that at most a few serialized elements are held in memory.
+            int maxPending = 4 * this.forkJoinPool.getParallelism();
+            Deque<ForkJoinTask<Pair<String, byte[]>>> pending = new ArrayDeque<>(maxPending);
+            try
+            {
+                for (CoreInstance element : elements)
+                {
+                    if (pending.size() >= maxPending)
+                    {
+                        writeSerializedElement(pending.removeFirst().join());
+                    }
+                    pending.addLast(this.forkJoinPool.submit(() -> Tuples.pair(PackageableElement.getUserPathForPackageableElement(element), this.fileSerializer.serializeElementToBytes(element))));
+                }
+                while (!pending.isEmpty())
+                {
+                    writeSerializedElement(pending.removeFirst().join());
+                }
+            }
+            finally
+            {
+                // only non-empty if there was an error
+                pending.forEach(task -> task.cancel(false));
+            }
+        }
+
+        private void writeSerializedElement(Pair<String, byte[]> serialized)
+        {
+            this.fileSerializer.writeSerializedElement(this.stream, serialized.getOne(), serialized.getTwo());
+        }
+
+        @Override
+        void serializeModuleElements(String moduleName, MutableList<CoreInstance> elements)
+        {
+            this.fileSerializer.serializeModuleElements(this.stream, moduleName, elements);
+        }
+
         @Override
         public void serializeModuleMetadata(ModuleMetadata moduleMetadata)
         {
@@ -539,5 +789,17 @@ public class PureCompilerSerializer
             this.fileSerializer.serializeModuleBackReferenceMetadata(this.stream, moduleMetadata.getBackReferenceMetadata());
             this.fileSerializer.serializeModuleFunctionNameMetadata(this.stream, moduleMetadata.getFunctionNameMetadata());
         }
+
+        @Override
+        public void serializeTypeHierarchyMetadata(ModuleTypeHierarchyMetadata typeHierarchyMetadata)
+        {
+            this.fileSerializer.serializeModuleTypeHierarchyMetadata(this.stream, typeHierarchyMetadata);
+        }
+
+        @Override
+        public void finish()
+        {
+            // nothing to do
+        }
     }
 }
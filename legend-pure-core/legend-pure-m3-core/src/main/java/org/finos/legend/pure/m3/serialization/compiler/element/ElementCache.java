@@ -0,0 +1,315 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.serialization.compiler.element;
+
+import org.eclipse.collections.api.map.ConcurrentMutableMap;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Cache of elements loaded by an {@link ElementLoader}. Implementations must be thread safe, and must ensure that while
+ * an element is in the cache it is loaded at most once.
+ */
+public abstract class ElementCache
+{
+    private ElementCache()
+    {
+    }
+
+    /**
+     * Get the cached element for the given path, or null if it is not currently cached.
+     *
+     * @param path element path
+     * @return cached element or null
+     */
+    public abstract CoreInstance get(String path);
+
+    /**
+     * Get the cached element for the given path, loading and caching it if it is not present. Concurrent calls for
+     * the same path will only load the element once.
+     *
+     * @param path   element path
+     * @param loader element loader
+     * @return element
+     */
+    public abstract CoreInstance getIfAbsentPut(String path, Function<? super String, ? extends CoreInstance> loader);
+
+    /**
+     * Pin an element in the cache, so that it is never evicted. Has no effect for caches which never evict.
+     *
+     * @param path element path
+     */
+    public abstract void pin(String path);
+
+    /**
+     * Whether the given path is cached.
+     *
+     * @param path element path
+     * @return whether the path is cached
+     */
+    public boolean contains(String path)
+    {
+        return get(path) != null;
+    }
+
+    /**
+     * The number of elements currently held in the cache. Evicted elements which are still referenced elsewhere are
+     * not counted.
+     *
+     * @return cache size
+     */
+    public abstract int size();
+
+    /**
+     * The number of elements evicted from the cache so far.
+     *
+     * @return eviction count
+     */
+    public abstract long getEvictionCount();
+
+    /**
+     * A cache which never evicts. Every element is loaded at most once.
+     *
+     * @return unbounded cache
+     */
+    public static ElementCache unbounded()
+    {
+        return new UnboundedElementCache();
+    }
+
+    /**
+     * A cache which holds at most {@code maxSize} unpinned elements, evicting the least recently used when it is
+     * full. Pinned elements are never evicted and do not count towards the limit. The cache only keeps a weak
+     * reference to an evicted element: while it is still referenced elsewhere, requesting it again returns the same
+     * instance, and it is only loaded again once it has been garbage collected.
+     *
+     * @param maxSize maximum number of unpinned elements
+     * @return bounded cache
+     */
+    public static ElementCache bounded(int maxSize)
+    {
+        if (maxSize < 1)
+        {
+            throw new IllegalArgumentException("Invalid max size: " + maxSize);
+        }
+        return new BoundedElementCache(maxSize);
+    }
+
+    private static CoreInstance getOrLoad(AtomicReference<CoreInstance> ref, String path, Function<? super String, ? extends CoreInstance> loader)
+    {
+        CoreInstance value = ref.get();
+        if (value == null)
+        {
+            synchronized (ref)
+            {
+                if ((value = ref.get()) == null)
+                {
+                    ref.set(value = loader.apply(path));
+                }
+            }
+        }
+        return value;
+    }
+
+    private static class UnboundedElementCache extends ElementCache
+    {
+        private final ConcurrentMutableMap<String, AtomicReference<CoreInstance>> cache = ConcurrentHashMap.newMap();
+
+        @Override
+        public CoreInstance get(String path)
+        {
+            AtomicReference<CoreInstance> ref = this.cache.get(path);
+            return (ref == null) ? null : ref.get();
+        }
+
+        @Override
+        public CoreInstance getIfAbsentPut(String path, Function<? super String, ? extends CoreInstance> loader)
+        {
+            AtomicReference<CoreInstance> ref = this.cache.get(path);
+            if (ref == null)
+            {
+                ref = this.cache.getIfAbsentPut(path, AtomicReference::new);
+            }
+            return getOrLoad(ref, path, loader);
+        }
+
+        @Override
+        public void pin(String path)
+        {
+            // nothing is ever evicted
+        }
+
+        @Override
+        public int size()
+        {
+            return this.cache.size();
+        }
+
+        @Override
+        public long getEvictionCount()
+        {
+            return 0L;
+        }
+    }
+
+    private static class BoundedElementCache extends ElementCache
+    {
+        private final int maxSize;
+        private final ConcurrentMutableMap<String, AtomicReference<CoreInstance>> pinned = ConcurrentHashMap.newMap();
+        private final LinkedHashMap<String, AtomicReference<CoreInstance>> unpinned = new LinkedHashMap<>(16, 0.75f, true);
+        private final Map<String, EvictedElementReference> evicted = new HashMap<>();
+        private final ReferenceQueue<CoreInstance> collected = new ReferenceQueue<>();
+        private long evictions = 0L;
+
+        private BoundedElementCache(int maxSize)
+        {
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public CoreInstance get(String path)
+        {
+            AtomicReference<CoreInstance> ref = this.pinned.get(path);
+            if (ref != null)
+            {
+                return ref.get();
+            }
+            synchronized (this)
+            {
+                ref = this.unpinned.get(path);
+                if (ref != null)
+                {
+                    return ref.get();
+                }
+                EvictedElementReference evictedRef = this.evicted.get(path);
+                return (evictedRef == null) ? null : evictedRef.get();
+            }
+        }
+
+        @Override
+        public CoreInstance getIfAbsentPut(String path, Function<? super String, ? extends CoreInstance> loader)
+        {
+            AtomicReference<CoreInstance> ref = this.pinned.get(path);
+            if (ref != null)
+            {
+                return getOrLoad(ref, path, loader);
+            }
+
+            boolean added;
+            synchronized (this)
+            {
+                ref = this.pinned.get(path);
+                if (ref == null)
+                {
+                    ref = this.unpinned.get(path);
+                }
+                added = (ref == null);
+                if (added)
+                {
+                    this.unpinned.put(path, ref = reviveEvicted(path));
+                }
+            }
+            CoreInstance value = getOrLoad(ref, path, loader);
+            if (added)
+            {
+                evictIfNecessary();
+            }
+            return value;
+        }
+
+        @Override
+        public synchronized void pin(String path)
+        {
+            AtomicReference<CoreInstance> ref = this.unpinned.remove(path);
+            if ((ref == null) && !this.pinned.containsKey(path))
+            {
+                ref = reviveEvicted(path);
+            }
+            if (ref != null)
+            {
+                this.pinned.getIfAbsentPut(path, ref);
+            }
+        }
+
+        @Override
+        public synchronized int size()
+        {
+            return this.pinned.size() + this.unpinned.size();
+        }
+
+        @Override
+        public synchronized long getEvictionCount()
+        {
+            return this.evictions;
+        }
+
+        // must be called while holding the lock
+        private AtomicReference<CoreInstance> reviveEvicted(String path)
+        {
+            expungeCollected();
+            // an evicted element which is still referenced elsewhere is taken back rather than loaded again, so that
+            // there is never more than one live instance for a path
+            EvictedElementReference evictedRef = this.evicted.remove(path);
+            return new AtomicReference<>((evictedRef == null) ? null : evictedRef.get());
+        }
+
+        // must be called while holding the lock
+        private void expungeCollected()
+        {
+            EvictedElementReference ref;
+            while ((ref = (EvictedElementReference) this.collected.poll()) != null)
+            {
+                this.evicted.remove(ref.path, ref);
+            }
+        }
+
+        private synchronized void evictIfNecessary()
+        {
+            // evict least recently used entries, skipping any which are still being loaded
+            Iterator<Map.Entry<String, AtomicReference<CoreInstance>>> iterator = this.unpinned.entrySet().iterator();
+            while ((this.unpinned.size() > this.maxSize) && iterator.hasNext())
+            {
+                Map.Entry<String, AtomicReference<CoreInstance>> entry = iterator.next();
+                CoreInstance value = entry.getValue().get();
+                if (value != null)
+                {
+                    iterator.remove();
+                    this.evicted.put(entry.getKey(), new EvictedElementReference(entry.getKey(), value, this.collected));
+                    this.evictions++;
+                }
+            }
+        }
+    }
+
+    private static class EvictedElementReference extends WeakReference<CoreInstance>
+    {
+        private final String path;
+
+        private EvictedElementReference(String path, CoreInstance element, ReferenceQueue<? super CoreInstance> queue)
+        {
+            super(element, queue);
+            this.path = path;
+        }
+    }
+}
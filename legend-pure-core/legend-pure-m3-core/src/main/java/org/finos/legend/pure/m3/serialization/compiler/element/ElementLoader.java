@@ -17,46 +17,70 @@ package org.finos.legend.pure.m3.serialization.compiler.element;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.ConcurrentMutableMap;
+import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.set.SetIterable;
 import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.utility.Iterate;
+import org.finos.legend.pure.m3.coreinstance.lazy.resolution.LazyResolutionLists;
+import org.finos.legend.pure.m3.coreinstance.lazy.resolution.LazyResolver;
+import org.finos.legend.pure.m3.navigation.graph.GraphPath;
 import org.finos.legend.pure.m3.serialization.compiler.file.FileDeserializer;
+import org.finos.legend.pure.m3.serialization.compiler.file.ModuleElementSegments;
 import org.finos.legend.pure.m3.serialization.compiler.metadata.BackReference;
 import org.finos.legend.pure.m3.serialization.compiler.metadata.BackReferenceProvider;
 import org.finos.legend.pure.m3.serialization.compiler.metadata.BackReferenceVisitor;
 import org.finos.legend.pure.m3.serialization.compiler.metadata.ConcreteElementMetadata;
 import org.finos.legend.pure.m3.serialization.compiler.metadata.ElementBackReferenceMetadata;
+import org.finos.legend.pure.m3.serialization.compiler.metadata.ModuleExternalReferenceMetadata;
 import org.finos.legend.pure.m3.serialization.compiler.metadata.MetadataIndex;
 import org.finos.legend.pure.m3.serialization.compiler.metadata.PackageableElementMetadata;
 import org.finos.legend.pure.m3.serialization.compiler.metadata.VirtualPackageMetadata;
 import org.finos.legend.pure.m3.serialization.compiler.reference.ReferenceIdExtension;
 import org.finos.legend.pure.m3.serialization.compiler.reference.ReferenceIdResolvers;
 import org.finos.legend.pure.m3.tools.ListHelper;
+import org.finos.legend.pure.m3.tools.forkjoin.ForkJoinTools;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.nio.file.Path;
 import java.util.Objects;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
 
 public abstract class ElementLoader
 {
     private static final Logger LOGGER = LoggerFactory.getLogger(ElementLoader.class);
 
+    private static final int PARALLEL_THRESHOLD = 16;
+
     private final MetadataIndex index;
     private final ElementBuilder builder;
     private final ReferenceIdResolvers referenceIds;
     private final BackReferenceFilter backRefFilter;
-    private final ConcurrentMutableMap<String, AtomicReference<CoreInstance>> cache = ConcurrentHashMap.newMap();
-
-    private ElementLoader(MetadataIndex index, ElementBuilder builder, ReferenceIdResolvers.Builder referenceIdsBuilder, BackReferenceFilter backRefFilter)
+    private final boolean lazyBackReferences;
+    private final ElementCache cache;
+    private final ForkJoinPool forkJoinPool;
+    private final ConcurrentMutableMap<String, Optional<ModuleElementSegments>> segmentsByModule = ConcurrentHashMap.newMap();
+    private final ConcurrentMutableMap<String, MapIterable<String, SetIterable<String>>> referencedElementsByModule = ConcurrentHashMap.newMap();
+    private final ConcurrentMutableMap<String, DeserializedConcreteElement> prefetched = ConcurrentHashMap.newMap();
+
+    private ElementLoader(MetadataIndex index, ElementBuilder builder, ReferenceIdResolvers.Builder referenceIdsBuilder, BackReferenceFilter backRefFilter, boolean lazyBackReferences, ElementCache cache, ForkJoinPool forkJoinPool)
     {
         this.index = Objects.requireNonNull(index);
         this.builder = Objects.requireNonNull(builder);
         this.referenceIds = referenceIdsBuilder.withPackagePathResolver(this::loadElement).build();
         this.backRefFilter = backRefFilter;
+        this.lazyBackReferences = lazyBackReferences;
+        this.cache = (cache == null) ? ElementCache.unbounded() : cache;
+        this.forkJoinPool = forkJoinPool;
 
         long start = System.nanoTime();
         LOGGER.debug("Initializing element builder");
@@ -133,8 +157,8 @@ public abstract class ElementLoader
             }
             return null;
         }
-        AtomicReference<CoreInstance> ref = this.cache.get(path);
-        if (ref == null)
+        CoreInstance value = this.cache.get(path);
+        if (value == null)
         {
             if (!elementPresentInMetadata(path))
             {
@@ -144,21 +168,131 @@ public abstract class ElementLoader
                 }
                 return null;
             }
-            ref = this.cache.getIfAbsentPut(path, new AtomicReference<>());
+            value = this.cache.getIfAbsentPut(path, this::load);
         }
+        return value;
+    }
 
-        CoreInstance value = ref.get();
-        if (value == null)
+    /**
+     * Load a batch of elements. The result has one entry for each path, in the same order, which is null if the
+     * element does not exist. If the loader has a fork-join pool, the elements are loaded in parallel.
+     *
+     * @param paths package paths of the elements
+     * @return the loaded elements
+     */
+    public ListIterable<CoreInstance> loadElements(Iterable<? extends String> paths)
+    {
+        ListIterable<String> pathList = Lists.mutable.withAll(paths);
+        return shouldParallelize(pathList.size()) ?
+               ForkJoinTools.collect(this.forkJoinPool, pathList, this::loadElement, PARALLEL_THRESHOLD) :
+               pathList.collect(this::loadElement);
+    }
+
+    /**
+     * Load a batch of elements and deserialize the content of their concrete elements ahead of use, so that later
+     * access to the elements does not have to wait for deserialization. Paths for elements which do not exist are
+     * ignored. If the loader has a fork-join pool, this is done in parallel.
+     *
+     * @param paths package paths of the elements
+     */
+    public void prefetchElements(Iterable<? extends String> paths)
+    {
+        prefetchElements(paths, 0);
+    }
+
+    /**
+     * Load a batch of elements along with the elements they reference, up to the given reference depth, and
+     * deserialize their content ahead of use. A depth of 0 prefetches just the given elements; a depth of 1 also
+     * prefetches the elements they reference directly; and so on. A negative depth prefetches the full reference
+     * closure. References are taken from the module external reference metadata, so only references between modules
+     * are followed.
+     *
+     * @param paths          package paths of the elements
+     * @param referenceDepth reference depth to prefetch (negative for the full closure)
+     * @see #getReferenceClosure
+     */
+    public void prefetchElements(Iterable<? extends String> paths, int referenceDepth)
+    {
+        long start = System.nanoTime();
+        ListIterable<String> toPrefetch = getReferenceClosure(paths, referenceDepth).toList();
+        LOGGER.debug("Prefetching {} elements", toPrefetch.size());
+        try
+        {
+            if (shouldParallelize(toPrefetch.size()))
+            {
+                ForkJoinTools.forEach(this.forkJoinPool, toPrefetch, this::prefetch, PARALLEL_THRESHOLD);
+            }
+            else
+            {
+                toPrefetch.forEach(this::prefetch);
+            }
+        }
+        finally
+        {
+            long end = System.nanoTime();
+            LOGGER.debug("Finished prefetching {} elements in {}s", toPrefetch.size(), (end - start) / 1_000_000_000.0);
+        }
+    }
+
+    /**
+     * Compute the paths of the given elements along with the elements they reference, up to the given reference
+     * depth. Only paths of elements which exist are included. A negative depth computes the full reference closure.
+     * References are taken from the module external reference metadata, so only references between modules are
+     * followed. This does not load any elements.
+     *
+     * @param paths          package paths of the elements
+     * @param referenceDepth reference depth (negative for the full closure)
+     * @return paths of the elements and the elements they reference
+     */
+    public SetIterable<String> getReferenceClosure(Iterable<? extends String> paths, int referenceDepth)
+    {
+        MutableSet<String> closure = Sets.mutable.empty();
+        MutableList<String> current = Lists.mutable.empty();
+        paths.forEach(path ->
+        {
+            if (elementPresentInMetadata(path) && closure.add(path))
+            {
+                current.add(path);
+            }
+        });
+        for (int depth = 0; current.notEmpty() && ((referenceDepth < 0) || (depth < referenceDepth)); depth++)
         {
-            synchronized (ref)
+            MutableList<String> next = Lists.mutable.empty();
+            current.forEach(path -> getReferencedElements(path).forEach(ref ->
             {
-                if ((value = ref.get()) == null)
+                if (elementPresentInMetadata(ref) && closure.add(ref))
                 {
-                    ref.set(value = load(path));
+                    next.add(ref);
                 }
-            }
+            }));
+            current.clear();
+            current.addAll(next);
         }
-        return value;
+        return closure;
+    }
+
+    /**
+     * Pin an element in the cache, so that it is not evicted. This does not load the element.
+     *
+     * @param path package path of the element
+     * @see ElementCache#pin
+     */
+    public void pinElement(String path)
+    {
+        if (elementPresentInMetadata(path))
+        {
+            this.cache.pin(path);
+        }
+    }
+
+    /**
+     * Get the cache of loaded elements.
+     *
+     * @return element cache
+     */
+    public ElementCache getElementCache()
+    {
+        return this.cache;
     }
 
     public ReferenceIdResolvers getReferenceIdResolvers()
@@ -168,7 +302,76 @@ public abstract class ElementLoader
 
     private boolean elementPresentInMetadata(String path)
     {
-        return this.index.hasElement(path) || this.index.hasPackage(path);
+        return (path != null) && (this.index.hasElement(path) || this.index.hasPackage(path));
+    }
+
+    private boolean shouldParallelize(int size)
+    {
+        return (this.forkJoinPool != null) && (size > PARALLEL_THRESHOLD);
+    }
+
+    private void prefetch(String path)
+    {
+        // Only deserialize the content of elements which have not yet been built: the deserialized content is held
+        // until the element asks for it, so it must not be created for an element which has already done so.
+        if (!this.cache.contains(path) && this.index.hasElement(path))
+        {
+            this.prefetched.put(path, deserialize(path));
+        }
+        loadElement(path);
+    }
+
+    private SetIterable<String> getReferencedElements(String path)
+    {
+        String moduleName = this.index.getElementModuleName(path);
+        if (moduleName == null)
+        {
+            return Sets.immutable.empty();
+        }
+        MapIterable<String, SetIterable<String>> referencedElements = this.referencedElementsByModule.get(moduleName);
+        if (referencedElements == null)
+        {
+            referencedElements = this.referencedElementsByModule.getIfAbsentPutWith(moduleName, this::computeReferencedElements, moduleName);
+        }
+        return referencedElements.getIfAbsentValue(path, Sets.immutable.empty());
+    }
+
+    private MapIterable<String, SetIterable<String>> computeReferencedElements(String moduleName)
+    {
+        ModuleExternalReferenceMetadata metadata = deserializeModuleExternalReferences(moduleName);
+        if (metadata == null)
+        {
+            return Maps.immutable.empty();
+        }
+        MutableMap<String, SetIterable<String>> map = Maps.mutable.ofInitialCapacity(metadata.getExternalReferences().size());
+        metadata.getExternalReferences().forEach(elementExtRefs ->
+        {
+            MutableSet<String> referencedPaths = Sets.mutable.empty();
+            elementExtRefs.getExternalReferences().forEach(refId ->
+            {
+                String refPath = getReferenceElementPath(refId);
+                if (refPath != null)
+                {
+                    referencedPaths.add(refPath);
+                }
+            });
+            map.put(elementExtRefs.getElementPath(), referencedPaths);
+        });
+        return map;
+    }
+
+    private static String getReferenceElementPath(String referenceId)
+    {
+        try
+        {
+            return GraphPath.parse(referenceId).getStartNodePath();
+        }
+        catch (Exception e)
+        {
+            // not a graph path reference id: it cannot be followed, but that only means it is not prefetched
+            LOGGER.debug("Cannot get element path for reference id {}", referenceId, e);
+            return null;
+        }
     }
 
     private CoreInstance load(String path)
@@ -180,7 +383,7 @@ public abstract class ElementLoader
             if (elementMetadata != null)
             {
                 LOGGER.debug("Loading concrete element {}", path);
-                return this.builder.buildConcreteElement(elementMetadata, this.index, this.referenceIds, () -> deserialize(path), () -> deserializeBackReferences(path));
+                return this.builder.buildConcreteElement(elementMetadata, this.index, this.referenceIds, () -> getDeserialized(path), () -> getBackReferenceProvider(path));
             }
 
             PackageableElementMetadata packageMetadata = this.index.getPackageMetadata(path);
@@ -191,7 +394,7 @@ public abstract class ElementLoader
                         (VirtualPackageMetadata) packageMetadata,
                         this.index,
                         this.referenceIds,
-                        () -> deserializeBackReferences(path));
+                        () -> getBackReferenceProvider(path));
             }
 
             // This should not be possible, but just in case ...
@@ -209,13 +412,19 @@ public abstract class ElementLoader
         }
     }
 
+    private DeserializedConcreteElement getDeserialized(String path)
+    {
+        DeserializedConcreteElement deserialized = this.prefetched.remove(path);
+        return (deserialized == null) ? deserialize(path) : deserialized;
+    }
+
     private DeserializedConcreteElement deserialize(String path)
     {
         long start = System.nanoTime();
         LOGGER.debug("Deserializing {}", path);
         try
         {
-            return deserializeConcreteElement(path);
+            return deserializeConcreteElement(this.index.getElementModuleName(path), path);
         }
         catch (Throwable t)
         {
@@ -229,6 +438,22 @@ public abstract class ElementLoader
         }
     }
 
+    private BackReferenceProvider getBackReferenceProvider(String path)
+    {
+        if (!this.lazyBackReferences)
+        {
+            return deserializeBackReferences(path);
+        }
+        if (Iterate.isEmpty(this.index.getBackReferenceModuleNames(path)))
+        {
+            return id -> Lists.fixedSize.empty();
+        }
+        // Back references are only deserialized the first time a back reference property of some instance of the
+        // element is accessed
+        LazyResolver<BackReferenceProvider> provider = LazyResolver.fromSupplier(() -> deserializeBackReferences(path));
+        return id -> LazyResolutionLists.newDeferredFromValues(() -> provider.get().getBackReferences(id));
+    }
+
     private BackReferenceProvider deserializeBackReferences(String path)
     {
         long start = System.nanoTime();
@@ -277,26 +502,53 @@ public abstract class ElementLoader
         }
     }
 
-    abstract DeserializedConcreteElement deserializeConcreteElement(String path);
+    abstract DeserializedConcreteElement deserializeConcreteElement(String moduleName, String path);
 
     abstract ElementBackReferenceMetadata deserializeBackReferences(String moduleName, String path);
 
+    abstract ModuleExternalReferenceMetadata deserializeModuleExternalReferences(String moduleName);
+
+    /**
+     * Get the element segments for a module, opening them the first time they are requested. Returns null if the
+     * module name is null or if the module's elements are not in segments.
+     *
+     * @param moduleName module name
+     * @param opener     function to open the module element segments
+     * @return module element segments or null
+     */
+    ModuleElementSegments getModuleElementSegments(String moduleName, Supplier<? extends ModuleElementSegments> opener)
+    {
+        if (moduleName == null)
+        {
+            return null;
+        }
+        Optional<ModuleElementSegments> segments = this.segmentsByModule.get(moduleName);
+        if (segments == null)
+        {
+            segments = this.segmentsByModule.getIfAbsentPutWith(moduleName, o -> Optional.ofNullable(o.get()), opener);
+        }
+        return segments.orElse(null);
+    }
+
     private static class ClassLoaderElementLoader extends ElementLoader
     {
         private final FileDeserializer fileDeserializer;
         private final ClassLoader classLoader;
 
-        private ClassLoaderElementLoader(MetadataIndex index, ElementBuilder builder, ReferenceIdResolvers.Builder referenceIdsBuilder, BackReferenceFilter backRefFilter, FileDeserializer fileDeserializer, ClassLoader classLoader)
+        private ClassLoaderElementLoader(MetadataIndex index, ElementBuilder builder, ReferenceIdResolvers.Builder referenceIdsBuilder, BackReferenceFilter backRefFilter, boolean lazyBackReferences, ElementCache cache, ForkJoinPool forkJoinPool, FileDeserializer fileDeserializer, ClassLoader classLoader)
         {
-            super(index, builder, referenceIdsBuilder, backRefFilter);
+            super(index, builder, referenceIdsBuilder, backRefFilter, lazyBackReferences, cache, forkJoinPool);
             this.fileDeserializer = Objects.requireNonNull(fileDeserializer);
             this.classLoader = Objects.requireNonNull(classLoader);
         }
 
         @Override
-        DeserializedConcreteElement deserializeConcreteElement(String path)
+        DeserializedConcreteElement deserializeConcreteElement(String moduleName, String path)
         {
-            return this.fileDeserializer.deserializeElement(this.classLoader, path);
+            ModuleElementSegments segments = getModuleElementSegments(moduleName, () -> this.fileDeserializer.openModuleElementSegments(this.classLoader, moduleName));
+            return ((segments != null) && segments.hasElement(path)) ?
+                   segments.deserializeElement(path) :
+                   this.fileDeserializer.deserializeElement(this.classLoader, path);
         }
 
         @Override
@@ -304,6 +556,14 @@ public abstract class ElementLoader
         {
             return this.fileDeserializer.deserializeModuleElementBackReferenceMetadataIfPresent(this.classLoader, moduleName, path);
         }
+
+        @Override
+        ModuleExternalReferenceMetadata deserializeModuleExternalReferences(String moduleName)
+        {
+            return this.fileDeserializer.moduleExternalReferenceMetadataExists(this.classLoader, moduleName) ?
+                   this.fileDeserializer.deserializeModuleExternalReferenceMetadata(this.classLoader, moduleName) :
+                   null;
+        }
     }
 
     private static class DirectoryElementLoader extends ElementLoader
@@ -311,17 +571,20 @@ public abstract class ElementLoader
         private final FileDeserializer fileDeserializer;
         private final Path directory;
 
-        private DirectoryElementLoader(MetadataIndex index, ElementBuilder builder, ReferenceIdResolvers.Builder referenceIdsBuilder, BackReferenceFilter backRefFilter, FileDeserializer fileDeserializer, Path directory)
+        private DirectoryElementLoader(MetadataIndex index, ElementBuilder builder, ReferenceIdResolvers.Builder referenceIdsBuilder, BackReferenceFilter backRefFilter, boolean lazyBackReferences, ElementCache cache, ForkJoinPool forkJoinPool, FileDeserializer fileDeserializer, Path directory)
         {
-            super(index, builder, referenceIdsBuilder, backRefFilter);
+            super(index, builder, referenceIdsBuilder, backRefFilter, lazyBackReferences, cache, forkJoinPool);
             this.fileDeserializer = Objects.requireNonNull(fileDeserializer);
             this.directory = Objects.requireNonNull(directory);
         }
 
         @Override
-        DeserializedConcreteElement deserializeConcreteElement(String path)
+        DeserializedConcreteElement deserializeConcreteElement(String moduleName, String path)
         {
-            return this.fileDeserializer.deserializeElement(this.directory, path);
+            ModuleElementSegments segments = getModuleElementSegments(moduleName, () -> this.fileDeserializer.openModuleElementSegments(this.directory, moduleName));
+            return ((segments != null) && segments.hasElement(path)) ?
+                   segments.deserializeElement(path) :
+                   this.fileDeserializer.deserializeElement(this.directory, path);
         }
 
         @Override
@@ -329,6 +592,14 @@ public abstract class ElementLoader
         {
             return this.fileDeserializer.deserializeModuleElementBackReferenceMetadataIfPresent(this.directory, moduleName, path);
         }
+
+        @Override
+        ModuleExternalReferenceMetadata deserializeModuleExternalReferences(String moduleName)
+        {
+            return this.fileDeserializer.moduleExternalReferenceMetadataExists(this.directory, moduleName) ?
+                   this.fileDeserializer.deserializeModuleExternalReferenceMetadata(this.directory, moduleName) :
+                   null;
+        }
     }
 
     public static Builder builder()
@@ -342,6 +613,9 @@ public abstract class ElementLoader
         private ElementBuilder builder;
         private final ReferenceIdResolvers.Builder referenceIdsBuilder = ReferenceIdResolvers.builder();
         private BackReferenceFilter backRefFilter;
+        private boolean lazyBackReferences = false;
+        private ElementCache cache;
+        private ForkJoinPool forkJoinPool;
         private FileDeserializer fileDeserializer;
         private ClassLoader classLoader;
         private Path directory;
@@ -416,6 +690,47 @@ public abstract class ElementLoader
             return this;
         }
 
+        /**
+         * Set whether back references should be loaded lazily. If true, the back references of an element are not
+         * deserialized when the element is initialized, but only the first time a back reference property (such as
+         * applications, referenceUsages or specializations) of the element or one of its component instances is
+         * accessed. This is false by default.
+         *
+         * @param lazyBackReferences whether to load back references lazily
+         * @return this builder
+         */
+        public Builder withLazyBackReferences(boolean lazyBackReferences)
+        {
+            this.lazyBackReferences = lazyBackReferences;
+            return this;
+        }
+
+        /**
+         * Set the cache for loaded elements. If none is set, an unbounded cache is used.
+         *
+         * @param cache element cache
+         * @return this builder
+         * @see ElementCache
+         */
+        public Builder withElementCache(ElementCache cache)
+        {
+            this.cache = cache;
+            return this;
+        }
+
+        /**
+         * Set a fork-join pool for loading and prefetching batches of elements in parallel. If none is set, batches
+         * are loaded sequentially.
+         *
+         * @param forkJoinPool fork-join pool
+         * @return this builder
+         */
+        public Builder withForkJoinPool(ForkJoinPool forkJoinPool)
+        {
+            this.forkJoinPool = forkJoinPool;
+            return this;
+        }
+
         public ElementLoader build()
         {
             if ((this.classLoader == null) && (this.directory == null))
@@ -427,8 +742,8 @@ public abstract class ElementLoader
                 throw new IllegalStateException("Only one of class loader or directory may be provided");
             }
             return (this.classLoader != null) ?
-                   new ClassLoaderElementLoader(this.index, this.builder, this.referenceIdsBuilder, this.backRefFilter, this.fileDeserializer, this.classLoader) :
-                   new DirectoryElementLoader(this.index, this.builder, this.referenceIdsBuilder, this.backRefFilter, this.fileDeserializer, this.directory);
+                   new ClassLoaderElementLoader(this.index, this.builder, this.referenceIdsBuilder, this.backRefFilter, this.lazyBackReferences, this.cache, this.forkJoinPool, this.fileDeserializer, this.classLoader) :
+                   new DirectoryElementLoader(this.index, this.builder, this.referenceIdsBuilder, this.backRefFilter, this.lazyBackReferences, this.cache, this.forkJoinPool, this.fileDeserializer, this.directory);
         }
     }
 
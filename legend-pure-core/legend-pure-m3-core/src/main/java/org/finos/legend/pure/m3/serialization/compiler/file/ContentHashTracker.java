@@ -0,0 +1,325 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.serialization.compiler.file;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.map.ConcurrentMutableMap;
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.finos.legend.pure.m4.serialization.Reader;
+import org.finos.legend.pure.m4.serialization.Writer;
+import org.finos.legend.pure.m4.serialization.binary.BinaryReaders;
+import org.finos.legend.pure.m4.serialization.binary.BinaryWriters;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracks content hashes of the files serialized for each module to a directory, for incremental serialization. For
+ * each module, a content hash file records a hash of every file serialized for the module. When a file is serialized
+ * again, it is only written if its hash differs from the previous one or the file is missing. When serialization is
+ * finished, files which were serialized for a module previously but not this time are deleted, and the content hash
+ * files are updated.
+ * <br>
+ * This assumes that files in the directory are only modified by serialization: a file which has been modified by some
+ * other means but still has the previous hash recorded will not be rewritten. An instance of this class should be used
+ * for a single serialization, and is safe to use from multiple threads.
+ */
+public class ContentHashTracker
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(ContentHashTracker.class);
+
+    private static final long SIGNATURE = Long.parseLong("PureHashes", 36);
+    private static final int FORMAT_VERSION = 1;
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final String RESOURCE_SEPARATOR = "/";
+
+    private final Path directory;
+    private final FilePathProvider filePathProvider;
+    private final int filePathVersion;
+    private final ConcurrentMutableMap<String, Optional<MapIterable<String, byte[]>>> previousHashes = ConcurrentHashMap.newMap();
+    private final ConcurrentMutableMap<String, ConcurrentMutableMap<String, byte[]>> currentHashes = ConcurrentHashMap.newMap();
+    private final AtomicInteger writtenCount = new AtomicInteger();
+    private final AtomicInteger skippedCount = new AtomicInteger();
+    private final AtomicInteger deletedCount = new AtomicInteger();
+
+    ContentHashTracker(Path directory, FilePathProvider filePathProvider, int filePathVersion)
+    {
+        this.directory = Objects.requireNonNull(directory, "directory is required");
+        this.filePathProvider = Objects.requireNonNull(filePathProvider, "file path provider is required");
+        this.filePathVersion = filePathVersion;
+    }
+
+    public Path getDirectory()
+    {
+        return this.directory;
+    }
+
+    /**
+     * The number of files which were written because they were new or had changed.
+     *
+     * @return written file count
+     */
+    public int getWrittenCount()
+    {
+        return this.writtenCount.get();
+    }
+
+    /**
+     * The number of files which were not written because they had not changed.
+     *
+     * @return skipped file count
+     */
+    public int getSkippedCount()
+    {
+        return this.skippedCount.get();
+    }
+
+    /**
+     * The number of stale files which were deleted by {@link #finish()}.
+     *
+     * @return deleted file count
+     */
+    public int getDeletedCount()
+    {
+        return this.deletedCount.get();
+    }
+
+    /**
+     * Finish serialization: delete files which were serialized for a module previously but not by this serialization,
+     * and write the new content hash files. Only modules with files serialized by this serialization are affected.
+     */
+    public void finish()
+    {
+        long start = System.nanoTime();
+        LOGGER.debug("Finishing incremental serialization to {}", this.directory);
+        try
+        {
+            // a file may have moved to another module (e.g., an element file), so check all modules before deleting
+            MutableSet<String> allCurrent = Sets.mutable.empty();
+            this.currentHashes.forEachValue(current -> allCurrent.addAllIterable(current.keysView()));
+            this.currentHashes.forEachKeyValue((moduleName, current) ->
+            {
+                getPreviousHashes(moduleName).forEachKey(resourceName ->
+                {
+                    if (!allCurrent.contains(resourceName))
+                    {
+                        deleteStaleFile(moduleName, resourceName);
+                    }
+                });
+                writeHashes(moduleName, current);
+            });
+            LOGGER.info("Incremental serialization to {}: {} files written, {} unchanged, {} deleted", this.directory, getWrittenCount(), getSkippedCount(), getDeletedCount());
+        }
+        finally
+        {
+            long end = System.nanoTime();
+            LOGGER.debug("Finished incremental serialization to {} in {}s", this.directory, (end - start) / 1_000_000_000.0);
+        }
+    }
+
+    boolean tracks(Path filePath)
+    {
+        return filePath.startsWith(this.directory);
+    }
+
+    /**
+     * Record the content of a file serialized for a module, and return whether it needs to be written.
+     *
+     * @param moduleName module name
+     * @param filePath   file path (in the directory)
+     * @param content    file content
+     * @return whether the file needs to be written
+     */
+    boolean recordAndCheckModified(String moduleName, Path filePath, byte[] content)
+    {
+        String resourceName = toResourceName(filePath);
+        byte[] hash = computeHash(content);
+        this.currentHashes.getIfAbsentPut(moduleName, ConcurrentHashMap::newMap).put(resourceName, hash);
+        byte[] previous = getPreviousHashes(moduleName).get(resourceName);
+        if ((previous != null) && Arrays.equals(previous, hash) && Files.exists(filePath))
+        {
+            this.skippedCount.incrementAndGet();
+            return false;
+        }
+        this.writtenCount.incrementAndGet();
+        return true;
+    }
+
+    private String toResourceName(Path filePath)
+    {
+        String relative = this.directory.relativize(filePath).toString();
+        String separator = filePath.getFileSystem().getSeparator();
+        return RESOURCE_SEPARATOR.equals(separator) ? relative : relative.replace(separator, RESOURCE_SEPARATOR);
+    }
+
+    private Path toFilePath(String resourceName)
+    {
+        String separator = this.directory.getFileSystem().getSeparator();
+        return this.directory.resolve(RESOURCE_SEPARATOR.equals(separator) ? resourceName : resourceName.replace(RESOURCE_SEPARATOR, separator));
+    }
+
+    private MapIterable<String, byte[]> getPreviousHashes(String moduleName)
+    {
+        Optional<MapIterable<String, byte[]>> hashes = this.previousHashes.get(moduleName);
+        if (hashes == null)
+        {
+            hashes = this.previousHashes.getIfAbsentPutWith(moduleName, this::readHashes, moduleName);
+        }
+        return hashes.orElse(Maps.immutable.empty());
+    }
+
+    private Optional<MapIterable<String, byte[]>> readHashes(String moduleName)
+    {
+        Path filePath = this.filePathProvider.getModuleContentHashFilePath(this.directory, moduleName, this.filePathVersion);
+        if (Files.notExists(filePath))
+        {
+            return Optional.empty();
+        }
+        try (InputStream stream = new BufferedInputStream(Files.newInputStream(filePath)))
+        {
+            return Optional.of(readHashes(stream, moduleName));
+        }
+        catch (Exception e)
+        {
+            // an unreadable hash file only means that everything for the module is written again
+            LOGGER.warn("Could not read content hashes for module {} from {}", moduleName, filePath, e);
+            return Optional.empty();
+        }
+    }
+
+    private void writeHashes(String moduleName, MapIterable<String, byte[]> hashes)
+    {
+        Path filePath = this.filePathProvider.getModuleContentHashFilePath(this.directory, moduleName, this.filePathVersion);
+        Path tmpPath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        try
+        {
+            Files.createDirectories(filePath.getParent());
+            try (OutputStream stream = new BufferedOutputStream(Files.newOutputStream(tmpPath)))
+            {
+                writeHashes(stream, moduleName, hashes);
+            }
+            try
+            {
+                Files.move(tmpPath, filePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            }
+            catch (AtomicMoveNotSupportedException e)
+            {
+                Files.move(tmpPath, filePath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        catch (IOException e)
+        {
+            LOGGER.error("Error writing content hashes for module {} to {}", moduleName, filePath, e);
+            throw new UncheckedIOException("Error writing content hashes for module " + moduleName + " to " + filePath, e);
+        }
+    }
+
+    private void deleteStaleFile(String moduleName, String resourceName)
+    {
+        Path filePath = toFilePath(resourceName);
+        try
+        {
+            if (Files.deleteIfExists(filePath))
+            {
+                LOGGER.debug("Deleted stale file {} of module {}", filePath, moduleName);
+                this.deletedCount.incrementAndGet();
+            }
+        }
+        catch (IOException e)
+        {
+            LOGGER.error("Error deleting stale file {} of module {}", filePath, moduleName, e);
+            throw new UncheckedIOException("Error deleting stale file " + filePath + " of module " + moduleName, e);
+        }
+    }
+
+    static void writeHashes(OutputStream stream, String moduleName, MapIterable<String, byte[]> hashes)
+    {
+        try (Writer writer = BinaryWriters.newBinaryWriter(stream, false))
+        {
+            writer.writeLong(SIGNATURE);
+            writer.writeInt(FORMAT_VERSION);
+            writer.writeString(moduleName);
+            writer.writeInt(hashes.size());
+            // sort by resource name, so that the same hashes always produce the same file
+            Lists.mutable.withAll(hashes.keysView()).sortThis().forEach(resourceName ->
+            {
+                writer.writeString(resourceName);
+                writer.writeByteArray(hashes.get(resourceName));
+            });
+        }
+    }
+
+    static MapIterable<String, byte[]> readHashes(InputStream stream, String expectedModuleName)
+    {
+        try (Reader reader = BinaryReaders.newBinaryReader(stream, false))
+        {
+            long signature = reader.readLong();
+            if (signature != SIGNATURE)
+            {
+                throw new IllegalArgumentException("Invalid file format: not a Legend module content hash file");
+            }
+            int version = reader.readInt();
+            if (version != FORMAT_VERSION)
+            {
+                throw new IllegalArgumentException("Unknown module content hash file version: " + version);
+            }
+            String moduleName = reader.readString();
+            if (!moduleName.equals(expectedModuleName))
+            {
+                throw new IllegalArgumentException("Expected content hashes for module " + expectedModuleName + ", found " + moduleName);
+            }
+            int count = reader.readInt();
+            MutableMap<String, byte[]> hashes = Maps.mutable.ofInitialCapacity(count);
+            for (int i = 0; i < count; i++)
+            {
+                hashes.put(reader.readString(), reader.readByteArray());
+            }
+            return hashes;
+        }
+    }
+
+    private static byte[] computeHash(byte[] content)
+    {
+        try
+        {
+            return MessageDigest.getInstance(HASH_ALGORITHM).digest(content);
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+}
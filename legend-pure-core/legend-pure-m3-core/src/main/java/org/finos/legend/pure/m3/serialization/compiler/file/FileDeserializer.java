@@ -23,6 +23,7 @@ import org.finos.legend.pure.m3.serialization.compiler.metadata.ModuleFunctionNa
 import org.finos.legend.pure.m3.serialization.compiler.metadata.ModuleManifest;
 import org.finos.legend.pure.m3.serialization.compiler.metadata.ModuleMetadataSerializer;
 import org.finos.legend.pure.m3.serialization.compiler.metadata.ModuleSourceMetadata;
+import org.finos.legend.pure.m3.serialization.compiler.metadata.ModuleTypeHierarchyMetadata;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -209,6 +210,142 @@ public class FileDeserializer
         }
     }
 
+    // Module element segments from directory
+
+    /**
+     * Open the element segments of a module in a directory. Returns null if the module's elements were not serialized
+     * into segments (i.e., if there is no segment index file), in which case elements should be deserialized from
+     * their individual files.
+     *
+     * @param directory  directory to search for the module element segment files
+     * @param moduleName module name
+     * @return module element segments, or null if not found
+     */
+    public ModuleElementSegments openModuleElementSegments(Path directory, String moduleName)
+    {
+        return openModuleElementSegments(directory, moduleName, this.filePathProvider.getDefaultVersion());
+    }
+
+    public ModuleElementSegments openModuleElementSegments(Path directory, String moduleName, int filePathVersion)
+    {
+        ModuleElementSegmentIndex index = deserializeModuleElementSegmentIndexIfPresent(directory, moduleName, filePathVersion);
+        return (index == null) ? null : ModuleElementSegments.fromDirectory(index, this.elementDeserializer, this.filePathProvider, filePathVersion, directory);
+    }
+
+    public ModuleElementSegmentIndex deserializeModuleElementSegmentIndexIfPresent(Path directory, String moduleName)
+    {
+        return deserializeModuleElementSegmentIndexIfPresent(directory, moduleName, this.filePathProvider.getDefaultVersion());
+    }
+
+    public ModuleElementSegmentIndex deserializeModuleElementSegmentIndexIfPresent(Path directory, String moduleName, int filePathVersion)
+    {
+        Objects.requireNonNull(directory, "directory is required");
+        Objects.requireNonNull(moduleName, "module name is required");
+
+        long start = System.nanoTime();
+        Path filePath = this.filePathProvider.getModuleElementSegmentIndexFilePath(directory, moduleName, filePathVersion);
+        LOGGER.debug("Deserializing module {} element segment index from {}", moduleName, filePath);
+        try (InputStream stream = new BufferedInputStream(Files.newInputStream(filePath)))
+        {
+            return ModuleElementSegmentIndex.read(stream);
+        }
+        catch (NoSuchFileException | FileNotFoundException e)
+        {
+            LOGGER.debug("Module {} element segment index not found at {}", moduleName, filePath);
+            return null;
+        }
+        catch (Exception e)
+        {
+            LOGGER.error("Error deserializing module {} element segment index from {}", moduleName, filePath, e);
+            if (Files.notExists(filePath))
+            {
+                LOGGER.debug("Module {} element segment index not found at {}", moduleName, filePath);
+                return null;
+            }
+            StringBuilder builder = new StringBuilder("Error deserializing element segment index for module ").append(moduleName).append(" from ").append(filePath);
+            String eMessage = e.getMessage();
+            if (eMessage != null)
+            {
+                builder.append(": ").append(eMessage);
+            }
+            throw (e instanceof IOException) ? new UncheckedIOException(builder.toString(), (IOException) e) : new RuntimeException(builder.toString(), e);
+        }
+        finally
+        {
+            long end = System.nanoTime();
+            LOGGER.debug("Finished deserializing module {} element segment index from {} in {}s", moduleName, filePath, (end - start) / 1_000_000_000.0);
+        }
+    }
+
+    // Module element segments from ClassLoader
+
+    /**
+     * Open the element segments of a module in a class loader. Returns null if the module's elements were not
+     * serialized into segments (i.e., if there is no segment index resource), in which case elements should be
+     * deserialized from their individual resources.
+     *
+     * @param classLoader class loader to search for the module element segment resources
+     * @param moduleName  module name
+     * @return module element segments, or null if not found
+     */
+    public ModuleElementSegments openModuleElementSegments(ClassLoader classLoader, String moduleName)
+    {
+        return openModuleElementSegments(classLoader, moduleName, this.filePathProvider.getDefaultVersion());
+    }
+
+    public ModuleElementSegments openModuleElementSegments(ClassLoader classLoader, String moduleName, int filePathVersion)
+    {
+        ModuleElementSegmentIndex index = deserializeModuleElementSegmentIndexIfPresent(classLoader, moduleName, filePathVersion);
+        return (index == null) ? null : ModuleElementSegments.fromClassLoader(index, this.elementDeserializer, this.filePathProvider, filePathVersion, classLoader);
+    }
+
+    public ModuleElementSegmentIndex deserializeModuleElementSegmentIndexIfPresent(ClassLoader classLoader, String moduleName)
+    {
+        return deserializeModuleElementSegmentIndexIfPresent(classLoader, moduleName, this.filePathProvider.getDefaultVersion());
+    }
+
+    public ModuleElementSegmentIndex deserializeModuleElementSegmentIndexIfPresent(ClassLoader classLoader, String moduleName, int filePathVersion)
+    {
+        Objects.requireNonNull(classLoader, "class loader is required");
+        Objects.requireNonNull(moduleName, "module name is required");
+
+        long start = System.nanoTime();
+        String resourceName = this.filePathProvider.getModuleElementSegmentIndexResourceName(moduleName, filePathVersion);
+        LOGGER.debug("Deserializing module {} element segment index from resource '{}'", moduleName, resourceName);
+        try
+        {
+            URL url = classLoader.getResource(resourceName);
+            if (url == null)
+            {
+                LOGGER.debug("Module {} element segment index not found at resource '{}'", moduleName, resourceName);
+                return null;
+            }
+            LOGGER.debug("Deserializing module {} element segment index from resource '{}': {}", moduleName, resourceName, url);
+            try (InputStream stream = new BufferedInputStream(url.openStream()))
+            {
+                return ModuleElementSegmentIndex.read(stream);
+            }
+            catch (Exception e)
+            {
+                LOGGER.error("Error deserializing module {} element segment index from resource '{}'", moduleName, resourceName, e);
+                StringBuilder builder = new StringBuilder("Error deserializing element segment index for module ").append(moduleName)
+                        .append(" from resource ").append(resourceName)
+                        .append(" (").append(url).append(")");
+                String eMessage = e.getMessage();
+                if (eMessage != null)
+                {
+                    builder.append(": ").append(eMessage);
+                }
+                throw (e instanceof IOException) ? new UncheckedIOException(builder.toString(), (IOException) e) : new RuntimeException(builder.toString(), e);
+            }
+        }
+        finally
+        {
+            long end = System.nanoTime();
+            LOGGER.debug("Finished deserializing module {} element segment index from resource '{}' in {}s", moduleName, resourceName, (end - start) / 1_000_000_000.0);
+        }
+    }
+
 
     // Deserialize module manifest from directory
 
@@ -1033,6 +1170,128 @@ public class FileDeserializer
         }
     }
 
+    // Deserialize module type hierarchy metadata from directory
+
+    /**
+     * Deserialize module type hierarchy metadata from a file in a directory. Returns null if the metadata file
+     * is not found (the metadata is optional).
+     *
+     * @param directory  directory to search for the module type hierarchy metadata file
+     * @param moduleName module name
+     * @return module type hierarchy metadata, or null if not found
+     */
+    public ModuleTypeHierarchyMetadata deserializeModuleTypeHierarchyMetadataIfPresent(Path directory, String moduleName)
+    {
+        return deserializeModuleTypeHierarchyMetadataIfPresent(directory, moduleName, this.filePathProvider.getDefaultVersion());
+    }
+
+    public ModuleTypeHierarchyMetadata deserializeModuleTypeHierarchyMetadataIfPresent(Path directory, String moduleName, int filePathVersion)
+    {
+        Objects.requireNonNull(directory, "directory is required");
+        Objects.requireNonNull(moduleName, "module name is required");
+
+        long start = System.nanoTime();
+        Path filePath = this.filePathProvider.getModuleTypeHierarchyMetadataFilePath(directory, moduleName, filePathVersion);
+        if (filePath == null)
+        {
+            LOGGER.debug("Module {} type hierarchy metadata not supported by file path version {}", moduleName, filePathVersion);
+            return null;
+        }
+        LOGGER.debug("Deserializing module {} type hierarchy metadata from {}", moduleName, filePath);
+        try (InputStream stream = new BufferedInputStream(Files.newInputStream(filePath)))
+        {
+            return this.moduleSerializer.deserializeTypeHierarchyMetadata(stream);
+        }
+        catch (NoSuchFileException | FileNotFoundException e)
+        {
+            LOGGER.debug("Module {} type hierarchy metadata not found at {}", moduleName, filePath);
+            return null;
+        }
+        catch (Exception e)
+        {
+            LOGGER.error("Error deserializing module {} type hierarchy metadata from {}", moduleName, filePath, e);
+            if (Files.notExists(filePath))
+            {
+                LOGGER.debug("Module {} type hierarchy metadata not found at {}", moduleName, filePath);
+                return null;
+            }
+            StringBuilder builder = new StringBuilder("Error deserializing type hierarchy metadata for module ").append(moduleName).append(" from ").append(filePath);
+            String eMessage = e.getMessage();
+            if (eMessage != null)
+            {
+                builder.append(": ").append(eMessage);
+            }
+            throw (e instanceof IOException) ? new UncheckedIOException(builder.toString(), (IOException) e) : new RuntimeException(builder.toString(), e);
+        }
+        finally
+        {
+            long end = System.nanoTime();
+            LOGGER.debug("Finished deserializing module {} type hierarchy metadata from {} in {}s", moduleName, filePath, (end - start) / 1_000_000_000.0);
+        }
+    }
+
+    // Deserialize module type hierarchy metadata from ClassLoader
+
+    /**
+     * Deserialize module type hierarchy metadata from a resource in a class loader. Returns null if the metadata
+     * resource is not found (the metadata is optional).
+     *
+     * @param classLoader class loader to search for the module type hierarchy metadata resource
+     * @param moduleName  module name
+     * @return module type hierarchy metadata, or null if not found
+     */
+    public ModuleTypeHierarchyMetadata deserializeModuleTypeHierarchyMetadataIfPresent(ClassLoader classLoader, String moduleName)
+    {
+        return deserializeModuleTypeHierarchyMetadataIfPresent(classLoader, moduleName, this.filePathProvider.getDefaultVersion());
+    }
+
+    public ModuleTypeHierarchyMetadata deserializeModuleTypeHierarchyMetadataIfPresent(ClassLoader classLoader, String moduleName, int filePathVersion)
+    {
+        Objects.requireNonNull(classLoader, "class loader is required");
+        Objects.requireNonNull(moduleName, "module name is required");
+
+        long start = System.nanoTime();
+        String resourceName = this.filePathProvider.getModuleTypeHierarchyMetadataResourceName(moduleName, filePathVersion);
+        if (resourceName == null)
+        {
+            LOGGER.debug("Module {} type hierarchy metadata not supported by file path version {}", moduleName, filePathVersion);
+            return null;
+        }
+        LOGGER.debug("Deserializing module {} type hierarchy metadata from resource '{}'", moduleName, resourceName);
+        try
+        {
+            URL url = classLoader.getResource(resourceName);
+            if (url == null)
+            {
+                LOGGER.debug("Module {} type hierarchy metadata not found at resource '{}'", moduleName, resourceName);
+                return null;
+            }
+            LOGGER.debug("Deserializing module {} type hierarchy metadata from resource '{}': {}", moduleName, resourceName, url);
+            try (InputStream stream = url.openStream())
+            {
+                return this.moduleSerializer.deserializeTypeHierarchyMetadata(stream);
+            }
+            catch (Exception e)
+            {
+                LOGGER.error("Error deserializing module {} type hierarchy metadata from resource '{}'", moduleName, resourceName, e);
+                StringBuilder builder = new StringBuilder("Error deserializing type hierarchy metadata for module ").append(moduleName)
+                        .append(" from resource ").append(resourceName)
+                        .append(" (").append(url).append(")");
+                String eMessage = e.getMessage();
+                if (eMessage != null)
+                {
+                    builder.append(": ").append(eMessage);
+                }
+                throw (e instanceof IOException) ? new UncheckedIOException(builder.toString(), (IOException) e) : new RuntimeException(builder.toString(), e);
+            }
+        }
+        finally
+        {
+            long end = System.nanoTime();
+            LOGGER.debug("Finished deserializing module {} type hierarchy metadata from resource '{}' in {}s", moduleName, resourceName, (end - start) / 1_000_000_000.0);
+        }
+    }
+
     // Deserialize module function name metadata from directory
 
     public boolean moduleFunctionNameMetadataExists(Path directory, String moduleName)
@@ -302,6 +302,165 @@ public class FilePathProvider extends ExtensibleSerializer<FilePathProviderExten
                 validateNonEmpty(fsSeparator, "file path separator"));
     }
 
+    // Type hierarchy metadata is optional: these return null if the version does not support it
+
+    public Path getModuleTypeHierarchyMetadataFilePath(Path directory, String moduleName)
+    {
+        String filePath = getModuleTypeHierarchyMetadataFilePath(moduleName, getFSSeparator(directory));
+        return (filePath == null) ? null : directory.resolve(filePath);
+    }
+
+    public Path getModuleTypeHierarchyMetadataFilePath(Path directory, String moduleName, int version)
+    {
+        String filePath = getModuleTypeHierarchyMetadataFilePath(moduleName, getFSSeparator(directory), version);
+        return (filePath == null) ? null : directory.resolve(filePath);
+    }
+
+    public String getModuleTypeHierarchyMetadataResourceName(String moduleName)
+    {
+        return getModuleTypeHierarchyMetadataFilePath(moduleName, RESOURCE_FS_SEPARATOR);
+    }
+
+    public String getModuleTypeHierarchyMetadataResourceName(String moduleName, int version)
+    {
+        return getModuleTypeHierarchyMetadataFilePath(moduleName, RESOURCE_FS_SEPARATOR, version);
+    }
+
+    public String getModuleTypeHierarchyMetadataFilePath(String moduleName, String fsSeparator)
+    {
+        return getModuleTypeHierarchyMetadataFilePath(moduleName, fsSeparator, getDefaultExtension());
+    }
+
+    public String getModuleTypeHierarchyMetadataFilePath(String moduleName, String fsSeparator, int version)
+    {
+        return getModuleTypeHierarchyMetadataFilePath(moduleName, fsSeparator, getExtension(version));
+    }
+
+    private String getModuleTypeHierarchyMetadataFilePath(String moduleName, String fsSeparator, FilePathProviderExtension extension)
+    {
+        return extension.getModuleTypeHierarchyMetadataFilePath(
+                validateNonEmpty(moduleName, "module name"),
+                validateNonEmpty(fsSeparator, "file path separator"));
+    }
+
+    // Module element segments
+
+    public Path getModuleElementSegmentFilePath(Path directory, String moduleName, int segment)
+    {
+        return directory.resolve(getModuleElementSegmentFilePath(moduleName, segment, getFSSeparator(directory)));
+    }
+
+    public Path getModuleElementSegmentFilePath(Path directory, String moduleName, int segment, int version)
+    {
+        return directory.resolve(getModuleElementSegmentFilePath(moduleName, segment, getFSSeparator(directory), version));
+    }
+
+    public String getModuleElementSegmentResourceName(String moduleName, int segment)
+    {
+        return getModuleElementSegmentFilePath(moduleName, segment, RESOURCE_FS_SEPARATOR);
+    }
+
+    public String getModuleElementSegmentResourceName(String moduleName, int segment, int version)
+    {
+        return getModuleElementSegmentFilePath(moduleName, segment, RESOURCE_FS_SEPARATOR, version);
+    }
+
+    public String getModuleElementSegmentFilePath(String moduleName, int segment, String fsSeparator)
+    {
+        return getModuleElementSegmentFilePath(moduleName, segment, fsSeparator, getDefaultExtension());
+    }
+
+    public String getModuleElementSegmentFilePath(String moduleName, int segment, String fsSeparator, int version)
+    {
+        return getModuleElementSegmentFilePath(moduleName, segment, fsSeparator, getExtension(version));
+    }
+
+    private String getModuleElementSegmentFilePath(String moduleName, int segment, String fsSeparator, FilePathProviderExtension extension)
+    {
+        return extension.getModuleElementSegmentFilePath(
+                validateNonEmpty(moduleName, "module name"),
+                segment,
+                validateNonEmpty(fsSeparator, "file path separator"));
+    }
+
+    // Module element segment index
+
+    public Path getModuleElementSegmentIndexFilePath(Path directory, String moduleName)
+    {
+        return directory.resolve(getModuleElementSegmentIndexFilePath(moduleName, getFSSeparator(directory)));
+    }
+
+    public Path getModuleElementSegmentIndexFilePath(Path directory, String moduleName, int version)
+    {
+        return directory.resolve(getModuleElementSegmentIndexFilePath(moduleName, getFSSeparator(directory), version));
+    }
+
+    public String getModuleElementSegmentIndexResourceName(String moduleName)
+    {
+        return getModuleElementSegmentIndexFilePath(moduleName, RESOURCE_FS_SEPARATOR);
+    }
+
+    public String getModuleElementSegmentIndexResourceName(String moduleName, int version)
+    {
+        return getModuleElementSegmentIndexFilePath(moduleName, RESOURCE_FS_SEPARATOR, version);
+    }
+
+    public String getModuleElementSegmentIndexFilePath(String moduleName, String fsSeparator)
+    {
+        return getModuleElementSegmentIndexFilePath(moduleName, fsSeparator, getDefaultExtension());
+    }
+
+    public String getModuleElementSegmentIndexFilePath(String moduleName, String fsSeparator, int version)
+    {
+        return getModuleElementSegmentIndexFilePath(moduleName, fsSeparator, getExtension(version));
+    }
+
+    private String getModuleElementSegmentIndexFilePath(String moduleName, String fsSeparator, FilePathProviderExtension extension)
+    {
+        return extension.getModuleElementSegmentIndexFilePath(
+                validateNonEmpty(moduleName, "module name"),
+                validateNonEmpty(fsSeparator, "file path separator"));
+    }
+
+    // Module content hashes
+
+    public Path getModuleContentHashFilePath(Path directory, String moduleName)
+    {
+        return directory.resolve(getModuleContentHashFilePath(moduleName, getFSSeparator(directory)));
+    }
+
+    public Path getModuleContentHashFilePath(Path directory, String moduleName, int version)
+    {
+        return directory.resolve(getModuleContentHashFilePath(moduleName, getFSSeparator(directory), version));
+    }
+
+    public String getModuleContentHashResourceName(String moduleName)
+    {
+        return getModuleContentHashFilePath(moduleName, RESOURCE_FS_SEPARATOR);
+    }
+
+    public String getModuleContentHashResourceName(String moduleName, int version)
+    {
+        return getModuleContentHashFilePath(moduleName, RESOURCE_FS_SEPARATOR, version);
+    }
+
+    public String getModuleContentHashFilePath(String moduleName, String fsSeparator)
+    {
+        return getModuleContentHashFilePath(moduleName, fsSeparator, getDefaultExtension());
+    }
+
+    public String getModuleContentHashFilePath(String moduleName, String fsSeparator, int version)
+    {
+        return getModuleContentHashFilePath(moduleName, fsSeparator, getExtension(version));
+    }
+
+    private String getModuleContentHashFilePath(String moduleName, String fsSeparator, FilePathProviderExtension extension)
+    {
+        return extension.getModuleContentHashFilePath(
+                validateNonEmpty(moduleName, "module name"),
+                validateNonEmpty(fsSeparator, "file path separator"));
+    }
+
     // Helpers
     
     private static String validateNonEmpty(String string, String description)
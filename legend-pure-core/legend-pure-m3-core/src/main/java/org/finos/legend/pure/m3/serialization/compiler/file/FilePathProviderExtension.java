@@ -101,4 +101,58 @@ public interface FilePathProviderExtension extends SerializerExtension
      * @return relative file path
      */
     String getModuleFunctionNameMetadataFilePath(String moduleName, String fsSeparator);
+
+    /**
+     * Get the relative file path for the type hierarchy metadata file for the given module. This should be a relative
+     * file path, and must not start with the path separator. It should not be empty. Each name in the path should be
+     * no longer than 255 bytes when encoded in UTF-16.
+     * <br>
+     * Type hierarchy metadata is optional, so extensions which do not support it may return null, in which case it is
+     * neither written nor read. This is the default.
+     *
+     * @param moduleName  module name
+     * @param fsSeparator filesystem path separator
+     * @return relative file path, or null if type hierarchy metadata is not supported
+     */
+    default String getModuleTypeHierarchyMetadataFilePath(String moduleName, String fsSeparator)
+    {
+        return null;
+    }
+
+    /**
+     * Get the relative file path for the given element segment file of the given module. Segment files hold the
+     * serialized elements of a module packed together, and are numbered from 0. This should be a relative file path,
+     * and must not start with the path separator. It should never be null or empty. Each name in the path should be no
+     * longer than 255 bytes when encoded in UTF-16.
+     *
+     * @param moduleName  module name
+     * @param segment     segment number
+     * @param fsSeparator filesystem path separator
+     * @return relative file path
+     */
+    String getModuleElementSegmentFilePath(String moduleName, int segment, String fsSeparator);
+
+    /**
+     * Get the relative file path for the element segment index file for the given module. This index maps element
+     * paths to their location in the module's segment files. This should be a relative file path, and must not start
+     * with the path separator. It should never be null or empty. Each name in the path should be no longer than 255
+     * bytes when encoded in UTF-16.
+     *
+     * @param moduleName  module name
+     * @param fsSeparator filesystem path separator
+     * @return relative file path
+     */
+    String getModuleElementSegmentIndexFilePath(String moduleName, String fsSeparator);
+
+    /**
+     * Get the relative file path for the content hash file for the given module. This records a hash of the content
+     * of each file serialized for the module, so that incremental serialization can skip files which have not changed.
+     * This should be a relative file path, and must not start with the path separator. It should never be null or
+     * empty. Each name in the path should be no longer than 255 bytes when encoded in UTF-16.
+     *
+     * @param moduleName  module name
+     * @param fsSeparator filesystem path separator
+     * @return relative file path
+     */
+    String getModuleContentHashFilePath(String moduleName, String fsSeparator);
 }
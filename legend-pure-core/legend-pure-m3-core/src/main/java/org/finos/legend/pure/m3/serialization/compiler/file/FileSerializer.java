@@ -14,7 +14,13 @@
 
 package org.finos.legend.pure.m3.serialization.compiler.file;
 
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.eclipse.collections.impl.utility.Iterate;
 import org.finos.legend.pure.m3.navigation.PackageableElement.PackageableElement;
+import org.finos.legend.pure.m3.serialization.compiler.ModuleHelper;
 import org.finos.legend.pure.m3.serialization.compiler.element.ConcreteElementSerializer;
 import org.finos.legend.pure.m3.serialization.compiler.metadata.ElementBackReferenceMetadata;
 import org.finos.legend.pure.m3.serialization.compiler.metadata.ModuleBackReferenceIndex;
@@ -24,13 +30,17 @@ import org.finos.legend.pure.m3.serialization.compiler.metadata.ModuleFunctionNa
 import org.finos.legend.pure.m3.serialization.compiler.metadata.ModuleManifest;
 import org.finos.legend.pure.m3.serialization.compiler.metadata.ModuleMetadataSerializer;
 import org.finos.legend.pure.m3.serialization.compiler.metadata.ModuleSourceMetadata;
+import org.finos.legend.pure.m3.serialization.compiler.metadata.ModuleTypeHierarchyMetadata;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.coreinstance.SourceInformation;
+import org.finos.legend.pure.m4.serialization.Writer;
+import org.finos.legend.pure.m4.serialization.binary.BinaryWriters;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -47,15 +57,21 @@ public class FileSerializer
 {
     private static final Logger LOGGER = LoggerFactory.getLogger(FileSerializer.class);
 
+    public static final int DEFAULT_MAX_ELEMENT_SEGMENT_SIZE = 8 * 1024 * 1024;
+
     private final FilePathProvider filePathProvider;
     private final ConcreteElementSerializer elementSerializer;
     private final ModuleMetadataSerializer moduleSerializer;
+    private final int maxElementSegmentSize;
+    private final ContentHashTracker contentHashTracker;
 
-    private FileSerializer(FilePathProvider filePathProvider, ConcreteElementSerializer elementSerializer, ModuleMetadataSerializer moduleSerializer)
+    private FileSerializer(FilePathProvider filePathProvider, ConcreteElementSerializer elementSerializer, ModuleMetadataSerializer moduleSerializer, int maxElementSegmentSize, ContentHashTracker contentHashTracker)
     {
         this.filePathProvider = filePathProvider;
         this.elementSerializer = elementSerializer;
         this.moduleSerializer = moduleSerializer;
+        this.maxElementSegmentSize = maxElementSegmentSize;
+        this.contentHashTracker = contentHashTracker;
     }
 
     // Serialize element to directory
@@ -76,7 +92,7 @@ public class FileSerializer
         LOGGER.debug("Serializing {} to {}", elementPath, filePath);
         try
         {
-            writeIfModified(filePath, stream -> this.elementSerializer.serialize(stream, element, serializerVersion, referenceIdVersion));
+            write((this.contentHashTracker == null) ? null : ModuleHelper.getElementModule(element), filePath, stream -> this.elementSerializer.serialize(stream, element, serializerVersion, referenceIdVersion));
         }
         catch (Exception e)
         {
@@ -150,6 +166,248 @@ public class FileSerializer
         return entryName;
     }
 
+    // Serialize element to memory
+
+    /**
+     * Serialize an element to a byte array, which can later be written to a zip stream with
+     * {@link #writeSerializedElement}. This allows elements to be serialized in parallel, while a single thread writes
+     * to the zip stream.
+     *
+     * @param element element
+     * @return serialized element bytes
+     */
+    public byte[] serializeElementToBytes(CoreInstance element)
+    {
+        return serializeElementToBytes(element, this.elementSerializer.getDefaultVersion(), this.elementSerializer.getReferenceIdProviders().getDefaultVersion());
+    }
+
+    public byte[] serializeElementToBytes(CoreInstance element, int serializerVersion, int referenceIdVersion)
+    {
+        Objects.requireNonNull(element, "element is required");
+
+        long start = System.nanoTime();
+        String elementPath = PackageableElement.getUserPathForPackageableElement(element);
+        LOGGER.debug("Serializing {} to memory", elementPath);
+        try
+        {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            this.elementSerializer.serialize(bytes, element, serializerVersion, referenceIdVersion);
+            return bytes.toByteArray();
+        }
+        catch (Exception e)
+        {
+            LOGGER.error("Error serializing {} to memory", elementPath, e);
+            StringBuilder builder = new StringBuilder("Error serializing element ").append(elementPath);
+            SourceInformation sourceInfo = element.getSourceInformation();
+            if (sourceInfo != null)
+            {
+                sourceInfo.appendMessage(builder.append(" (")).append(')');
+            }
+            String eMessage = e.getMessage();
+            if (eMessage != null)
+            {
+                builder.append(": ").append(eMessage);
+            }
+            throw new RuntimeException(builder.toString(), e);
+        }
+        finally
+        {
+            long end = System.nanoTime();
+            LOGGER.debug("Finished serializing {} to memory in {}s", elementPath, (end - start) / 1_000_000_000.0);
+        }
+    }
+
+    public String writeSerializedElement(ZipOutputStream zipStream, String elementPath, byte[] bytes)
+    {
+        return writeSerializedElement(zipStream, elementPath, bytes, this.filePathProvider.getDefaultVersion());
+    }
+
+    public String writeSerializedElement(ZipOutputStream zipStream, String elementPath, byte[] bytes, int filePathVersion)
+    {
+        Objects.requireNonNull(zipStream, "zip stream is required");
+        Objects.requireNonNull(elementPath, "element path is required");
+        Objects.requireNonNull(bytes, "bytes are required");
+
+        String entryName = this.filePathProvider.getElementFilePath(elementPath, "/", filePathVersion);
+        try
+        {
+            zipStream.putNextEntry(new ZipEntry(entryName));
+            zipStream.write(bytes);
+            zipStream.closeEntry();
+        }
+        catch (IOException e)
+        {
+            LOGGER.error("Error writing {} to zip entry '{}'", elementPath, entryName, e);
+            throw new UncheckedIOException("Error writing element " + elementPath + " to " + entryName, e);
+        }
+        return entryName;
+    }
+
+    // Serialize module elements to segments
+
+    /**
+     * Serialize the given elements of a module into the module's element segment files in a directory, along with the
+     * segment index. Elements are packed in path order into segments of approximately the maximum segment size (an
+     * element larger than the maximum gets a segment of its own). Any segment files left from a previous serialization
+     * of the module with more segments are deleted.
+     *
+     * @param directory  target directory
+     * @param moduleName module name
+     * @param elements   module elements
+     * @return segment index
+     */
+    public ModuleElementSegmentIndex serializeModuleElements(Path directory, String moduleName, Iterable<? extends CoreInstance> elements)
+    {
+        return serializeModuleElements(directory, moduleName, elements, this.filePathProvider.getDefaultVersion(), this.elementSerializer.getDefaultVersion(), this.elementSerializer.getReferenceIdProviders().getDefaultVersion());
+    }
+
+    public ModuleElementSegmentIndex serializeModuleElements(Path directory, String moduleName, Iterable<? extends CoreInstance> elements, int filePathVersion, int serializerVersion, int referenceIdVersion)
+    {
+        Objects.requireNonNull(directory, "directory is required");
+        Objects.requireNonNull(moduleName, "module name is required");
+        Objects.requireNonNull(elements, "elements are required");
+
+        long start = System.nanoTime();
+        Path indexPath = this.filePathProvider.getModuleElementSegmentIndexFilePath(directory, moduleName, filePathVersion);
+        LOGGER.debug("Serializing module {} elements to segments indexed by {}", moduleName, indexPath);
+        try
+        {
+            ModuleElementSegmentIndex index = packModuleElements(moduleName, elements, serializerVersion, referenceIdVersion, (segment, bytes) ->
+                    write(moduleName, this.filePathProvider.getModuleElementSegmentFilePath(directory, moduleName, segment, filePathVersion), bytes::writeTo));
+            for (int segment = index.getSegmentCount(); Files.deleteIfExists(this.filePathProvider.getModuleElementSegmentFilePath(directory, moduleName, segment, filePathVersion)); segment++)
+            {
+                LOGGER.debug("Deleted stale segment {} of module {}", segment, moduleName);
+            }
+            write(moduleName, indexPath, index::write);
+            return index;
+        }
+        catch (Exception e)
+        {
+            LOGGER.error("Error serializing module {} elements to segments indexed by {}", moduleName, indexPath, e);
+            StringBuilder builder = new StringBuilder("Error serializing elements of module ").append(moduleName).append(" to segments indexed by ").append(indexPath);
+            String eMessage = e.getMessage();
+            if (eMessage != null)
+            {
+                builder.append(": ").append(eMessage);
+            }
+            throw (e instanceof IOException) ? new UncheckedIOException(builder.toString(), (IOException) e) : new RuntimeException(builder.toString(), e);
+        }
+        finally
+        {
+            long end = System.nanoTime();
+            LOGGER.debug("Finished serializing module {} elements to segments indexed by {} in {}s", moduleName, indexPath, (end - start) / 1_000_000_000.0);
+        }
+    }
+
+    public ModuleElementSegmentIndex serializeModuleElements(ZipOutputStream zipStream, String moduleName, Iterable<? extends CoreInstance> elements)
+    {
+        return serializeModuleElements(zipStream, moduleName, elements, this.filePathProvider.getDefaultVersion(), this.elementSerializer.getDefaultVersion(), this.elementSerializer.getReferenceIdProviders().getDefaultVersion());
+    }
+
+    public ModuleElementSegmentIndex serializeModuleElements(ZipOutputStream zipStream, String moduleName, Iterable<? extends CoreInstance> elements, int filePathVersion, int serializerVersion, int referenceIdVersion)
+    {
+        Objects.requireNonNull(zipStream, "zip stream is required");
+        Objects.requireNonNull(moduleName, "module name is required");
+        Objects.requireNonNull(elements, "elements are required");
+
+        long start = System.nanoTime();
+        String indexEntryName = this.filePathProvider.getModuleElementSegmentIndexFilePath(moduleName, "/", filePathVersion);
+        LOGGER.debug("Serializing module {} elements to segments indexed by zip entry '{}'", moduleName, indexEntryName);
+        try
+        {
+            ModuleElementSegmentIndex index = packModuleElements(moduleName, elements, serializerVersion, referenceIdVersion, (segment, bytes) ->
+            {
+                zipStream.putNextEntry(new ZipEntry(this.filePathProvider.getModuleElementSegmentFilePath(moduleName, segment, "/", filePathVersion)));
+                bytes.writeTo(zipStream);
+                zipStream.closeEntry();
+            });
+            zipStream.putNextEntry(new ZipEntry(indexEntryName));
+            index.write(zipStream);
+            zipStream.closeEntry();
+            return index;
+        }
+        catch (Exception e)
+        {
+            LOGGER.error("Error serializing module {} elements to segments indexed by zip entry '{}'", moduleName, indexEntryName, e);
+            StringBuilder builder = new StringBuilder("Error serializing elements of module ").append(moduleName).append(" to segments indexed by ").append(indexEntryName);
+            String eMessage = e.getMessage();
+            if (eMessage != null)
+            {
+                builder.append(": ").append(eMessage);
+            }
+            throw (e instanceof IOException) ? new UncheckedIOException(builder.toString(), (IOException) e) : new RuntimeException(builder.toString(), e);
+        }
+        finally
+        {
+            long end = System.nanoTime();
+            LOGGER.debug("Finished serializing module {} elements to segments indexed by zip entry '{}' in {}s", moduleName, indexEntryName, (end - start) / 1_000_000_000.0);
+        }
+    }
+
+    private ModuleElementSegmentIndex packModuleElements(String moduleName, Iterable<? extends CoreInstance> elements, int serializerVersion, int referenceIdVersion, SegmentWriter segmentWriter) throws IOException
+    {
+        MutableList<Pair<String, CoreInstance>> sortedElements = Iterate.collect(elements, e -> Tuples.<String, CoreInstance>pair(PackageableElement.getUserPathForPackageableElement(e), e), Lists.mutable.empty());
+        sortedElements.sortThisBy(Pair::getOne);
+
+        ModuleElementSegmentIndex.Builder indexBuilder = ModuleElementSegmentIndex.builder(moduleName);
+        ByteArrayOutputStream segmentBytes = new ByteArrayOutputStream(Math.min(this.maxElementSegmentSize, 1024 * 1024));
+        int segment = 0;
+        for (Pair<String, CoreInstance> pair : sortedElements)
+        {
+            if (segmentBytes.size() == 0)
+            {
+                writeSegmentHeader(segmentBytes);
+            }
+            String elementPath = pair.getOne();
+            int offset = segmentBytes.size();
+            try
+            {
+                this.elementSerializer.serialize(segmentBytes, pair.getTwo(), serializerVersion, referenceIdVersion);
+            }
+            catch (Exception e)
+            {
+                StringBuilder builder = new StringBuilder("Error serializing element ").append(elementPath);
+                SourceInformation sourceInfo = pair.getTwo().getSourceInformation();
+                if (sourceInfo != null)
+                {
+                    sourceInfo.appendMessage(builder.append(" (")).append(')');
+                }
+                String eMessage = e.getMessage();
+                if (eMessage != null)
+                {
+                    builder.append(": ").append(eMessage);
+                }
+                throw new RuntimeException(builder.toString(), e);
+            }
+            indexBuilder.withElement(elementPath, segment, offset, segmentBytes.size() - offset);
+            if (segmentBytes.size() >= this.maxElementSegmentSize)
+            {
+                segmentWriter.write(segment++, segmentBytes);
+                segmentBytes.reset();
+            }
+        }
+        if (segmentBytes.size() > 0)
+        {
+            segmentWriter.write(segment++, segmentBytes);
+        }
+        return indexBuilder.withSegmentCount(segment).build();
+    }
+
+    private static void writeSegmentHeader(OutputStream stream)
+    {
+        try (Writer writer = BinaryWriters.newBinaryWriter(stream, false))
+        {
+            writer.writeLong(ModuleElementSegmentIndex.SEGMENT_SIGNATURE);
+            writer.writeInt(ModuleElementSegmentIndex.FORMAT_VERSION);
+        }
+    }
+
+    @FunctionalInterface
+    private interface SegmentWriter
+    {
+        void write(int segment, ByteArrayOutputStream bytes) throws IOException;
+    }
+
     // Serialize module manifest to directory
 
     public Path serializeModuleManifest(Path directory, ModuleManifest moduleManifest)
@@ -167,7 +425,7 @@ public class FileSerializer
         LOGGER.debug("Serializing module {} manifest to {}", moduleManifest.getModuleName(), filePath);
         try
         {
-            writeIfModified(filePath, stream -> this.moduleSerializer.serializeManifest(stream, moduleManifest, serializerVersion));
+            write(moduleManifest.getModuleName(), filePath, stream -> this.moduleSerializer.serializeManifest(stream, moduleManifest, serializerVersion));
         }
         catch (Exception e)
         {
@@ -246,7 +504,7 @@ public class FileSerializer
         LOGGER.debug("Serializing module {} source metadata to {}", moduleSourceMetadata.getModuleName(), filePath);
         try
         {
-            writeIfModified(filePath, stream -> this.moduleSerializer.serializeSourceMetadata(stream, moduleSourceMetadata, serializerVersion));
+            write(moduleSourceMetadata.getModuleName(), filePath, stream -> this.moduleSerializer.serializeSourceMetadata(stream, moduleSourceMetadata, serializerVersion));
         }
         catch (Exception e)
         {
@@ -325,7 +583,7 @@ public class FileSerializer
         LOGGER.debug("Serializing module {} external reference metadata to {}", moduleExtRefMetadata.getModuleName(), filePath);
         try
         {
-            writeIfModified(filePath, stream -> this.moduleSerializer.serializeExternalReferenceMetadata(stream, moduleExtRefMetadata, serializerVersion));
+            write(moduleExtRefMetadata.getModuleName(), filePath, stream -> this.moduleSerializer.serializeExternalReferenceMetadata(stream, moduleExtRefMetadata, serializerVersion));
         }
         catch (Exception e)
         {
@@ -466,7 +724,7 @@ public class FileSerializer
         LOGGER.debug("Serializing module {} element {} back reference metadata to {}", moduleName, elementBackRefMetadata.getElementPath(), filePath);
         try
         {
-            writeIfModified(filePath, stream -> this.moduleSerializer.serializeBackReferenceMetadata(stream, elementBackRefMetadata, serializerVersion));
+            write(moduleName, filePath, stream -> this.moduleSerializer.serializeBackReferenceMetadata(stream, elementBackRefMetadata, serializerVersion));
         }
         catch (Exception e)
         {
@@ -630,7 +888,7 @@ public class FileSerializer
         LOGGER.debug("Serializing module {} function name metadata to {}", moduleFunctionNameMetadata.getModuleName(), filePath);
         try
         {
-            writeIfModified(filePath, stream -> this.moduleSerializer.serializeFunctionNameMetadata(stream, moduleFunctionNameMetadata, serializerVersion));
+            write(moduleFunctionNameMetadata.getModuleName(), filePath, stream -> this.moduleSerializer.serializeFunctionNameMetadata(stream, moduleFunctionNameMetadata, serializerVersion));
         }
         catch (Exception e)
         {
@@ -691,6 +949,94 @@ public class FileSerializer
         return entryName;
     }
 
+    // Serialize module type hierarchy metadata to directory
+
+    public Path serializeModuleTypeHierarchyMetadata(Path directory, ModuleTypeHierarchyMetadata moduleTypeHierarchyMetadata)
+    {
+        return serializeModuleTypeHierarchyMetadata(directory, moduleTypeHierarchyMetadata, this.filePathProvider.getDefaultVersion(), this.moduleSerializer.getDefaultVersion());
+    }
+
+    public Path serializeModuleTypeHierarchyMetadata(Path directory, ModuleTypeHierarchyMetadata moduleTypeHierarchyMetadata, int filePathVersion, int serializerVersion)
+    {
+        Objects.requireNonNull(directory, "directory is required");
+        Objects.requireNonNull(moduleTypeHierarchyMetadata, "module type hierarchy metadata is required");
+
+        long start = System.nanoTime();
+        Path filePath = this.filePathProvider.getModuleTypeHierarchyMetadataFilePath(directory, moduleTypeHierarchyMetadata.getModuleName(), filePathVersion);
+        if (filePath == null)
+        {
+            LOGGER.debug("Not serializing module {} type hierarchy metadata: not supported by file path version {}", moduleTypeHierarchyMetadata.getModuleName(), filePathVersion);
+            return null;
+        }
+        LOGGER.debug("Serializing module {} type hierarchy metadata to {}", moduleTypeHierarchyMetadata.getModuleName(), filePath);
+        try
+        {
+            write(moduleTypeHierarchyMetadata.getModuleName(), filePath, stream -> this.moduleSerializer.serializeTypeHierarchyMetadata(stream, moduleTypeHierarchyMetadata, serializerVersion));
+        }
+        catch (Exception e)
+        {
+            LOGGER.error("Error serializing module {} type hierarchy metadata to {}", moduleTypeHierarchyMetadata.getModuleName(), filePath, e);
+            StringBuilder builder = new StringBuilder("Error serializing type hierarchy metadata for module ").append(moduleTypeHierarchyMetadata.getModuleName()).append(" to ").append(filePath);
+            String eMessage = e.getMessage();
+            if (eMessage != null)
+            {
+                builder.append(": ").append(eMessage);
+            }
+            throw (e instanceof IOException) ? new UncheckedIOException(builder.toString(), (IOException) e) : new RuntimeException(builder.toString(), e);
+        }
+        finally
+        {
+            long end = System.nanoTime();
+            LOGGER.debug("Finished serializing module {} type hierarchy metadata to {} in {}s", moduleTypeHierarchyMetadata.getModuleName(), filePath, (end - start) / 1_000_000_000.0);
+        }
+        return filePath;
+    }
+
+    // Serialize module type hierarchy metadata to zip
+
+    public String serializeModuleTypeHierarchyMetadata(ZipOutputStream zipStream, ModuleTypeHierarchyMetadata moduleTypeHierarchyMetadata)
+    {
+        return serializeModuleTypeHierarchyMetadata(zipStream, moduleTypeHierarchyMetadata, this.filePathProvider.getDefaultVersion(), this.moduleSerializer.getDefaultVersion());
+    }
+
+    public String serializeModuleTypeHierarchyMetadata(ZipOutputStream zipStream, ModuleTypeHierarchyMetadata moduleTypeHierarchyMetadata, int filePathVersion, int serializerVersion)
+    {
+        Objects.requireNonNull(zipStream, "zip stream is required");
+        Objects.requireNonNull(moduleTypeHierarchyMetadata, "module type hierarchy metadata is required");
+
+        long start = System.nanoTime();
+        String entryName = this.filePathProvider.getModuleTypeHierarchyMetadataFilePath(moduleTypeHierarchyMetadata.getModuleName(), "/", filePathVersion);
+        if (entryName == null)
+        {
+            LOGGER.debug("Not serializing module {} type hierarchy metadata: not supported by file path version {}", moduleTypeHierarchyMetadata.getModuleName(), filePathVersion);
+            return null;
+        }
+        LOGGER.debug("Serializing module {} type hierarchy metadata to zip entry '{}'", moduleTypeHierarchyMetadata.getModuleName(), entryName);
+        try
+        {
+            zipStream.putNextEntry(new ZipEntry(entryName));
+            this.moduleSerializer.serializeTypeHierarchyMetadata(zipStream, moduleTypeHierarchyMetadata, serializerVersion);
+            zipStream.closeEntry();
+        }
+        catch (Exception e)
+        {
+            LOGGER.error("Error serializing module {} type hierarchy metadata to zip entry '{}'", moduleTypeHierarchyMetadata.getModuleName(), entryName, e);
+            StringBuilder builder = new StringBuilder("Error serializing type hierarchy metadata for module ").append(moduleTypeHierarchyMetadata.getModuleName()).append(" to ").append(entryName);
+            String eMessage = e.getMessage();
+            if (eMessage != null)
+            {
+                builder.append(": ").append(eMessage);
+            }
+            throw (e instanceof IOException) ? new UncheckedIOException(builder.toString(), (IOException) e) : new RuntimeException(builder.toString(), e);
+        }
+        finally
+        {
+            long end = System.nanoTime();
+            LOGGER.debug("Finished serializing module {} type hierarchy metadata to zip entry '{}' in {}s", moduleTypeHierarchyMetadata.getModuleName(), entryName, (end - start) / 1_000_000_000.0);
+        }
+        return entryName;
+    }
+
     // Atomic file write helper
 
     /**
@@ -739,6 +1085,37 @@ public class FileSerializer
 
     private static final int COMPARE_BUFFER_SIZE = 8192;
 
+    private void write(String moduleName, Path targetPath, StreamWriter writer) throws IOException
+    {
+        if ((this.contentHashTracker == null) || (moduleName == null) || !this.contentHashTracker.tracks(targetPath))
+        {
+            writeIfModified(targetPath, writer);
+            return;
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try
+        {
+            writer.write(bytes);
+        }
+        catch (IOException e)
+        {
+            throw e;
+        }
+        catch (Exception e)
+        {
+            throw new RuntimeException(e);
+        }
+        if (this.contentHashTracker.recordAndCheckModified(moduleName, targetPath, bytes.toByteArray()))
+        {
+            writeIfModified(targetPath, bytes::writeTo);
+        }
+        else
+        {
+            LOGGER.debug("Skipping write of {} — content hash unchanged", targetPath);
+        }
+    }
+
     private static void writeIfModified(Path targetPath, StreamWriter writer) throws IOException
     {
         Files.createDirectories(targetPath.getParent());
@@ -816,6 +1193,42 @@ public class FileSerializer
         return true;
     }
 
+    // Incremental serialization
+
+    /**
+     * Create a new content hash tracker for incremental serialization to the given directory.
+     *
+     * @param directory target directory
+     * @return content hash tracker
+     * @see ContentHashTracker
+     * @see #withContentHashTracker
+     */
+    public ContentHashTracker newContentHashTracker(Path directory)
+    {
+        return newContentHashTracker(directory, this.filePathProvider.getDefaultVersion());
+    }
+
+    public ContentHashTracker newContentHashTracker(Path directory, int filePathVersion)
+    {
+        return new ContentHashTracker(directory, this.filePathProvider, filePathVersion);
+    }
+
+    /**
+     * Get a file serializer which is the same as this one, except that files serialized to the content hash tracker's
+     * directory are only written if their content has changed since the previous serialization. The tracker's
+     * {@link ContentHashTracker#finish() finish} method must be called when serialization is complete. Pass null to
+     * get a file serializer without incremental serialization.
+     *
+     * @param tracker content hash tracker (may be null)
+     * @return file serializer using the tracker
+     */
+    public FileSerializer withContentHashTracker(ContentHashTracker tracker)
+    {
+        return (tracker == this.contentHashTracker) ?
+               this :
+               new FileSerializer(this.filePathProvider, this.elementSerializer, this.moduleSerializer, this.maxElementSegmentSize, tracker);
+    }
+
     // Miscellaneous
 
     public FileDeserializer getDeserializer()
@@ -839,6 +1252,7 @@ public class FileSerializer
         private FilePathProvider filePathProvider;
         private ConcreteElementSerializer elementSerializer;
         private ModuleMetadataSerializer moduleSerializer;
+        private int maxElementSegmentSize = DEFAULT_MAX_ELEMENT_SEGMENT_SIZE;
 
         private Builder()
         {
@@ -868,12 +1282,22 @@ public class FileSerializer
                     .withModuleMetadataSerializer(moduleSerializer);
         }
 
+        public Builder withMaxElementSegmentSize(int maxElementSegmentSize)
+        {
+            if (maxElementSegmentSize <= 0)
+            {
+                throw new IllegalArgumentException("Invalid max element segment size: " + maxElementSegmentSize);
+            }
+            this.maxElementSegmentSize = maxElementSegmentSize;
+            return this;
+        }
+
         public FileSerializer build()
         {
             Objects.requireNonNull(this.filePathProvider, "file path provider is required");
             Objects.requireNonNull(this.elementSerializer, "concrete element serializer is required");
             Objects.requireNonNull(this.moduleSerializer, "module serializer is required");
-            return new FileSerializer(this.filePathProvider, this.elementSerializer, this.moduleSerializer);
+            return new FileSerializer(this.filePathProvider, this.elementSerializer, this.moduleSerializer, this.maxElementSegmentSize, null);
         }
     }
 }
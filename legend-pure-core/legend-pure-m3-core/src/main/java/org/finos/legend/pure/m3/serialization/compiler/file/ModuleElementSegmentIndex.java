@@ -0,0 +1,288 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.serialization.compiler.file;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.finos.legend.pure.m4.serialization.Reader;
+import org.finos.legend.pure.m4.serialization.Writer;
+import org.finos.legend.pure.m4.serialization.binary.BinaryReaders;
+import org.finos.legend.pure.m4.serialization.binary.BinaryWriters;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Index of the element segment files of a module. Element paths are held in sorted order, and for each element the
+ * index records the segment file which contains it, along with the offset and length of its serialized bytes within
+ * that segment.
+ */
+public class ModuleElementSegmentIndex
+{
+    static final long SEGMENT_SIGNATURE = Long.parseLong("PureSegment", 36);
+    static final int SEGMENT_HEADER_SIZE = Long.BYTES + Integer.BYTES;
+    static final int FORMAT_VERSION = 1;
+
+    private static final long INDEX_SIGNATURE = Long.parseLong("PureSegIndex", 36);
+
+    private final String moduleName;
+    private final int segmentCount;
+    private final String[] elementPaths;
+    private final int[] segments;
+    private final long[] offsets;
+    private final int[] lengths;
+
+    private ModuleElementSegmentIndex(String moduleName, int segmentCount, String[] elementPaths, int[] segments, long[] offsets, int[] lengths)
+    {
+        this.moduleName = moduleName;
+        this.segmentCount = segmentCount;
+        this.elementPaths = elementPaths;
+        this.segments = segments;
+        this.offsets = offsets;
+        this.lengths = lengths;
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+
+        if (!(other instanceof ModuleElementSegmentIndex))
+        {
+            return false;
+        }
+
+        ModuleElementSegmentIndex that = (ModuleElementSegmentIndex) other;
+        return this.moduleName.equals(that.moduleName) &&
+                (this.segmentCount == that.segmentCount) &&
+                Arrays.equals(this.elementPaths, that.elementPaths) &&
+                Arrays.equals(this.segments, that.segments) &&
+                Arrays.equals(this.offsets, that.offsets) &&
+                Arrays.equals(this.lengths, that.lengths);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return this.moduleName.hashCode() + 31 * Arrays.hashCode(this.elementPaths);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "<" + getClass().getSimpleName() + " moduleName='" + this.moduleName + "' segmentCount=" + this.segmentCount + " elementCount=" + this.elementPaths.length + ">";
+    }
+
+    public String getModuleName()
+    {
+        return this.moduleName;
+    }
+
+    public int getSegmentCount()
+    {
+        return this.segmentCount;
+    }
+
+    public int getElementCount()
+    {
+        return this.elementPaths.length;
+    }
+
+    public ImmutableList<String> getElementPaths()
+    {
+        return Lists.immutable.with(this.elementPaths);
+    }
+
+    public boolean hasElement(String elementPath)
+    {
+        return indexOf(elementPath) >= 0;
+    }
+
+    /**
+     * Get the segment containing the given element, or -1 if the element is not in the index.
+     *
+     * @param elementPath element path
+     * @return element segment or -1
+     */
+    public int getElementSegment(String elementPath)
+    {
+        int index = indexOf(elementPath);
+        return (index < 0) ? -1 : this.segments[index];
+    }
+
+    int indexOf(String elementPath)
+    {
+        return (elementPath == null) ? -1 : Math.max(-1, Arrays.binarySearch(this.elementPaths, elementPath));
+    }
+
+    int getSegment(int index)
+    {
+        return this.segments[index];
+    }
+
+    long getOffset(int index)
+    {
+        return this.offsets[index];
+    }
+
+    int getLength(int index)
+    {
+        return this.lengths[index];
+    }
+
+    void write(OutputStream stream)
+    {
+        try (Writer writer = BinaryWriters.newBinaryWriter(stream, false))
+        {
+            writer.writeLong(INDEX_SIGNATURE);
+            writer.writeInt(FORMAT_VERSION);
+            writer.writeString(this.moduleName);
+            writer.writeInt(this.segmentCount);
+            writer.writeInt(this.elementPaths.length);
+            for (int i = 0; i < this.elementPaths.length; i++)
+            {
+                writer.writeString(this.elementPaths[i]);
+                writer.writeInt(this.segments[i]);
+                writer.writeLong(this.offsets[i]);
+                writer.writeInt(this.lengths[i]);
+            }
+        }
+    }
+
+    static ModuleElementSegmentIndex read(InputStream stream)
+    {
+        try (Reader reader = BinaryReaders.newBinaryReader(stream, false))
+        {
+            long signature = reader.readLong();
+            if (signature != INDEX_SIGNATURE)
+            {
+                throw new IllegalArgumentException("Invalid file format: not a Legend module element segment index file");
+            }
+            int version = reader.readInt();
+            if (version != FORMAT_VERSION)
+            {
+                throw new IllegalArgumentException("Unknown module element segment index version: " + version);
+            }
+            String moduleName = reader.readString();
+            int segmentCount = reader.readInt();
+            int elementCount = reader.readInt();
+            String[] elementPaths = new String[elementCount];
+            int[] segments = new int[elementCount];
+            long[] offsets = new long[elementCount];
+            int[] lengths = new int[elementCount];
+            for (int i = 0; i < elementCount; i++)
+            {
+                elementPaths[i] = reader.readString();
+                segments[i] = reader.readInt();
+                offsets[i] = reader.readLong();
+                lengths[i] = reader.readInt();
+            }
+            return new ModuleElementSegmentIndex(moduleName, segmentCount, elementPaths, segments, offsets, lengths);
+        }
+    }
+
+    public static Builder builder(String moduleName)
+    {
+        return new Builder(moduleName);
+    }
+
+    public static class Builder
+    {
+        private final String moduleName;
+        private final MutableList<Entry> entries = Lists.mutable.empty();
+        private int segmentCount = 0;
+
+        private Builder(String moduleName)
+        {
+            this.moduleName = Objects.requireNonNull(moduleName, "module name is required");
+        }
+
+        public Builder withElement(String elementPath, int segment, long offset, int length)
+        {
+            Objects.requireNonNull(elementPath, "element path is required");
+            if (segment < 0)
+            {
+                throw new IllegalArgumentException("Invalid segment for " + elementPath + ": " + segment);
+            }
+            if (offset < SEGMENT_HEADER_SIZE)
+            {
+                throw new IllegalArgumentException("Invalid offset for " + elementPath + ": " + offset);
+            }
+            if (length < 0)
+            {
+                throw new IllegalArgumentException("Invalid length for " + elementPath + ": " + length);
+            }
+            this.entries.add(new Entry(elementPath, segment, offset, length));
+            this.segmentCount = Math.max(this.segmentCount, segment + 1);
+            return this;
+        }
+
+        public Builder withSegmentCount(int segmentCount)
+        {
+            if (segmentCount < this.segmentCount)
+            {
+                throw new IllegalArgumentException("Invalid segment count: " + segmentCount + " (elements are present in " + this.segmentCount + " segments)");
+            }
+            this.segmentCount = segmentCount;
+            return this;
+        }
+
+        public ModuleElementSegmentIndex build()
+        {
+            this.entries.sortThis(Comparator.comparing(e -> e.elementPath));
+            int size = this.entries.size();
+            String[] elementPaths = new String[size];
+            int[] segments = new int[size];
+            long[] offsets = new long[size];
+            int[] lengths = new int[size];
+            for (int i = 0; i < size; i++)
+            {
+                Entry entry = this.entries.get(i);
+                if ((i > 0) && entry.elementPath.equals(elementPaths[i - 1]))
+                {
+                    throw new IllegalStateException("Multiple entries for element: " + entry.elementPath);
+                }
+                elementPaths[i] = entry.elementPath;
+                segments[i] = entry.segment;
+                offsets[i] = entry.offset;
+                lengths[i] = entry.length;
+            }
+            return new ModuleElementSegmentIndex(this.moduleName, this.segmentCount, elementPaths, segments, offsets, lengths);
+        }
+    }
+
+    private static class Entry
+    {
+        private final String elementPath;
+        private final int segment;
+        private final long offset;
+        private final int length;
+
+        private Entry(String elementPath, int segment, long offset, int length)
+        {
+            this.elementPath = elementPath;
+            this.segment = segment;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+}
@@ -0,0 +1,308 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.serialization.compiler.file;
+
+import org.finos.legend.pure.m3.serialization.compiler.element.ConcreteElementDeserializer;
+import org.finos.legend.pure.m3.serialization.compiler.element.DeserializedConcreteElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Random access to the elements of a module which were serialized into element segment files. Segments are loaded
+ * lazily, the first time an element in them is requested, and are then held for the lifetime of this object: segment
+ * files in a directory are memory-mapped, while segment resources are memory-mapped when they are plain files and
+ * otherwise read in full from their jar entry. Loading an element is then a lookup in the index followed by a
+ * decode of the element's bytes. Instances are thread safe.
+ */
+public abstract class ModuleElementSegments
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(ModuleElementSegments.class);
+
+    private final ModuleElementSegmentIndex index;
+    private final ConcreteElementDeserializer elementDeserializer;
+    private final AtomicReferenceArray<ByteBuffer> segmentBuffers;
+
+    private ModuleElementSegments(ModuleElementSegmentIndex index, ConcreteElementDeserializer elementDeserializer)
+    {
+        this.index = Objects.requireNonNull(index);
+        this.elementDeserializer = Objects.requireNonNull(elementDeserializer);
+        this.segmentBuffers = new AtomicReferenceArray<>(index.getSegmentCount());
+    }
+
+    public String getModuleName()
+    {
+        return this.index.getModuleName();
+    }
+
+    public ModuleElementSegmentIndex getIndex()
+    {
+        return this.index;
+    }
+
+    public boolean hasElement(String elementPath)
+    {
+        return this.index.hasElement(elementPath);
+    }
+
+    /**
+     * Deserialize an element from the module's segments. Throws an {@link ElementNotFoundException} if the element is
+     * not in the segment index.
+     *
+     * @param elementPath element path
+     * @return deserialized element
+     * @throws ElementNotFoundException if the element cannot be found
+     */
+    public DeserializedConcreteElement deserializeElement(String elementPath)
+    {
+        int i = this.index.indexOf(elementPath);
+        if (i < 0)
+        {
+            throw new ElementNotFoundException(elementPath, "not in the element segments of module " + getModuleName());
+        }
+
+        int segment = this.index.getSegment(i);
+        long start = System.nanoTime();
+        LOGGER.debug("Deserializing {} from {}", elementPath, describeSegment(segment));
+        try
+        {
+            ByteBuffer buffer = getSegmentBuffer(segment).duplicate();
+            int offset = (int) this.index.getOffset(i);
+            ((Buffer) buffer).limit(offset + this.index.getLength(i));
+            ((Buffer) buffer).position(offset);
+            return this.elementDeserializer.deserialize(new ByteBufferInputStream(buffer));
+        }
+        catch (Exception e)
+        {
+            LOGGER.error("Error deserializing {} from {}", elementPath, describeSegment(segment), e);
+            StringBuilder builder = new StringBuilder("Error deserializing element ").append(elementPath).append(" from ").append(describeSegment(segment));
+            String eMessage = e.getMessage();
+            if (eMessage != null)
+            {
+                builder.append(": ").append(eMessage);
+            }
+            throw (e instanceof UncheckedIOException) ? new UncheckedIOException(builder.toString(), ((UncheckedIOException) e).getCause()) : new RuntimeException(builder.toString(), e);
+        }
+        finally
+        {
+            long end = System.nanoTime();
+            LOGGER.debug("Finished deserializing {} from {} in {}s", elementPath, describeSegment(segment), (end - start) / 1_000_000_000.0);
+        }
+    }
+
+    private ByteBuffer getSegmentBuffer(int segment)
+    {
+        ByteBuffer buffer = this.segmentBuffers.get(segment);
+        if (buffer == null)
+        {
+            long start = System.nanoTime();
+            LOGGER.debug("Loading {}", describeSegment(segment));
+            ByteBuffer loaded;
+            try
+            {
+                loaded = loadSegment(segment);
+            }
+            catch (IOException e)
+            {
+                throw new UncheckedIOException("Error loading " + describeSegment(segment), e);
+            }
+            if ((loaded.remaining() < ModuleElementSegmentIndex.SEGMENT_HEADER_SIZE) ||
+                    (loaded.getLong(0) != ModuleElementSegmentIndex.SEGMENT_SIGNATURE) ||
+                    (loaded.getInt(Long.BYTES) != ModuleElementSegmentIndex.FORMAT_VERSION))
+            {
+                throw new IllegalArgumentException("Invalid file format: " + describeSegment(segment) + " is not a Legend module element segment file");
+            }
+            buffer = this.segmentBuffers.compareAndSet(segment, null, loaded) ? loaded : this.segmentBuffers.get(segment);
+            long end = System.nanoTime();
+            LOGGER.debug("Finished loading {} ({} bytes) in {}s", describeSegment(segment), loaded.remaining(), (end - start) / 1_000_000_000.0);
+        }
+        return buffer;
+    }
+
+    abstract ByteBuffer loadSegment(int segment) throws IOException;
+
+    abstract String describeSegment(int segment);
+
+    static ModuleElementSegments fromDirectory(ModuleElementSegmentIndex index, ConcreteElementDeserializer elementDeserializer, FilePathProvider filePathProvider, int filePathVersion, Path directory)
+    {
+        return new DirectorySegments(index, elementDeserializer, filePathProvider, filePathVersion, directory);
+    }
+
+    static ModuleElementSegments fromClassLoader(ModuleElementSegmentIndex index, ConcreteElementDeserializer elementDeserializer, FilePathProvider filePathProvider, int filePathVersion, ClassLoader classLoader)
+    {
+        return new ClassLoaderSegments(index, elementDeserializer, filePathProvider, filePathVersion, classLoader);
+    }
+
+    private static ByteBuffer map(Path path) throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ))
+        {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private static class DirectorySegments extends ModuleElementSegments
+    {
+        private final FilePathProvider filePathProvider;
+        private final int filePathVersion;
+        private final Path directory;
+
+        private DirectorySegments(ModuleElementSegmentIndex index, ConcreteElementDeserializer elementDeserializer, FilePathProvider filePathProvider, int filePathVersion, Path directory)
+        {
+            super(index, elementDeserializer);
+            this.filePathProvider = filePathProvider;
+            this.filePathVersion = filePathVersion;
+            this.directory = directory;
+        }
+
+        @Override
+        ByteBuffer loadSegment(int segment) throws IOException
+        {
+            return map(getSegmentPath(segment));
+        }
+
+        @Override
+        String describeSegment(int segment)
+        {
+            return getSegmentPath(segment).toString();
+        }
+
+        private Path getSegmentPath(int segment)
+        {
+            return this.filePathProvider.getModuleElementSegmentFilePath(this.directory, getModuleName(), segment, this.filePathVersion);
+        }
+    }
+
+    private static class ClassLoaderSegments extends ModuleElementSegments
+    {
+        private final FilePathProvider filePathProvider;
+        private final int filePathVersion;
+        private final ClassLoader classLoader;
+
+        private ClassLoaderSegments(ModuleElementSegmentIndex index, ConcreteElementDeserializer elementDeserializer, FilePathProvider filePathProvider, int filePathVersion, ClassLoader classLoader)
+        {
+            super(index, elementDeserializer);
+            this.filePathProvider = filePathProvider;
+            this.filePathVersion = filePathVersion;
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        ByteBuffer loadSegment(int segment) throws IOException
+        {
+            String resourceName = getResourceName(segment);
+            URL url = this.classLoader.getResource(resourceName);
+            if (url == null)
+            {
+                throw new FileNotFoundException("cannot find resource " + resourceName);
+            }
+            if ("file".equalsIgnoreCase(url.getProtocol()))
+            {
+                try
+                {
+                    return map(Paths.get(url.toURI()));
+                }
+                catch (URISyntaxException | IllegalArgumentException e)
+                {
+                    LOGGER.debug("Could not map {}, reading it instead", url, e);
+                }
+            }
+            try (InputStream stream = url.openStream())
+            {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream(Math.max(8192, stream.available()));
+                byte[] buffer = new byte[8192];
+                int read;
+                while ((read = stream.read(buffer)) != -1)
+                {
+                    bytes.write(buffer, 0, read);
+                }
+                return ByteBuffer.wrap(bytes.toByteArray());
+            }
+        }
+
+        @Override
+        String describeSegment(int segment)
+        {
+            return "resource " + getResourceName(segment);
+        }
+
+        private String getResourceName(int segment)
+        {
+            return this.filePathProvider.getModuleElementSegmentResourceName(getModuleName(), segment, this.filePathVersion);
+        }
+    }
+
+    private static class ByteBufferInputStream extends InputStream
+    {
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer)
+        {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read()
+        {
+            return this.buffer.hasRemaining() ? (this.buffer.get() & 0xff) : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length)
+        {
+            if (length == 0)
+            {
+                return 0;
+            }
+            int remaining = this.buffer.remaining();
+            if (remaining == 0)
+            {
+                return -1;
+            }
+            int n = Math.min(length, remaining);
+            this.buffer.get(bytes, offset, n);
+            return n;
+        }
+
+        @Override
+        public long skip(long n)
+        {
+            int skipped = (int) Math.max(0, Math.min(n, this.buffer.remaining()));
+            ((Buffer) this.buffer).position(this.buffer.position() + skipped);
+            return skipped;
+        }
+
+        @Override
+        public int available()
+        {
+            return this.buffer.remaining();
+        }
+    }
+}
@@ -31,6 +31,10 @@ public class FilePathProviderExtensionV1 implements FilePathProviderExtension
     private static final String MODULE_EXT_REF_FILE_EXTENSION = ".pxr";
     private static final String MODULE_ELEMENT_BACK_REF_FILE_EXTENSION = ".pbr";
     private static final String MODULE_FUNCTION_NAME_FILE_EXTENSION = ".pfn";
+    private static final String MODULE_TYPE_HIERARCHY_FILE_EXTENSION = ".pth";
+    private static final String MODULE_ELEMENT_SEGMENT_FILE_EXTENSION = ".pseg";
+    private static final String MODULE_ELEMENT_SEGMENT_INDEX_FILE_EXTENSION = ".psx";
+    private static final String MODULE_CONTENT_HASH_FILE_EXTENSION = ".phash";
 
     @Override
     public int version()
@@ -84,6 +88,36 @@ public class FilePathProviderExtensionV1 implements FilePathProviderExtension
         return getModuleMetadataFilePath(moduleName, fsSeparator, MODULE_FUNCTION_NAME_FILE_EXTENSION);
     }
 
+    @Override
+    public String getModuleTypeHierarchyMetadataFilePath(String moduleName, String fsSeparator)
+    {
+        return getModuleMetadataFilePath(moduleName, fsSeparator, MODULE_TYPE_HIERARCHY_FILE_EXTENSION);
+    }
+
+    @Override
+    public String getModuleElementSegmentFilePath(String moduleName, int segment, String fsSeparator)
+    {
+        if (segment < 0)
+        {
+            throw new IllegalArgumentException("Invalid segment: " + segment);
+        }
+        StringBuilder builder = new StringBuilder(moduleName.length() + MODULE_ELEMENT_SEGMENT_FILE_EXTENSION.length() + (MODULE_FILE_DIR.size() * fsSeparator.length()) + 40);
+        FilePathTools.appendFilePathName(appendModuleFileDir(builder, fsSeparator), moduleName).append(fsSeparator);
+        return builder.append("segment_").append(segment).append(MODULE_ELEMENT_SEGMENT_FILE_EXTENSION).toString();
+    }
+
+    @Override
+    public String getModuleElementSegmentIndexFilePath(String moduleName, String fsSeparator)
+    {
+        return getModuleMetadataFilePath(moduleName, fsSeparator, MODULE_ELEMENT_SEGMENT_INDEX_FILE_EXTENSION);
+    }
+
+    @Override
+    public String getModuleContentHashFilePath(String moduleName, String fsSeparator)
+    {
+        return getModuleMetadataFilePath(moduleName, fsSeparator, MODULE_CONTENT_HASH_FILE_EXTENSION);
+    }
+
     private String getModuleMetadataFilePath(String moduleName, String fsSeparator, String extension)
     {
         StringBuilder builder = new StringBuilder(moduleName.length() + extension.length() + (MODULE_FILE_DIR.size() * fsSeparator.length()) + 24);
@@ -136,4 +136,22 @@ public abstract class BaseModuleMetadataSerializerExtension implements ModuleMet
         stringSet.addAllIterable(backRefIndex.getElementPaths());
         return stringSet;
     }
+
+    protected static MutableSet<String> collectStrings(ModuleTypeHierarchyMetadata typeHierarchy)
+    {
+        MutableSet<String> stringSet = Sets.mutable.empty();
+        stringSet.add(typeHierarchy.getModuleName());
+        stringSet.addAll(typeHierarchy.getAvailableModules().castToList());
+        typeHierarchy.getTypes().forEach(type ->
+        {
+            stringSet.add(type.getTypeId());
+            stringSet.addAll(type.getGeneralizations().castToList());
+            type.getPropertiesByName().forEachKeyValue((name, id) ->
+            {
+                stringSet.add(name);
+                stringSet.add(id);
+            });
+        });
+        return stringSet;
+    }
 }
@@ -0,0 +1,80 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.serialization.compiler.metadata;
+
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.set.MutableSet;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+public class ModuleManifests
+{
+    private ModuleManifests()
+    {
+    }
+
+    /**
+     * Compute the names of the modules required to load the given entry point elements: the modules which contain
+     * the entry points, along with their transitive dependencies. Since elements may only reference elements in their
+     * own module or in its dependencies, all the elements reachable from the entry points are in these modules.
+     * Dependencies which are not among the given modules are included, even though they have no manifest.
+     *
+     * @param modules     module manifests
+     * @param entryPoints paths of the entry point elements
+     * @return names of the required modules
+     * @throws IllegalArgumentException if any entry point is not an element of any of the modules
+     */
+    public static MutableSet<String> getRequiredModuleNames(Iterable<? extends ModuleManifest> modules, Iterable<? extends String> entryPoints)
+    {
+        MutableSet<String> remainingEntryPoints = Sets.mutable.withAll(entryPoints);
+        MutableMap<String, ModuleManifest> modulesByName = Maps.mutable.empty();
+        Deque<String> toVisit = new ArrayDeque<>();
+        modules.forEach(module ->
+        {
+            modulesByName.put(module.getModuleName(), module);
+            if (remainingEntryPoints.notEmpty())
+            {
+                int before = remainingEntryPoints.size();
+                module.forEachElement(e -> remainingEntryPoints.remove(e.getPath()));
+                if (remainingEntryPoints.size() < before)
+                {
+                    toVisit.add(module.getModuleName());
+                }
+            }
+        });
+        if (remainingEntryPoints.notEmpty())
+        {
+            throw new IllegalArgumentException(remainingEntryPoints.toSortedList().makeString("Entry point elements not found: ", ", ", ""));
+        }
+
+        MutableSet<String> required = Sets.mutable.empty();
+        while (!toVisit.isEmpty())
+        {
+            String moduleName = toVisit.pollFirst();
+            if (required.add(moduleName))
+            {
+                ModuleManifest module = modulesByName.get(moduleName);
+                if (module != null)
+                {
+                    toVisit.addAll(module.getDependencies().castToList());
+                }
+            }
+        }
+        return required;
+    }
+}
@@ -17,8 +17,18 @@ package org.finos.legend.pure.m3.serialization.compiler.metadata;
 import org.eclipse.collections.api.LazyIterable;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.set.SetIterable;
+import org.finos.legend.pure.m3.navigation.M3Paths;
+import org.finos.legend.pure.m3.navigation.M3Properties;
+import org.finos.legend.pure.m3.navigation.ProcessorSupport;
+import org.finos.legend.pure.m3.navigation._class._Class;
+import org.finos.legend.pure.m3.navigation.type.Type;
 import org.finos.legend.pure.m3.serialization.compiler.ModuleHelper;
 import org.finos.legend.pure.m3.serialization.compiler.reference.ReferenceIdProvider;
 import org.finos.legend.pure.m3.serialization.compiler.reference.ReferenceIdProviders;
@@ -26,6 +36,7 @@ import org.finos.legend.pure.m3.serialization.filesystem.repository.CodeReposito
 import org.finos.legend.pure.m3.serialization.filesystem.repository.GenericCodeRepository;
 import org.finos.legend.pure.m3.serialization.runtime.PureRuntime;
 import org.finos.legend.pure.m3.tools.GraphTools;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 
 import java.util.Arrays;
 import java.util.Objects;
@@ -35,6 +46,7 @@ public class ModuleMetadataGenerator
     private final PureRuntime runtime;
     private final ConcreteElementMetadataGenerator elementGenerator;
     private final SourceMetadataGenerator sourceGenerator;
+    private final ReferenceIdProvider referenceIdProvider;
     private final int referenceIdVersion;
 
     private ModuleMetadataGenerator(PureRuntime runtime, ReferenceIdProvider referenceIdProvider)
@@ -42,6 +54,7 @@ public class ModuleMetadataGenerator
         this.runtime = runtime;
         this.elementGenerator = new ConcreteElementMetadataGenerator(referenceIdProvider, runtime.getProcessorSupport());
         this.sourceGenerator = new SourceMetadataGenerator();
+        this.referenceIdProvider = referenceIdProvider;
         this.referenceIdVersion = referenceIdProvider.version();
     }
 
@@ -144,6 +157,115 @@ public class ModuleMetadataGenerator
         return generateModuleMetadata(includeRootModule ? repos : repos.select(ModuleHelper::isNonRootModule));
     }
 
+    public ModuleTypeHierarchyMetadata generateTypeHierarchyMetadata(String name)
+    {
+        String moduleName = ModuleHelper.resolveModuleName(name);
+        SetIterable<String> visibleModules = getVisibleModules(moduleName);
+        ModuleTypeHierarchyMetadata.Builder builder = typeHierarchyMetadataBuilder(moduleName, visibleModules);
+        GraphTools.getTopLevelAndPackagedElements(this.runtime.getProcessorSupport()).forEach(e ->
+        {
+            if (ModuleHelper.isElementInModule(e, moduleName))
+            {
+                computeTypeHierarchy(builder, visibleModules, e);
+            }
+        });
+        return builder.build();
+    }
+
+    public MutableList<ModuleTypeHierarchyMetadata> generateTypeHierarchyMetadata(Iterable<? extends String> moduleNames)
+    {
+        MutableMap<String, ModuleTypeHierarchyMetadata.Builder> buildersByModule = Maps.mutable.empty();
+        MutableMap<String, SetIterable<String>> visibleModulesByModule = Maps.mutable.empty();
+        moduleNames.forEach(name ->
+        {
+            String moduleName = ModuleHelper.resolveModuleName(name);
+            SetIterable<String> visibleModules = getVisibleModules(moduleName);
+            buildersByModule.put(moduleName, typeHierarchyMetadataBuilder(moduleName, visibleModules));
+            visibleModulesByModule.put(moduleName, visibleModules);
+        });
+        if (buildersByModule.isEmpty())
+        {
+            return Lists.mutable.empty();
+        }
+        GraphTools.getTopLevelAndPackagedElements(this.runtime.getProcessorSupport()).forEach(element ->
+        {
+            String moduleName = ModuleHelper.getElementModule(element);
+            if (moduleName != null)
+            {
+                ModuleTypeHierarchyMetadata.Builder builder = buildersByModule.get(moduleName);
+                if (builder != null)
+                {
+                    computeTypeHierarchy(builder, visibleModulesByModule.get(moduleName), element);
+                }
+            }
+        });
+        return buildersByModule.collect(ModuleTypeHierarchyMetadata.Builder::build, Lists.mutable.ofInitialCapacity(buildersByModule.size()));
+    }
+
+    private void computeTypeHierarchy(ModuleTypeHierarchyMetadata.Builder builder, SetIterable<String> visibleModules, CoreInstance element)
+    {
+        ProcessorSupport processorSupport = this.runtime.getProcessorSupport();
+        if (!processorSupport.instance_instanceOf(element, M3Paths.Type))
+        {
+            return;
+        }
+
+        // Only types whose whole linearization can be referenced are included
+        ListIterable<CoreInstance> generalizations = Type.getGeneralizationResolutionOrder(element, processorSupport);
+        if (!generalizations.allSatisfy(this.referenceIdProvider::hasReferenceId))
+        {
+            return;
+        }
+
+        TypeHierarchyMetadata.Builder typeBuilder = TypeHierarchyMetadata.builder().withTypeId(this.referenceIdProvider.getReferenceId(element));
+        generalizations.forEach(g -> typeBuilder.addGeneralization(this.referenceIdProvider.getReferenceId(g)));
+        if (_Class.isClass(element, processorSupport))
+        {
+            // The property table is left empty (and so computed at runtime) if any property cannot be referenced, or
+            // comes from an association in a module which the class's module cannot see. This keeps the metadata for
+            // a module independent of which other modules happen to be loaded when it is generated.
+            MapIterable<String, CoreInstance> propertiesByName = processorSupport.class_getSimplePropertiesByName(element);
+            if (propertiesByName.allSatisfy(p -> this.referenceIdProvider.hasReferenceId(p) && isOwnerVisible(p, visibleModules)))
+            {
+                propertiesByName.forEachKeyValue((name, property) -> typeBuilder.addProperty(name, this.referenceIdProvider.getReferenceId(property)));
+            }
+        }
+        builder.addType(typeBuilder.build());
+    }
+
+    private boolean isOwnerVisible(CoreInstance property, SetIterable<String> visibleModules)
+    {
+        CoreInstance owner = property.getValueForMetaPropertyToOne(M3Properties.owner);
+        String ownerModule = (owner == null) ? null : ModuleHelper.getElementModule(owner);
+        return (ownerModule != null) && visibleModules.contains(ownerModule);
+    }
+
+    private SetIterable<String> getVisibleModules(String moduleName)
+    {
+        // The module itself and the modules it can see (its dependencies); these do not depend on what else is loaded
+        MutableSet<String> visibleModules = Sets.mutable.with(moduleName);
+        CodeRepository repository = ModuleHelper.isRootModule(moduleName) ? null : this.runtime.getCodeStorage().getRepository(moduleName);
+        if (repository != null)
+        {
+            this.runtime.getCodeStorage().getAllRepositories().forEach(r ->
+            {
+                if (repository.isVisible(r))
+                {
+                    visibleModules.add(r.getName());
+                }
+            });
+        }
+        return visibleModules;
+    }
+
+    private ModuleTypeHierarchyMetadata.Builder typeHierarchyMetadataBuilder(String moduleName, SetIterable<String> visibleModules)
+    {
+        return ModuleTypeHierarchyMetadata.builder()
+                .withModuleName(moduleName)
+                .withReferenceIdVersion(this.referenceIdVersion)
+                .withAvailableModules(visibleModules);
+    }
+
     int getReferenceIdVersion()
     {
         return this.referenceIdVersion;
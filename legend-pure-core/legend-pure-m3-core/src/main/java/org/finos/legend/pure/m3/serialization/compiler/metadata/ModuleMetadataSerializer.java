@@ -33,6 +33,7 @@ public class ModuleMetadataSerializer extends ExtensibleSerializer<ModuleMetadat
     private static final long PURE_ELEMENT_BACK_REFS_SIGNATURE = Long.parseLong("PureBackRefs", 36);
     private static final long PURE_BACK_REF_INDEX_SIGNATURE = Long.parseLong("PureBRIndex", 36);
     private static final long PURE_FUNCTION_NAMES_SIGNATURE = Long.parseLong("PureFuncName", 36);
+    private static final long PURE_TYPE_HIERARCHY_SIGNATURE = Long.parseLong("PureTypeHier", 36);
 
     private final StringIndexer stringIndexer;
 
@@ -270,6 +271,44 @@ public class ModuleMetadataSerializer extends ExtensibleSerializer<ModuleMetadat
         return extension.deserializeFunctionNameMetadata(stream, this.stringIndexer);
     }
 
+    // Type hierarchy metadata
+
+    public void serializeTypeHierarchyMetadata(OutputStream stream, ModuleTypeHierarchyMetadata typeHierarchyMetadata)
+    {
+        serializeTypeHierarchyMetadata(stream, typeHierarchyMetadata, getDefaultExtension());
+    }
+
+    public void serializeTypeHierarchyMetadata(OutputStream stream, ModuleTypeHierarchyMetadata typeHierarchyMetadata, int version)
+    {
+        serializeTypeHierarchyMetadata(stream, typeHierarchyMetadata, getExtension(version));
+    }
+
+    private void serializeTypeHierarchyMetadata(OutputStream stream, ModuleTypeHierarchyMetadata typeHierarchyMetadata, ModuleMetadataSerializerExtension extension)
+    {
+        try (Writer writer = BinaryWriters.newBinaryWriter(stream, false))
+        {
+            writer.writeLong(PURE_TYPE_HIERARCHY_SIGNATURE);
+            writer.writeInt(extension.version());
+        }
+        extension.serializeTypeHierarchyMetadata(stream, typeHierarchyMetadata, this.stringIndexer);
+    }
+
+    public ModuleTypeHierarchyMetadata deserializeTypeHierarchyMetadata(InputStream stream)
+    {
+        int version;
+        try (Reader reader = BinaryReaders.newBinaryReader(stream, false))
+        {
+            long signature = reader.readLong();
+            if (signature != PURE_TYPE_HIERARCHY_SIGNATURE)
+            {
+                throw new IllegalArgumentException("Invalid file format: not a Legend module type hierarchy metadata file");
+            }
+            version = reader.readInt();
+        }
+        ModuleMetadataSerializerExtension extension = getExtension(version);
+        return extension.deserializeTypeHierarchyMetadata(stream, this.stringIndexer);
+    }
+
     public static Builder builder()
     {
         return new Builder();
@@ -57,4 +57,15 @@ public interface ModuleMetadataSerializerExtension extends SerializerExtension
     void serializeFunctionNameMetadata(OutputStream stream, ModuleFunctionNameMetadata functionNameMetadata, StringIndexer stringIndexer);
 
     ModuleFunctionNameMetadata deserializeFunctionNameMetadata(InputStream stream, StringIndexer stringIndexer);
+
+    // Type hierarchy metadata (optional: by default, nothing is written and null is read, meaning no metadata)
+
+    default void serializeTypeHierarchyMetadata(OutputStream stream, ModuleTypeHierarchyMetadata typeHierarchyMetadata, StringIndexer stringIndexer)
+    {
+    }
+
+    default ModuleTypeHierarchyMetadata deserializeTypeHierarchyMetadata(InputStream stream, StringIndexer stringIndexer)
+    {
+        return null;
+    }
 }
@@ -0,0 +1,244 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.serialization.compiler.metadata;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.finos.legend.pure.m3.tools.ListHelper;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Precomputed type hierarchy information for the types of a module. This is optional metadata: it is used to populate
+ * the {@link org.finos.legend.pure.m3.compiler.Context Context} when a module is loaded, so that generalizations and
+ * property tables need not be recomputed.
+ * <br>
+ * Property tables include properties from associations, which may be defined in other modules. The modules that were
+ * available when the metadata was generated are recorded so that a loader can tell whether the property tables are
+ * still valid for the set of modules it is loading.
+ */
+public class ModuleTypeHierarchyMetadata
+{
+    private final String moduleName;
+    private final int referenceIdVersion;
+    private final ImmutableList<String> availableModules;
+    private final ImmutableList<TypeHierarchyMetadata> types;
+
+    private ModuleTypeHierarchyMetadata(String moduleName, int referenceIdVersion, ImmutableList<String> availableModules, ImmutableList<TypeHierarchyMetadata> types)
+    {
+        this.moduleName = moduleName;
+        this.referenceIdVersion = referenceIdVersion;
+        this.availableModules = availableModules;
+        this.types = types;
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+
+        if (!(other instanceof ModuleTypeHierarchyMetadata))
+        {
+            return false;
+        }
+
+        ModuleTypeHierarchyMetadata that = (ModuleTypeHierarchyMetadata) other;
+        return this.moduleName.equals(that.moduleName) &&
+                (this.referenceIdVersion == that.referenceIdVersion) &&
+                this.availableModules.equals(that.availableModules) &&
+                this.types.equals(that.types);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return this.moduleName.hashCode() + (31 * this.referenceIdVersion);
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder("<").append(getClass().getSimpleName())
+                .append(" moduleName='").append(this.moduleName).append("' referenceIdVersion=").append(this.referenceIdVersion);
+        this.availableModules.appendString(builder, " availableModules=[", ", ", "]");
+        builder.append(" types=[");
+        if (this.types.notEmpty())
+        {
+            this.types.forEach(t -> t.appendString(builder.append('{')).append("}, "));
+            builder.setLength(builder.length() - 2);
+        }
+        return builder.append("]>").toString();
+    }
+
+    public String getModuleName()
+    {
+        return this.moduleName;
+    }
+
+    public int getReferenceIdVersion()
+    {
+        return this.referenceIdVersion;
+    }
+
+    /**
+     * Modules which were available when the metadata was generated. The property tables are only valid if no other
+     * module is loaded, since another module could add properties through associations.
+     *
+     * @return available modules
+     */
+    public ImmutableList<String> getAvailableModules()
+    {
+        return this.availableModules;
+    }
+
+    public ImmutableList<TypeHierarchyMetadata> getTypes()
+    {
+        return this.types;
+    }
+
+    public static Builder builder()
+    {
+        return new Builder();
+    }
+
+    public static Builder builder(int typeCount)
+    {
+        return new Builder(typeCount);
+    }
+
+    public static class Builder
+    {
+        private String moduleName;
+        private Integer referenceIdVersion;
+        private final MutableList<String> availableModules = Lists.mutable.empty();
+        private final MutableList<TypeHierarchyMetadata> types;
+
+        private Builder()
+        {
+            this.types = Lists.mutable.empty();
+        }
+
+        private Builder(int typeCount)
+        {
+            this.types = Lists.mutable.ofInitialCapacity(typeCount);
+        }
+
+        public void setModuleName(String moduleName)
+        {
+            this.moduleName = moduleName;
+        }
+
+        public void setReferenceIdVersion(Integer referenceIdVersion)
+        {
+            this.referenceIdVersion = referenceIdVersion;
+        }
+
+        public void addAvailableModule(String module)
+        {
+            this.availableModules.add(Objects.requireNonNull(module, "module may not be null"));
+        }
+
+        public void addAvailableModules(Iterable<? extends String> modules)
+        {
+            modules.forEach(this::addAvailableModule);
+        }
+
+        public void addAvailableModules(String... modules)
+        {
+            addAvailableModules(Arrays.asList(modules));
+        }
+
+        public void addType(TypeHierarchyMetadata type)
+        {
+            this.types.add(Objects.requireNonNull(type, "type may not be null"));
+        }
+
+        public Builder withModuleName(String moduleName)
+        {
+            setModuleName(moduleName);
+            return this;
+        }
+
+        public Builder withReferenceIdVersion(Integer referenceIdVersion)
+        {
+            setReferenceIdVersion(referenceIdVersion);
+            return this;
+        }
+
+        public Builder withAvailableModules(Iterable<? extends String> modules)
+        {
+            addAvailableModules(modules);
+            return this;
+        }
+
+        public Builder withAvailableModules(String... modules)
+        {
+            addAvailableModules(modules);
+            return this;
+        }
+
+        public Builder withType(TypeHierarchyMetadata type)
+        {
+            addType(type);
+            return this;
+        }
+
+        public Builder withTypes(Iterable<? extends TypeHierarchyMetadata> types)
+        {
+            types.forEach(this::addType);
+            return this;
+        }
+
+        public ModuleTypeHierarchyMetadata build()
+        {
+            Objects.requireNonNull(this.moduleName, "module name may not be null");
+            Objects.requireNonNull(this.referenceIdVersion, "reference id version may not be null");
+            return new ModuleTypeHierarchyMetadata(this.moduleName, this.referenceIdVersion, ListHelper.sortAndRemoveDuplicates(this.availableModules).toImmutable(), buildTypes());
+        }
+
+        private ImmutableList<TypeHierarchyMetadata> buildTypes()
+        {
+            if (this.types.size() > 1)
+            {
+                this.types.sort(Comparator.comparing(TypeHierarchyMetadata::getTypeId));
+                int index = 1;
+                while (index < this.types.size())
+                {
+                    TypeHierarchyMetadata previous = this.types.get(index - 1);
+                    TypeHierarchyMetadata current = this.types.get(index);
+                    if (!previous.getTypeId().equals(current.getTypeId()))
+                    {
+                        index++;
+                    }
+                    else if (previous.equals(current))
+                    {
+                        this.types.remove(index);
+                    }
+                    else
+                    {
+                        throw new IllegalStateException("Conflicting type hierarchy metadata for " + current.getTypeId());
+                    }
+                }
+            }
+            return this.types.toImmutable();
+        }
+    }
+}
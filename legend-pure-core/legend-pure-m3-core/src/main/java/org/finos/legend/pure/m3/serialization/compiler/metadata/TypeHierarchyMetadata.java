@@ -0,0 +1,194 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.serialization.compiler.metadata;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.ImmutableMap;
+import org.eclipse.collections.api.map.MutableMap;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Precomputed type hierarchy information for a single type: the C3 linearization of its generalizations (starting
+ * with the type itself) and, for classes, its simple properties (including inherited properties and those from
+ * associations) indexed by property id. Types and properties are identified by reference id.
+ */
+public class TypeHierarchyMetadata
+{
+    private final String typeId;
+    private final ImmutableList<String> generalizations;
+    private final ImmutableMap<String, String> propertiesByName;
+
+    private TypeHierarchyMetadata(String typeId, ImmutableList<String> generalizations, ImmutableMap<String, String> propertiesByName)
+    {
+        this.typeId = typeId;
+        this.generalizations = generalizations;
+        this.propertiesByName = propertiesByName;
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+
+        if (!(other instanceof TypeHierarchyMetadata))
+        {
+            return false;
+        }
+
+        TypeHierarchyMetadata that = (TypeHierarchyMetadata) other;
+        return this.typeId.equals(that.typeId) &&
+                this.generalizations.equals(that.generalizations) &&
+                this.propertiesByName.equals(that.propertiesByName);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return this.typeId.hashCode() + (31 * this.generalizations.hashCode());
+    }
+
+    @Override
+    public String toString()
+    {
+        return appendString(new StringBuilder("<").append(getClass().getSimpleName()).append(' ')).append('>').toString();
+    }
+
+    StringBuilder appendString(StringBuilder builder)
+    {
+        builder.append("typeId='").append(this.typeId);
+        this.generalizations.appendString(builder, "' generalizations=[", ", ", "]");
+        builder.append(" propertiesByName={");
+        if (this.propertiesByName.notEmpty())
+        {
+            this.propertiesByName.keysView().toSortedList().forEach(name -> builder.append(name).append('=').append(this.propertiesByName.get(name)).append(", "));
+            builder.setLength(builder.length() - 2);
+        }
+        return builder.append('}');
+    }
+
+    public String getTypeId()
+    {
+        return this.typeId;
+    }
+
+    /**
+     * Generalization resolution order for the type. The first element is always the type itself.
+     *
+     * @return generalization reference ids
+     */
+    public ImmutableList<String> getGeneralizations()
+    {
+        return this.generalizations;
+    }
+
+    /**
+     * Simple properties of the type indexed by property id. This is empty for types which are not classes.
+     *
+     * @return property reference ids by property id
+     */
+    public ImmutableMap<String, String> getPropertiesByName()
+    {
+        return this.propertiesByName;
+    }
+
+    public static Builder builder()
+    {
+        return new Builder();
+    }
+
+    public static class Builder
+    {
+        private String typeId;
+        private final MutableList<String> generalizations = Lists.mutable.empty();
+        private final MutableMap<String, String> propertiesByName = Maps.mutable.empty();
+
+        private Builder()
+        {
+        }
+
+        public void setTypeId(String typeId)
+        {
+            this.typeId = typeId;
+        }
+
+        public void addGeneralization(String generalization)
+        {
+            this.generalizations.add(Objects.requireNonNull(generalization, "generalization may not be null"));
+        }
+
+        public void addGeneralizations(Iterable<? extends String> generalizations)
+        {
+            generalizations.forEach(this::addGeneralization);
+        }
+
+        public void addGeneralizations(String... generalizations)
+        {
+            addGeneralizations(Arrays.asList(generalizations));
+        }
+
+        public void addProperty(String name, String propertyId)
+        {
+            Objects.requireNonNull(name, "property name may not be null");
+            Objects.requireNonNull(propertyId, "property id may not be null");
+            String old = this.propertiesByName.put(name, propertyId);
+            if ((old != null) && !old.equals(propertyId))
+            {
+                throw new IllegalStateException("Conflicting properties for name '" + name + "': " + old + " and " + propertyId);
+            }
+        }
+
+        public Builder withTypeId(String typeId)
+        {
+            setTypeId(typeId);
+            return this;
+        }
+
+        public Builder withGeneralizations(Iterable<? extends String> generalizations)
+        {
+            addGeneralizations(generalizations);
+            return this;
+        }
+
+        public Builder withGeneralizations(String... generalizations)
+        {
+            addGeneralizations(generalizations);
+            return this;
+        }
+
+        public Builder withProperty(String name, String propertyId)
+        {
+            addProperty(name, propertyId);
+            return this;
+        }
+
+        public TypeHierarchyMetadata build()
+        {
+            Objects.requireNonNull(this.typeId, "type id may not be null");
+            if (this.generalizations.isEmpty() || !this.typeId.equals(this.generalizations.get(0)))
+            {
+                throw new IllegalStateException("Generalizations for " + this.typeId + " must start with the type itself: " + this.generalizations);
+            }
+            return new TypeHierarchyMetadata(this.typeId, this.generalizations.toImmutable(), this.propertiesByName.toImmutable());
+        }
+    }
+}
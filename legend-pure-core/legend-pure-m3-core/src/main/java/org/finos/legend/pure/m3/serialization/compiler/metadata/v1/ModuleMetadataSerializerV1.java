@@ -16,6 +16,7 @@ package org.finos.legend.pure.m3.serialization.compiler.metadata.v1;
 
 import org.eclipse.collections.api.factory.Sets;
 import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.set.MutableSet;
 import org.finos.legend.pure.m3.serialization.compiler.metadata.BackReference;
 import org.finos.legend.pure.m3.serialization.compiler.metadata.BackReferenceConsumer;
@@ -30,8 +31,10 @@ import org.finos.legend.pure.m3.serialization.compiler.metadata.ModuleExternalRe
 import org.finos.legend.pure.m3.serialization.compiler.metadata.ModuleFunctionNameMetadata;
 import org.finos.legend.pure.m3.serialization.compiler.metadata.ModuleManifest;
 import org.finos.legend.pure.m3.serialization.compiler.metadata.ModuleSourceMetadata;
+import org.finos.legend.pure.m3.serialization.compiler.metadata.ModuleTypeHierarchyMetadata;
 import org.finos.legend.pure.m3.serialization.compiler.metadata.SourceMetadata;
 import org.finos.legend.pure.m3.serialization.compiler.metadata.SourceSectionMetadata;
+import org.finos.legend.pure.m3.serialization.compiler.metadata.TypeHierarchyMetadata;
 import org.finos.legend.pure.m3.serialization.compiler.strings.StringIndexer;
 import org.finos.legend.pure.m4.coreinstance.SourceInformation;
 import org.finos.legend.pure.m4.serialization.Reader;
@@ -325,6 +328,48 @@ public class ModuleMetadataSerializerV1 extends BaseModuleMetadataSerializerExte
         }
     }
 
+    @Override
+    public void serializeTypeHierarchyMetadata(OutputStream stream, ModuleTypeHierarchyMetadata typeHierarchyMetadata, StringIndexer stringIndexer)
+    {
+        try (Writer writer = BinaryWriters.newBinaryWriter(stream, false))
+        {
+            Writer stringIndexedWriter = stringIndexer.writeStringIndex(writer, collectStrings(typeHierarchyMetadata));
+            stringIndexedWriter.writeString(typeHierarchyMetadata.getModuleName());
+            stringIndexedWriter.writeInt(typeHierarchyMetadata.getReferenceIdVersion());
+            ImmutableList<String> availableModules = typeHierarchyMetadata.getAvailableModules();
+            stringIndexedWriter.writeInt(availableModules.size());
+            availableModules.forEach(stringIndexedWriter::writeString);
+            ImmutableList<TypeHierarchyMetadata> types = typeHierarchyMetadata.getTypes();
+            stringIndexedWriter.writeInt(types.size());
+            types.forEach(type -> writeTypeHierarchy(stringIndexedWriter, type));
+        }
+    }
+
+    @Override
+    public ModuleTypeHierarchyMetadata deserializeTypeHierarchyMetadata(InputStream stream, StringIndexer stringIndexer)
+    {
+        try (Reader reader = BinaryReaders.newBinaryReader(stream, false))
+        {
+            Reader stringIndexedReader = stringIndexer.readStringIndex(reader);
+            String moduleName = stringIndexedReader.readString();
+            int referenceIdVersion = stringIndexedReader.readInt();
+            int moduleCount = stringIndexedReader.readInt();
+            ModuleTypeHierarchyMetadata.Builder builder = ModuleTypeHierarchyMetadata.builder()
+                    .withModuleName(moduleName)
+                    .withReferenceIdVersion(referenceIdVersion);
+            for (int i = 0; i < moduleCount; i++)
+            {
+                builder.addAvailableModule(stringIndexedReader.readString());
+            }
+            int typeCount = stringIndexedReader.readInt();
+            for (int i = 0; i < typeCount; i++)
+            {
+                builder.addType(readTypeHierarchy(stringIndexedReader));
+            }
+            return builder.build();
+        }
+    }
+
     private void writeElement(Writer writer, ConcreteElementMetadata element)
     {
         writer.writeString(element.getPath());
@@ -559,6 +604,38 @@ public class ModuleMetadataSerializerV1 extends BaseModuleMetadataSerializerExte
         return builder.build();
     }
 
+    private void writeTypeHierarchy(Writer writer, TypeHierarchyMetadata type)
+    {
+        writer.writeString(type.getTypeId());
+        ImmutableList<String> generalizations = type.getGeneralizations();
+        writer.writeInt(generalizations.size());
+        generalizations.forEach(writer::writeString);
+        MutableList<String> propertyNames = type.getPropertiesByName().keysView().toSortedList();
+        writer.writeInt(propertyNames.size());
+        propertyNames.forEach(name ->
+        {
+            writer.writeString(name);
+            writer.writeString(type.getPropertiesByName().get(name));
+        });
+    }
+
+    private TypeHierarchyMetadata readTypeHierarchy(Reader reader)
+    {
+        TypeHierarchyMetadata.Builder builder = TypeHierarchyMetadata.builder().withTypeId(reader.readString());
+        int generalizationCount = reader.readInt();
+        for (int i = 0; i < generalizationCount; i++)
+        {
+            builder.addGeneralization(reader.readString());
+        }
+        int propertyCount = reader.readInt();
+        for (int i = 0; i < propertyCount; i++)
+        {
+            String name = reader.readString();
+            builder.addProperty(name, reader.readString());
+        }
+        return builder.build();
+    }
+
     protected static MutableSet<String> collectStrings(ModuleManifest manifest)
     {
         MutableSet<String> stringSet = Sets.mutable.empty();
@@ -21,6 +21,7 @@ import org.finos.legend.pure.m3.serialization.compiler.metadata.ModuleFunctionNa
 import org.finos.legend.pure.m3.serialization.compiler.metadata.ModuleManifest;
 import org.finos.legend.pure.m3.serialization.compiler.metadata.ModuleMetadataSerializerExtension;
 import org.finos.legend.pure.m3.serialization.compiler.metadata.ModuleSourceMetadata;
+import org.finos.legend.pure.m3.serialization.compiler.metadata.ModuleTypeHierarchyMetadata;
 import org.finos.legend.pure.m3.serialization.compiler.metadata.v2.ModuleMetadataSerializerV2;
 import org.finos.legend.pure.m3.serialization.compiler.strings.StringIndexer;
 import org.finos.legend.pure.m3.tools.CompressorPool;
@@ -187,4 +188,28 @@ public class ModuleMetadataSerializerV3 implements ModuleMetadataSerializerExten
             return this.v2.deserializeBackReferenceIndex(new InflaterInputStream(stream, inflater), stringIndexer);
         }
     }
+
+    @Override
+    public void serializeTypeHierarchyMetadata(OutputStream stream, ModuleTypeHierarchyMetadata typeHierarchyMetadata, StringIndexer stringIndexer)
+    {
+        try (CompressorPool.CloseableDeflater deflater = CompressorPool.getInstance().borrowDeflater(COMPRESSION_LEVEL, true))
+        {
+            DeflaterOutputStream zipStream = new DeflaterOutputStream(stream, deflater);
+            this.v2.serializeTypeHierarchyMetadata(zipStream, typeHierarchyMetadata, stringIndexer);
+            zipStream.finish();
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public ModuleTypeHierarchyMetadata deserializeTypeHierarchyMetadata(InputStream stream, StringIndexer stringIndexer)
+    {
+        try (CompressorPool.CloseableInflater inflater = CompressorPool.getInstance().borrowInflater(true))
+        {
+            return this.v2.deserializeTypeHierarchyMetadata(new InflaterInputStream(stream, inflater), stringIndexer);
+        }
+    }
 }
@@ -0,0 +1,384 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.serialization.compiler.strings.v4;
+
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+import org.eclipse.collections.impl.factory.primitive.IntLists;
+import org.finos.legend.pure.m3.serialization.compiler.strings.StringReader;
+import org.finos.legend.pure.m4.serialization.Reader;
+
+import java.nio.charset.StandardCharsets;
+
+abstract class StringReaderV4 extends BaseStringIndex implements StringReader
+{
+    // string type code for each id
+    private final byte[] codes;
+    // two values for each id: offset and length for simple strings, otherwise the ids of the first two components
+    private final int[] values;
+    // strings reconstructed so far
+    private final String[] strings;
+    // UTF-8 bytes of all simple strings
+    private byte[] simpleStringBytes;
+    // key and value ids for keyed bracket indexed strings (indexed by the second value for the string)
+    private int[] keyedValues;
+
+    private StringReaderV4(int length)
+    {
+        this.codes = new byte[length];
+        this.values = new int[length * 2];
+        this.strings = new String[length];
+    }
+
+    @Override
+    public String readString(Reader reader)
+    {
+        int id = readStringId(reader);
+        return getString(id);
+    }
+
+    protected abstract int readStringId(Reader reader);
+
+    protected String getString(int id)
+    {
+        if (isSpecialStringId(id))
+        {
+            return getSpecialString(id);
+        }
+        checkId(id);
+        String string = this.strings[id];
+        if (string == null)
+        {
+            // racing threads compute equal strings, so there is no need to synchronize
+            this.strings[id] = string = buildString(id);
+        }
+        return string;
+    }
+
+    private void checkId(int id)
+    {
+        if ((id < 0) || (id >= this.strings.length))
+        {
+            throw new IllegalArgumentException("Unknown string: " + id);
+        }
+    }
+
+    private String buildString(int id)
+    {
+        int code = this.codes[id];
+        int first = this.values[2 * id];
+        int second = this.values[(2 * id) + 1];
+        switch (code & STRING_TYPE_MASK)
+        {
+            case SIMPLE_STRING:
+            {
+                return new String(this.simpleStringBytes, first, second, StandardCharsets.UTF_8);
+            }
+            case SOURCE_PATH_STRING:
+            case PACKAGE_PATH_STRING:
+            case DOT_DELIMITED_STRING:
+            case IMPORT_GROUP_STRING:
+            {
+                return getString(first) + getDelimiter(code) + getString(second);
+            }
+            case BRACKET_INDEXED_STRING:
+            {
+                switch (code & BRACKET_INDEX_TYPE_MASK)
+                {
+                    case SIMPLE_BRACKET_INDEX:
+                    {
+                        return getString(first) + '[' + getString(second) + ']';
+                    }
+                    case QUOTED_BRACKET_INDEX:
+                    {
+                        return getString(first) + "['" + getString(second) + "']";
+                    }
+                    case KEYED_BRACKET_INDEX:
+                    {
+                        return getString(first) + '[' + getString(this.keyedValues[second]) + "='" + getString(this.keyedValues[second + 1]) + "']";
+                    }
+                    default:
+                    {
+                        throw new RuntimeException(String.format("Unknown bracket indexed string type code: %02x", code & BRACKET_INDEX_TYPE_MASK));
+                    }
+                }
+            }
+            default:
+            {
+                throw new RuntimeException(String.format("Unknown string type code: %02x", code & STRING_TYPE_MASK));
+            }
+        }
+    }
+
+    private void deserialize(Reader reader)
+    {
+        this.simpleStringBytes = reader.readBytes(reader.readInt());
+        MutableIntList keyed = IntLists.mutable.empty();
+        int simpleStringOffset = 0;
+        for (int i = 0, len = this.codes.length; i < len; i++)
+        {
+            int code = reader.readByte();
+            int first;
+            int second;
+            switch (code & STRING_TYPE_MASK)
+            {
+                case SIMPLE_STRING:
+                {
+                    first = simpleStringOffset;
+                    second = readIntOfWidth(reader, code);
+                    simpleStringOffset += second;
+                    break;
+                }
+                case SOURCE_PATH_STRING:
+                case PACKAGE_PATH_STRING:
+                case DOT_DELIMITED_STRING:
+                case IMPORT_GROUP_STRING:
+                {
+                    first = readStringId(reader);
+                    second = readStringId(reader);
+                    break;
+                }
+                case BRACKET_INDEXED_STRING:
+                {
+                    first = readStringId(reader);
+                    switch (code & BRACKET_INDEX_TYPE_MASK)
+                    {
+                        case SIMPLE_BRACKET_INDEX:
+                        case QUOTED_BRACKET_INDEX:
+                        {
+                            second = readStringId(reader);
+                            break;
+                        }
+                        case KEYED_BRACKET_INDEX:
+                        {
+                            second = keyed.size();
+                            keyed.add(readStringId(reader));
+                            keyed.add(readStringId(reader));
+                            break;
+                        }
+                        default:
+                        {
+                            throw new RuntimeException(String.format("Unknown bracket indexed string type code: %02x", code & BRACKET_INDEX_TYPE_MASK));
+                        }
+                    }
+                    break;
+                }
+                default:
+                {
+                    throw new RuntimeException(String.format("Unknown string type code: %02x", code & STRING_TYPE_MASK));
+                }
+            }
+            this.codes[i] = (byte) code;
+            this.values[2 * i] = first;
+            this.values[(2 * i) + 1] = second;
+        }
+        if (simpleStringOffset != this.simpleStringBytes.length)
+        {
+            throw new RuntimeException("Simple string lengths (" + simpleStringOffset + ") do not match simple string block length (" + this.simpleStringBytes.length + ")");
+        }
+        this.keyedValues = keyed.toArray();
+    }
+
+    private static class OneByte extends StringReaderV4
+    {
+        private OneByte(int length)
+        {
+            super(length);
+        }
+
+        @Override
+        public void skipString(Reader reader)
+        {
+            reader.skipBytes(1);
+        }
+
+        @Override
+        public String[] readStringArray(Reader reader)
+        {
+            byte[] ids = reader.readByteArray();
+            int length = ids.length;
+            String[] strings = new String[length];
+            for (int i = 0; i < length; i++)
+            {
+                strings[i] = getString(oneByteToId(ids[i]));
+            }
+            return strings;
+        }
+
+        @Override
+        public void skipStringArray(Reader reader)
+        {
+            reader.skipByteArray();
+        }
+
+        @Override
+        protected int readStringId(Reader reader)
+        {
+            return oneByteToId(reader.readByte());
+        }
+    }
+
+    private static class TwoBytes extends StringReaderV4
+    {
+        private TwoBytes(int length)
+        {
+            super(length);
+        }
+
+        @Override
+        public void skipString(Reader reader)
+        {
+            reader.skipShort();
+        }
+
+        @Override
+        public String[] readStringArray(Reader reader)
+        {
+            short[] ids = reader.readShortArray();
+            int length = ids.length;
+            String[] strings = new String[length];
+            for (int i = 0; i < length; i++)
+            {
+                strings[i] = getString(twoBytesToId(ids[i]));
+            }
+            return strings;
+        }
+
+        @Override
+        public void skipStringArray(Reader reader)
+        {
+            reader.skipShortArray();
+        }
+
+        @Override
+        protected int readStringId(Reader reader)
+        {
+            return twoBytesToId(reader.readShort());
+        }
+    }
+
+    private static class ThreeBytes extends StringReaderV4
+    {
+        private ThreeBytes(int length)
+        {
+            super(length);
+        }
+
+        @Override
+        public void skipString(Reader reader)
+        {
+            reader.skipBytes(3);
+        }
+
+        @Override
+        public String[] readStringArray(Reader reader)
+        {
+            byte[] bytes = reader.readByteArray();
+            int length = bytes.length / 3;
+            String[] strings = new String[length];
+            for (int i = 0, j = 0; i < length; i++, j += 3)
+            {
+                strings[i] = getString(threeBytesToId(bytes, j));
+            }
+            return strings;
+        }
+
+        @Override
+        public void skipStringArray(Reader reader)
+        {
+            reader.skipByteArray();
+        }
+
+        @Override
+        protected int readStringId(Reader reader)
+        {
+            return threeBytesToId(reader.readBytes(3));
+        }
+    }
+
+    private static class FourBytes extends StringReaderV4
+    {
+        private FourBytes(int length)
+        {
+            super(length);
+        }
+
+        @Override
+        public void skipString(Reader reader)
+        {
+            reader.skipInt();
+        }
+
+        @Override
+        public String[] readStringArray(Reader reader)
+        {
+            int[] ids = reader.readIntArray();
+            int length = ids.length;
+            String[] strings = new String[length];
+            for (int i = 0; i < length; i++)
+            {
+                strings[i] = getString(ids[i]);
+            }
+            return strings;
+        }
+
+        @Override
+        public void skipStringArray(Reader reader)
+        {
+            reader.skipIntArray();
+        }
+
+        @Override
+        protected int readStringId(Reader reader)
+        {
+            return reader.readInt();
+        }
+    }
+
+    static StringReader readStringIndex(Reader reader)
+    {
+        int count = reader.readInt();
+        StringReaderV4 stringReader = newStringReader(count);
+        stringReader.deserialize(reader);
+        return stringReader;
+    }
+
+    private static StringReaderV4 newStringReader(int count)
+    {
+        int width = getStringIdByteWidth(count);
+        switch (width)
+        {
+            case 1:
+            {
+                return new OneByte(count);
+            }
+            case 2:
+            {
+                return new TwoBytes(count);
+            }
+            case 3:
+            {
+                return new ThreeBytes(count);
+            }
+            case 4:
+            {
+                return new FourBytes(count);
+            }
+            default:
+            {
+                throw new RuntimeException("Unsupported string id byte width: " + width);
+            }
+        }
+    }
+}
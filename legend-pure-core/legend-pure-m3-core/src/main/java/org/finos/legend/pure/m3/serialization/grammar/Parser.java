@@ -95,6 +95,18 @@ public interface Parser extends CoreInstanceFactoriesRegistry
      */
     ListIterable<String> getRequiredFiles();
 
+    /**
+     * Warm up the parser, for example by parsing representative
+     * code so that the shared ANTLR DFA caches are populated before
+     * the first real parse. This is done on a background thread
+     * when a runtime is initialized without parsing any sources
+     * (e.g., from a cache), so it may run concurrently with other
+     * parses. The default implementation does nothing.
+     */
+    default void warmUp()
+    {
+    }
+
     default Pair<?, RelationType<?>> resolveRelationElementAccessor(PackageableElement element, ListIterable<? extends String> path, SourceInformation sourceInformation, ModelRepository repository, ProcessorSupport processorSupport)
     {
         return null;
@@ -0,0 +1,464 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.serialization.grammar;
+
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.CommonTokenFactory;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenFactory;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.misc.Pair;
+import org.eclipse.collections.impl.list.mutable.primitive.IntArrayList;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * On-disk cache of lexer output, keyed by a hash of the lexer grammar and the code being lexed. When a cached token
+ * stream exists for some code, the tokens are replayed from disk instead of running the lexer; otherwise, the lexer is
+ * run as usual and its tokens are written to the cache once it reaches the end of the input without error.
+ * <p>
+ * Since the key includes the serialized ATN of the lexer, any change to the grammar invalidates existing entries. The
+ * cache is best effort: entries which cannot be read are treated as misses, and failures to write are ignored.
+ * <p>
+ * A default cache can be configured with the {@value #DIRECTORY_PROPERTY} system property or with
+ * {@link #setDefault(TokenStreamCache)}.
+ */
+public class TokenStreamCache
+{
+    public static final String DIRECTORY_PROPERTY = "pure.parser.tokenCacheDirectory";
+
+    private static final int DEFAULT_MIN_CODE_LENGTH = 512;
+
+    private static final int MAGIC = 0x50544B43;
+    private static final int FORMAT_VERSION = 1;
+    private static final int INTS_PER_TOKEN = 6;
+    private static final String FILE_EXTENSION = ".tokens";
+
+    private static volatile TokenStreamCache defaultCache = fromSystemProperty();
+
+    private final Path directory;
+    private final int minCodeLength;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong writes = new AtomicLong();
+
+    private TokenStreamCache(Path directory, int minCodeLength)
+    {
+        this.directory = directory;
+        this.minCodeLength = minCodeLength;
+    }
+
+    public Path getDirectory()
+    {
+        return this.directory;
+    }
+
+    public long getHitCount()
+    {
+        return this.hits.get();
+    }
+
+    public long getMissCount()
+    {
+        return this.misses.get();
+    }
+
+    public long getWriteCount()
+    {
+        return this.writes.get();
+    }
+
+    /**
+     * Get a token source for the given lexer. The lexer must have been created for exactly the given code. If the
+     * code is too short to be worth caching, the lexer itself is returned.
+     *
+     * @param lexer lexer for the code
+     * @param code  code
+     * @return token source for the code
+     */
+    public TokenSource getTokenSource(Lexer lexer, String code)
+    {
+        if (code.length() < this.minCodeLength)
+        {
+            return lexer;
+        }
+
+        String key = computeKey(lexer, code);
+        if (key == null)
+        {
+            // without a serialized ATN there is no way to detect grammar changes
+            return lexer;
+        }
+        Path file = this.directory.resolve(key + FILE_EXTENSION);
+        int[] tokenData = readTokenData(file, code.length());
+        if (tokenData == null)
+        {
+            this.misses.incrementAndGet();
+            return new RecordingTokenSource(lexer, file);
+        }
+        this.hits.incrementAndGet();
+        return new CachedTokenSource(tokenData, lexer.getInputStream());
+    }
+
+    private int[] readTokenData(Path file, int codeLength)
+    {
+        try (DataInputStream stream = new DataInputStream(new BufferedInputStream(Files.newInputStream(file))))
+        {
+            if ((stream.readInt() != MAGIC) || (stream.readInt() != FORMAT_VERSION) || (stream.readInt() != codeLength))
+            {
+                return null;
+            }
+            int size = stream.readInt();
+            if ((size <= 0) || ((size % INTS_PER_TOKEN) != 0))
+            {
+                return null;
+            }
+            int[] data = new int[size];
+            for (int i = 0; i < size; i++)
+            {
+                data[i] = stream.readInt();
+            }
+            // the last token must be EOF
+            return (data[size - INTS_PER_TOKEN] == Token.EOF) ? data : null;
+        }
+        catch (IOException e)
+        {
+            // missing or unreadable entries are treated as misses (and are overwritten)
+            return null;
+        }
+    }
+
+    private void writeTokenData(Path file, IntArrayList data, int codeLength)
+    {
+        Path tmp = null;
+        try
+        {
+            tmp = Files.createTempFile(this.directory, file.getFileName().toString(), ".tmp");
+            try (DataOutputStream stream = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp))))
+            {
+                stream.writeInt(MAGIC);
+                stream.writeInt(FORMAT_VERSION);
+                stream.writeInt(codeLength);
+                stream.writeInt(data.size());
+                for (int i = 0; i < data.size(); i++)
+                {
+                    stream.writeInt(data.get(i));
+                }
+            }
+            try
+            {
+                Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE);
+            }
+            catch (AtomicMoveNotSupportedException e)
+            {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            tmp = null;
+            this.writes.incrementAndGet();
+        }
+        catch (IOException ignore)
+        {
+            // the cache is best effort
+        }
+        finally
+        {
+            if (tmp != null)
+            {
+                try
+                {
+                    Files.deleteIfExists(tmp);
+                }
+                catch (IOException ignore)
+                {
+                    // ignore
+                }
+            }
+        }
+    }
+
+    private static String computeKey(Lexer lexer, String code)
+    {
+        String serializedATN;
+        try
+        {
+            serializedATN = lexer.getSerializedATN();
+        }
+        catch (UnsupportedOperationException e)
+        {
+            return null;
+        }
+
+        MessageDigest digest;
+        try
+        {
+            digest = MessageDigest.getInstance("SHA-256");
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            throw new RuntimeException(e);
+        }
+        digest.update(lexer.getClass().getName().getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(serializedATN.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(code.getBytes(StandardCharsets.UTF_8));
+
+        byte[] bytes = digest.digest();
+        StringBuilder builder = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes)
+        {
+            builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return builder.toString();
+    }
+
+    public static TokenStreamCache newCache(Path directory)
+    {
+        return newCache(directory, DEFAULT_MIN_CODE_LENGTH);
+    }
+
+    /**
+     * Create a new cache in the given directory, which is created if it does not exist. Code shorter than
+     * minCodeLength is never cached.
+     *
+     * @param directory     cache directory
+     * @param minCodeLength minimum length of code to cache
+     * @return token stream cache
+     */
+    public static TokenStreamCache newCache(Path directory, int minCodeLength)
+    {
+        if (minCodeLength < 0)
+        {
+            throw new IllegalArgumentException("Invalid minimum code length: " + minCodeLength);
+        }
+        try
+        {
+            Files.createDirectories(directory);
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException("Error creating token cache directory: " + directory, e);
+        }
+        return new TokenStreamCache(directory, minCodeLength);
+    }
+
+    /**
+     * Get the default token stream cache, or null if there is none.
+     *
+     * @return default cache or null
+     */
+    public static TokenStreamCache getDefault()
+    {
+        return defaultCache;
+    }
+
+    /**
+     * Set the default token stream cache. Pass null to disable caching.
+     *
+     * @param cache default cache (may be null)
+     */
+    public static void setDefault(TokenStreamCache cache)
+    {
+        defaultCache = cache;
+    }
+
+    private static TokenStreamCache fromSystemProperty()
+    {
+        String directory = System.getProperty(DIRECTORY_PROPERTY);
+        return ((directory == null) || directory.isEmpty()) ? null : newCache(Paths.get(directory));
+    }
+
+    private class RecordingTokenSource implements TokenSource
+    {
+        private final Lexer lexer;
+        private final Path file;
+        private final IntArrayList data = new IntArrayList();
+        private boolean done = false;
+        private boolean error = false; // true if the token stream must not be cached
+
+        private RecordingTokenSource(Lexer lexer, Path file)
+        {
+            this.lexer = lexer;
+            this.file = file;
+            this.lexer.addErrorListener(new BaseErrorListener()
+            {
+                @Override
+                public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine, String msg, RecognitionException e)
+                {
+                    RecordingTokenSource.this.error = true;
+                }
+            });
+        }
+
+        @Override
+        public Token nextToken()
+        {
+            Token token = this.lexer.nextToken();
+            if (!this.done && !this.error && (token.getType() != Token.EOF) && !hasInputText(token))
+            {
+                // tokens with text set by lexer actions cannot be replayed from their positions
+                this.error = true;
+            }
+            if (!this.done)
+            {
+                this.data.add(token.getType());
+                this.data.add(token.getChannel());
+                this.data.add(token.getStartIndex());
+                this.data.add(token.getStopIndex());
+                this.data.add(token.getLine());
+                this.data.add(token.getCharPositionInLine());
+                if (token.getType() == Token.EOF)
+                {
+                    this.done = true;
+                    if (!this.error)
+                    {
+                        writeTokenData(this.file, this.data, this.lexer.getInputStream().size());
+                    }
+                }
+            }
+            return token;
+        }
+
+        private boolean hasInputText(Token token)
+        {
+            int start = token.getStartIndex();
+            int stop = token.getStopIndex();
+            String inputText = (start <= stop) ? this.lexer.getInputStream().getText(Interval.of(start, stop)) : "";
+            return inputText.equals(token.getText());
+        }
+
+        @Override
+        public int getLine()
+        {
+            return this.lexer.getLine();
+        }
+
+        @Override
+        public int getCharPositionInLine()
+        {
+            return this.lexer.getCharPositionInLine();
+        }
+
+        @Override
+        public CharStream getInputStream()
+        {
+            return this.lexer.getInputStream();
+        }
+
+        @Override
+        public String getSourceName()
+        {
+            return this.lexer.getSourceName();
+        }
+
+        @Override
+        public void setTokenFactory(TokenFactory<?> factory)
+        {
+            this.lexer.setTokenFactory(factory);
+        }
+
+        @Override
+        public TokenFactory<?> getTokenFactory()
+        {
+            return this.lexer.getTokenFactory();
+        }
+    }
+
+    private static class CachedTokenSource implements TokenSource
+    {
+        private final int[] data;
+        private final CharStream input;
+        private final Pair<TokenSource, CharStream> source;
+        private int index = 0;
+
+        private CachedTokenSource(int[] data, CharStream input)
+        {
+            this.data = data;
+            this.input = input;
+            this.source = new Pair<>(this, input);
+        }
+
+        @Override
+        public Token nextToken()
+        {
+            int i = this.index;
+            if (i + INTS_PER_TOKEN < this.data.length)
+            {
+                this.index = i + INTS_PER_TOKEN;
+            }
+            // once the end is reached, keep returning EOF
+            CommonToken token = new CommonToken(this.source, this.data[i], this.data[i + 1], this.data[i + 2], this.data[i + 3]);
+            token.setLine(this.data[i + 4]);
+            token.setCharPositionInLine(this.data[i + 5]);
+            return token;
+        }
+
+        @Override
+        public int getLine()
+        {
+            return this.data[this.index + 4];
+        }
+
+        @Override
+        public int getCharPositionInLine()
+        {
+            return this.data[this.index + 5];
+        }
+
+        @Override
+        public CharStream getInputStream()
+        {
+            return this.input;
+        }
+
+        @Override
+        public String getSourceName()
+        {
+            return this.input.getSourceName();
+        }
+
+        @Override
+        public void setTokenFactory(TokenFactory<?> factory)
+        {
+            // tokens are always created directly
+        }
+
+        @Override
+        public TokenFactory<?> getTokenFactory()
+        {
+            return CommonTokenFactory.DEFAULT;
+        }
+    }
+}
@@ -16,8 +16,7 @@ package org.finos.legend.pure.m3.serialization.grammar.m3parser.antlr;
 
 import org.antlr.v4.runtime.ANTLRInputStream;
 import org.antlr.v4.runtime.CommonTokenStream;
-import org.antlr.v4.runtime.RecognitionException;
-import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.TokenSource;
 import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Sets;
@@ -123,6 +122,7 @@ import org.finos.legend.pure.m3.navigation.PackageableElement.PackageableElement
 import org.finos.legend.pure.m3.navigation.ProcessorSupport;
 import org.finos.legend.pure.m3.serialization.grammar.Parser;
 import org.finos.legend.pure.m3.serialization.grammar.ParserLibrary;
+import org.finos.legend.pure.m3.serialization.grammar.TokenStreamCache;
 import org.finos.legend.pure.m3.serialization.grammar.m3parser.inlinedsl.InlineDSLLibrary;
 import org.finos.legend.pure.m3.serialization.grammar.m3parser.inlinedsl.treepath.NewPropertyRouteNodeFunctionDefinitionUnloaderWalk;
 import org.finos.legend.pure.m3.serialization.grammar.m3parser.inlinedsl.treepath.PropertyRouteNodeUnloaderWalk;
@@ -148,12 +148,49 @@ import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.serialization.grammar.antlr.AntlrDescriptiveErrorListener;
 import org.finos.legend.pure.m4.serialization.grammar.antlr.AntlrSourceInformation;
 import org.finos.legend.pure.m4.serialization.grammar.antlr.PureAntlrErrorStrategy;
+import org.finos.legend.pure.m4.serialization.grammar.antlr.PureAntlrParsing;
 import org.finos.legend.pure.m4.serialization.grammar.antlr.PureParserException;
 
 import java.lang.reflect.Field;
 
 public class M3AntlrParser implements Parser
 {
+    private static final String WARM_UP_CODE = "import meta::pure::warmup::*;\n" +
+            "\n" +
+            "Profile meta::pure::warmup::P\n" +
+            "{\n" +
+            "    stereotypes: [s];\n" +
+            "    tags: [t];\n" +
+            "}\n" +
+            "\n" +
+            "Enum meta::pure::warmup::E\n" +
+            "{\n" +
+            "    A, B\n" +
+            "}\n" +
+            "\n" +
+            "Class <<P.s>> {P.t = 'x'} meta::pure::warmup::C extends meta::pure::warmup::B\n" +
+            "[\n" +
+            "    c1: $this.name->isNotEmpty()\n" +
+            "]\n" +
+            "{\n" +
+            "    name : String[1];\n" +
+            "    values : Integer[*];\n" +
+            "    e : E[0..1];\n" +
+            "    total() { $this.values->fold({v, a | $v + $a}, 0) }: Integer[1];\n" +
+            "}\n" +
+            "\n" +
+            "Association meta::pure::warmup::A\n" +
+            "{\n" +
+            "    c : C[1];\n" +
+            "    d : C[*];\n" +
+            "}\n" +
+            "\n" +
+            "function meta::pure::warmup::f<T>(x : T[*], s : String[1]) : Boolean[1]\n" +
+            "{\n" +
+            "    let c = ^C(name = $s, values = [1, 2, 3]);\n" +
+            "    let l = {i : Integer[1] | $i * 2.5};\n" +
+            "    if ($c.values->map(v | $l->eval($v))->isEmpty(), | %2020-01-01 < now(), | ($s == 'a') && !true);\n" +
+            "}\n";
 
     private int offsetLine;
     private final InlineDSLLibrary inlineDSLLibrary;
@@ -198,25 +235,14 @@ public class M3AntlrParser implements Parser
 
     private void parseDefinition(boolean useFastParser, String code, String sourceName, ModelRepository repository, MutableList<CoreInstance> coreInstancesResult, M3M4StateListener listener, Context context, int count, boolean addLines, SourceState oldState)
     {
-        try
+        PureAntlrParsing.parse(org.finos.legend.pure.m3.serialization.grammar.m3parser.antlr.M3Parser.class, useFastParser, fastParser ->
         {
             AntlrSourceInformation sourceInformation = new AntlrSourceInformation(this.offsetLine, 0, sourceName, addLines);
-            org.finos.legend.pure.m3.serialization.grammar.m3parser.antlr.M3Parser parser = initAntlrParser(useFastParser, code, sourceInformation);
+            org.finos.legend.pure.m3.serialization.grammar.m3parser.antlr.M3Parser parser = initAntlrParser(fastParser, code, sourceInformation);
             final M3AntlrTreeWalker visitor = new M3AntlrTreeWalker(sourceInformation, this.inlineDSLLibrary, repository, coreInstancesResult, listener, context, null, count, this.useImportStubsInInstanceParser, addLines, oldState);
             visitor.visit(parser.definition());
-        }
-        catch (Exception e)
-        {
-            if (isAntlrRecognitionExceptionUsingFastParser(useFastParser, e))
-            {
-                //System.err.println("Error using fast Antlr Parser: " + ExceptionUtils.getStackTrace(e));
-                this.parseDefinition(false, code, sourceName, repository, coreInstancesResult, listener, context, count, addLines, oldState);
-            }
-            else
-            {
-                throw e;
-            }
-        }
+            return null;
+        });
     }
 
     public CoreInstance parseType(String code, String fileName, int offsetLine, int offsetColumn, ImportGroup importId, ModelRepository repository, Context context) throws PureParserException
@@ -226,71 +252,35 @@ public class M3AntlrParser implements Parser
 
     public CoreInstance parseType(boolean useFastParser, String code, String fileName, int offsetLine, int offsetColumn, ImportGroup importId, ModelRepository repository, Context context) throws PureParserException
     {
-        try
+        return PureAntlrParsing.parse(org.finos.legend.pure.m3.serialization.grammar.m3parser.antlr.M3Parser.class, useFastParser, fastParser ->
         {
             AntlrSourceInformation sourceInformation = new AntlrSourceInformation(offsetLine - 1, offsetColumn - 1, fileName, true);
-            org.finos.legend.pure.m3.serialization.grammar.m3parser.antlr.M3Parser parser = initAntlrParser(useFastParser, code, sourceInformation);
+            org.finos.legend.pure.m3.serialization.grammar.m3parser.antlr.M3Parser parser = initAntlrParser(fastParser, code, sourceInformation);
             M3AntlrTreeWalker visitor = new M3AntlrTreeWalker(sourceInformation, this.inlineDSLLibrary, repository, null, null, context, importId, 0, null);
             return visitor.visit(parser.type());
-        }
-        catch (Exception e)
-        {
-            if (isAntlrRecognitionExceptionUsingFastParser(useFastParser, e))
-            {
-                //System.err.println("Error using fast Antlr Parser: " + ExceptionUtils.getStackTrace(e));
-                return this.parseType(false, code, fileName, offsetLine, offsetColumn, importId, repository, context);
-            }
-            else
-            {
-                throw e;
-            }
-        }
+        });
     }
 
     public CoreInstance parseExpression(boolean useFastParser, String code, String fileName, int offsetLine, int offsetColumn, ImportGroup importId, ModelRepository repository, Context context) throws PureParserException
     {
-        try
+        return PureAntlrParsing.parse(org.finos.legend.pure.m3.serialization.grammar.m3parser.antlr.M3Parser.class, useFastParser, fastParser ->
         {
             AntlrSourceInformation sourceInformation = new AntlrSourceInformation(offsetLine - 1, offsetColumn - 1, fileName, true);
-            org.finos.legend.pure.m3.serialization.grammar.m3parser.antlr.M3Parser parser = initAntlrParser(useFastParser, code, sourceInformation);
+            org.finos.legend.pure.m3.serialization.grammar.m3parser.antlr.M3Parser parser = initAntlrParser(fastParser, code, sourceInformation);
             M3AntlrTreeWalker visitor = new M3AntlrTreeWalker(sourceInformation, this.inlineDSLLibrary, repository, null, null, context, importId, 0, null);
             return visitor.visit(parser.expression());
-        }
-        catch (Exception e)
-        {
-            if (isAntlrRecognitionExceptionUsingFastParser(useFastParser, e))
-            {
-                //System.err.println("Error using fast Antlr Parser: " + ExceptionUtils.getStackTrace(e));
-                return this.parseExpression(false, code, fileName, offsetLine, offsetColumn, importId, repository, context);
-            }
-            else
-            {
-                throw e;
-            }
-        }
+        });
     }
 
     public CoreInstance parseInstance(boolean useFastParser, String code, String fileName, int offsetLine, int offsetColumn, ImportGroup importId, ModelRepository repository, Context context) throws PureParserException
     {
-        try
+        return PureAntlrParsing.parse(org.finos.legend.pure.m3.serialization.grammar.m3parser.antlr.M3Parser.class, useFastParser, fastParser ->
         {
             AntlrSourceInformation sourceInformation = new AntlrSourceInformation(offsetLine - 1, offsetColumn - 1, fileName, true);
-            org.finos.legend.pure.m3.serialization.grammar.m3parser.antlr.M3Parser parser = initAntlrParser(useFastParser, code, sourceInformation);
+            org.finos.legend.pure.m3.serialization.grammar.m3parser.antlr.M3Parser parser = initAntlrParser(fastParser, code, sourceInformation);
             M3AntlrTreeWalker visitor = new M3AntlrTreeWalker(sourceInformation, this.inlineDSLLibrary, repository, null, null, context, importId, 0, null);
             return visitor.visit(parser.instance());
-        }
-        catch (Exception e)
-        {
-            if (isAntlrRecognitionExceptionUsingFastParser(useFastParser, e))
-            {
-                //System.err.println("Error using fast Antlr Parser: " + ExceptionUtils.getStackTrace(e));
-                return this.parseInstance(false, code, fileName, offsetLine, offsetColumn, importId, repository, context);
-            }
-            else
-            {
-                throw e;
-            }
-        }
+        });
     }
 
     public void parseProperties(String code, String fileName, MutableList<Property<? extends CoreInstance, ?>> properties, MutableList<QualifiedProperty<? extends CoreInstance>> qualifiedProperties, ImportStub typeOwner, ImportGroup importId, boolean addLines, ModelRepository repository, Context context, int startingQualifiedPropertyIndex) throws PureParserException
@@ -300,48 +290,25 @@ public class M3AntlrParser implements Parser
 
     private void parseProperties(boolean useFastParser, String code, String fileName, MutableList<Property<? extends CoreInstance, ?>> properties, MutableList<QualifiedProperty<? extends CoreInstance>> qualifiedProperties, ImportStub typeOwner, ImportGroup importId, boolean addLines, ModelRepository repository, Context context, int startingQualifiedPropertyIndex) throws PureParserException
     {
-        try
+        PureAntlrParsing.parse(org.finos.legend.pure.m3.serialization.grammar.m3parser.antlr.M3Parser.class, useFastParser, fastParser ->
         {
             AntlrSourceInformation sourceInformation = new AntlrSourceInformation(this.offsetLine, 0, fileName, addLines);
-            org.finos.legend.pure.m3.serialization.grammar.m3parser.antlr.M3Parser parser = initAntlrParser(useFastParser, code, sourceInformation);
+            org.finos.legend.pure.m3.serialization.grammar.m3parser.antlr.M3Parser parser = initAntlrParser(fastParser, code, sourceInformation);
             M3AntlrPropertiesWalker visitor = new M3AntlrPropertiesWalker(sourceInformation, this.inlineDSLLibrary, repository, context, importId, properties, qualifiedProperties, typeOwner, startingQualifiedPropertyIndex);
             visitor.visit(parser.properties());
-        }
-        catch (Exception e)
-        {
-            if (isAntlrRecognitionExceptionUsingFastParser(useFastParser, e))
-            {
-                //System.err.println("Error using fast Antlr Parser: " + ExceptionUtils.getStackTrace(e));
-                this.parseProperties(false, code, fileName, properties, qualifiedProperties, typeOwner, importId, addLines, repository, context, startingQualifiedPropertyIndex);
-            }
-            else
-            {
-                throw e;
-            }
-        }
+            return null;
+        });
     }
 
     private CoreInstance parseTreePath(boolean useFastParser, String code, String fileName, int offsetLine, int offsetColumn, ImportGroup importId, ModelRepository repository, Context context) throws PureParserException
     {
-        try
+        return PureAntlrParsing.parse(org.finos.legend.pure.m3.serialization.grammar.m3parser.antlr.M3Parser.class, useFastParser, fastParser ->
         {
             AntlrSourceInformation sourceInformation = new AntlrSourceInformation(offsetLine - 1, offsetColumn - 1, fileName, true);
-            org.finos.legend.pure.m3.serialization.grammar.m3parser.antlr.M3Parser parser = initAntlrParser(useFastParser, code, sourceInformation);
+            org.finos.legend.pure.m3.serialization.grammar.m3parser.antlr.M3Parser parser = initAntlrParser(fastParser, code, sourceInformation);
             M3AntlrTreeWalker visitor = new M3AntlrTreeWalker(sourceInformation, this.inlineDSLLibrary, repository, null, null, context, importId, 0, null);
             return visitor.visit(parser.treePath());
-        }
-        catch (Exception e)
-        {
-            if (isAntlrRecognitionExceptionUsingFastParser(useFastParser, e))
-            {
-                //System.err.println("Error using fast Antlr Parser: " + ExceptionUtils.getStackTrace(e));
-                return this.parseTreePath(false, code, fileName, offsetLine, offsetColumn, importId, repository, context);
-            }
-            else
-            {
-                throw e;
-            }
-        }
+        });
     }
 
     public CoreInstance parseTreePath(String code, String fileName, int offsetLine, int offsetColumn, ImportGroup importId, ModelRepository repository, Context context) throws PureParserException
@@ -351,11 +318,14 @@ public class M3AntlrParser implements Parser
 
     public TemporaryPureSetImplementation parseMappingInfo(String content, String classPath, AntlrContextToM3CoreInstance.LambdaContext lambdaContext, String sourceName, int offset, String importId, ModelRepository repository, ProcessorSupport processorSupport, final Context context)
     {
-        AntlrSourceInformation sourceInformation = new AntlrSourceInformation(offset, 0, sourceName, true);
-        org.finos.legend.pure.m3.serialization.grammar.m3parser.antlr.M3Parser parser = initAntlrParser(true, content, sourceInformation);
-        ImportGroup grp = (ImportGroup) processorSupport.package_getByUserPath("system::imports::" + importId);
-        M3AntlrTreeWalker visitor = new M3AntlrTreeWalker(classPath, sourceInformation, this.inlineDSLLibrary, repository, null, null, context, grp, 0, null);
-        return visitor.walkMapping(parser.mapping(), lambdaContext);
+        return PureAntlrParsing.parse(org.finos.legend.pure.m3.serialization.grammar.m3parser.antlr.M3Parser.class, fastParser ->
+        {
+            AntlrSourceInformation sourceInformation = new AntlrSourceInformation(offset, 0, sourceName, true);
+            org.finos.legend.pure.m3.serialization.grammar.m3parser.antlr.M3Parser parser = initAntlrParser(fastParser, content, sourceInformation);
+            ImportGroup grp = (ImportGroup) processorSupport.package_getByUserPath("system::imports::" + importId);
+            M3AntlrTreeWalker visitor = new M3AntlrTreeWalker(classPath, sourceInformation, this.inlineDSLLibrary, repository, null, null, context, grp, 0, null);
+            return visitor.walkMapping(parser.mapping(), lambdaContext);
+        });
     }
 
     @Override
@@ -634,6 +604,13 @@ public class M3AntlrParser implements Parser
         return Lists.immutable.empty();
     }
 
+    @Override
+    public void warmUp()
+    {
+        // Only the ANTLR parse is needed to populate the DFA caches: the result is discarded
+        PureAntlrParsing.warmUp(org.finos.legend.pure.m3.serialization.grammar.m3parser.antlr.M3Parser.class, () -> initAntlrParser(true, WARM_UP_CODE, new AntlrSourceInformation(0, 0, "warmUp.pure", false)).definition());
+    }
+
     public static org.finos.legend.pure.m3.serialization.grammar.m3parser.antlr.M3Parser initAntlrParser(boolean fastParser, String code, AntlrSourceInformation sourceInformation)
     {
         AntlrDescriptiveErrorListener pureErrorListener = new AntlrDescriptiveErrorListener(sourceInformation);
@@ -642,17 +619,15 @@ public class M3AntlrParser implements Parser
         lexer.removeErrorListeners();
         lexer.addErrorListener(pureErrorListener);
 
-        org.finos.legend.pure.m3.serialization.grammar.m3parser.antlr.M3Parser parser = new org.finos.legend.pure.m3.serialization.grammar.m3parser.antlr.M3Parser(new CommonTokenStream(lexer));
+        TokenStreamCache tokenCache = TokenStreamCache.getDefault();
+        TokenSource tokenSource = (tokenCache == null) ? lexer : tokenCache.getTokenSource(lexer, code);
+
+        org.finos.legend.pure.m3.serialization.grammar.m3parser.antlr.M3Parser parser = new org.finos.legend.pure.m3.serialization.grammar.m3parser.antlr.M3Parser(new CommonTokenStream(tokenSource));
         parser.removeErrorListeners();
         parser.addErrorListener(pureErrorListener);
         parser.setErrorHandler(new PureAntlrErrorStrategy(sourceInformation));
-        parser.getInterpreter().setPredictionMode(fastParser ? PredictionMode.SLL : PredictionMode.LL);
+        PureAntlrParsing.setPredictionMode(parser, fastParser);
         return parser;
     }
 
-    private static boolean isAntlrRecognitionExceptionUsingFastParser(boolean parseFast, Exception e)
-    {
-        return parseFast && e instanceof PureParserException && e.getCause() instanceof RecognitionException;
-    }
-
 }
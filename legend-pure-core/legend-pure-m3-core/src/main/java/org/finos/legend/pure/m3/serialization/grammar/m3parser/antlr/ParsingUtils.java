@@ -14,8 +14,7 @@
 
 package org.finos.legend.pure.m3.serialization.grammar.m3parser.antlr;
 
-import org.antlr.v4.runtime.RecognitionException;
-import org.finos.legend.pure.m4.serialization.grammar.antlr.PureParserException;
+import org.finos.legend.pure.m4.serialization.grammar.antlr.PureAntlrParsing;
 
 public final class ParsingUtils
 {
@@ -27,6 +26,6 @@ public final class ParsingUtils
 
     public static boolean isAntlrRecognitionExceptionUsingFastParser(boolean parseFast, Exception e)
     {
-        return parseFast && e instanceof PureParserException && e.getCause() instanceof RecognitionException;
+        return PureAntlrParsing.isFastParserFailure(parseFast, e);
     }
 }
@@ -16,7 +16,6 @@ package org.finos.legend.pure.m3.serialization.grammar.top;
 
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
-import org.antlr.v4.runtime.atn.PredictionMode;
 import org.eclipse.collections.api.multimap.list.ListMultimap;
 import org.eclipse.collections.api.multimap.list.MutableListMultimap;
 import org.finos.legend.pure.m3.compiler.Context;
@@ -31,6 +30,7 @@ import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.serialization.grammar.antlr.AntlrDescriptiveErrorListener;
 import org.finos.legend.pure.m4.serialization.grammar.antlr.AntlrSourceInformation;
 import org.finos.legend.pure.m4.serialization.grammar.antlr.PureAntlrErrorStrategy;
+import org.finos.legend.pure.m4.serialization.grammar.antlr.PureAntlrParsing;
 import org.finos.legend.pure.m4.serialization.grammar.antlr.PureParserException;
 
 public class TopParser
@@ -42,10 +42,9 @@ public class TopParser
 
     private MutableListMultimap<Parser, CoreInstance> parseDefinition(boolean useFastParser, String code, String sourceName, ModelRepository repository, ParserLibrary parserLibrary, M3M4StateListener listener, Context context, SourceState oldState)
     {
-        TopAntlrParser parser = this.initAntlrParser(useFastParser, "\u005cn###Pure\u005cn" + code, sourceName);
+        TopAntlrParser.DefinitionContext c = PureAntlrParsing.parse(TopAntlrParser.class, useFastParser, fastParser -> this.initAntlrParser(fastParser, "\u005cn###Pure\u005cn" + code, sourceName).definition());
 
         TopGraphBuilder visitor = new TopGraphBuilder(sourceName, repository, listener, context, parserLibrary, oldState);
-        TopAntlrParser.DefinitionContext c = parser.definition();
         return visitor.visitDefinition(c);
     }
 
@@ -62,7 +61,7 @@ public class TopParser
         parser.removeErrorListeners();
         parser.addErrorListener(pureErrorListener);
         parser.setErrorHandler(new PureAntlrErrorStrategy(sourceInformation));
-        parser.getInterpreter().setPredictionMode(fastParser ? PredictionMode.SLL : PredictionMode.LL);
+        PureAntlrParsing.setPredictionMode(parser, fastParser);
         return parser;
     }
 }
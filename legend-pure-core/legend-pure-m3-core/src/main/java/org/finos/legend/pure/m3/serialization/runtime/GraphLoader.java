@@ -27,7 +27,9 @@ import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.multimap.list.MutableListMultimap;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.api.set.SetIterable;
+import org.eclipse.collections.impl.block.factory.HashingStrategies;
 import org.eclipse.collections.impl.factory.Multimaps;
+import org.eclipse.collections.impl.map.strategy.mutable.UnifiedMapWithHashingStrategy;
 import org.eclipse.collections.impl.utility.Iterate;
 import org.eclipse.collections.impl.utility.LazyIterate;
 import org.finos.legend.pure.m3.compiler.Context;
@@ -63,6 +65,8 @@ import org.finos.legend.pure.m3.serialization.runtime.binary.reference.ExternalR
 import org.finos.legend.pure.m3.serialization.runtime.binary.reference.Reference;
 import org.finos.legend.pure.m3.serialization.runtime.binary.reference.ReferenceFactory;
 import org.finos.legend.pure.m3.serialization.runtime.binary.reference.SimpleReferenceFactory;
+import org.finos.legend.pure.m3.serialization.runtime.metrics.CompilerMetrics;
+import org.finos.legend.pure.m3.serialization.runtime.metrics.CompilerPhase;
 import org.finos.legend.pure.m3.serialization.runtime.pattern.URLPatternLibrary;
 import org.finos.legend.pure.m3.tools.forkjoin.ForkJoinTools;
 import org.finos.legend.pure.m4.ModelRepository;
@@ -92,6 +96,7 @@ public class GraphLoader
     private final PureRepositoryJarLibrary jarLibrary;
     private final MutableSet<String> loadedFiles = Sets.mutable.empty();
     private final ForkJoinPool forkJoinPool;
+    private CompilerMetrics compilerMetrics;
 
     public GraphLoader(ModelRepository repository, Context context, ParserLibrary parserLibrary, InlineDSLLibrary inlineDSLLibrary, SourceRegistry sourceRegistry, URLPatternLibrary patternLibrary, PureRepositoryJarLibrary jarLibrary, ForkJoinPool forkJoinPool)
     {
@@ -127,7 +132,7 @@ public class GraphLoader
         {
             message.setMessage(String.format("    Reading all (%,d) files ...", fileBytes.size()));
         }
-        loadFileBytes(fileBytes, message);
+        loadFileBytes(fileBytes, null, message);
     }
 
     public boolean isKnownRepository(String repositoryName)
@@ -146,7 +151,7 @@ public class GraphLoader
         {
             message.setMessage("  Loading '" + repositoryName + "' from PAR with " + this.jarLibrary.getFileDependencies(this.jarLibrary.getRepositoryFiles(repositoryName)).size() + " dependencies");
         }
-        loadFiles_internal(this.jarLibrary.getFileDependencies(this.jarLibrary.getRepositoryFiles(repositoryName)), message);
+        loadFiles_internal(this.jarLibrary.getFileDependencies(this.jarLibrary.getRepositoryFiles(repositoryName)), repositoryName, message);
     }
 
     public void loadRepositories(Iterable<String> repositoryNames)
@@ -226,28 +231,49 @@ public class GraphLoader
         return this.loadedFiles.asUnmodifiable();
     }
 
+    /**
+     * Set the compiler metrics to record graph loading in (typically those of the runtime being loaded). If null,
+     * nothing is recorded.
+     *
+     * @param compilerMetrics compiler metrics (may be null)
+     */
+    public void setCompilerMetrics(CompilerMetrics compilerMetrics)
+    {
+        this.compilerMetrics = compilerMetrics;
+    }
+
     private boolean fileIsLoaded(String file)
     {
         return this.loadedFiles.contains(file);
     }
 
     private void loadFiles_internal(SetIterable<String> files, Message message)
+    {
+        loadFiles_internal(files, null, message);
+    }
+
+    private void loadFiles_internal(SetIterable<String> files, String repository, Message message)
     {
         if (message != null)
         {
             message.setMessage(String.format("    Reading %,d files ...", +files.size()));
         }
         MapIterable<String, byte[]> fileBytes = this.jarLibrary.readFiles(LazyIterate.reject(files, this::fileIsLoaded));
-        loadFileBytes(fileBytes, message);
+        loadFileBytes(fileBytes, repository, message);
     }
 
-    private void loadFileBytes(MapIterable<String, byte[]> fileBytes, Message message)
+    private void loadFileBytes(MapIterable<String, byte[]> fileBytes, String repository, Message message)
     {
         if (fileBytes.notEmpty())
         {
+            CompilerMetrics.Timer timer = (this.compilerMetrics == null) ? null : this.compilerMetrics.startTimer();
             ListIterable<SourceDeserializationResult> results = deserializeFiles(fileBytes, message);
-            loadDeserializationResults(results, message);
+            int instanceCount = loadDeserializationResults(results, message);
             this.loadedFiles.addAllIterable(fileBytes.keysView());
+            if (timer != null)
+            {
+                timer.stop(CompilerPhase.GRAPH_LOAD, repository, null, instanceCount);
+            }
         }
     }
 
@@ -273,7 +299,7 @@ public class GraphLoader
         return results;
     }
 
-    private void loadDeserializationResults(ListIterable<SourceDeserializationResult> results, Message message)
+    private int loadDeserializationResults(ListIterable<SourceDeserializationResult> results, Message message)
     {
         ListIterable<DeserializationNode> nodes = LazyIterate.select(results, SourceDeserializationResult::hasDeserializationNodes).flatCollect(SourceDeserializationResult::getDeserializationNodes, Lists.mutable.empty());
         initializeNodes(nodes, message);
@@ -284,6 +310,7 @@ public class GraphLoader
         updateContext(instances, message);
         updateSourceRegistry(results, nodes, message);
         updatePatternLibrary(nodes, message);
+        return nodes.size();
     }
 
     private void initializeNodes(ListIterable<DeserializationNode> nodes, Message message)
@@ -319,87 +346,190 @@ public class GraphLoader
         }
     }
 
+    /**
+     * Resolve references for the given nodes. The first pass covers all nodes. After that, a node with unresolved
+     * references is only tried again once the node it is waiting on (see {@link Reference#getUnresolvedDependency()})
+     * is completely resolved, so each pass only covers nodes which can now make progress. If no node becomes ready,
+     * all unresolved nodes are tried again (as long as that makes progress).
+     */
     private void resolveReferences(ListIterable<DeserializationNode> nodes, Message message)
     {
-        for (int passCount = 1; true; passCount++)
-        {
+        long start = System.nanoTime();
+        MutableMap<CoreInstance, DeserializationNode> nodesByInstance = null;
+        MutableSet<DeserializationNode> resolved = Sets.mutable.empty();
+        MutableListMultimap<DeserializationNode, DeserializationNode> waiting = Multimaps.mutable.list.empty();
+        MutableList<DeserializationNode> notWaiting = Lists.mutable.empty();
+        ListIterable<DeserializationNode> toResolve = nodes;
+        boolean retryingAll = false;
+        int passCount = 0;
+        long nodeResolutionCount = 0;
+        while (true)
+        {
+            passCount++;
             if (message != null)
             {
-                message.setMessage("    Resolving references, pass " + passCount + " ...");
+                message.setMessage(String.format("    Resolving references, pass %,d (%,d nodes) ...", passCount, toResolve.size()));
             }
-            int newlyResolvedCount;
-            int unresolvedCount;
-            if (shouldParallelize(nodes.size(), RESOLVE_REFERENCES_THRESHOLD))
+            ReferenceResolutionResult resolutionResult = resolveReferencesPass(toResolve);
+            nodeResolutionCount += toResolve.size();
+            if (retryingAll && (resolutionResult.getNewlyResolved() == 0) && (resolutionResult.getUnresolved() > 0))
             {
-                ReferenceResolutionResult resolutionResult = this.forkJoinPool.invoke(new RecursiveResolveReferencesTask(nodes, this.repository, this.processorSupport));
-                newlyResolvedCount = resolutionResult.getNewlyResolved();
-                unresolvedCount = resolutionResult.getUnresolved();
-                if (newlyResolvedCount > 0)
+                // Not done, but no progress was made
+                throw new RuntimeException(getUnresolvedReferencesErrorMessage(toResolve, resolutionResult.getUnresolved(), passCount));
+            }
+
+            // Release nodes waiting on nodes which are now resolved
+            MutableSet<DeserializationNode> ready = Sets.mutable.empty();
+            MutableList<DeserializationNode> unresolved = Lists.mutable.empty();
+            toResolve.forEach(node ->
+            {
+                if (node.hasUnresolvedReferences())
                 {
-                    ForkJoinTools.forEach(this.forkJoinPool, nodes, DeserializationNode::populateResolvedProperties, RESOLVE_REFERENCES_THRESHOLD);
+                    unresolved.add(node);
                 }
-            }
-            else
+                else if (resolved.add(node))
+                {
+                    ready.addAll(waiting.removeAll(node));
+                }
+            });
+
+            // Unresolved nodes wait on the node they depend on, if it is known
+            if (unresolved.notEmpty())
             {
-                newlyResolvedCount = 0;
-                unresolvedCount = 0;
-                for (DeserializationNode node : nodes)
+                if (nodesByInstance == null)
                 {
-                    ReferenceResolutionResult resolutionResult = node.resolveReferences(this.repository, this.processorSupport);
-                    node.populateResolvedProperties();
-                    newlyResolvedCount += resolutionResult.getNewlyResolved();
-                    unresolvedCount += resolutionResult.getUnresolved();
+                    nodesByInstance = UnifiedMapWithHashingStrategy.newMap(HashingStrategies.identityStrategy(), nodes.size());
+                    MutableMap<CoreInstance, DeserializationNode> map = nodesByInstance;
+                    nodes.forEach(node -> map.put(node.getInstance(), node));
                 }
+                MapIterable<CoreInstance, DeserializationNode> finalNodesByInstance = nodesByInstance;
+                unresolved.forEach(node ->
+                {
+                    DeserializationNode dependency = findUnresolvedDependency(node, finalNodesByInstance, resolved);
+                    if (dependency == null)
+                    {
+                        notWaiting.add(node);
+                    }
+                    else if (resolved.contains(dependency))
+                    {
+                        ready.add(node);
+                    }
+                    else
+                    {
+                        waiting.put(dependency, node);
+                    }
+                });
+            }
+
+            if (ready.notEmpty())
+            {
+                toResolve = ready.toList();
+                retryingAll = false;
             }
-            if (unresolvedCount == 0)
+            else if (notWaiting.isEmpty() && waiting.isEmpty())
             {
                 // Done
+                if (message != null)
+                {
+                    message.setMessage(String.format("    Resolved references for %,d nodes in %,d passes (%,d node resolutions, %.3fs)", nodes.size(), passCount, nodeResolutionCount, (System.nanoTime() - start) / 1_000_000_000.0));
+                }
                 return;
             }
-            if (newlyResolvedCount == 0)
+            else
             {
-                // Not done, but no progress was made
-                StringBuilder errorMessage = new StringBuilder("Failed to resolve nodes after ").append(passCount).append(" passes; ");
-                MutableList<Reference> unresolved = Lists.mutable.withInitialCapacity(unresolvedCount);
-                nodes.forEach(n -> n.collectUnresolvedReferences(unresolved));
-                if (unresolvedCount == 1)
+                // Nothing is ready: try all unresolved nodes again
+                MutableList<DeserializationNode> all = Lists.mutable.withAll(notWaiting).withAll(waiting.valuesView());
+                notWaiting.clear();
+                waiting.clear();
+                toResolve = all;
+                retryingAll = true;
+            }
+        }
+    }
+
+    private ReferenceResolutionResult resolveReferencesPass(ListIterable<DeserializationNode> nodes)
+    {
+        if (shouldParallelize(nodes.size(), RESOLVE_REFERENCES_THRESHOLD))
+        {
+            ReferenceResolutionResult resolutionResult = this.forkJoinPool.invoke(new RecursiveResolveReferencesTask(nodes, this.repository, this.processorSupport));
+            ForkJoinTools.forEach(this.forkJoinPool, nodes, DeserializationNode::populateResolvedProperties, RESOLVE_REFERENCES_THRESHOLD);
+            return resolutionResult;
+        }
+
+        int newlyResolvedCount = 0;
+        int unresolvedCount = 0;
+        for (DeserializationNode node : nodes)
+        {
+            ReferenceResolutionResult resolutionResult = node.resolveReferences(this.repository, this.processorSupport);
+            node.populateResolvedProperties();
+            newlyResolvedCount += resolutionResult.getNewlyResolved();
+            unresolvedCount += resolutionResult.getUnresolved();
+        }
+        return new ReferenceResolutionResult(newlyResolvedCount, unresolvedCount);
+    }
+
+    private static DeserializationNode findUnresolvedDependency(DeserializationNode node, MapIterable<CoreInstance, DeserializationNode> nodesByInstance, SetIterable<DeserializationNode> resolved)
+    {
+        MutableList<Reference> unresolvedReferences = Lists.mutable.empty();
+        node.collectUnresolvedReferences(unresolvedReferences);
+        DeserializationNode resolvedDependency = null;
+        for (Reference reference : unresolvedReferences)
+        {
+            CoreInstance dependencyInstance = reference.getUnresolvedDependency();
+            DeserializationNode dependency = (dependencyInstance == null) ? null : nodesByInstance.get(dependencyInstance);
+            if ((dependency != null) && (dependency != node))
+            {
+                if (!resolved.contains(dependency))
                 {
-                    errorMessage.append("1 node remains unresolved");
-                    String failureMessage = unresolved.get(0).getFailureMessage();
-                    if (failureMessage != null)
-                    {
-                        errorMessage.append(": ").append(failureMessage);
-                    }
+                    return dependency;
                 }
-                else
+                resolvedDependency = dependency;
+            }
+        }
+        return resolvedDependency;
+    }
+
+    private static String getUnresolvedReferencesErrorMessage(ListIterable<DeserializationNode> nodes, int unresolvedCount, int passCount)
+    {
+        StringBuilder errorMessage = new StringBuilder("Failed to resolve nodes after ").append(passCount).append(" passes; ");
+        MutableList<Reference> unresolved = Lists.mutable.withInitialCapacity(unresolvedCount);
+        nodes.forEach(n -> n.collectUnresolvedReferences(unresolved));
+        if (unresolvedCount == 1)
+        {
+            errorMessage.append("1 node remains unresolved");
+            String failureMessage = unresolved.get(0).getFailureMessage();
+            if (failureMessage != null)
+            {
+                errorMessage.append(": ").append(failureMessage);
+            }
+        }
+        else
+        {
+            errorMessage.append(unresolvedCount).append(" nodes remain unresolved");
+            int messagesDisplayed = 0;
+            for (Reference reference : unresolved)
+            {
+                String failureMessage = reference.getFailureMessage();
+                if (failureMessage != null)
                 {
-                    errorMessage.append(unresolvedCount).append(" nodes remain unresolved");
-                    int messagesDisplayed = 0;
-                    for (Reference reference : unresolved)
-                    {
-                        String failureMessage = reference.getFailureMessage();
-                        if (failureMessage != null)
-                        {
-                            messagesDisplayed++;
-                            errorMessage.append("\n\t").append(messagesDisplayed).append(": ").append(failureMessage);
-                            if (messagesDisplayed >= 10)
-                            {
-                                break;
-                            }
-                        }
-                    }
-                    if (messagesDisplayed == 0)
-                    {
-                        errorMessage.append(" (no failure messages to display)");
-                    }
-                    else if (messagesDisplayed < unresolvedCount)
+                    messagesDisplayed++;
+                    errorMessage.append("\n\t").append(messagesDisplayed).append(": ").append(failureMessage);
+                    if (messagesDisplayed >= 10)
                     {
-                        errorMessage.append("\n\t").append(unresolvedCount - messagesDisplayed).append(" more failure messages not displayed ...");
+                        break;
                     }
                 }
-                throw new RuntimeException(errorMessage.toString());
+            }
+            if (messagesDisplayed == 0)
+            {
+                errorMessage.append(" (no failure messages to display)");
+            }
+            else if (messagesDisplayed < unresolvedCount)
+            {
+                errorMessage.append("\n\t").append(unresolvedCount - messagesDisplayed).append(" more failure messages not displayed ...");
             }
         }
+        return errorMessage.toString();
     }
 
     @SuppressWarnings("rawtypes")
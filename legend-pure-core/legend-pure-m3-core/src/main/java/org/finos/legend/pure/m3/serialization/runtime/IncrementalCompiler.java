@@ -47,6 +47,8 @@ import org.finos.legend.pure.m3.serialization.grammar.Parser;
 import org.finos.legend.pure.m3.serialization.grammar.ParserLibrary;
 import org.finos.legend.pure.m3.serialization.grammar.m3parser.inlinedsl.InlineDSL;
 import org.finos.legend.pure.m3.serialization.grammar.m3parser.inlinedsl.InlineDSLLibrary;
+import org.finos.legend.pure.m3.serialization.runtime.metrics.CompilerMetrics;
+import org.finos.legend.pure.m3.serialization.runtime.metrics.CompilerPhase;
 import org.finos.legend.pure.m3.serialization.runtime.pattern.URLPatternLibrary;
 import org.finos.legend.pure.m3.serialization.runtime.pattern.URLPatternLibrary.URLPatternLibraryTransaction;
 import org.finos.legend.pure.m3.statelistener.VoidM3M4StateListener;
@@ -69,6 +71,7 @@ public abstract class IncrementalCompiler implements SourceEventHandler
 {
     static final int PARSE_SOURCES_THRESHOLD = 100;
     static final int CONTEXT_REGISTRATION_THRESHOLD = 100;
+    static final int UNLOAD_WALK_THRESHOLD = 10;
 
     static final Function<CoreInstance, String> GET_COREINSTANCE_REPO_NAME = object ->
     {
@@ -97,11 +100,15 @@ public abstract class IncrementalCompiler implements SourceEventHandler
     MutableSet<CoreInstance> toProcess = Sets.mutable.with();
     MutableSet<CoreInstance> toUnload = Sets.mutable.with();
 
+    int lastUnboundCount;
+    int lastPostProcessedCount;
+
     final MutableList<CompilerEventHandler> compilerEventHandlers = Lists.mutable.empty();
     final MutableList<MatchRunner> additionalValidators = Lists.mutable.empty();
 
     final Message message;
     final URLPatternLibrary urlPatternLibrary;
+    final CompilerMetrics compilerMetrics = new CompilerMetrics();
 
     IncrementalCompiler(RichIterable<? extends Parser> parsers, RichIterable<? extends InlineDSL> inlineDSLs, RepositoryCodeStorage codeStorage, URLPatternLibrary urlPatternLibrary, Message message, CoreInstanceFactoryRegistry factoryRegistryOverride, ForkJoinPool forkJoinPool, boolean isTransactionalByDefault)
     {
@@ -228,7 +235,10 @@ public abstract class IncrementalCompiler implements SourceEventHandler
             newInstancesConsolidated.forEach(this::registerInstanceInContext);
         }
 
-        SourceMutation sourceMutation = PostProcessor.process(newInstancesConsolidated, this.modelRepository, this.library, this.dslLibrary, this.codeStorage, this.context, this.processorSupport, this.urlPatternLibrary, this.message, postProcessorObserver);
+        CompilerMetrics.Timer postProcessTimer = this.compilerMetrics.startTimer();
+        SourceMutation sourceMutation = PostProcessor.process(newInstancesConsolidated, this.modelRepository, this.library, this.dslLibrary, this.codeStorage, this.context, this.processorSupport, this.urlPatternLibrary, this.message, postProcessorObserver, this.forkJoinPool);
+        postProcessTimer.stop(CompilerPhase.POST_PROCESS, repoName, null, newInstancesConsolidated.size());
+        this.lastPostProcessedCount += newInstancesConsolidated.size();
 
         if (validationType == ValidationType.DEEP)
         {
@@ -238,7 +248,9 @@ public abstract class IncrementalCompiler implements SourceEventHandler
         newInstancesConsolidated.removeIf(SourceMutation::isMarkedForDeletion);
 
         this.message.setMessage("Validating " + repoName + "...");
-        Validator.validateM3(newInstancesConsolidated, validationType, this.library, this.dslLibrary, this.additionalValidators.asUnmodifiable(), this.codeStorage, this.modelRepository, this.context, this.processorSupport);
+        CompilerMetrics.Timer validateTimer = this.compilerMetrics.startTimer();
+        Validator.validateM3(newInstancesConsolidated, validationType, this.library, this.dslLibrary, this.additionalValidators.asUnmodifiable(), this.codeStorage, this.modelRepository, this.context, this.processorSupport, this.forkJoinPool);
+        validateTimer.stop(CompilerPhase.VALIDATE, repoName, null, newInstancesConsolidated.size());
 
         rebuildExclusionSet(this.modelRepository, this.processorSupport);
 
@@ -376,6 +388,40 @@ public abstract class IncrementalCompiler implements SourceEventHandler
         return this.processorSupport;
     }
 
+    /**
+     * Get the compiler metrics for this compiler. Recording is disabled by default; enable it with
+     * {@link CompilerMetrics#setEnabled(boolean)}.
+     *
+     * @return compiler metrics
+     */
+    public CompilerMetrics getCompilerMetrics()
+    {
+        return this.compilerMetrics;
+    }
+
+    /**
+     * Get the number of instances which were unbound by the most recent
+     * compilation. Together with {@link #getLastPostProcessedCount()}, this
+     * gives the size of the set of instances recompiled due to a change.
+     *
+     * @return number of instances unbound
+     */
+    public int getLastUnboundCount()
+    {
+        return this.lastUnboundCount;
+    }
+
+    /**
+     * Get the number of instances which were post-processed by the most
+     * recent compilation, including new instances from compiled sources.
+     *
+     * @return number of instances post-processed
+     */
+    public int getLastPostProcessedCount()
+    {
+        return this.lastPostProcessedCount;
+    }
+
     public void reset()
     {
         this.modelRepository.clear();
@@ -18,13 +18,16 @@ import org.apache.commons.lang3.time.DurationFormatUtils;
 import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.factory.Sets;
 import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.multimap.Multimap;
 import org.eclipse.collections.api.multimap.list.ListMultimap;
 import org.eclipse.collections.api.multimap.list.MutableListMultimap;
 import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.set.SetIterable;
 import org.eclipse.collections.impl.factory.Multimaps;
 import org.finos.legend.pure.m3.SourceMutation;
 import org.finos.legend.pure.m3.compiler.postprocessing.PostProcessor;
@@ -43,6 +46,8 @@ import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.composi
 import org.finos.legend.pure.m3.serialization.grammar.Parser;
 import org.finos.legend.pure.m3.serialization.grammar.m3parser.inlinedsl.InlineDSL;
 import org.finos.legend.pure.m3.serialization.grammar.top.TopParser;
+import org.finos.legend.pure.m3.serialization.runtime.metrics.CompilerMetrics;
+import org.finos.legend.pure.m3.serialization.runtime.metrics.CompilerPhase;
 import org.finos.legend.pure.m3.serialization.runtime.pattern.URLPatternLibrary;
 import org.finos.legend.pure.m3.statelistener.VoidM3M4StateListener;
 import org.finos.legend.pure.m3.tools.ListHelper;
@@ -64,6 +69,9 @@ public class IncrementalCompiler_New extends IncrementalCompiler
     private final MutableSet<CoreInstance> toUnbind = Sets.mutable.with();
     private final MutableSet<CoreInstance> processed = Sets.mutable.with();
 
+    // Unload walk results by root instance, valid while the references in the graph are unchanged (see compile)
+    private MutableMap<CoreInstance, SetIterable<CoreInstance>> unloadWalkCache;
+
     IncrementalCompiler_New(RichIterable<? extends Parser> parsers, RichIterable<? extends InlineDSL> inlineDSLs, RepositoryCodeStorage codeStorage, URLPatternLibrary urlPatternLibrary, Message message, CoreInstanceFactoryRegistry factoryRegistryOverride, ForkJoinPool forkJoinPool, boolean isTransactionalByDefault)
     {
         super(parsers, inlineDSLs, codeStorage, urlPatternLibrary, message, factoryRegistryOverride, forkJoinPool, isTransactionalByDefault);
@@ -76,9 +84,32 @@ public class IncrementalCompiler_New extends IncrementalCompiler
     @Override
     SourceMutation compile(RichIterable<? extends Source> sources, Iterable<? extends CompilerEventHandler> compilerEventHandlers, PostProcessorObserver postProcessorObserver) throws PureCompilationException, PureParserException
     {
+        this.lastUnboundCount = 0;
+        this.lastPostProcessedCount = 0;
+        // Until the first unbinding, references in the graph do not change, so the unload walk from each instance in
+        // toUnload can be done once and reused by unload() and by the first repository compiled
+        this.unloadWalkCache = Maps.mutable.empty();
+        try
+        {
+            return compileInternal(sources, compilerEventHandlers, postProcessorObserver);
+        }
+        finally
+        {
+            this.unloadWalkCache = null;
+        }
+    }
+
+    private SourceMutation compileInternal(RichIterable<? extends Source> sources, Iterable<? extends CompilerEventHandler> compilerEventHandlers, PostProcessorObserver postProcessorObserver) throws PureCompilationException, PureParserException
+    {
+        CompilerMetrics.Timer unloadTimer = this.compilerMetrics.startTimer();
+        int unloadCount = this.toUnload.size();
         MutableSet<CoreInstance> potentialToProcess = this.walkTheGraphForUnload(this.toUnload).withAll(this.toProcess).withAll(this.toUnbind);
 
         this.unload();
+        if (unloadCount > 0)
+        {
+            unloadTimer.stop(CompilerPhase.UNLOAD, null, null, unloadCount);
+        }
         this.toProcess = this.removeNodesFromRemovedSources(this.toProcess);
 
         IncrementalCompilerTransaction threadLocalTransaction = this.transactionManager.getThreadLocalTransaction();
@@ -184,7 +215,9 @@ public class IncrementalCompiler_New extends IncrementalCompiler
                         this.message.setMessage(message.toString());
                     }
                     MutableList<SourceState> oldState = sourceStates.select(sourceState -> source.equals(sourceState.getSource()), Lists.mutable.empty());
+                    CompilerMetrics.Timer parseTimer = this.compilerMetrics.startTimer();
                     ListMultimap<Parser, CoreInstance> newInstancesByParser = new TopParser().parse(source.getContent(), source.getId(), this.modelRepository, this.library, VoidM3M4StateListener.VOID_M3_M4_STATE_LISTENER, this.context, oldState.size() == 1 ? oldState.get(0) : null);
+                    parseTimer.stop(CompilerPhase.PARSE, repoDisplayName, source.getId(), newInstancesByParser.size());
                     this.updateSource(source, newInstancesByParser);
                     if (transaction != null)
                     {
@@ -232,7 +265,11 @@ public class IncrementalCompiler_New extends IncrementalCompiler
 
             // Total Unbind set is ( generated here + obtained through call - non retained )
             MutableSet<CoreInstance> hereUnbind = toUnbindWithinRepo.union(oldButNotNew).union(instancesToUnbind.toSet());
+            this.unloadWalkCache = null;
+            CompilerMetrics.Timer unbindTimer = this.compilerMetrics.startTimer();
             Unbinder.process(hereUnbind, this.modelRepository, this.library, this.dslLibrary, this.context, this.processorSupport, new UnbindState(this.context, this.urlPatternLibrary, this.dslLibrary, this.processorSupport), this.message);
+            unbindTimer.stop(CompilerPhase.UNBIND, repoDisplayName, null, hereUnbind.size());
+            this.lastUnboundCount += hereUnbind.size();
 
             // Invalidate the unbound instances
             if (hereUnbind.notEmpty())
@@ -306,7 +343,10 @@ public class IncrementalCompiler_New extends IncrementalCompiler
             allInstances.forEach(this::registerInstanceInContext);
         }
 
-        SourceMutation sourceMutation = PostProcessor.process(newInstancesConsolidated, this.modelRepository, this.library, this.dslLibrary, this.codeStorage, this.context, this.processorSupport, this.urlPatternLibrary, this.message, observer);
+        CompilerMetrics.Timer postProcessTimer = this.compilerMetrics.startTimer();
+        SourceMutation sourceMutation = PostProcessor.process(newInstancesConsolidated, this.modelRepository, this.library, this.dslLibrary, this.codeStorage, this.context, this.processorSupport, this.urlPatternLibrary, this.message, observer, this.forkJoinPool);
+        postProcessTimer.stop(CompilerPhase.POST_PROCESS, repoName, null, newInstancesConsolidated.size());
+        this.lastPostProcessedCount += newInstancesConsolidated.size();
 
         if (validationType == ValidationType.DEEP)
         {
@@ -316,7 +356,9 @@ public class IncrementalCompiler_New extends IncrementalCompiler
         newInstancesConsolidated.removeIf(SourceMutation::isMarkedForDeletion);
 
         this.message.setMessage("Validating " + repoName + "...");
-        Validator.validateM3(newInstancesConsolidated, validationType, this.library, this.dslLibrary, this.additionalValidators.asUnmodifiable(), this.codeStorage, this.modelRepository, this.context, this.processorSupport);
+        CompilerMetrics.Timer validateTimer = this.compilerMetrics.startTimer();
+        Validator.validateM3(newInstancesConsolidated, validationType, this.library, this.dslLibrary, this.additionalValidators.asUnmodifiable(), this.codeStorage, this.modelRepository, this.context, this.processorSupport, this.forkJoinPool);
+        validateTimer.stop(CompilerPhase.VALIDATE, repoName, null, newInstancesConsolidated.size());
 
         rebuildExclusionSet(this.modelRepository, this.processorSupport);
 
@@ -369,12 +411,53 @@ public class IncrementalCompiler_New extends IncrementalCompiler
 
     private MutableSet<CoreInstance> walkTheGraphForUnload(MutableSet<CoreInstance> instances)
     {
-        WalkerState walkerState = new WalkerState(this.processorSupport);
         Matcher walkerMatcher = new Matcher(this.modelRepository, this.context, this.processorSupport);
-
         this.library.getParsers().asLazy().flatCollect(Parser::getUnLoadWalkers).concatenate(this.dslLibrary.getInlineDSLs().asLazy().flatCollect(InlineDSL::getUnLoadWalkers)).forEach(walkerMatcher::addMatchIfTypeIsKnown);
-        instances.forEach(i -> walkerMatcher.match(i, walkerState));
-        return walkerState.getInstances().toSet();
+
+        if ((this.unloadWalkCache == null) && !shouldParallelize(instances.size(), UNLOAD_WALK_THRESHOLD))
+        {
+            WalkerState walkerState = new WalkerState(this.processorSupport);
+            instances.forEach(i -> walkerMatcher.match(i, walkerState));
+            return walkerState.getInstances().toSet();
+        }
+
+        // Walk from each root separately, so that the walks can be done in parallel and cached per root
+        MutableList<CoreInstance> roots = (this.unloadWalkCache == null) ? instances.toList() : instances.reject(this.unloadWalkCache::containsKey, Lists.mutable.empty());
+        ListIterable<SetIterable<CoreInstance>> walked;
+        if (shouldParallelize(roots.size(), UNLOAD_WALK_THRESHOLD))
+        {
+            IncrementalCompilerTransaction transaction = this.transactionManager.getThreadLocalTransaction();
+            walked = ForkJoinTools.collect(this.forkJoinPool, roots, root ->
+            {
+                try (ThreadLocalTransactionContext ignored = (transaction != null) ? transaction.openInCurrentThread() : null)
+                {
+                    return walkFromRoot(walkerMatcher, root);
+                }
+            }, UNLOAD_WALK_THRESHOLD);
+        }
+        else
+        {
+            walked = roots.collect(root -> walkFromRoot(walkerMatcher, root));
+        }
+
+        MutableSet<CoreInstance> result = Sets.mutable.empty();
+        if (this.unloadWalkCache == null)
+        {
+            walked.forEach(result::addAllIterable);
+        }
+        else
+        {
+            roots.forEachWithIndex((root, i) -> this.unloadWalkCache.put(root, walked.get(i)));
+            instances.forEach(i -> result.addAllIterable(this.unloadWalkCache.get(i)));
+        }
+        return result;
+    }
+
+    private SetIterable<CoreInstance> walkFromRoot(Matcher walkerMatcher, CoreInstance root)
+    {
+        WalkerState walkerState = new WalkerState(this.processorSupport);
+        walkerMatcher.match(root, walkerState);
+        return walkerState.getInstances();
     }
 
     private void rollBack(IncrementalCompilerTransaction transaction, Throwable t, MutableSet<CoreInstance> repoTransactionInstances) throws PureCompilationException
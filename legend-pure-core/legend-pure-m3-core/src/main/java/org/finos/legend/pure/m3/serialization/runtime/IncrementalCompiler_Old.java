@@ -36,6 +36,8 @@ import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.composi
 import org.finos.legend.pure.m3.serialization.grammar.Parser;
 import org.finos.legend.pure.m3.serialization.grammar.m3parser.inlinedsl.InlineDSL;
 import org.finos.legend.pure.m3.serialization.grammar.top.TopParser;
+import org.finos.legend.pure.m3.serialization.runtime.metrics.CompilerMetrics;
+import org.finos.legend.pure.m3.serialization.runtime.metrics.CompilerPhase;
 import org.finos.legend.pure.m3.serialization.runtime.pattern.URLPatternLibrary;
 import org.finos.legend.pure.m3.statelistener.VoidM3M4StateListener;
 import org.finos.legend.pure.m3.tools.ListHelper;
@@ -65,6 +67,8 @@ public class IncrementalCompiler_Old extends IncrementalCompiler
     @Override
     SourceMutation compile(RichIterable<? extends Source> sources, Iterable<? extends CompilerEventHandler> compilerEventHandlers, PostProcessorObserver postProcessorObserver) throws PureCompilationException, PureParserException
     {
+        this.lastUnboundCount = 0;
+        this.lastPostProcessedCount = 0;
         this.unload();
 
         this.toProcess = this.removeNodesFromSourcesInScope(sources, this.toProcess);
@@ -157,7 +161,9 @@ public class IncrementalCompiler_Old extends IncrementalCompiler
                         message.append(" sources (").append(thisSourceNum).append('/').append(sourceTotalCount).append(')');
                         this.message.setMessage(message.toString());
                     }
+                    CompilerMetrics.Timer parseTimer = this.compilerMetrics.startTimer();
                     ListMultimap<Parser, CoreInstance> newInstancesByParser = new TopParser().parse(source.getContent(), source.getId(), this.modelRepository, this.library, VoidM3M4StateListener.VOID_M3_M4_STATE_LISTENER, this.context, null);
+                    parseTimer.stop(CompilerPhase.PARSE, repoDisplayName, source.getId(), newInstancesByParser.size());
                     updateSource(source, newInstancesByParser);
                     if (transaction != null)
                     {
@@ -195,6 +201,8 @@ public class IncrementalCompiler_Old extends IncrementalCompiler
     {
         if (!this.toUnload.isEmpty())
         {
+            CompilerMetrics.Timer unloadTimer = this.compilerMetrics.startTimer();
+            int unloadCount = this.toUnload.size();
             SetIterable<CoreInstance> consolidatedCoreInstances = this.walkTheGraphForUnload();
 
             // Start Event
@@ -210,12 +218,14 @@ public class IncrementalCompiler_Old extends IncrementalCompiler
             // Clean up import groups
             this.toUnload.collect(object -> object.getSourceInformation().getSourceId()).forEach(this::cleanUpImportGroups);
             this.toUnload.clear();
+            unloadTimer.stop(CompilerPhase.UNLOAD, null, null, unloadCount);
         }
     }
 
     private void unbindGraphDependencies(SetIterable<CoreInstance> consolidatedCoreInstances)
     {
         Unbinder.process(consolidatedCoreInstances, this.modelRepository, this.library, this.dslLibrary, this.context, this.processorSupport, new UnbindState(this.context, this.urlPatternLibrary, this.dslLibrary, this.processorSupport), this.message);
+        this.lastUnboundCount += consolidatedCoreInstances.size();
         this.toProcess.addAllIterable(consolidatedCoreInstances);
     }
 
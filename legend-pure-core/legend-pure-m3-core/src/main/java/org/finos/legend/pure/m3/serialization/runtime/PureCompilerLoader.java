@@ -15,9 +15,12 @@
 package org.finos.legend.pure.m3.serialization.runtime;
 
 import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.factory.Sets;
 import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.multimap.list.MutableListMultimap;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.impl.factory.Multimaps;
@@ -40,6 +43,9 @@ import org.finos.legend.pure.m3.serialization.compiler.metadata.ModuleFunctionNa
 import org.finos.legend.pure.m3.serialization.compiler.metadata.ModuleManifest;
 import org.finos.legend.pure.m3.serialization.compiler.metadata.ModuleMetadataSerializer;
 import org.finos.legend.pure.m3.serialization.compiler.metadata.ModuleSourceMetadata;
+import org.finos.legend.pure.m3.serialization.compiler.metadata.ModuleTypeHierarchyMetadata;
+import org.finos.legend.pure.m3.serialization.compiler.reference.ReferenceIdResolver;
+import org.finos.legend.pure.m3.serialization.compiler.reference.UnresolvableReferenceIdException;
 import org.finos.legend.pure.m3.serialization.compiler.strings.StringIndexer;
 import org.finos.legend.pure.m3.serialization.filesystem.repository.CodeRepository;
 import org.finos.legend.pure.m3.serialization.grammar.Parser;
@@ -373,6 +379,22 @@ public abstract class PureCompilerLoader
             long fnsByNameEnd = System.nanoTime();
             LOGGER.debug("Finished loading functions by name in {}ns", fnsByNameEnd - fnsByNameStart);
 
+            // load type hierarchy (generalizations and property tables), where available
+            long typeHierarchyStart = System.nanoTime();
+            LOGGER.debug("Loading type hierarchy metadata");
+            int[] typeCount = {0};
+            MutableList<String> runtimeRepositories = runtime.getCodeStorage().getAllRepositories().collect(CodeRepository::getName, Lists.mutable.empty());
+            repositories.forEach(repo ->
+            {
+                ModuleTypeHierarchyMetadata typeHierarchy = loadModuleTypeHierarchyMetadata(repo);
+                if (typeHierarchy != null)
+                {
+                    typeCount[0] += registerTypeHierarchy(context, elementLoader, typeHierarchy, runtimeRepositories);
+                }
+            });
+            long typeHierarchyEnd = System.nanoTime();
+            LOGGER.debug("Finished loading type hierarchy metadata for {} types in {}ns", typeCount[0], typeHierarchyEnd - typeHierarchyStart);
+
             // update URL pattern library
             if (initializeURLPatternLibrary)
             {
@@ -415,6 +437,37 @@ public abstract class PureCompilerLoader
         }
     }
 
+    private int registerTypeHierarchy(Context context, ElementLoader elementLoader, ModuleTypeHierarchyMetadata typeHierarchy, ListIterable<? extends String> runtimeRepositories)
+    {
+        ReferenceIdResolver resolver = elementLoader.getReferenceIdResolvers().resolver(typeHierarchy.getReferenceIdVersion());
+        MutableMap<String, CoreInstance> resolved = Maps.mutable.empty();
+        // Property tables include properties from associations, so they are only valid if the runtime has no module
+        // which the module could not see when they were generated, since such a module could add association properties
+        ImmutableList<String> availableModules = typeHierarchy.getAvailableModules();
+        boolean registerProperties = runtimeRepositories.allSatisfy(availableModules::contains);
+        typeHierarchy.getTypes().forEach(typeMetadata ->
+        {
+            CoreInstance type = resolved.getIfAbsentPutWithKey(typeMetadata.getTypeId(), resolver::resolveReference);
+            context.registerGeneralizations(type, typeMetadata.getGeneralizations().collect(id -> resolved.getIfAbsentPutWithKey(id, resolver::resolveReference)));
+            if (registerProperties && typeMetadata.getPropertiesByName().notEmpty())
+            {
+                MutableMap<String, CoreInstance> propertiesByName = Maps.mutable.ofInitialCapacity(typeMetadata.getPropertiesByName().size());
+                try
+                {
+                    typeMetadata.getPropertiesByName().forEachKeyValue((name, id) -> propertiesByName.put(name, resolved.getIfAbsentPutWithKey(id, resolver::resolveReference)));
+                }
+                catch (UnresolvableReferenceIdException e)
+                {
+                    // a property from an association in a module which is not loaded: leave it to be computed
+                    LOGGER.debug("Not registering property table for {}", typeMetadata.getTypeId(), e);
+                    return;
+                }
+                context.registerPropertiesByName(type, propertiesByName.toImmutable());
+            }
+        });
+        return typeHierarchy.getTypes().size();
+    }
+
     abstract boolean moduleManifestExists(String repository);
 
     abstract ModuleManifest loadModuleManifest(String repository);
@@ -431,6 +484,15 @@ public abstract class PureCompilerLoader
      */
     abstract ModuleBackReferenceIndex loadModuleBackReferenceIndex(String repository);
 
+    /**
+     * Load the type hierarchy metadata for a module. Returns null if not available, in which case generalizations and
+     * property tables are computed as needed.
+     *
+     * @param repository repository name
+     * @return type hierarchy metadata, or null if not available
+     */
+    abstract ModuleTypeHierarchyMetadata loadModuleTypeHierarchyMetadata(String repository);
+
     public static PureCompilerLoader newLoader(ClassLoader classLoader, BiFunction<? super ClassLoader, ? super ModelRepository, ? extends ElementBuilder> elementBuilderFactory)
     {
         return new ClassLoaderPureCompilerLoader(classLoader, elementBuilderFactory);
@@ -487,6 +549,12 @@ public abstract class PureCompilerLoader
         {
             return this.fileDeserializer.deserializeModuleBackReferenceIndexIfPresent(this.classLoader, repository);
         }
+
+        @Override
+        ModuleTypeHierarchyMetadata loadModuleTypeHierarchyMetadata(String repository)
+        {
+            return this.fileDeserializer.deserializeModuleTypeHierarchyMetadataIfPresent(this.classLoader, repository);
+        }
     }
 
     private static class DirectoryPureCompilerLoader extends PureCompilerLoader
@@ -528,5 +596,11 @@ public abstract class PureCompilerLoader
         {
             return this.fileDeserializer.deserializeModuleBackReferenceIndexIfPresent(this.directory, repository);
         }
+
+        @Override
+        ModuleTypeHierarchyMetadata loadModuleTypeHierarchyMetadata(String repository)
+        {
+            return this.fileDeserializer.deserializeModuleTypeHierarchyMetadataIfPresent(this.directory, repository);
+        }
     }
 }
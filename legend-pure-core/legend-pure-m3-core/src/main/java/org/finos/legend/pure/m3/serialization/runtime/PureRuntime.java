@@ -54,6 +54,7 @@ import org.finos.legend.pure.m3.serialization.grammar.m3parser.antlr.M3AntlrPars
 import org.finos.legend.pure.m3.serialization.grammar.m3parser.inlinedsl.InlineDSL;
 import org.finos.legend.pure.m3.serialization.runtime.IncrementalCompiler.IncrementalCompilerTransaction;
 import org.finos.legend.pure.m3.serialization.runtime.cache.PureGraphCache;
+import org.finos.legend.pure.m3.serialization.runtime.metrics.CompilerMetrics;
 import org.finos.legend.pure.m3.serialization.runtime.pattern.URLPatternLibrary;
 import org.finos.legend.pure.m3.statelistener.VoidM3M4StateListener;
 import org.finos.legend.pure.m4.ModelRepository;
@@ -856,6 +857,9 @@ public class PureRuntime
                             eventHandler.initializedFromCache();
                         }
 
+                        // Nothing has been parsed, so warm up the parsers in the background before the first edit
+                        warmUpParsers();
+
                         this.initializationError = false;
                         if (message != null)
                         {
@@ -910,6 +914,15 @@ public class PureRuntime
         this.pureRuntimeStatus.finishRuntimeInitialization();
     }
 
+    private void warmUpParsers()
+    {
+        // Parsers only warm up the shared ANTLR DFA caches, which is safe to do alongside other parses
+        ListIterable<Parser> parsers = this.incrementalCompiler.getParserLibrary().getParsers().toList();
+        Thread thread = new Thread(() -> parsers.forEach(Parser::warmUp), "Pure parser warm up");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
     public PureGraphCache getCache()
     {
         return this.cache;
@@ -985,6 +998,16 @@ public class PureRuntime
         return this.incrementalCompiler;
     }
 
+    /**
+     * Get the metrics recorded for compilation and graph loading in this runtime. Recording is disabled by default.
+     *
+     * @return compiler metrics
+     */
+    public CompilerMetrics getCompilerMetrics()
+    {
+        return this.incrementalCompiler.getCompilerMetrics();
+    }
+
     public RuntimeOptions getOptions()
     {
         return this.options;
@@ -755,6 +755,14 @@ public class BinaryModelSourceDeserializer
             this.properties.forEachValue(references -> references.reject(Reference::isResolved, target));
         }
 
+        @Override
+        public boolean hasUnresolvedReferences()
+        {
+            // References may be shared between nodes, so a resolved reference does not mean this node is done: the
+            // classifier may not have been set yet, and properties are only removed once they have been populated.
+            return (this.instance.getClassifier() == null) || this.properties.notEmpty();
+        }
+
         @Override
         public CoreInstance getInstance()
         {
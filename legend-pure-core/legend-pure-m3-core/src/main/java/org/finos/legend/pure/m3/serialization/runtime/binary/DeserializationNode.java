@@ -15,6 +15,8 @@
 package org.finos.legend.pure.m3.serialization.runtime.binary;
 
 import org.eclipse.collections.api.collection.MutableCollection;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
 import org.finos.legend.pure.m3.navigation.ProcessorSupport;
 import org.finos.legend.pure.m3.serialization.runtime.binary.reference.Reference;
 import org.finos.legend.pure.m4.ModelRepository;
@@ -36,6 +38,13 @@ public interface DeserializationNode
 
     void collectUnresolvedReferences(MutableCollection<Reference> target);
 
+    default boolean hasUnresolvedReferences()
+    {
+        MutableList<Reference> unresolved = Lists.mutable.empty();
+        collectUnresolvedReferences(unresolved);
+        return unresolved.notEmpty();
+    }
+
     CoreInstance getInstance();
 
     class ReferenceResolutionResult
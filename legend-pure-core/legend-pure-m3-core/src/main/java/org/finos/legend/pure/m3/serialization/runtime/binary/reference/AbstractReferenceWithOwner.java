@@ -38,5 +38,16 @@ public abstract class AbstractReferenceWithOwner extends AbstractReference
         return resolveFromOwner(this.ownerReference.getResolvedInstance());
     }
 
+    @Override
+    public CoreInstance getUnresolvedDependency()
+    {
+        if (isResolved())
+        {
+            return null;
+        }
+        CoreInstance owner = this.ownerReference.getResolvedInstance();
+        return (owner == null) ? this.ownerReference.getUnresolvedDependency() : owner;
+    }
+
     protected abstract CoreInstance resolveFromOwner(CoreInstance owner) throws UnresolvableReferenceException;
 }
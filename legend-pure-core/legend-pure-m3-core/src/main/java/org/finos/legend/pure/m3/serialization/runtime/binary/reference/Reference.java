@@ -64,4 +64,19 @@ public interface Reference
      * @return failure message
      */
     String getFailureMessage();
+
+    /**
+     * Get the instance that this reference is waiting on, if it is
+     * unresolved and that is known. For example, a reference to a
+     * property cannot be resolved until the properties of its owner
+     * have been populated, so it waits on the owner. Returns null if
+     * the reference is resolved or if what it is waiting on is not
+     * known.
+     *
+     * @return instance the reference is waiting on (or null)
+     */
+    default CoreInstance getUnresolvedDependency()
+    {
+        return null;
+    }
 }
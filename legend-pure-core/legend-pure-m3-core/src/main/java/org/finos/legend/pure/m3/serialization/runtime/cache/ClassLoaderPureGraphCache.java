@@ -91,6 +91,7 @@ public class ClassLoaderPureGraphCache implements PureGraphCache
             MutableList<String> repoNames = codeStorage.getAllRepositories().collect(CodeRepository::getName).toSortedList(new RepositoryComparator(codeStorage.getAllRepositories()));
             PureRepositoryJarLibrary jarLibrary = SimplePureRepositoryJarLibrary.newLibrary(GraphLoader.findJars(repoNames, this.classLoader, message));
             GraphLoader loader = new GraphLoader(modelRepository, context, parserLibrary, this.runtime.getIncrementalCompiler().getDslLibrary(), sourceRegistry, null, jarLibrary, this.forkJoinPool);
+            loader.setCompilerMetrics(this.runtime.getCompilerMetrics());
             for (String repoName : repoNames)
             {
                 loader.loadRepository(repoName, message);
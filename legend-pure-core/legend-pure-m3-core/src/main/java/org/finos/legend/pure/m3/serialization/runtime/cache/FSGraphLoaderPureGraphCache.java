@@ -84,6 +84,7 @@ public class FSGraphLoaderPureGraphCache extends AbstractFSDirectoryPureGraphCac
         }
         PureRepositoryJarLibrary jarLibrary = SimplePureRepositoryJarLibrary.newLibraryFromDirectory(getCacheLocation());
         GraphLoader loader = new GraphLoader(modelRepository, context, library, this.pureRuntime.getIncrementalCompiler().getDslLibrary(), sources, null, jarLibrary, this.forkJoinPool);
+        loader.setCompilerMetrics(this.pureRuntime.getCompilerMetrics());
         if (this.allowBuildingFromRepoSubset)
         {
             repoNames.removeIf(repoName -> !loader.isKnownRepository(repoName));
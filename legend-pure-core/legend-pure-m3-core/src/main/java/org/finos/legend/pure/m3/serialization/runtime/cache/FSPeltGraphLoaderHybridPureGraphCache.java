@@ -96,6 +96,7 @@ public class FSPeltGraphLoaderHybridPureGraphCache extends AbstractFSDirectoryPu
         if (parRepos.size() == repoNames.size())
         {
             GraphLoader graphLoader = new GraphLoader(modelRepository, context, library, this.pureRuntime.getIncrementalCompiler().getDslLibrary(), sources, null, jarLibrary, this.forkJoinPool);
+            graphLoader.setCompilerMetrics(this.pureRuntime.getCompilerMetrics());
             parRepos.sortThis(new RepositoryComparator(codeStorage.getAllRepositories()))
                     .forEach(repoName -> graphLoader.loadRepository(repoName, message));
             updateCacheState();
@@ -111,6 +112,7 @@ public class FSPeltGraphLoaderHybridPureGraphCache extends AbstractFSDirectoryPu
             else
             {
                 GraphLoader graphLoader = new GraphLoader(modelRepository, context, library, this.pureRuntime.getIncrementalCompiler().getDslLibrary(), sources, null, jarLibrary, this.forkJoinPool);
+                graphLoader.setCompilerMetrics(this.pureRuntime.getCompilerMetrics());
                 parRepos.sortThis(new RepositoryComparator(codeStorage.getAllRepositories()))
                         .forEach(repoName -> graphLoader.loadRepository(repoName, message));
             }
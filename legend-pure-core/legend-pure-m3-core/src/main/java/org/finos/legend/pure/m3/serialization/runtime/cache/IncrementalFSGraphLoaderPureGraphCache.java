@@ -0,0 +1,680 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.serialization.runtime.cache;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.finos.legend.pure.m3.compiler.Context;
+import org.finos.legend.pure.m3.navigation.ProcessorSupport;
+import org.finos.legend.pure.m3.serialization.filesystem.repository.CodeRepository;
+import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.RepositoryCodeStorage;
+import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.composite.CompositeCodeStorage;
+import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.welcome.WelcomeCodeStorage;
+import org.finos.legend.pure.m3.serialization.grammar.ParserLibrary;
+import org.finos.legend.pure.m3.serialization.runtime.GraphLoader;
+import org.finos.legend.pure.m3.serialization.runtime.Message;
+import org.finos.legend.pure.m3.serialization.runtime.Source;
+import org.finos.legend.pure.m3.serialization.runtime.SourceRegistry;
+import org.finos.legend.pure.m3.serialization.runtime.binary.BinaryModelRepositorySerializer;
+import org.finos.legend.pure.m3.serialization.runtime.binary.PureRepositoryJarLibrary;
+import org.finos.legend.pure.m3.serialization.runtime.binary.PureRepositoryJarTools;
+import org.finos.legend.pure.m3.serialization.runtime.binary.SimplePureRepositoryJarLibrary;
+import org.finos.legend.pure.m3.tools.forkjoin.ForkJoinTools;
+import org.finos.legend.pure.m4.ModelRepository;
+import org.finos.legend.pure.m4.serialization.Reader;
+import org.finos.legend.pure.m4.serialization.Writer;
+import org.finos.legend.pure.m4.serialization.binary.BinaryReaders;
+import org.finos.legend.pure.m4.serialization.binary.BinaryWriters;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A graph cache which stores a PAR file for each repository in a directory, like
+ * {@link FSGraphLoaderPureGraphCache}, but which maintains the cache incrementally and verifies it before loading.
+ * <br>
+ * Next to each PAR file, a checksum file records a fingerprint of the sources the PAR file was serialized from and a
+ * SHA-256 hash of the PAR file itself. When the cache is written, only repositories whose fingerprint has changed (or
+ * whose files are missing or corrupt) are serialized again. The fingerprint of a repository covers its own sources and
+ * the sources of every repository it depends on, since its compiled graph depends on them too. Files are written to a
+ * temporary file and then moved into place, PAR file first, so an interrupted write leaves either the previous files
+ * or a PAR file which does not match its checksum.
+ * <br>
+ * Repositories are serialized in the calling thread, so that the graph is not modified while it is serialized, but
+ * the files may optionally be written in the background. Before the cache is read or deleted, any pending writes are
+ * completed.
+ * <br>
+ * When building from the cache, each PAR file is checked against its checksum. A repository whose PAR file is missing
+ * or does not match is not loaded, and neither is any repository which depends on it. The files of such a repository
+ * are deleted, so that it is serialized again the next time the cache is written. As long as some repositories could
+ * be loaded, the build succeeds: the sources of the repositories which were not loaded are compiled when the runtime
+ * reconciles its sources with its code storage (see {@link org.finos.legend.pure.m3.serialization.runtime.PureRuntime#initializeFromCache(Message)}).
+ */
+public class IncrementalFSGraphLoaderPureGraphCache extends AbstractFSDirectoryPureGraphCache
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(IncrementalFSGraphLoaderPureGraphCache.class);
+
+    private static final String ROOT_REPOSITORY_NAME = "root";
+    private static final String CHECKSUM_FILE_EXTENSION = ".checksum";
+    private static final long SIGNATURE = Long.parseLong("PureCacheSum", 36);
+    private static final int FORMAT_VERSION = 1;
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    private final ForkJoinPool forkJoinPool;
+    private final ExecutorService writeExecutor;
+    private final Object writeLock = new Object();
+    private Future<?> pendingWrite;
+    private volatile ImmutableList<String> lastWrittenRepositories = Lists.immutable.empty();
+    private volatile ImmutableList<String> lastSkippedRepositories = Lists.immutable.empty();
+
+    public IncrementalFSGraphLoaderPureGraphCache(Path cacheDirectory, boolean writeInBackground, ForkJoinPool forkJoinPool, Message message)
+    {
+        super(cacheDirectory);
+        this.forkJoinPool = forkJoinPool;
+        this.writeExecutor = writeInBackground ? new ThreadPoolExecutor(0, 1, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), IncrementalFSGraphLoaderPureGraphCache::newWriterThread) : null;
+        initializeCacheState(message);
+    }
+
+    public IncrementalFSGraphLoaderPureGraphCache(Path cacheDirectory, boolean writeInBackground, Message message)
+    {
+        this(cacheDirectory, writeInBackground, null, message);
+    }
+
+    public IncrementalFSGraphLoaderPureGraphCache(Path cacheDirectory)
+    {
+        this(cacheDirectory, false, null, null);
+    }
+
+    /**
+     * The repositories which were serialized by the last write of the cache. Repositories which had not changed since
+     * they were previously cached are not included.
+     *
+     * @return repositories written by the last write
+     */
+    public ImmutableList<String> getLastWrittenRepositories()
+    {
+        return this.lastWrittenRepositories;
+    }
+
+    /**
+     * The repositories which were not loaded by the last build from the cache, either because their PAR file was
+     * missing or did not match its checksum, or because they depend on such a repository.
+     *
+     * @return repositories skipped by the last build
+     */
+    public ImmutableList<String> getLastSkippedRepositories()
+    {
+        return this.lastSkippedRepositories;
+    }
+
+    /**
+     * Wait until any files being written in the background have been written. If writing failed, the exception is
+     * rethrown.
+     */
+    public void awaitPendingWrites()
+    {
+        Future<?> future;
+        synchronized (this.writeLock)
+        {
+            future = this.pendingWrite;
+            this.pendingWrite = null;
+        }
+        if (future != null)
+        {
+            try
+            {
+                future.get();
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for cache files to be written", e);
+            }
+            catch (ExecutionException e)
+            {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException)
+                {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error)
+                {
+                    throw (Error) cause;
+                }
+                throw new RuntimeException("Error writing cache files", cause);
+            }
+        }
+    }
+
+    @Override
+    public void cacheRepoAndSources()
+    {
+        // unlike other caches, the existing cache is kept: unchanged repositories are not written again
+        try
+        {
+            writeCaches();
+            if (this.writeExecutor == null)
+            {
+                updateCacheState();
+            }
+        }
+        catch (RuntimeException | Error e)
+        {
+            updateCacheState(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void clearCaches()
+    {
+        try
+        {
+            awaitPendingWrites();
+        }
+        catch (RuntimeException e)
+        {
+            // the cache is being deleted anyway
+            LOGGER.debug("Error writing cache files before deleting the cache", e);
+        }
+        super.clearCaches();
+    }
+
+    @Override
+    protected void writeCaches()
+    {
+        awaitPendingWrites();
+
+        RepositoryCodeStorage codeStorage = this.pureRuntime.getCodeStorage();
+        ListIterable<CodeRepository> repositories = getSortedRepositories(codeStorage);
+        MutableList<String> repoNames = repositories.collect(CodeRepository::getName, Lists.mutable.empty());
+        if (shouldAddRootRepo())
+        {
+            repoNames.add(ROOT_REPOSITORY_NAME);
+        }
+
+        MapIterable<String, byte[]> fingerprints = computeFingerprints(repositories, repoNames);
+        MutableList<String> toWrite = repoNames.select(repoName ->
+        {
+            CacheChecksum checksum = readChecksum(repoName);
+            return (checksum == null) || !Arrays.equals(checksum.sourceFingerprint, fingerprints.get(repoName)) || !checksum.matchesJar(getRepositoryJarPath(repoName));
+        });
+
+        // serialize in this thread (or the fork join pool), while the graph is known not to change
+        ListIterable<Pair<String, byte[]>> serialized = (this.forkJoinPool == null) ?
+                toWrite.collect(this::serializeRepository) :
+                ForkJoinTools.collect(this.forkJoinPool, toWrite, this::serializeRepository, 1);
+        this.lastWrittenRepositories = toWrite.toImmutable();
+        if (toWrite.size() < repoNames.size())
+        {
+            LOGGER.debug("Repositories unchanged since they were last cached: {}", repoNames.reject(toWrite::contains));
+        }
+
+        Runnable write = () -> writeFiles(serialized, fingerprints, repoNames);
+        if (this.writeExecutor == null)
+        {
+            write.run();
+        }
+        else
+        {
+            synchronized (this.writeLock)
+            {
+                this.pendingWrite = this.writeExecutor.submit(() ->
+                {
+                    try
+                    {
+                        write.run();
+                        updateCacheState();
+                    }
+                    catch (RuntimeException | Error e)
+                    {
+                        LOGGER.error("Error writing cache files to {}", getCacheLocation(), e);
+                        updateCacheState(e);
+                        throw e;
+                    }
+                });
+            }
+        }
+    }
+
+    @Override
+    protected boolean buildFromCaches(ModelRepository modelRepository, SourceRegistry sources, ParserLibrary library, Context context, ProcessorSupport processorSupport, Message message)
+    {
+        awaitPendingWrites();
+
+        RepositoryCodeStorage codeStorage = this.pureRuntime.getCodeStorage();
+        ListIterable<CodeRepository> repositories = getSortedRepositories(codeStorage);
+        MutableList<String> validRepoNames = Lists.mutable.empty();
+        MutableList<String> skippedRepoNames = Lists.mutable.empty();
+        MutableList<CodeRepository> invalidRepositories = Lists.mutable.empty();
+        repositories.forEach(repository ->
+        {
+            String repoName = repository.getName();
+            CodeRepository invalidDependency = invalidRepositories.detect(repository::isVisible);
+            if (invalidDependency != null)
+            {
+                LOGGER.info("Not loading repository {} from the cache: it depends on repository {}, which could not be loaded", repoName, invalidDependency.getName());
+                skippedRepoNames.add(repoName);
+                invalidRepositories.add(repository);
+            }
+            else if (verifyRepository(repoName))
+            {
+                validRepoNames.add(repoName);
+            }
+            else
+            {
+                skippedRepoNames.add(repoName);
+                invalidRepositories.add(repository);
+            }
+        });
+        if (shouldAddRootRepo())
+        {
+            // the root repository may depend on any repository
+            if (invalidRepositories.isEmpty() && verifyRepository(ROOT_REPOSITORY_NAME))
+            {
+                validRepoNames.add(ROOT_REPOSITORY_NAME);
+            }
+            else
+            {
+                skippedRepoNames.add(ROOT_REPOSITORY_NAME);
+            }
+        }
+        this.lastSkippedRepositories = skippedRepoNames.toImmutable();
+
+        if (validRepoNames.isEmpty())
+        {
+            if (message != null)
+            {
+                message.setMessage("  No valid repositories in the cache");
+            }
+            return false;
+        }
+        if (skippedRepoNames.notEmpty() && (message != null))
+        {
+            message.setMessage(String.format("  Skipping %,d invalid or dependent repositories in the cache: %s", skippedRepoNames.size(), skippedRepoNames.makeString(", ")));
+        }
+
+        PureRepositoryJarLibrary jarLibrary = SimplePureRepositoryJarLibrary.newLibraryFromPaths(validRepoNames.collect(this::getRepositoryJarPath));
+        GraphLoader loader = new GraphLoader(modelRepository, context, library, this.pureRuntime.getIncrementalCompiler().getDslLibrary(), sources, null, jarLibrary, this.forkJoinPool);
+        loader.setCompilerMetrics(this.pureRuntime.getCompilerMetrics());
+        validRepoNames.forEach(repoName -> loader.loadRepository(repoName, message));
+        updateCacheState();
+        return true;
+    }
+
+    @Override
+    protected boolean cacheExists()
+    {
+        if (Files.notExists(getCacheLocation()))
+        {
+            return false;
+        }
+
+        try (DirectoryStream<Path> dirStream = Files.newDirectoryStream(getCacheLocation(), PureRepositoryJarTools::hasPureJarExtension))
+        {
+            return dirStream.iterator().hasNext();
+        }
+        catch (Exception e)
+        {
+            return false;
+        }
+    }
+
+    private ListIterable<CodeRepository> getSortedRepositories(RepositoryCodeStorage codeStorage)
+    {
+        return CodeRepository.toSortedRepositoryList(codeStorage.getAllRepositories());
+    }
+
+    private boolean shouldAddRootRepo()
+    {
+        return this.pureRuntime.getCodeStorage().isFile(WelcomeCodeStorage.WELCOME_FILE_PATH);
+    }
+
+    private boolean verifyRepository(String repoName)
+    {
+        Path jarPath = getRepositoryJarPath(repoName);
+        String problem;
+        if (Files.notExists(jarPath))
+        {
+            problem = "PAR file is missing";
+        }
+        else
+        {
+            CacheChecksum checksum = readChecksum(repoName);
+            if (checksum == null)
+            {
+                problem = "checksum is missing or unreadable";
+            }
+            else if (!checksum.matchesJar(jarPath))
+            {
+                problem = "PAR file does not match its checksum";
+            }
+            else
+            {
+                return true;
+            }
+        }
+
+        LOGGER.warn("Not loading repository {} from the cache: {}", repoName, problem);
+        deleteRepositoryFiles(repoName);
+        return false;
+    }
+
+    private MapIterable<String, byte[]> computeFingerprints(ListIterable<CodeRepository> repositories, ListIterable<String> repoNames)
+    {
+        // hash the sources of each repository
+        MutableMap<String, MutableList<Source>> sourcesByRepo = Maps.mutable.empty();
+        this.pureRuntime.getSourceRegistry().getSources().forEach(source ->
+        {
+            String repoName = CompositeCodeStorage.getSourceRepoName(source.getId());
+            sourcesByRepo.getIfAbsentPut((repoName == null) ? ROOT_REPOSITORY_NAME : repoName, Lists.mutable::empty).add(source);
+        });
+        MutableMap<String, byte[]> sourceHashes = Maps.mutable.ofInitialCapacity(repoNames.size());
+        repoNames.forEach(repoName ->
+        {
+            MessageDigest digest = newMessageDigest();
+            sourcesByRepo.getIfAbsentValue(repoName, Lists.mutable.empty()).sortThisBy(Source::getId).forEach(source ->
+            {
+                updateDigest(digest, source.getId());
+                updateDigest(digest, source.getContent());
+            });
+            sourceHashes.put(repoName, digest.digest());
+        });
+
+        // combine the hashes of each repository and the repositories it depends on
+        MutableMap<String, byte[]> fingerprints = Maps.mutable.ofInitialCapacity(repoNames.size());
+        repositories.forEach(repository ->
+        {
+            MessageDigest digest = newMessageDigest();
+            repositories.forEach(other ->
+            {
+                if ((other == repository) || repository.isVisible(other))
+                {
+                    updateDigest(digest, other.getName());
+                    digest.update(sourceHashes.get(other.getName()));
+                }
+            });
+            fingerprints.put(repository.getName(), digest.digest());
+        });
+        if (repoNames.contains(ROOT_REPOSITORY_NAME))
+        {
+            MessageDigest digest = newMessageDigest();
+            repoNames.forEach(repoName ->
+            {
+                updateDigest(digest, repoName);
+                digest.update(sourceHashes.get(repoName));
+            });
+            fingerprints.put(ROOT_REPOSITORY_NAME, digest.digest());
+        }
+        return fingerprints;
+    }
+
+    private Pair<String, byte[]> serializeRepository(String repoName)
+    {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        try
+        {
+            BinaryModelRepositorySerializer.serialize(stream, ROOT_REPOSITORY_NAME.equals(repoName) ? null : repoName, this.pureRuntime);
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException("Error serializing cache for " + repoName, e);
+        }
+        return Tuples.pair(repoName, stream.toByteArray());
+    }
+
+    private void writeFiles(ListIterable<Pair<String, byte[]>> serialized, MapIterable<String, byte[]> fingerprints, ListIterable<String> repoNames)
+    {
+        serialized.forEach(pair ->
+        {
+            String repoName = pair.getOne();
+            byte[] jarBytes = pair.getTwo();
+            CacheChecksum checksum = new CacheChecksum(repoName, fingerprints.get(repoName), jarBytes.length, computeHash(jarBytes));
+            // write the PAR file first: if the checksum is not written, the previous one will not match
+            writeFileAtomically(getRepositoryJarPath(repoName), stream -> stream.write(jarBytes));
+            writeFileAtomically(getChecksumPath(repoName), checksum::write);
+        });
+        deleteStaleFiles(repoNames);
+    }
+
+    private void deleteStaleFiles(ListIterable<String> repoNames)
+    {
+        MutableSet<String> expectedFileNames = Sets.mutable.empty();
+        repoNames.forEach(repoName ->
+        {
+            expectedFileNames.add(getRepositoryJarPath(repoName).getFileName().toString());
+            expectedFileNames.add(getChecksumPath(repoName).getFileName().toString());
+        });
+        try (DirectoryStream<Path> dirStream = Files.newDirectoryStream(getCacheLocation(), path -> !expectedFileNames.contains(path.getFileName().toString())))
+        {
+            for (Path path : dirStream)
+            {
+                if (Files.isRegularFile(path))
+                {
+                    LOGGER.debug("Deleting stale cache file {}", path);
+                    Files.delete(path);
+                }
+            }
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException("Error deleting stale cache files in " + getCacheLocation(), e);
+        }
+    }
+
+    private void deleteRepositoryFiles(String repoName)
+    {
+        try
+        {
+            Files.deleteIfExists(getChecksumPath(repoName));
+            Files.deleteIfExists(getRepositoryJarPath(repoName));
+        }
+        catch (IOException e)
+        {
+            LOGGER.warn("Error deleting cache files for repository {}", repoName, e);
+        }
+    }
+
+    private CacheChecksum readChecksum(String repoName)
+    {
+        Path path = getChecksumPath(repoName);
+        if (Files.notExists(path))
+        {
+            return null;
+        }
+        try (InputStream stream = Files.newInputStream(path))
+        {
+            return CacheChecksum.read(stream, repoName);
+        }
+        catch (Exception e)
+        {
+            LOGGER.warn("Could not read cache checksum for repository {} from {}", repoName, path, e);
+            return null;
+        }
+    }
+
+    private Path getRepositoryJarPath(String repoName)
+    {
+        return getCacheLocation().resolve(repoName + PureRepositoryJarTools.PURE_JAR_EXTENSION);
+    }
+
+    private Path getChecksumPath(String repoName)
+    {
+        return getCacheLocation().resolve(repoName + CHECKSUM_FILE_EXTENSION);
+    }
+
+    private static void writeFileAtomically(Path path, StreamWriter writer)
+    {
+        Path tmpPath = path.resolveSibling(path.getFileName() + ".tmp");
+        try
+        {
+            try (OutputStream stream = Files.newOutputStream(tmpPath))
+            {
+                writer.write(stream);
+            }
+            try
+            {
+                Files.move(tmpPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            }
+            catch (AtomicMoveNotSupportedException e)
+            {
+                Files.move(tmpPath, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException("Error writing cache file " + path, e);
+        }
+    }
+
+    private static void updateDigest(MessageDigest digest, String string)
+    {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        int length = bytes.length;
+        // prefix with the length, so that different sequences of strings never produce the same bytes
+        digest.update(new byte[]{(byte) (length >>> 24), (byte) (length >>> 16), (byte) (length >>> 8), (byte) length});
+        digest.update(bytes);
+    }
+
+    private static byte[] computeHash(byte[] bytes)
+    {
+        return newMessageDigest().digest(bytes);
+    }
+
+    private static MessageDigest newMessageDigest()
+    {
+        try
+        {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static Thread newWriterThread(Runnable runnable)
+    {
+        Thread thread = new Thread(runnable, "Pure graph cache writer");
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private interface StreamWriter
+    {
+        void write(OutputStream stream) throws IOException;
+    }
+
+    private static class CacheChecksum
+    {
+        private final String repoName;
+        private final byte[] sourceFingerprint;
+        private final long jarLength;
+        private final byte[] jarHash;
+
+        private CacheChecksum(String repoName, byte[] sourceFingerprint, long jarLength, byte[] jarHash)
+        {
+            this.repoName = repoName;
+            this.sourceFingerprint = sourceFingerprint;
+            this.jarLength = jarLength;
+            this.jarHash = jarHash;
+        }
+
+        private boolean matchesJar(Path jarPath)
+        {
+            try
+            {
+                // check the length first to avoid reading a truncated file
+                return Files.isRegularFile(jarPath) &&
+                        (Files.size(jarPath) == this.jarLength) &&
+                        Arrays.equals(this.jarHash, computeHash(Files.readAllBytes(jarPath)));
+            }
+            catch (IOException e)
+            {
+                LOGGER.warn("Could not read cache file {}", jarPath, e);
+                return false;
+            }
+        }
+
+        private void write(OutputStream stream)
+        {
+            try (Writer writer = BinaryWriters.newBinaryWriter(stream, false))
+            {
+                writer.writeLong(SIGNATURE);
+                writer.writeInt(FORMAT_VERSION);
+                writer.writeString(this.repoName);
+                writer.writeByteArray(this.sourceFingerprint);
+                writer.writeLong(this.jarLength);
+                writer.writeByteArray(this.jarHash);
+            }
+        }
+
+        private static CacheChecksum read(InputStream stream, String expectedRepoName)
+        {
+            try (Reader reader = BinaryReaders.newBinaryReader(stream, false))
+            {
+                long signature = reader.readLong();
+                if (signature != SIGNATURE)
+                {
+                    throw new IllegalArgumentException("Invalid file format: not a Pure graph cache checksum file");
+                }
+                int version = reader.readInt();
+                if (version != FORMAT_VERSION)
+                {
+                    throw new IllegalArgumentException("Unknown Pure graph cache checksum file version: " + version);
+                }
+                String repoName = reader.readString();
+                if (!repoName.equals(expectedRepoName))
+                {
+                    throw new IllegalArgumentException("Expected checksum for repository " + expectedRepoName + ", found " + repoName);
+                }
+                byte[] sourceFingerprint = reader.readByteArray();
+                long jarLength = reader.readLong();
+                byte[] jarHash = reader.readByteArray();
+                return new CacheChecksum(repoName, sourceFingerprint, jarLength, jarHash);
+            }
+        }
+    }
+}
@@ -105,6 +105,7 @@ public class MemoryGraphLoaderPureGraphCache extends AbstractPureGraphCache
     {
         PureRepositoryJarLibrary jarLibrary = SimplePureRepositoryJarLibrary.newLibrary(this.jars);
         GraphLoader loader = new GraphLoader(modelRepository, context, library, this.pureRuntime.getIncrementalCompiler().getDslLibrary(), sources, null, jarLibrary, this.forkJoinPool);
+        loader.setCompilerMetrics(this.pureRuntime.getCompilerMetrics());
         loader.loadAll(message);
         updateCacheState();
         return true;
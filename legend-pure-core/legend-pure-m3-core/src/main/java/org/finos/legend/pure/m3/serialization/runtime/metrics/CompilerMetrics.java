@@ -0,0 +1,302 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.serialization.runtime.metrics;
+
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.map.ConcurrentMutableMap;
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records per-phase, per-repository, and per-source metrics for compilation and graph loading: durations, instance
+ * counts, and (where the JVM supports it) bytes allocated by the recording thread. Recording is disabled by default,
+ * in which case timers are no-ops.
+ * <p>
+ * Metrics are aggregated until {@link #clear()} is called, and each recorded set of metrics is also passed to any
+ * registered {@link CompilerMetricsListener} (e.g., {@link JfrCompilerMetricsListener}).
+ */
+public class CompilerMetrics
+{
+    private static final Timer DISABLED_TIMER = new Timer(null, 0L, -1L);
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = findThreadMXBean();
+
+    private final CopyOnWriteArrayList<CompilerMetricsListener> listeners = new CopyOnWriteArrayList<>();
+    private final EnumMap<CompilerPhase, Aggregate> phaseAggregates = new EnumMap<>(CompilerPhase.class);
+    private final ConcurrentMutableMap<String, EnumMap<CompilerPhase, Aggregate>> repositoryAggregates = ConcurrentHashMap.newMap();
+    private final ConcurrentMutableMap<String, CompilerPhaseMetrics> sourceMetrics = ConcurrentHashMap.newMap();
+    private volatile boolean enabled;
+
+    public CompilerMetrics(boolean enabled)
+    {
+        this.enabled = enabled;
+        for (CompilerPhase phase : CompilerPhase.values())
+        {
+            this.phaseAggregates.put(phase, new Aggregate());
+        }
+    }
+
+    public CompilerMetrics()
+    {
+        this(false);
+    }
+
+    public boolean isEnabled()
+    {
+        return this.enabled;
+    }
+
+    public void setEnabled(boolean enabled)
+    {
+        this.enabled = enabled;
+    }
+
+    public void addListener(CompilerMetricsListener listener)
+    {
+        this.listeners.add(listener);
+    }
+
+    public void removeListener(CompilerMetricsListener listener)
+    {
+        this.listeners.remove(listener);
+    }
+
+    /**
+     * Start timing a phase on the current thread. If recording is disabled, the timer is a no-op.
+     *
+     * @return timer
+     */
+    public Timer startTimer()
+    {
+        return this.enabled ? new Timer(this, System.nanoTime(), getCurrentThreadAllocatedBytes()) : DISABLED_TIMER;
+    }
+
+    /**
+     * Record a set of phase metrics. This is ignored if recording is disabled.
+     *
+     * @param metrics phase metrics
+     */
+    public void record(CompilerPhaseMetrics metrics)
+    {
+        if (!this.enabled)
+        {
+            return;
+        }
+
+        this.phaseAggregates.get(metrics.getPhase()).add(metrics);
+        if (metrics.getRepository() != null)
+        {
+            this.repositoryAggregates.getIfAbsentPut(metrics.getRepository(), CompilerMetrics::newAggregates).get(metrics.getPhase()).add(metrics);
+        }
+        if (metrics.getSourceId() != null)
+        {
+            this.sourceMetrics.put(metrics.getSourceId(), metrics);
+        }
+        this.listeners.forEach(l -> l.recorded(metrics));
+    }
+
+    /**
+     * Get the summary of all metrics recorded for a phase.
+     *
+     * @param phase compiler phase
+     * @return phase summary
+     */
+    public CompilerMetricsSummary getPhaseSummary(CompilerPhase phase)
+    {
+        return this.phaseAggregates.get(phase).toSummary();
+    }
+
+    /**
+     * Get summaries of all metrics recorded for each phase.
+     *
+     * @return phase summaries
+     */
+    public MapIterable<CompilerPhase, CompilerMetricsSummary> getPhaseSummaries()
+    {
+        return toSummaries(this.phaseAggregates);
+    }
+
+    /**
+     * Get summaries of the metrics recorded for each phase for each repository. Phases which were not specific to a
+     * repository (such as unloading) are not included.
+     *
+     * @return phase summaries by repository
+     */
+    public MapIterable<String, MapIterable<CompilerPhase, CompilerMetricsSummary>> getRepositorySummaries()
+    {
+        MutableMap<String, MapIterable<CompilerPhase, CompilerMetricsSummary>> summaries = Maps.mutable.empty();
+        this.repositoryAggregates.forEachKeyValue((repo, aggregates) -> summaries.put(repo, toSummaries(aggregates)));
+        return summaries;
+    }
+
+    /**
+     * Get the most recently recorded source-specific metrics for each source (e.g., the most recent parse).
+     *
+     * @return metrics by source id
+     */
+    public MapIterable<String, CompilerPhaseMetrics> getSourceMetrics()
+    {
+        return Maps.immutable.withAll(this.sourceMetrics);
+    }
+
+    /**
+     * Clear all recorded metrics. Listeners are retained.
+     */
+    public void clear()
+    {
+        this.phaseAggregates.values().forEach(Aggregate::clear);
+        this.repositoryAggregates.clear();
+        this.sourceMetrics.clear();
+    }
+
+    /**
+     * Whether the bytes allocated by a thread can be measured in this JVM.
+     *
+     * @return whether allocation measurement is available
+     */
+    public static boolean isAllocationMeasurementAvailable()
+    {
+        return THREAD_MX_BEAN != null;
+    }
+
+    private static long getCurrentThreadAllocatedBytes()
+    {
+        return (THREAD_MX_BEAN == null) ? -1L : THREAD_MX_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static com.sun.management.ThreadMXBean findThreadMXBean()
+    {
+        try
+        {
+            java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (bean instanceof com.sun.management.ThreadMXBean)
+            {
+                com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+                if (sunBean.isThreadAllocatedMemorySupported() && sunBean.isThreadAllocatedMemoryEnabled())
+                {
+                    return sunBean;
+                }
+            }
+        }
+        catch (LinkageError | RuntimeException ignore)
+        {
+            // allocation measurement is not available
+        }
+        return null;
+    }
+
+    private static EnumMap<CompilerPhase, Aggregate> newAggregates()
+    {
+        EnumMap<CompilerPhase, Aggregate> aggregates = new EnumMap<>(CompilerPhase.class);
+        for (CompilerPhase phase : CompilerPhase.values())
+        {
+            aggregates.put(phase, new Aggregate());
+        }
+        return aggregates;
+    }
+
+    private static MapIterable<CompilerPhase, CompilerMetricsSummary> toSummaries(EnumMap<CompilerPhase, Aggregate> aggregates)
+    {
+        MutableMap<CompilerPhase, CompilerMetricsSummary> summaries = Maps.mutable.empty();
+        aggregates.forEach((phase, aggregate) ->
+        {
+            CompilerMetricsSummary summary = aggregate.toSummary();
+            if (summary.getCount() > 0)
+            {
+                summaries.put(phase, summary);
+            }
+        });
+        return summaries;
+    }
+
+    /**
+     * Timer for a single execution of a phase, started by {@link #startTimer()}. A timer should be stopped on the
+     * thread which started it, so that allocation is measured correctly.
+     */
+    public static class Timer
+    {
+        private final CompilerMetrics metrics;
+        private final long startNanos;
+        private final long startAllocatedBytes;
+
+        private Timer(CompilerMetrics metrics, long startNanos, long startAllocatedBytes)
+        {
+            this.metrics = metrics;
+            this.startNanos = startNanos;
+            this.startAllocatedBytes = startAllocatedBytes;
+        }
+
+        /**
+         * Stop the timer and record metrics for the phase.
+         *
+         * @param phase         compiler phase
+         * @param repository    repository (may be null)
+         * @param sourceId      source id (may be null)
+         * @param instanceCount number of instances processed
+         */
+        public void stop(CompilerPhase phase, String repository, String sourceId, int instanceCount)
+        {
+            if (this.metrics != null)
+            {
+                long duration = System.nanoTime() - this.startNanos;
+                long allocated = (this.startAllocatedBytes < 0) ? -1L : Math.max(0L, getCurrentThreadAllocatedBytes() - this.startAllocatedBytes);
+                this.metrics.record(new CompilerPhaseMetrics(phase, repository, sourceId, duration, instanceCount, allocated));
+            }
+        }
+    }
+
+    private static class Aggregate
+    {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder durationNanos = new LongAdder();
+        private final LongAdder instanceCount = new LongAdder();
+        private final LongAdder allocatedBytes = new LongAdder();
+        private final LongAdder allocationUnknown = new LongAdder();
+
+        void add(CompilerPhaseMetrics metrics)
+        {
+            this.count.increment();
+            this.durationNanos.add(metrics.getDurationNanos());
+            this.instanceCount.add(metrics.getInstanceCount());
+            if (metrics.getAllocatedBytes() < 0)
+            {
+                this.allocationUnknown.increment();
+            }
+            else
+            {
+                this.allocatedBytes.add(metrics.getAllocatedBytes());
+            }
+        }
+
+        void clear()
+        {
+            this.count.reset();
+            this.durationNanos.reset();
+            this.instanceCount.reset();
+            this.allocatedBytes.reset();
+            this.allocationUnknown.reset();
+        }
+
+        CompilerMetricsSummary toSummary()
+        {
+            return new CompilerMetricsSummary(this.count.sum(), this.durationNanos.sum(), this.instanceCount.sum(), (this.allocationUnknown.sum() > 0) ? -1L : this.allocatedBytes.sum());
+        }
+    }
+}
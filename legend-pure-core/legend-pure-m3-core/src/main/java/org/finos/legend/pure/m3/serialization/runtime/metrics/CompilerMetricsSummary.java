@@ -0,0 +1,81 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.serialization.runtime.metrics;
+
+/**
+ * Aggregate of the metrics recorded for a phase (possibly restricted to a repository).
+ */
+public class CompilerMetricsSummary
+{
+    private final long count;
+    private final long totalDurationNanos;
+    private final long totalInstanceCount;
+    private final long totalAllocatedBytes;
+
+    CompilerMetricsSummary(long count, long totalDurationNanos, long totalInstanceCount, long totalAllocatedBytes)
+    {
+        this.count = count;
+        this.totalDurationNanos = totalDurationNanos;
+        this.totalInstanceCount = totalInstanceCount;
+        this.totalAllocatedBytes = totalAllocatedBytes;
+    }
+
+    /**
+     * Number of executions of the phase.
+     *
+     * @return execution count
+     */
+    public long getCount()
+    {
+        return this.count;
+    }
+
+    /**
+     * Total duration of all executions of the phase. Note that executions may overlap (e.g., sources parsed in
+     * parallel), in which case this is greater than the elapsed time.
+     *
+     * @return total duration in nanoseconds
+     */
+    public long getTotalDurationNanos()
+    {
+        return this.totalDurationNanos;
+    }
+
+    public long getTotalInstanceCount()
+    {
+        return this.totalInstanceCount;
+    }
+
+    /**
+     * Total bytes allocated by all executions of the phase, or -1 if allocation measurement is not available.
+     *
+     * @return total allocated bytes or -1
+     */
+    public long getTotalAllocatedBytes()
+    {
+        return this.totalAllocatedBytes;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "<" + getClass().getSimpleName() +
+                " count=" + this.count +
+                " totalDurationNanos=" + this.totalDurationNanos +
+                " totalInstanceCount=" + this.totalInstanceCount +
+                " totalAllocatedBytes=" + this.totalAllocatedBytes +
+                ">";
+    }
+}
@@ -0,0 +1,51 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.serialization.runtime.metrics;
+
+/**
+ * Phases of compilation and graph loading for which metrics are recorded.
+ */
+public enum CompilerPhase
+{
+    /**
+     * Parsing a single source.
+     */
+    PARSE,
+
+    /**
+     * Unloading instances from deleted or modified sources.
+     */
+    UNLOAD,
+
+    /**
+     * Unbinding instances which referenced unloaded instances.
+     */
+    UNBIND,
+
+    /**
+     * Post-processing ({@link org.finos.legend.pure.m3.compiler.postprocessing.PostProcessor}).
+     */
+    POST_PROCESS,
+
+    /**
+     * Validation ({@link org.finos.legend.pure.m3.compiler.validation.Validator}).
+     */
+    VALIDATE,
+
+    /**
+     * Loading binary files with {@link org.finos.legend.pure.m3.serialization.runtime.GraphLoader}.
+     */
+    GRAPH_LOAD
+}
@@ -0,0 +1,111 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.serialization.runtime.metrics;
+
+import java.util.Objects;
+
+/**
+ * Metrics for a single execution of a compiler phase. The repository and source id are present when the execution
+ * was specific to a repository or source, respectively.
+ */
+public class CompilerPhaseMetrics
+{
+    private final CompilerPhase phase;
+    private final String repository;
+    private final String sourceId;
+    private final long durationNanos;
+    private final int instanceCount;
+    private final long allocatedBytes;
+
+    public CompilerPhaseMetrics(CompilerPhase phase, String repository, String sourceId, long durationNanos, int instanceCount, long allocatedBytes)
+    {
+        this.phase = Objects.requireNonNull(phase, "phase is required");
+        this.repository = repository;
+        this.sourceId = sourceId;
+        this.durationNanos = durationNanos;
+        this.instanceCount = instanceCount;
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    public CompilerPhase getPhase()
+    {
+        return this.phase;
+    }
+
+    /**
+     * Repository the phase was executed for, or null if it was not specific to a repository.
+     *
+     * @return repository or null
+     */
+    public String getRepository()
+    {
+        return this.repository;
+    }
+
+    /**
+     * Source the phase was executed for, or null if it was not specific to a source.
+     *
+     * @return source id or null
+     */
+    public String getSourceId()
+    {
+        return this.sourceId;
+    }
+
+    public long getDurationNanos()
+    {
+        return this.durationNanos;
+    }
+
+    /**
+     * Number of instances the phase was executed on (e.g., instances parsed from a source, or instances
+     * post-processed).
+     *
+     * @return instance count
+     */
+    public int getInstanceCount()
+    {
+        return this.instanceCount;
+    }
+
+    /**
+     * Bytes allocated by the thread which executed the phase, or -1 if allocation measurement is not available. Work
+     * done by other threads on behalf of the phase is not included.
+     *
+     * @return allocated bytes or -1
+     */
+    public long getAllocatedBytes()
+    {
+        return this.allocatedBytes;
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder("<").append(getClass().getSimpleName()).append(" phase=").append(this.phase);
+        if (this.repository != null)
+        {
+            builder.append(" repository=").append(this.repository);
+        }
+        if (this.sourceId != null)
+        {
+            builder.append(" sourceId=").append(this.sourceId);
+        }
+        return builder.append(" durationNanos=").append(this.durationNanos)
+                .append(" instanceCount=").append(this.instanceCount)
+                .append(" allocatedBytes=").append(this.allocatedBytes)
+                .append('>').toString();
+    }
+}
@@ -0,0 +1,143 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.serialization.runtime.metrics;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * Emits each set of recorded compiler phase metrics as a JDK Flight Recorder event named
+ * {@value #EVENT_NAME}, with fields {@code phase}, {@code repository}, {@code sourceId}, {@code phaseDuration},
+ * {@code instanceCount} and {@code allocatedBytes}. Events are emitted when the phase completes.
+ * <p>
+ * The event type is defined at runtime through {@code jdk.jfr.EventFactory}, since this module is built for a Java
+ * release without the JFR API. Use {@link #isAvailable()} to check whether JFR is available in the running JVM.
+ */
+public class JfrCompilerMetricsListener implements CompilerMetricsListener
+{
+    public static final String EVENT_NAME = "org.finos.legend.pure.CompilerPhase";
+
+    private static final int PHASE = 0;
+    private static final int REPOSITORY = 1;
+    private static final int SOURCE_ID = 2;
+    private static final int DURATION = 3;
+    private static final int INSTANCE_COUNT = 4;
+    private static final int ALLOCATED_BYTES = 5;
+
+    private final Object eventFactory;
+    private final Method newEvent;
+    private final Method shouldCommit;
+    private final Method set;
+    private final Method commit;
+
+    /**
+     * Define and register the JFR event type.
+     *
+     * @throws UnsupportedOperationException if JFR is not available
+     */
+    public JfrCompilerMetricsListener()
+    {
+        try
+        {
+            Class<?> eventFactoryClass = Class.forName("jdk.jfr.EventFactory");
+            Class<?> eventClass = Class.forName("jdk.jfr.Event");
+            Class<?> annotationElementClass = Class.forName("jdk.jfr.AnnotationElement");
+            Class<?> valueDescriptorClass = Class.forName("jdk.jfr.ValueDescriptor");
+            Constructor<?> newAnnotation = annotationElementClass.getConstructor(Class.class, Object.class);
+            Constructor<?> newValueDescriptor = valueDescriptorClass.getConstructor(Class.class, String.class, List.class);
+
+            MutableList<Object> eventAnnotations = Lists.mutable.with(
+                    newAnnotation.newInstance(jfrAnnotation("Name"), EVENT_NAME),
+                    newAnnotation.newInstance(jfrAnnotation("Label"), "Pure Compiler Phase"),
+                    newAnnotation.newInstance(jfrAnnotation("Category"), new String[]{"Legend Pure", "Compiler"}),
+                    newAnnotation.newInstance(jfrAnnotation("Description"), "Metrics for a phase of Pure compilation or graph loading"));
+
+            MutableList<Object> fields = Lists.mutable.with(
+                    newValueDescriptor.newInstance(String.class, "phase", Lists.mutable.with(newAnnotation.newInstance(jfrAnnotation("Label"), "Phase"))),
+                    newValueDescriptor.newInstance(String.class, "repository", Lists.mutable.with(newAnnotation.newInstance(jfrAnnotation("Label"), "Repository"))),
+                    newValueDescriptor.newInstance(String.class, "sourceId", Lists.mutable.with(newAnnotation.newInstance(jfrAnnotation("Label"), "Source"))),
+                    newValueDescriptor.newInstance(long.class, "phaseDuration", Lists.mutable.with(newAnnotation.newInstance(jfrAnnotation("Label"), "Phase Duration"), newAnnotation.newInstance(jfrAnnotation("Timespan"), "NANOSECONDS"))),
+                    newValueDescriptor.newInstance(int.class, "instanceCount", Lists.mutable.with(newAnnotation.newInstance(jfrAnnotation("Label"), "Instance Count"))),
+                    newValueDescriptor.newInstance(long.class, "allocatedBytes", Lists.mutable.with(newAnnotation.newInstance(jfrAnnotation("Label"), "Allocated"), newAnnotation.newInstance(jfrAnnotation("DataAmount"), "BYTES"))));
+
+            this.eventFactory = eventFactoryClass.getMethod("create", List.class, List.class).invoke(null, eventAnnotations, fields);
+            this.newEvent = eventFactoryClass.getMethod("newEvent");
+            this.shouldCommit = eventClass.getMethod("shouldCommit");
+            this.set = eventClass.getMethod("set", int.class, Object.class);
+            this.commit = eventClass.getMethod("commit");
+        }
+        catch (ClassNotFoundException | NoSuchMethodException e)
+        {
+            throw new UnsupportedOperationException("JFR is not available in this JVM", e);
+        }
+        catch (InstantiationException | IllegalAccessException | InvocationTargetException e)
+        {
+            throw new RuntimeException("Error defining JFR event " + EVENT_NAME, e);
+        }
+    }
+
+    @Override
+    public void recorded(CompilerPhaseMetrics metrics)
+    {
+        try
+        {
+            Object event = this.newEvent.invoke(this.eventFactory);
+            if ((Boolean) this.shouldCommit.invoke(event))
+            {
+                this.set.invoke(event, PHASE, metrics.getPhase().name());
+                this.set.invoke(event, REPOSITORY, metrics.getRepository());
+                this.set.invoke(event, SOURCE_ID, metrics.getSourceId());
+                this.set.invoke(event, DURATION, metrics.getDurationNanos());
+                this.set.invoke(event, INSTANCE_COUNT, metrics.getInstanceCount());
+                this.set.invoke(event, ALLOCATED_BYTES, metrics.getAllocatedBytes());
+                this.commit.invoke(event);
+            }
+        }
+        catch (IllegalAccessException | InvocationTargetException e)
+        {
+            throw new RuntimeException("Error emitting JFR event " + EVENT_NAME, e);
+        }
+    }
+
+    /**
+     * Whether the JFR event API is available in the running JVM.
+     *
+     * @return whether JFR is available
+     */
+    public static boolean isAvailable()
+    {
+        try
+        {
+            Class.forName("jdk.jfr.EventFactory");
+            return true;
+        }
+        catch (ClassNotFoundException e)
+        {
+            return false;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<? extends Annotation> jfrAnnotation(String name) throws ClassNotFoundException
+    {
+        return (Class<? extends Annotation>) Class.forName("jdk.jfr." + name);
+    }
+}
@@ -24,4 +24,15 @@ public interface MatchRunner<T extends CoreInstance>
     void run(T instance, MatcherState state, Matcher matcher, ModelRepository modelRepository, Context context) throws PureCompilationException;
 
     String getClassName();
+
+    /**
+     * Whether this runner may be run concurrently on different instances, each with its own state. This requires that
+     * the runner keeps no mutable state of its own, and only modifies the state passed to it.
+     *
+     * @return whether this runner is thread-safe
+     */
+    default boolean isThreadSafe()
+    {
+        return false;
+    }
 }
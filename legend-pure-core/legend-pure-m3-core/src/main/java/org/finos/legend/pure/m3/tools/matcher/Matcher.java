@@ -14,8 +14,12 @@
 
 package org.finos.legend.pure.m3.tools.matcher;
 
+import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.ConcurrentMutableMap;
 import org.eclipse.collections.api.multimap.list.MutableListMultimap;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
 import org.eclipse.collections.impl.multimap.list.FastListMultimap;
 import org.finos.legend.pure.m3.compiler.Context;
 import org.finos.legend.pure.m3.navigation.M3Paths;
@@ -33,6 +37,8 @@ public class Matcher
     private final MutableListMultimap<CoreInstance, MatchRunner> runnersByType = FastListMultimap.newMultimap();
     private final ProcessorSupport processorSupport;
     private final CoreInstance anyType;
+    private final ConcurrentMutableMap<CoreInstance, Dispatch> generalFirstDispatches = ConcurrentHashMap.newMap();
+    private final ConcurrentMutableMap<CoreInstance, Dispatch> specificFirstDispatches = ConcurrentHashMap.newMap();
 
     public Matcher(ModelRepository modelRepository, Context context, ProcessorSupport processorSupport)
     {
@@ -51,6 +57,7 @@ public class Matcher
             throw new PureCompilationException(null, "The type '" + typeName + "' is unknown!");
         }
         this.runnersByType.put(type, matchRunner);
+        clearDispatches();
     }
 
     public void addMatchIfTypeIsKnown(MatchRunner matchRunner)
@@ -60,6 +67,7 @@ public class Matcher
         if (type != null)
         {
             this.runnersByType.put(type, matchRunner);
+            clearDispatches();
         }
     }
 
@@ -73,26 +81,12 @@ public class Matcher
         {
             try
             {
-                boolean nonAnyRunnersExecuted = false;
-                ListIterable<CoreInstance> types = Type.getGeneralizationResolutionOrder(instance.getClassifier(), this.processorSupport);
-                if (types.getLast() != this.anyType)
+                Dispatch dispatch = getDispatch(instance.getClassifier(), state.mostGeneralRunnersFirst());
+                for (MatchRunner runner : dispatch.runners)
                 {
-                    // This should not happen, but just in case ...
-                    types = types.toList().with(this.anyType);
+                    runner.run(instance, state, this, this.modelRepository, this.context);
                 }
-                for (CoreInstance type : (state.mostGeneralRunnersFirst() ? types.asReversed() : types))
-                {
-                    ListIterable<MatchRunner> typeRunners = this.runnersByType.get(type);
-                    if (typeRunners.notEmpty())
-                    {
-                        for (MatchRunner runner : typeRunners)
-                        {
-                            runner.run(instance, state, this, this.modelRepository, this.context);
-                        }
-                        nonAnyRunnersExecuted = nonAnyRunnersExecuted || (type != this.anyType);
-                    }
-                }
-                return nonAnyRunnersExecuted;
+                return dispatch.hasNonAnyRunners;
             }
             catch (PureCompilationException e)
             {
@@ -129,6 +123,25 @@ public class Matcher
         return true;
     }
 
+    /**
+     * Whether all runners which would be run on the given instance are thread-safe.
+     *
+     * @param instance instance
+     * @return whether the instance can be matched concurrently with other instances
+     * @see MatchRunner#isThreadSafe()
+     */
+    public boolean hasOnlyThreadSafeRunners(CoreInstance instance)
+    {
+        for (MatchRunner runner : getDispatch(instance.getClassifier(), true).runners)
+        {
+            if (!runner.isThreadSafe())
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Flag something for full matching. This will fire all matchers including the walkers. Use this when you
      * need to recursively walk an object for unbinding.
@@ -144,4 +157,69 @@ public class Matcher
             throw new RuntimeException("No match found for the type " + instance);
         }
     }
+
+    /**
+     * Get the runners to run for instances of the given classifier, in the order in which to run them. These are
+     * cached per classifier and order. Cached entries are discarded when runners are added, and are recomputed when
+     * the generalization hierarchy changes (as tracked by {@link Context#getGeneralizationsVersion()}).
+     */
+    private Dispatch getDispatch(CoreInstance classifier, boolean mostGeneralRunnersFirst)
+    {
+        if ((this.context == null) || !classifier.isPersistent())
+        {
+            return computeDispatch(classifier, mostGeneralRunnersFirst, -1L);
+        }
+
+        long version = this.context.getGeneralizationsVersion();
+        ConcurrentMutableMap<CoreInstance, Dispatch> dispatches = mostGeneralRunnersFirst ? this.generalFirstDispatches : this.specificFirstDispatches;
+        Dispatch dispatch = dispatches.get(classifier);
+        if ((dispatch == null) || (dispatch.generalizationsVersion != version))
+        {
+            dispatch = computeDispatch(classifier, mostGeneralRunnersFirst, version);
+            dispatches.put(classifier, dispatch);
+        }
+        return dispatch;
+    }
+
+    private Dispatch computeDispatch(CoreInstance classifier, boolean mostGeneralRunnersFirst, long generalizationsVersion)
+    {
+        ListIterable<CoreInstance> types = Type.getGeneralizationResolutionOrder(classifier, this.processorSupport);
+        if (types.getLast() != this.anyType)
+        {
+            // This should not happen, but just in case ...
+            types = types.toList().with(this.anyType);
+        }
+        MutableList<MatchRunner> runners = Lists.mutable.empty();
+        boolean hasNonAnyRunners = false;
+        for (CoreInstance type : (mostGeneralRunnersFirst ? types.asReversed() : types))
+        {
+            ListIterable<MatchRunner> typeRunners = this.runnersByType.get(type);
+            if (typeRunners.notEmpty())
+            {
+                runners.addAllIterable(typeRunners);
+                hasNonAnyRunners = hasNonAnyRunners || (type != this.anyType);
+            }
+        }
+        return new Dispatch(runners.toArray(new MatchRunner[runners.size()]), hasNonAnyRunners, generalizationsVersion);
+    }
+
+    private void clearDispatches()
+    {
+        this.generalFirstDispatches.clear();
+        this.specificFirstDispatches.clear();
+    }
+
+    private static class Dispatch
+    {
+        private final MatchRunner[] runners;
+        private final boolean hasNonAnyRunners;
+        private final long generalizationsVersion;
+
+        private Dispatch(MatchRunner[] runners, boolean hasNonAnyRunners, long generalizationsVersion)
+        {
+            this.runners = runners;
+            this.hasNonAnyRunners = hasNonAnyRunners;
+            this.generalizationsVersion = generalizationsVersion;
+        }
+    }
 }
@@ -0,0 +1,31 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package org.finos.legend.pure.m3.tools.matcher;
+
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+
+/**
+ * A {@link MatchRunner} which keeps no mutable state of its own, and so may be run concurrently on different
+ * instances, each with its own state.
+ */
+public interface ThreadSafeMatchRunner<T extends CoreInstance> extends MatchRunner<T>
+{
+    @Override
+    default boolean isThreadSafe()
+    {
+        return true;
+    }
+}
@@ -0,0 +1,138 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.compiler;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.list.ListIterable;
+import org.finos.legend.pure.m3.navigation.type.Type;
+import org.finos.legend.pure.m3.tests.AbstractPureTestWithCoreCompiled;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class TestTypeHierarchyIndex extends AbstractPureTestWithCoreCompiled
+{
+    private static final String SOURCE_ID = "typeHierarchy.pure";
+    private static final ListIterable<String> CLASS_PATHS = Lists.immutable.with("test::A", "test::B", "test::C", "test::D", "test::E", "meta::pure::metamodel::type::Any", "meta::pure::metamodel::type::Nil", "String");
+
+    @BeforeClass
+    public static void setUp()
+    {
+        setUpRuntime();
+    }
+
+    @After
+    public void cleanRuntime()
+    {
+        if (runtime.getSourceById(SOURCE_ID) != null)
+        {
+            runtime.delete(SOURCE_ID);
+            runtime.compile();
+        }
+    }
+
+    @Test
+    public void testSubTypeOf()
+    {
+        compileTestSource(SOURCE_ID,
+                "Class test::A {}\n" +
+                        "Class test::B extends test::A {}\n" +
+                        "Class test::C extends test::B {}\n" +
+                        "Class test::D {}\n" +
+                        "Class test::E extends test::C, test::D {}\n");
+        assertSubTypeOfConsistent();
+
+        Assert.assertTrue(processorSupport.type_subTypeOf(getType("test::E"), getType("test::A")));
+        Assert.assertTrue(processorSupport.type_subTypeOf(getType("test::E"), getType("test::D")));
+        Assert.assertFalse(processorSupport.type_subTypeOf(getType("test::D"), getType("test::A")));
+        Assert.assertFalse(processorSupport.type_subTypeOf(getType("test::A"), getType("test::B")));
+    }
+
+    @Test
+    public void testSubTypeOfAfterHierarchyChange()
+    {
+        compileTestSource(SOURCE_ID,
+                "Class test::A {}\n" +
+                        "Class test::B extends test::A {}\n" +
+                        "Class test::C extends test::B {}\n" +
+                        "Class test::D {}\n" +
+                        "Class test::E extends test::D {}\n");
+        assertSubTypeOfConsistent();
+        Assert.assertFalse(processorSupport.type_subTypeOf(getType("test::E"), getType("test::A")));
+
+        runtime.delete(SOURCE_ID);
+        runtime.compile();
+        compileTestSource(SOURCE_ID,
+                "Class test::A {}\n" +
+                        "Class test::B extends test::A {}\n" +
+                        "Class test::C extends test::B {}\n" +
+                        "Class test::D extends test::C {}\n" +
+                        "Class test::E extends test::D {}\n");
+        assertSubTypeOfConsistent();
+        Assert.assertTrue(processorSupport.type_subTypeOf(getType("test::E"), getType("test::A")));
+    }
+
+    @Test
+    public void testVersionChangeRecomputesAncestors()
+    {
+        compileTestSource(SOURCE_ID,
+                "Class test::A {}\n" +
+                        "Class test::B extends test::A {}\n");
+        CoreInstance a = getType("test::A");
+        CoreInstance b = getType("test::B");
+
+        TypeHierarchyIndex index = new TypeHierarchyIndex();
+        Assert.assertTrue(index.isSubTypeOf(b, a, 0L, t -> Type.getGeneralizationResolutionOrder(t, processorSupport)));
+        Assert.assertTrue(index.isSubTypeOf(b, a, 0L, t -> Lists.immutable.with(t)));
+        Assert.assertFalse(index.isSubTypeOf(b, a, 1L, t -> Lists.immutable.with(t)));
+        Assert.assertNotEquals(index.getTypeId(a), index.getTypeId(b));
+        Assert.assertEquals(index.getTypeId(a), index.getTypeId(a));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testDeprecatedGeneralizationSet()
+    {
+        compileTestSource(SOURCE_ID,
+                "Class test::A {}\n" +
+                        "Class test::B extends test::A {}\n" +
+                        "Class test::C extends test::B {}\n");
+        CoreInstance c = getType("test::C");
+        Assert.assertEquals(
+                Sets.immutable.withAll(Type.getGeneralizationResolutionOrder(c, processorSupport)),
+                context.getIfAbsentPutTypeGeneralizationSet(c, t -> Sets.immutable.withAll(Type.getGeneralizationResolutionOrder(t, processorSupport))));
+        Assert.assertTrue(context.isSubTypeOf(c, getType("test::A"), t -> Type.getGeneralizationResolutionOrder(t, processorSupport)));
+    }
+
+    private static void assertSubTypeOfConsistent()
+    {
+        ListIterable<CoreInstance> types = CLASS_PATHS.collect(TestTypeHierarchyIndex::getType);
+        for (CoreInstance type : types)
+        {
+            for (CoreInstance possibleSuperType : types)
+            {
+                Assert.assertEquals(type.getName() + " / " + possibleSuperType.getName(), Type.subTypeOf(type, possibleSuperType, processorSupport), processorSupport.type_subTypeOf(type, possibleSuperType));
+            }
+        }
+    }
+
+    private static CoreInstance getType(String path)
+    {
+        return processorSupport.package_getByUserPath(path);
+    }
+}
@@ -0,0 +1,148 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.compiler.postprocessing;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.MutableList;
+import org.finos.legend.pure.m3.execution.VoidFunctionExecution;
+import org.finos.legend.pure.m3.navigation.M3Properties;
+import org.finos.legend.pure.m3.serialization.runtime.Message;
+import org.finos.legend.pure.m3.serialization.runtime.PureRuntimeBuilder;
+import org.finos.legend.pure.m3.tests.AbstractPureTestWithCoreCompiled;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.m4.exception.PureCompilationException;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.regex.Pattern;
+
+public class TestParallelPostProcessing extends AbstractPureTestWithCoreCompiled
+{
+    private static final int CHAIN_COUNT = 20;
+    private static final int CHAIN_LENGTH = 10;
+
+    private static ForkJoinPool forkJoinPool;
+
+    @BeforeClass
+    public static void setUp()
+    {
+        forkJoinPool = new ForkJoinPool(4);
+        Message message = new Message("");
+        functionExecution = VoidFunctionExecution.VOID_FUNCTION_EXECUTION;
+        runtime = new PureRuntimeBuilder(getCodeStorage())
+                .withIncrementalCompilerForkJoinPool(forkJoinPool)
+                .setTransactionalByDefault(isTransactionalByDefault())
+                .withMessage(message)
+                .build();
+        functionExecution.init(runtime, message);
+        runtime.loadAndCompileCore(message);
+        runtime.loadAndCompileSystem(message);
+        repository = runtime.getModelRepository();
+        context = runtime.getContext();
+        processorSupport = runtime.getProcessorSupport();
+    }
+
+    @AfterClass
+    public static void shutDownPool()
+    {
+        forkJoinPool.shutdown();
+    }
+
+    @After
+    public void cleanRuntime()
+    {
+        if (runtime.getSourceById("testSource.pure") != null)
+        {
+            runtime.delete("testSource.pure");
+            runtime.compile();
+        }
+    }
+
+    @Test
+    public void testFunctionDependencyGroups()
+    {
+        compileTestSource("testSource.pure",
+                "function test::a0():Integer[1] { 1 }\n" +
+                        "function test::a1():Integer[1] { test::a0() + 1 }\n" +
+                        "function test::b0(i:Integer[1]):Integer[1] { $i }\n" +
+                        "function test::b1():Integer[*] { [1, 2]->map(i | test::b0($i)) }\n" +
+                        "function test::c():Integer[1] { 3 + 4 }\n");
+        CoreInstance a0 = runtime.getFunction("test::a0():Integer[1]");
+        CoreInstance a1 = runtime.getFunction("test::a1():Integer[1]");
+        CoreInstance b0 = runtime.getFunction("test::b0(Integer[1]):Integer[1]");
+        CoreInstance b1 = runtime.getFunction("test::b1():Integer[*]");
+        CoreInstance c = runtime.getFunction("test::c():Integer[1]");
+
+        ListIterable<MutableList<CoreInstance>> groups = FunctionDependencyGroups.group(Lists.mutable.with(a1, b1, c, b0, a0));
+        Assert.assertEquals(Lists.mutable.with(Lists.mutable.with(a1, a0), Lists.mutable.with(b1, b0), Lists.mutable.with(c)), groups);
+    }
+
+    @Test
+    public void testParallelCompilation()
+    {
+        compileTestSource("testSource.pure", generateFunctions(null));
+        for (int chain = 0; chain < CHAIN_COUNT; chain++)
+        {
+            for (int i = 0; i < CHAIN_LENGTH; i++)
+            {
+                CoreInstance function = runtime.getFunction(getFunctionName(chain, i) + "(Integer[1]):Integer[1]");
+                Assert.assertNotNull(getFunctionName(chain, i), function);
+                Assert.assertTrue(getFunctionName(chain, i), function.hasBeenProcessed());
+                Assert.assertEquals(getFunctionName(chain, i), (i == (CHAIN_LENGTH - 1)) ? 0 : 1, function.getValueForMetaPropertyToMany(M3Properties.applications).size());
+            }
+        }
+    }
+
+    @Test
+    public void testParallelCompilationError()
+    {
+        PureCompilationException e = Assert.assertThrows(PureCompilationException.class, () -> compileTestSource("testSource.pure", generateFunctions("test::unknownFunction($x)")));
+        assertPureException(PureCompilationException.class, Pattern.compile("^The system can't find a match for the function: (test::)?unknownFunction\\(_:Integer\\[1]\\).*", Pattern.DOTALL), "testSource.pure", e);
+    }
+
+    private static String generateFunctions(String extraCall)
+    {
+        StringBuilder builder = new StringBuilder("Class test::Counter\n{\n    value : Integer[1];\n}\n\n");
+        for (int chain = 0; chain < CHAIN_COUNT; chain++)
+        {
+            for (int i = 0; i < CHAIN_LENGTH; i++)
+            {
+                builder.append("function ").append(getFunctionName(chain, i)).append("(x:Integer[1]):Integer[1]\n{\n");
+                builder.append("    let c = ^test::Counter(value = $x + ").append(i).append(");\n");
+                builder.append("    $c.value");
+                if (i > 0)
+                {
+                    builder.append(" + ").append(getFunctionName(chain, i - 1)).append("($x)");
+                }
+                if ((extraCall != null) && (chain == (CHAIN_COUNT / 2)) && (i == (CHAIN_LENGTH / 2)))
+                {
+                    builder.append(" + ").append(extraCall);
+                }
+                builder.append(";\n}\n\n");
+            }
+        }
+        return builder.toString();
+    }
+
+    private static String getFunctionName(int chain, int i)
+    {
+        return "test::f" + chain + "_" + i;
+    }
+}
@@ -0,0 +1,137 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.compiler.postprocessing.functionmatch;
+
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.set.MutableSet;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.ConcreteFunctionDefinition;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.Function;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.valuespecification.FunctionExpression;
+import org.finos.legend.pure.m3.tests.AbstractPureTestWithCoreCompiled;
+import org.finos.legend.pure.m3.tools.ListHelper;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class TestFunctionResolutionCache extends AbstractPureTestWithCoreCompiled
+{
+    private static final String SOURCE_ID = "functionResolution.pure";
+    private static final String EXTRA_SOURCE_ID = "functionResolutionExtra.pure";
+    private static final String SOURCE = "Class test::A {}\n" +
+            "Class test::B extends test::A {}\n" +
+            "Class test::C {}\n" +
+            "function test::pick(a:test::A[1]):String[1] { 'A' }\n" +
+            "function test::pick(b:test::B[1]):String[1] { 'B' }\n" +
+            "function test::pick(c:test::C[1]):String[1] { 'C' }\n" +
+            "function test::pick<T>(t:T[1]):String[1] { 'T' }\n" +
+            "function test::pick(a:test::A[1], i:Integer[1]):String[1] { 'AI' }\n" +
+            "function test::useB():String[1] { test::pick(^test::B()) }\n";
+
+    @BeforeClass
+    public static void setUp()
+    {
+        setUpRuntime();
+    }
+
+    @After
+    public void cleanRuntime()
+    {
+        for (String sourceId : new String[]{SOURCE_ID, EXTRA_SOURCE_ID})
+        {
+            if (runtime.getSourceById(sourceId) != null)
+            {
+                runtime.delete(sourceId);
+            }
+        }
+        runtime.compile();
+    }
+
+    @Test
+    public void testCandidateFunctions()
+    {
+        compileTestSource(SOURCE_ID, SOURCE);
+        FunctionExpression expression = getUseBExpression();
+
+        ListIterable<CoreInstance> candidates = context.getFunctionResolutionCache().getCandidateFunctions("pick", ListHelper.wrapListIterable(expression._parametersValues()), processorSupport);
+        Assert.assertEquals(
+                Sets.mutable.with("pick_A_1__String_1_", "pick_B_1__String_1_", "pick_T_1__String_1_"),
+                getFunctionIds(candidates));
+    }
+
+    @Test
+    public void testCandidateFunctionsInvalidatedByNewFunction()
+    {
+        compileTestSource(SOURCE_ID, SOURCE);
+        FunctionExpression expression = getUseBExpression();
+        FunctionResolutionCache cache = context.getFunctionResolutionCache();
+        Assert.assertEquals(3, cache.getCandidateFunctions("pick", ListHelper.wrapListIterable(expression._parametersValues()), processorSupport).size());
+
+        compileTestSource(EXTRA_SOURCE_ID, "function test::pick(b:test::B[1], s:String[1]):String[1] { 'BS' }\nfunction test::pick(a:Any[1]):String[1] { 'Any' }\n");
+        expression = getUseBExpression();
+        Assert.assertEquals(
+                Sets.mutable.with("pick_A_1__String_1_", "pick_B_1__String_1_", "pick_T_1__String_1_", "pick_Any_1__String_1_"),
+                getFunctionIds(cache.getCandidateFunctions("pick", ListHelper.wrapListIterable(expression._parametersValues()), processorSupport)));
+    }
+
+    @Test
+    public void testMatchesAreMemoized()
+    {
+        compileTestSource(SOURCE_ID, SOURCE);
+        FunctionExpression expression = getUseBExpression();
+        FunctionResolutionCache cache = context.getFunctionResolutionCache();
+        Assert.assertTrue(cache.getMatchCount() > 0);
+
+        ListIterable<Function<?>> matches = FunctionExpressionMatcher.findMatchingFunctionsInTheRepository(expression, false, processorSupport);
+        int matchCount = cache.getMatchCount();
+        ListIterable<Function<?>> cachedMatches = FunctionExpressionMatcher.findMatchingFunctionsInTheRepository(expression, false, processorSupport);
+        Assert.assertEquals(matches, cachedMatches);
+        Assert.assertEquals(matchCount, cache.getMatchCount());
+        Assert.assertSame(expression._func(), matches.getFirst());
+
+        cache.clear();
+        Assert.assertEquals(0, cache.getMatchCount());
+        Assert.assertEquals(matches, FunctionExpressionMatcher.findMatchingFunctionsInTheRepository(expression, false, processorSupport));
+    }
+
+    @Test
+    public void testResolutionAfterRecompile()
+    {
+        compileTestSource(SOURCE_ID, SOURCE);
+        CoreInstance oldFunction = getUseBExpression()._func();
+        Assert.assertSame(runtime.getFunction("test::pick_B_1__String_1_"), oldFunction);
+
+        runtime.delete(SOURCE_ID);
+        runtime.compile();
+        compileTestSource(SOURCE_ID, SOURCE);
+
+        CoreInstance newFunction = getUseBExpression()._func();
+        Assert.assertNotSame(oldFunction, newFunction);
+        Assert.assertSame(runtime.getFunction("test::pick_B_1__String_1_"), newFunction);
+    }
+
+    private static FunctionExpression getUseBExpression()
+    {
+        ConcreteFunctionDefinition<?> useB = (ConcreteFunctionDefinition<?>) runtime.getFunction("test::useB():String[1]");
+        return (FunctionExpression) useB._expressionSequence().getFirst();
+    }
+
+    private static MutableSet<String> getFunctionIds(ListIterable<? extends CoreInstance> functions)
+    {
+        return functions.collect(CoreInstance::getName, Sets.mutable.empty());
+    }
+}
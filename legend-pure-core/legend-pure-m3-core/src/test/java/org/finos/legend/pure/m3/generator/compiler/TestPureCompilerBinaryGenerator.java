@@ -16,8 +16,14 @@ package org.finos.legend.pure.m3.generator.compiler;
 
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.list.ImmutableList;
 import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.ImmutableMap;
 import org.eclipse.collections.api.set.MutableSet;
+import org.finos.legend.pure.m3.compiler.Context;
+import org.finos.legend.pure.m3.navigation.M3Paths;
+import org.finos.legend.pure.m3.navigation.M3Properties;
+import org.finos.legend.pure.m3.navigation.PackageableElement.PackageableElement;
 import org.finos.legend.pure.m3.serialization.compiler.element.ConcreteElementDeserializer;
 import org.finos.legend.pure.m3.serialization.compiler.file.FileDeserializer;
 import org.finos.legend.pure.m3.serialization.compiler.file.FilePathProvider;
@@ -29,6 +35,7 @@ import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.composi
 import org.finos.legend.pure.m3.serialization.runtime.PureCompilerLoader;
 import org.finos.legend.pure.m3.serialization.runtime.PureRuntime;
 import org.finos.legend.pure.m3.serialization.runtime.PureRuntimeBuilder;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.junit.Assert;
 import org.junit.ClassRule;
 import org.junit.Test;
@@ -296,6 +303,46 @@ public class TestPureCompilerBinaryGenerator
                 manifestPaths.isEmpty());
     }
 
+    @Test
+    public void testDirectoryLoader_seedsContextWithTypeHierarchy() throws IOException
+    {
+        Path outputDir = TMP.newFolder().toPath();
+        PureCompilerBinaryGenerator.serializeModules(outputDir, Lists.immutable.with(PLATFORM, TEST_REPO));
+
+        ClassLoader cl = Thread.currentThread().getContextClassLoader();
+        PureRuntime runtime = new PureRuntimeBuilder(
+                new CompositeCodeStorage(
+                        new ClassLoaderCodeStorage(
+                                CodeRepositoryProviderHelper.findCodeRepositories(cl)
+                                        .select(r -> PLATFORM.equals(r.getName()) || TEST_REPO.equals(r.getName())))))
+                .setTransactionalByDefault(false)
+                .build();
+        PureCompilerLoader.newLoader(cl, outputDir).load(runtime, Lists.immutable.with(PLATFORM, TEST_REPO), false);
+
+        // Generalizations and property tables must come from the metadata rather than being computed
+        Context context = runtime.getContext();
+        CoreInstance testClass = runtime.getProcessorSupport().package_getByUserPath("meta::K");
+        Assert.assertNotNull(testClass);
+        ImmutableList<CoreInstance> generalizations = context.getIfAbsentPutGeneralizations(testClass, t ->
+        {
+            throw new AssertionError("Generalizations not loaded for " + t);
+        });
+        Assert.assertEquals(Lists.immutable.with("meta::K", M3Paths.Any), generalizations.collect(PackageableElement::getUserPathForPackageableElement));
+        ImmutableMap<String, CoreInstance> propertiesByName = context.getIfAbsentPutPropertiesByName(testClass, t ->
+        {
+            throw new AssertionError("Properties not loaded for " + t);
+        });
+        Assert.assertTrue(propertiesByName.keysView().toSet().toString(), propertiesByName.containsKey(M3Properties.classifierGenericType));
+
+        // platform metadata is seeded too
+        CoreInstance classClass = runtime.getProcessorSupport().package_getByUserPath(M3Paths.Class);
+        ImmutableList<CoreInstance> classGeneralizations = context.getIfAbsentPutGeneralizations(classClass, t ->
+        {
+            throw new AssertionError("Generalizations not loaded for " + t);
+        });
+        Assert.assertSame(classClass, classGeneralizations.get(0));
+    }
+
     @Test
     public void testDirectoryLoader_classLoaderLoader_vs_directoryLoader_sameManifestContent() throws IOException
     {
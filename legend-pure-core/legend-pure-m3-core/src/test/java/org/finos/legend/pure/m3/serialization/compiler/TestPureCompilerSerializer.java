@@ -18,13 +18,17 @@ import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.tuple.Tuples;
 import org.finos.legend.pure.m3.navigation.PackageableElement.PackageableElement;
 import org.finos.legend.pure.m3.serialization.compiler.element.ConcreteElementSerializer;
 import org.finos.legend.pure.m3.serialization.compiler.element.DeserializedConcreteElement;
 import org.finos.legend.pure.m3.serialization.compiler.file.FileDeserializer;
 import org.finos.legend.pure.m3.serialization.compiler.file.FilePathProvider;
 import org.finos.legend.pure.m3.serialization.compiler.file.FileSerializer;
+import org.finos.legend.pure.m3.serialization.compiler.file.ModuleElementSegments;
 import org.finos.legend.pure.m3.serialization.compiler.metadata.ModuleMetadata;
 import org.finos.legend.pure.m3.serialization.compiler.metadata.ModuleMetadataGenerator;
 import org.finos.legend.pure.m3.serialization.compiler.metadata.ModuleMetadataSerializer;
@@ -36,19 +40,29 @@ import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.classpa
 import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.composite.CompositeCodeStorage;
 import org.finos.legend.pure.m3.tools.GraphTools;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.junit.AfterClass;
 import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.ClassRule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Base64;
+import java.util.concurrent.ForkJoinPool;
 import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
 public class TestPureCompilerSerializer extends BaseReferenceTest
 {
@@ -58,6 +72,10 @@ public class TestPureCompilerSerializer extends BaseReferenceTest
     private static FileDeserializer fileDeserializer;
     private static ModuleMetadataGenerator moduleMetadataGenerator;
     private static PureCompilerSerializer pureCompilerSerializer;
+    private static PureCompilerSerializer packedPureCompilerSerializer;
+    private static PureCompilerSerializer parallelPureCompilerSerializer;
+    private static PureCompilerSerializer incrementalPureCompilerSerializer;
+    private static ForkJoinPool forkJoinPool;
 
     @BeforeClass
     public static void setUpRuntime()
@@ -76,6 +94,34 @@ public class TestPureCompilerSerializer extends BaseReferenceTest
                 .withModuleMetadataGenerator(moduleMetadataGenerator)
                 .withProcessorSupport(processorSupport)
                 .build();
+        packedPureCompilerSerializer = PureCompilerSerializer.builder()
+                .withFileSerializer(fileSerializer)
+                .withModuleMetadataGenerator(moduleMetadataGenerator)
+                .withProcessorSupport(processorSupport)
+                .withPackedElements(true)
+                .build();
+        forkJoinPool = new ForkJoinPool(4);
+        parallelPureCompilerSerializer = PureCompilerSerializer.builder()
+                .withFileSerializer(fileSerializer)
+                .withModuleMetadataGenerator(moduleMetadataGenerator)
+                .withProcessorSupport(processorSupport)
+                .withForkJoinPool(forkJoinPool)
+                .build();
+        incrementalPureCompilerSerializer = PureCompilerSerializer.builder()
+                .withFileSerializer(fileSerializer)
+                .withModuleMetadataGenerator(moduleMetadataGenerator)
+                .withProcessorSupport(processorSupport)
+                .withIncremental(true)
+                .build();
+    }
+
+    @AfterClass
+    public static void shutDownForkJoinPool()
+    {
+        if (forkJoinPool != null)
+        {
+            forkJoinPool.shutdownNow();
+        }
     }
 
     protected static RichIterable<? extends CodeRepository> getCodeRepositories()
@@ -126,6 +172,188 @@ public class TestPureCompilerSerializer extends BaseReferenceTest
         }
     }
 
+    @Test
+    public void testSerializeAllPackedToDirectory() throws IOException
+    {
+        Path directory = TMP.newFolder().toPath();
+        packedPureCompilerSerializer.serializeAll(directory);
+        getAllModuleInfos().forEachKeyValue((moduleName, moduleInfo) ->
+        {
+            assertModuleMetadataSerialized(directory, moduleName, moduleInfo.metadata);
+            ModuleElementSegments segments = fileDeserializer.openModuleElementSegments(directory, moduleName);
+            if (moduleInfo.elements.isEmpty())
+            {
+                Assert.assertNull(moduleName, segments);
+            }
+            else
+            {
+                Assert.assertNotNull(moduleName, segments);
+                Assert.assertEquals(moduleName, moduleInfo.elements.keysView().toSortedList(), segments.getIndex().getElementPaths());
+                moduleInfo.elements.forEachKeyValue((path, element) ->
+                {
+                    Assert.assertFalse(path, fileDeserializer.elementExists(directory, path));
+                    DeserializedConcreteElement deserialized = segments.deserializeElement(path);
+                    Assert.assertEquals(path, element.getSourceInformation(), deserialized.getConcreteElementData().getSourceInformation());
+                });
+            }
+        });
+    }
+
+    @Test
+    public void testSerializeAllPackedToJar() throws IOException
+    {
+        Path directory = TMP.newFolder().toPath();
+        Path jarPath = directory.resolve("test.jar");
+        try (JarOutputStream jarStream = new JarOutputStream(new BufferedOutputStream(Files.newOutputStream(jarPath))))
+        {
+            packedPureCompilerSerializer.serializeAll(jarStream);
+        }
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{jarPath.toUri().toURL()}, null))
+        {
+            getAllModuleInfos().forEachKeyValue((moduleName, moduleInfo) ->
+            {
+                assertModuleMetadataSerialized(classLoader, moduleName, moduleInfo.metadata);
+                if (moduleInfo.elements.notEmpty())
+                {
+                    ModuleElementSegments segments = fileDeserializer.openModuleElementSegments(classLoader, moduleName);
+                    Assert.assertNotNull(moduleName, segments);
+                    moduleInfo.elements.forEachKeyValue((path, element) ->
+                    {
+                        Assert.assertFalse(path, fileDeserializer.elementExists(classLoader, path));
+                        DeserializedConcreteElement deserialized = segments.deserializeElement(path);
+                        Assert.assertEquals(path, element.getSourceInformation(), deserialized.getConcreteElementData().getSourceInformation());
+                    });
+                }
+            });
+        }
+    }
+
+    @Test
+    public void testSerializeAllInParallelToDirectory() throws IOException
+    {
+        Path sequentialDirectory = TMP.newFolder().toPath();
+        pureCompilerSerializer.serializeAll(sequentialDirectory);
+        Path parallelDirectory = TMP.newFolder().toPath();
+        parallelPureCompilerSerializer.serializeAll(parallelDirectory);
+        Assert.assertEquals(readDirectory(sequentialDirectory), readDirectory(parallelDirectory));
+    }
+
+    @Test
+    public void testSerializeAllInParallelToJar() throws IOException
+    {
+        Path directory = TMP.newFolder().toPath();
+        Path sequentialJarPath = directory.resolve("sequential.jar");
+        try (JarOutputStream jarStream = new JarOutputStream(new BufferedOutputStream(Files.newOutputStream(sequentialJarPath))))
+        {
+            pureCompilerSerializer.serializeAll(jarStream);
+        }
+        Path parallelJarPath = directory.resolve("parallel.jar");
+        try (JarOutputStream jarStream = new JarOutputStream(new BufferedOutputStream(Files.newOutputStream(parallelJarPath))))
+        {
+            parallelPureCompilerSerializer.serializeAll(jarStream);
+        }
+
+        // the entries must be the same, in the same order
+        MutableList<Pair<String, String>> sequentialEntries = readJarEntries(sequentialJarPath);
+        Assert.assertNotEquals(0, sequentialEntries.size());
+        Assert.assertEquals(sequentialEntries, readJarEntries(parallelJarPath));
+    }
+
+    @Test
+    public void testSerializeAllIncrementallyToDirectory() throws IOException
+    {
+        Path directory = TMP.newFolder().toPath();
+        incrementalPureCompilerSerializer.serializeAll(directory);
+        MutableMap<String, String> firstContent = readDirectory(directory);
+        Assert.assertEquals(readDirectory(serializeAllToNewDirectory()), firstContent.reject((name, content) -> name.endsWith(".phash")));
+        getAllModuleInfos().forEachKey(moduleName -> Assert.assertTrue(moduleName, firstContent.containsKey(FilePathProvider.builder().withLoadedExtensions().build().getModuleContentHashResourceName(moduleName))));
+
+        // nothing has changed, so no file should be written apart from the content hash files
+        FileTime oldTime = FileTime.fromMillis(0L);
+        try (Stream<Path> files = Files.walk(directory))
+        {
+            files.filter(Files::isRegularFile).forEach(file -> setLastModifiedTime(file, oldTime));
+        }
+        incrementalPureCompilerSerializer.serializeAll(directory);
+        Assert.assertEquals(firstContent, readDirectory(directory));
+        try (Stream<Path> files = Files.walk(directory))
+        {
+            files.filter(Files::isRegularFile)
+                    .filter(file -> !file.getFileName().toString().endsWith(".phash"))
+                    .forEach(file -> Assert.assertEquals(file.toString(), oldTime, getLastModifiedTime(file)));
+        }
+    }
+
+    private Path serializeAllToNewDirectory() throws IOException
+    {
+        Path directory = TMP.newFolder().toPath();
+        pureCompilerSerializer.serializeAll(directory);
+        return directory;
+    }
+
+    private static MutableMap<String, String> readDirectory(Path directory) throws IOException
+    {
+        MutableMap<String, String> content = Maps.mutable.empty();
+        try (Stream<Path> files = Files.walk(directory))
+        {
+            files.filter(Files::isRegularFile).forEach(file ->
+            {
+                try
+                {
+                    content.put(directory.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "/"), Base64.getEncoder().encodeToString(Files.readAllBytes(file)));
+                }
+                catch (IOException e)
+                {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+        return content;
+    }
+
+    private static MutableList<Pair<String, String>> readJarEntries(Path jarPath) throws IOException
+    {
+        MutableList<Pair<String, String>> entries = Lists.mutable.empty();
+        try (ZipInputStream stream = new ZipInputStream(new BufferedInputStream(Files.newInputStream(jarPath))))
+        {
+            byte[] buffer = new byte[8192];
+            for (ZipEntry entry = stream.getNextEntry(); entry != null; entry = stream.getNextEntry())
+            {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                for (int read = stream.read(buffer); read != -1; read = stream.read(buffer))
+                {
+                    bytes.write(buffer, 0, read);
+                }
+                entries.add(Tuples.pair(entry.getName(), Base64.getEncoder().encodeToString(bytes.toByteArray())));
+            }
+        }
+        return entries;
+    }
+
+    private static void setLastModifiedTime(Path file, FileTime time)
+    {
+        try
+        {
+            Files.setLastModifiedTime(file, time);
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static FileTime getLastModifiedTime(Path file)
+    {
+        try
+        {
+            return Files.getLastModifiedTime(file);
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @Test
     public void testSerializePlatformToDirectory() throws IOException
     {
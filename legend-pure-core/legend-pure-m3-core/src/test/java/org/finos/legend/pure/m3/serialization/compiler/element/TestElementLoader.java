@@ -22,13 +22,16 @@ import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.set.SetIterable;
 import org.eclipse.collections.api.tuple.Twin;
 import org.eclipse.collections.impl.tuple.Tuples;
 import org.finos.legend.pure.m3.coreinstance.PackageCoreInstanceWrapper;
+import org.finos.legend.pure.m3.coreinstance.lazy.resolution.LazyResolutionLists;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.PackageableElementCoreInstanceWrapper;
 import org.finos.legend.pure.m3.navigation.M3Paths;
 import org.finos.legend.pure.m3.navigation.PackageableElement.PackageableElement;
 import org.finos.legend.pure.m3.navigation._package._Package;
+import org.finos.legend.pure.m3.navigation.graph.GraphPath;
 import org.finos.legend.pure.m3.serialization.compiler.ModuleHelper;
 import org.finos.legend.pure.m3.serialization.compiler.PureCompilerSerializer;
 import org.finos.legend.pure.m3.serialization.compiler.file.FileDeserializer;
@@ -397,6 +400,168 @@ public class TestElementLoader extends AbstractReferenceTest
         });
     }
 
+    @Test
+    public void testLoadElements()
+    {
+        MutableList<String> paths = Lists.mutable.withAll(elementsByPath.keysView()).with("test::model::DoesNotExist").with(null);
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try
+        {
+            ElementLoader loader = newDirectoryElementLoader(ElementLoader.builder().withForkJoinPool(pool));
+            ListIterable<CoreInstance> loaded = loader.loadElements(paths);
+            Assert.assertEquals(paths.size(), loaded.size());
+            paths.forEachWithIndex((path, i) ->
+            {
+                CoreInstance expected = elementsByPath.get(path);
+                if (expected == null)
+                {
+                    Assert.assertNull(path, loaded.get(i));
+                }
+                else
+                {
+                    Assert.assertSame(path, expected, ((ElementWrapper) loaded.get(i)).getInstance());
+                    Assert.assertSame(path, loaded.get(i), loader.loadElement(path));
+                }
+            });
+            Assert.assertEquals(elementsByPath.size(), loader.getElementCache().size());
+        }
+        finally
+        {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testPrefetchElements()
+    {
+        MutableList<String> paths = Lists.mutable.withAll(elementsByPath.keysView()).select(metadataIndex::hasElement);
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try
+        {
+            ElementLoader loader = newDirectoryElementLoader(ElementLoader.builder().withForkJoinPool(pool));
+            int beforeConcreteElementCount = elementBuilder.getConcreteElementCounter();
+            loader.prefetchElements(paths);
+            Assert.assertEquals(beforeConcreteElementCount + paths.size(), elementBuilder.getConcreteElementCounter());
+            paths.forEach(path ->
+            {
+                Assert.assertTrue(path, loader.getElementCache().contains(path));
+                FakeConcreteElement element = (FakeConcreteElement) loader.loadElement(path);
+                element.deserialize();
+                Assert.assertEquals(path, fileDeserializer.deserializeElement(serializationDir, path), element.getDeserialized());
+            });
+
+            // prefetching again does not build the elements again
+            loader.prefetchElements(paths);
+            Assert.assertEquals(beforeConcreteElementCount + paths.size(), elementBuilder.getConcreteElementCounter());
+        }
+        finally
+        {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testReferenceClosure()
+    {
+        ElementLoader loader = newDirectoryElementLoader(ElementLoader.builder());
+        String path = "test::model::testFunc4_ClassWithMilestoning1_1__ClassWithMilestoning3_MANY_";
+
+        Assert.assertEquals(Sets.mutable.with(path), loader.getReferenceClosure(Lists.mutable.with(path, "test::model::DoesNotExist"), 0));
+
+        MutableSet<String> expectedDepth1 = Sets.mutable.with(path);
+        String moduleName = metadataIndex.getElementModuleName(path);
+        fileDeserializer.deserializeModuleExternalReferenceMetadata(serializationDir, moduleName).getExternalReferences()
+                .detectOptional(extRefs -> path.equals(extRefs.getElementPath()))
+                .ifPresent(extRefs -> extRefs.getExternalReferences()
+                        .collect(refId -> GraphPath.parse(refId).getStartNodePath())
+                        .select(p -> metadataIndex.hasElement(p) || metadataIndex.hasPackage(p), expectedDepth1));
+        Assert.assertEquals(expectedDepth1, loader.getReferenceClosure(Lists.mutable.with(path), 1));
+
+        SetIterable<String> fullClosure = loader.getReferenceClosure(Lists.mutable.with(path), -1);
+        Assert.assertTrue(fullClosure.containsAllIterable(expectedDepth1));
+        Assert.assertEquals(fullClosure, loader.getReferenceClosure(fullClosure, 1));
+
+        // computing the closure does not load anything
+        Assert.assertEquals(0, loader.getElementCache().size());
+    }
+
+    @Test
+    public void testBoundedCache()
+    {
+        MutableList<String> paths = Lists.mutable.withAll(elementsByPath.keysView()).select(metadataIndex::hasElement);
+        Assert.assertTrue(paths.size() > 5);
+        ElementLoader loader = newDirectoryElementLoader(ElementLoader.builder().withElementCache(ElementCache.bounded(3)));
+        String pinnedPath = paths.get(0);
+        loader.pinElement(pinnedPath);
+        CoreInstance pinned = loader.loadElement(pinnedPath);
+        paths.forEach(loader::loadElement);
+
+        Assert.assertEquals(4, loader.getElementCache().size());
+        Assert.assertEquals(paths.size() - 4, loader.getElementCache().getEvictionCount());
+        Assert.assertSame(pinned, loader.loadElement(pinnedPath));
+        paths.forEach(path -> Assert.assertSame(path, elementsByPath.get(path), ((ElementWrapper) loader.loadElement(path)).getInstance()));
+    }
+
+    @Test
+    public void testBoundedCacheKeepsIdentityAfterEviction()
+    {
+        MutableList<String> paths = Lists.mutable.withAll(elementsByPath.keysView()).select(metadataIndex::hasElement);
+        Assert.assertTrue(paths.size() > 2);
+        ElementLoader loader = newDirectoryElementLoader(ElementLoader.builder().withElementCache(ElementCache.bounded(1)));
+        MutableList<CoreInstance> loaded = paths.collect(loader::loadElement);
+
+        Assert.assertEquals(1, loader.getElementCache().size());
+        Assert.assertEquals(paths.size() - 1, loader.getElementCache().getEvictionCount());
+        paths.forEachWithIndex((path, i) ->
+        {
+            Assert.assertTrue(path, loader.getElementCache().contains(path));
+            Assert.assertSame(path, loaded.get(i), loader.loadElement(path));
+        });
+    }
+
+    @Test
+    public void testLazyBackReferences()
+    {
+        MutableList<String> paths = Lists.mutable.withAll(elementsByPath.keysView()).select(metadataIndex::hasElement);
+        ElementLoader eagerLoader = newDirectoryElementLoader(ElementLoader.builder());
+        ElementLoader lazyLoader = newDirectoryElementLoader(ElementLoader.builder().withLazyBackReferences(true));
+        AtomicInteger instancesWithBackRefs = new AtomicInteger(0);
+        paths.forEach(path ->
+        {
+            BackReferenceProvider eager = ((FakeConcreteElement) eagerLoader.loadElement(path)).getBackReferenceProvider();
+            BackReferenceProvider lazy = ((FakeConcreteElement) lazyLoader.loadElement(path)).getBackReferenceProvider();
+            fileDeserializer.deserializeElement(serializationDir, path).getInstanceData().forEach(instanceData ->
+            {
+                String refId = instanceData.getReferenceId();
+                if (refId != null)
+                {
+                    ListIterable<? extends BackReference> expected = eager.getBackReferences(refId);
+                    ListIterable<? extends BackReference> actual = lazy.getBackReferences(refId);
+                    if (expected.notEmpty())
+                    {
+                        // nothing is deserialized until the back references are accessed
+                        Assert.assertTrue(refId, LazyResolutionLists.isDeferred(actual));
+                        instancesWithBackRefs.incrementAndGet();
+                    }
+                    Assert.assertEquals(refId, expected, actual);
+                    Assert.assertFalse(refId, LazyResolutionLists.isDeferred(actual));
+                }
+            });
+        });
+        Assert.assertNotEquals(0, instancesWithBackRefs.get());
+    }
+
+    private static ElementLoader newDirectoryElementLoader(ElementLoader.Builder builder)
+    {
+        elementBuilder.initLoader.set(null);
+        return builder.withMetadataIndex(metadataIndex)
+                .withElementBuilder(elementBuilder)
+                .withAvailableReferenceIdExtensions()
+                .withFileDeserializer(fileDeserializer)
+                .withDirectory(serializationDir)
+                .build();
+    }
+
     private static void executeElementLoaderTest(Consumer<? super ElementLoader> test)
     {
         elementBuilder.initLoader.set(null);
@@ -471,7 +636,7 @@ public class TestElementLoader extends AbstractReferenceTest
         public CoreInstance buildConcreteElement(ConcreteElementMetadata metadata, MetadataIndex index, ReferenceIdResolvers referenceIds, Supplier<? extends DeserializedConcreteElement> deserializer, Supplier<? extends BackReferenceProvider> backRefProviderDeserializer)
         {
             this.concreteElementCounter.incrementAndGet();
-            return new FakeConcreteElement(metadata, deserializer);
+            return new FakeConcreteElement(metadata, deserializer, backRefProviderDeserializer);
         }
 
         @Override
@@ -523,12 +688,14 @@ public class TestElementLoader extends AbstractReferenceTest
         private final ConcreteElementMetadata metadata;
         private Supplier<? extends DeserializedConcreteElement> deserializer;
         private DeserializedConcreteElement deserialized;
+        private final Supplier<? extends BackReferenceProvider> backRefProviderDeserializer;
 
-        public FakeConcreteElement(ConcreteElementMetadata metadata, Supplier<? extends DeserializedConcreteElement> deserializer)
+        public FakeConcreteElement(ConcreteElementMetadata metadata, Supplier<? extends DeserializedConcreteElement> deserializer, Supplier<? extends BackReferenceProvider> backRefProviderDeserializer)
         {
             super(Objects.requireNonNull(processorSupport.package_getByUserPath(metadata.getPath()), metadata.getPath()));
             this.metadata = metadata;
             this.deserializer = deserializer;
+            this.backRefProviderDeserializer = backRefProviderDeserializer;
         }
 
         @Override
@@ -555,5 +722,10 @@ public class TestElementLoader extends AbstractReferenceTest
         {
             return this.deserialized;
         }
+
+        BackReferenceProvider getBackReferenceProvider()
+        {
+            return this.backRefProviderDeserializer.get();
+        }
     }
 }
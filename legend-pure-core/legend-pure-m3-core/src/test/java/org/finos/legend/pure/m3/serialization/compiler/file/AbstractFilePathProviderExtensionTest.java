@@ -577,6 +577,48 @@ public abstract class AbstractFilePathProviderExtensionTest extends AbstractRefe
         });
     }
 
+    @Test
+    public void testAllModuleElementSegmentPaths()
+    {
+        MapIterable<String, Pattern> segmentPatternBySeparator = buildPatternMap(getExpectedModuleMetadataPrefixDirs(), getExpectedModuleElementSegmentFilenameExtension());
+        MapIterable<String, Pattern> indexPatternBySeparator = buildPatternMap(getExpectedModuleMetadataPrefixDirs(), getExpectedModuleElementSegmentIndexFilenameExtension());
+        runtime.getCodeStorage().getAllRepositories().forEach(module ->
+        {
+            String moduleName = module.getName();
+            forEachFSSeparator(fsSeparator ->
+            {
+                String indexFilePath = this.extension.getModuleElementSegmentIndexFilePath(moduleName, fsSeparator);
+                Assert.assertNotNull(moduleName, indexFilePath);
+                Pattern indexPattern = indexPatternBySeparator.get(fsSeparator);
+                if (!indexPattern.matcher(indexFilePath).matches())
+                {
+                    Assert.fail("File path does not match the expected pattern\n\tmodule name: " + moduleName + "\n\tfile path: " + indexFilePath + "\n\tpattern: " + indexPattern.pattern());
+                }
+
+                Pattern segmentPattern = segmentPatternBySeparator.get(fsSeparator);
+                MutableList<String> segmentFilePaths = Lists.mutable.empty();
+                for (int segment : new int[]{0, 1, 12, Integer.MAX_VALUE})
+                {
+                    String filePath = this.extension.getModuleElementSegmentFilePath(moduleName, segment, fsSeparator);
+                    Assert.assertNotNull(moduleName, filePath);
+                    if (!segmentPattern.matcher(filePath).matches())
+                    {
+                        Assert.fail("File path does not match the expected pattern\n\tmodule name: " + moduleName + "\n\tsegment: " + segment + "\n\tfile path: " + filePath + "\n\tpattern: " + segmentPattern.pattern());
+                    }
+                    int index = findInvalidName(filePath, fsSeparator);
+                    if (index > -1)
+                    {
+                        Assert.fail("File path exceeds the file name size limit at index " + index + "\n\tmodule name:" + moduleName + "\n\tfile path: " + filePath);
+                    }
+                    segmentFilePaths.add(filePath);
+                }
+                Assert.assertEquals(segmentFilePaths.size(), segmentFilePaths.distinct().size());
+                Assert.assertFalse(segmentFilePaths.contains(indexFilePath));
+            });
+            Assert.assertThrows(IllegalArgumentException.class, () -> this.extension.getModuleElementSegmentFilePath(moduleName, -1, "/"));
+        });
+    }
+
     protected abstract ListIterable<String> getExpectedElementPrefixDirs();
 
     protected abstract String getExpectedElementFilenameExtension();
@@ -591,6 +633,33 @@ public abstract class AbstractFilePathProviderExtensionTest extends AbstractRefe
 
     protected abstract String getExpectedModuleElementBackReferenceMetadataFilenameExtension();
 
+    @Test
+    public void testAllModuleContentHashPaths()
+    {
+        MapIterable<String, Pattern> patternBySeparator = buildPatternMap(getExpectedModuleMetadataPrefixDirs(), getExpectedModuleContentHashFilenameExtension());
+        runtime.getCodeStorage().getAllRepositories().forEach(module ->
+        {
+            String moduleName = module.getName();
+            forEachFSSeparator(fsSeparator ->
+            {
+                String filePath = this.extension.getModuleContentHashFilePath(moduleName, fsSeparator);
+                Assert.assertNotNull(moduleName, filePath);
+                Pattern pattern = patternBySeparator.get(fsSeparator);
+                if (!pattern.matcher(filePath).matches())
+                {
+                    Assert.fail("File path does not match the expected pattern\n\tmodule name: " + moduleName + "\n\tfile path: " + filePath + "\n\tpattern: " + pattern.pattern());
+                }
+                Assert.assertNotEquals(moduleName, this.extension.getModuleElementSegmentIndexFilePath(moduleName, fsSeparator), filePath);
+            });
+        });
+    }
+
+    protected abstract String getExpectedModuleElementSegmentFilenameExtension();
+
+    protected abstract String getExpectedModuleElementSegmentIndexFilenameExtension();
+
+    protected abstract String getExpectedModuleContentHashFilenameExtension();
+
     protected abstract FilePathProviderExtension getExtension();
 
     private static int findInvalidName(String filePath, String fsSeparator)
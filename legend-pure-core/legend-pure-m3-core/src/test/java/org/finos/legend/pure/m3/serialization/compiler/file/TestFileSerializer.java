@@ -14,10 +14,12 @@
 
 package org.finos.legend.pure.m3.serialization.compiler.file;
 
+import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.MutableMap;
 import org.finos.legend.pure.m3.navigation.PackageableElement.PackageableElement;
+import org.finos.legend.pure.m3.serialization.compiler.ModuleHelper;
 import org.finos.legend.pure.m3.serialization.compiler.element.ConcreteElementDeserializer;
 import org.finos.legend.pure.m3.serialization.compiler.element.ConcreteElementSerializer;
 import org.finos.legend.pure.m3.serialization.compiler.element.DeserializedConcreteElement;
@@ -130,6 +132,83 @@ public class TestFileSerializer extends AbstractPureTestWithCoreCompiled
         }
     }
 
+    @Test
+    public void testModuleElementSegmentsInDirectory() throws IOException
+    {
+        Path directory = TMP.newFolder().toPath();
+        String moduleName = "segment_test";
+        MutableList<CoreInstance> elements = Lists.mutable.withAll(GraphTools.getTopLevelAndPackagedElements(processorSupport).select(e -> e.getSourceInformation() != null));
+        MutableMap<String, DeserializedConcreteElement> expectedElements = Maps.mutable.empty();
+        elements.forEach(e -> expectedElements.put(PackageableElement.getUserPathForPackageableElement(e), getExpectedDeserializedElement(e)));
+
+        FileSerializer smallSegmentSerializer = newFileSerializer(64 * 1024);
+        ModuleElementSegmentIndex index = smallSegmentSerializer.serializeModuleElements(directory, moduleName, elements);
+        Assert.assertEquals(moduleName, index.getModuleName());
+        Assert.assertEquals(expectedElements.keysView().toSortedList(), index.getElementPaths());
+        Assert.assertTrue(index.toString(), index.getSegmentCount() > 1);
+        for (int i = 0; i < index.getSegmentCount(); i++)
+        {
+            Assert.assertTrue(Files.exists(filePathProvider.getModuleElementSegmentFilePath(directory, moduleName, i)));
+        }
+        Assert.assertEquals(index, fileDeserializer.deserializeModuleElementSegmentIndexIfPresent(directory, moduleName));
+        Assert.assertNull(fileDeserializer.openModuleElementSegments(directory, "no_such_module"));
+
+        ModuleElementSegments segments = fileDeserializer.openModuleElementSegments(directory, moduleName);
+        Assert.assertNotNull(segments);
+        expectedElements.forEachKeyValue((elementPath, expected) ->
+        {
+            Assert.assertTrue(elementPath, segments.hasElement(elementPath));
+            Assert.assertEquals(elementPath, expected, segments.deserializeElement(elementPath));
+        });
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{directory.toUri().toURL()}, null))
+        {
+            ModuleElementSegments classLoaderSegments = fileDeserializer.openModuleElementSegments(classLoader, moduleName);
+            Assert.assertNotNull(classLoaderSegments);
+            expectedElements.forEachKeyValue((elementPath, expected) -> Assert.assertEquals(elementPath, expected, classLoaderSegments.deserializeElement(elementPath)));
+        }
+
+        String noSuchElementPath = "no::such::Element";
+        Assert.assertFalse(segments.hasElement(noSuchElementPath));
+        ElementNotFoundException e = Assert.assertThrows(ElementNotFoundException.class, () -> segments.deserializeElement(noSuchElementPath));
+        Assert.assertEquals(noSuchElementPath, e.getElementPath());
+
+        // re-serializing into a single segment must remove the now stale segments
+        ModuleElementSegmentIndex singleSegmentIndex = fileSerializer.serializeModuleElements(directory, moduleName, elements);
+        Assert.assertEquals(1, singleSegmentIndex.getSegmentCount());
+        Assert.assertTrue(Files.exists(filePathProvider.getModuleElementSegmentFilePath(directory, moduleName, 0)));
+        Assert.assertFalse(Files.exists(filePathProvider.getModuleElementSegmentFilePath(directory, moduleName, 1)));
+        ModuleElementSegments singleSegment = fileDeserializer.openModuleElementSegments(directory, moduleName);
+        expectedElements.forEachKeyValue((elementPath, expected) -> Assert.assertEquals(elementPath, expected, singleSegment.deserializeElement(elementPath)));
+    }
+
+    @Test
+    public void testModuleElementSegmentsInJar() throws IOException
+    {
+        Path directory = TMP.newFolder().toPath();
+        Path jarPath = directory.resolve("segments_test.jar");
+        String moduleName = "segment_test";
+        MutableList<CoreInstance> elements = Lists.mutable.withAll(GraphTools.getTopLevelAndPackagedElements(processorSupport).select(e -> e.getSourceInformation() != null));
+        MutableMap<String, DeserializedConcreteElement> expectedElements = Maps.mutable.empty();
+        elements.forEach(e -> expectedElements.put(PackageableElement.getUserPathForPackageableElement(e), getExpectedDeserializedElement(e)));
+
+        ModuleElementSegmentIndex index;
+        try (JarOutputStream jarStream = new JarOutputStream(new BufferedOutputStream(Files.newOutputStream(jarPath))))
+        {
+            index = newFileSerializer(64 * 1024).serializeModuleElements(jarStream, moduleName, elements);
+        }
+        Assert.assertTrue(index.toString(), index.getSegmentCount() > 1);
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{jarPath.toUri().toURL()}, null))
+        {
+            Assert.assertEquals(index, fileDeserializer.deserializeModuleElementSegmentIndexIfPresent(classLoader, moduleName));
+            Assert.assertNull(fileDeserializer.openModuleElementSegments(classLoader, "no_such_module"));
+
+            ModuleElementSegments segments = fileDeserializer.openModuleElementSegments(classLoader, moduleName);
+            Assert.assertNotNull(segments);
+            expectedElements.forEachKeyValue((elementPath, expected) -> Assert.assertEquals(elementPath, expected, segments.deserializeElement(elementPath)));
+        }
+    }
+
     /**
      * Serialising the same element a second time into the same directory must
      * leave the target file completely untouched: same bytes AND same
@@ -140,6 +219,46 @@ public class TestFileSerializer extends AbstractPureTestWithCoreCompiled
      * the file between the content comparison and the timestamp read — but for
      * a single-threaded test this is sufficient to verify the fast-path.</p>
      */
+    @Test
+    public void testIncrementalElementsInDirectory() throws IOException
+    {
+        Path directory = TMP.newFolder().toPath();
+        MutableList<CoreInstance> elements = Lists.mutable.withAll(GraphTools.getTopLevelAndPackagedElements(processorSupport).select(e -> (e.getSourceInformation() != null) && (ModuleHelper.getElementModule(e) != null)));
+        Assert.assertTrue(elements.size() > 2);
+        MutableList<String> paths = elements.collect(PackageableElement::getUserPathForPackageableElement);
+
+        ContentHashTracker tracker = fileSerializer.newContentHashTracker(directory);
+        FileSerializer incrementalSerializer = fileSerializer.withContentHashTracker(tracker);
+        elements.forEach(e -> incrementalSerializer.serializeElement(directory, e));
+        tracker.finish();
+        Assert.assertEquals(elements.size(), tracker.getWrittenCount());
+        Assert.assertEquals(0, tracker.getSkippedCount());
+        Assert.assertEquals(0, tracker.getDeletedCount());
+        paths.forEach(path -> Assert.assertTrue(path, fileDeserializer.elementExists(directory, path)));
+
+        // serialize all but the first element again: nothing is written, and the first element's file is deleted
+        ContentHashTracker tracker2 = fileSerializer.newContentHashTracker(directory);
+        FileSerializer incrementalSerializer2 = fileSerializer.withContentHashTracker(tracker2);
+        elements.forEach(1, elements.size() - 1, e -> incrementalSerializer2.serializeElement(directory, e));
+        tracker2.finish();
+        Assert.assertEquals(0, tracker2.getWrittenCount());
+        Assert.assertEquals(elements.size() - 1, tracker2.getSkippedCount());
+        Assert.assertEquals(1, tracker2.getDeletedCount());
+        Assert.assertFalse(paths.get(0), fileDeserializer.elementExists(directory, paths.get(0)));
+        paths.forEach(1, paths.size() - 1, path -> Assert.assertTrue(path, fileDeserializer.elementExists(directory, path)));
+
+        // a missing file is written again, even though its content is unchanged
+        Files.delete(filePathProvider.getElementFilePath(directory, paths.get(1)));
+        ContentHashTracker tracker3 = fileSerializer.newContentHashTracker(directory);
+        FileSerializer incrementalSerializer3 = fileSerializer.withContentHashTracker(tracker3);
+        elements.forEach(1, elements.size() - 1, e -> incrementalSerializer3.serializeElement(directory, e));
+        tracker3.finish();
+        Assert.assertEquals(1, tracker3.getWrittenCount());
+        Assert.assertEquals(elements.size() - 2, tracker3.getSkippedCount());
+        Assert.assertEquals(0, tracker3.getDeletedCount());
+        Assert.assertEquals(paths.get(1), getExpectedDeserializedElement(elements.get(1)), fileDeserializer.deserializeElement(directory, paths.get(1)));
+    }
+
     @Test
     public void testWriteIfModified_identicalContent_preservesTimestamp() throws IOException, InterruptedException
     {
@@ -226,6 +345,15 @@ public class TestFileSerializer extends AbstractPureTestWithCoreCompiled
         return elementDeserializer.deserialize(new ByteArrayInputStream(byteStream.toByteArray()));
     }
 
+    private static FileSerializer newFileSerializer(int maxElementSegmentSize)
+    {
+        return FileSerializer.builder()
+                .withFilePathProvider(filePathProvider)
+                .withSerializers(elementSerializer, ModuleMetadataSerializer.builder().withLoadedExtensions().build())
+                .withMaxElementSegmentSize(maxElementSegmentSize)
+                .build();
+    }
+
     @Test
     public void testAllModulesInDirectory() throws IOException
     {
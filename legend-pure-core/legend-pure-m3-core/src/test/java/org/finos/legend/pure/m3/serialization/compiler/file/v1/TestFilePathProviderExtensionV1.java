@@ -63,6 +63,24 @@ public class TestFilePathProviderExtensionV1 extends AbstractFilePathProviderExt
         return ".pbr";
     }
 
+    @Override
+    protected String getExpectedModuleElementSegmentFilenameExtension()
+    {
+        return ".pseg";
+    }
+
+    @Override
+    protected String getExpectedModuleElementSegmentIndexFilenameExtension()
+    {
+        return ".psx";
+    }
+
+    @Override
+    protected String getExpectedModuleContentHashFilenameExtension()
+    {
+        return ".phash";
+    }
+
     @Override
     protected FilePathProviderExtension getExtension()
     {
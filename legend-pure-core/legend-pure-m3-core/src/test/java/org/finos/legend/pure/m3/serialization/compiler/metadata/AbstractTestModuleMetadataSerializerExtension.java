@@ -216,8 +216,48 @@ public abstract class AbstractTestModuleMetadataSerializerExtension extends Abst
                 .build();
     }
 
+    @Test
+    public void testEmptyTypeHierarchyMetadata()
+    {
+        testTypeHierarchyMetadataSerializes(ModuleTypeHierarchyMetadata.builder().withModuleName("empty_module").withReferenceIdVersion(1).build());
+    }
+
+    @Test
+    public void testTypeHierarchyMetadata()
+    {
+        testTypeHierarchyMetadataSerializes(ModuleTypeHierarchyMetadata.builder()
+                .withModuleName("simple_module")
+                .withReferenceIdVersion(1)
+                .withAvailableModules("platform", "simple_module", "other_module")
+                .withType(TypeHierarchyMetadata.builder()
+                        .withTypeId("model::classes::MySimpleClass")
+                        .withGeneralizations("model::classes::MySimpleClass", "meta::pure::metamodel::type::Any")
+                        .withProperty("simple", "model::classes::MySimpleClass.properties['simple']")
+                        .withProperty("other", "model::associations::SimpleToOther.properties['other']")
+                        .withProperty("classifierGenericType", "meta::pure::metamodel::type::Any.properties['classifierGenericType']")
+                        .build())
+                .withType(TypeHierarchyMetadata.builder()
+                        .withTypeId("model::classes::MySubClass")
+                        .withGeneralizations("model::classes::MySubClass", "model::classes::MySimpleClass", "meta::pure::metamodel::type::Any")
+                        .withProperty("simple", "model::classes::MySimpleClass.properties['simple']")
+                        .withProperty("other", "model::associations::SimpleToOther.properties['other']")
+                        .withProperty("sub", "model::classes::MySubClass.properties['sub']")
+                        .withProperty("classifierGenericType", "meta::pure::metamodel::type::Any.properties['classifierGenericType']")
+                        .build())
+                .withType(TypeHierarchyMetadata.builder()
+                        .withTypeId("model::enums::MyEnumeration")
+                        .withGeneralizations("model::enums::MyEnumeration", "meta::pure::metamodel::type::Enum", "meta::pure::metamodel::type::Any")
+                        .build())
+                .build());
+    }
+
     protected abstract ModuleMetadataSerializerExtension getExtension();
 
+    protected void testTypeHierarchyMetadataSerializes(ModuleTypeHierarchyMetadata metadata)
+    {
+        testSerializes(metadata, metadata, this.serializer::serializeTypeHierarchyMetadata, this.serializer::deserializeTypeHierarchyMetadata);
+    }
+
     protected void testModuleMetadataSerializes(ModuleMetadata metadata)
     {
         testModuleMetadataSerializes(metadata, metadata);
@@ -0,0 +1,71 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.serialization.compiler.metadata;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestModuleManifests extends AbstractMetadataTest
+{
+    private final ImmutableList<ModuleManifest> modules = Lists.immutable.with(
+            ModuleManifest.builder("platform")
+                    .withElement(newClass("meta::pure::metamodel::type::Any", "/platform/pure/anything.pure", 1, 1, 3, 1))
+                    .build(),
+            ModuleManifest.builder("core")
+                    .withDependency("platform")
+                    .withElement(newClass("meta::core::CoreClass", "/core/core.pure", 1, 1, 3, 1))
+                    .build(),
+            ModuleManifest.builder("store")
+                    .withDependencies("platform", "core")
+                    .withElement(newClass("meta::store::StoreClass", "/store/store.pure", 1, 1, 3, 1))
+                    .build(),
+            ModuleManifest.builder("dsl")
+                    .withDependency("platform")
+                    .withElement(newClass("meta::dsl::DslClass", "/dsl/dsl.pure", 1, 1, 3, 1))
+                    .withElement(newClass("meta::dsl::OtherDslClass", "/dsl/dsl.pure", 5, 1, 7, 1))
+                    .build(),
+            ModuleManifest.builder("service")
+                    .withDependencies("core", "external")
+                    .withElement(newClass("service::ServiceClass", "/service/service.pure", 1, 1, 3, 1))
+                    .build());
+
+    @Test
+    public void testNoEntryPoints()
+    {
+        Assert.assertEquals(Sets.mutable.empty(), ModuleManifests.getRequiredModuleNames(this.modules, Lists.immutable.empty()));
+    }
+
+    @Test
+    public void testRequiredModuleNames()
+    {
+        Assert.assertEquals(Sets.mutable.with("platform"), ModuleManifests.getRequiredModuleNames(this.modules, Lists.immutable.with("meta::pure::metamodel::type::Any")));
+        Assert.assertEquals(Sets.mutable.with("platform", "core", "store"), ModuleManifests.getRequiredModuleNames(this.modules, Lists.immutable.with("meta::store::StoreClass")));
+        Assert.assertEquals(Sets.mutable.with("platform", "dsl"), ModuleManifests.getRequiredModuleNames(this.modules, Lists.immutable.with("meta::dsl::DslClass", "meta::dsl::OtherDslClass")));
+        Assert.assertEquals(Sets.mutable.with("platform", "core", "store", "dsl"), ModuleManifests.getRequiredModuleNames(this.modules, Lists.immutable.with("meta::dsl::DslClass", "meta::store::StoreClass")));
+
+        // dependencies without a manifest are still required
+        Assert.assertEquals(Sets.mutable.with("platform", "core", "service", "external"), ModuleManifests.getRequiredModuleNames(this.modules, Lists.immutable.with("service::ServiceClass")));
+    }
+
+    @Test
+    public void testUnknownEntryPoint()
+    {
+        IllegalArgumentException e = Assert.assertThrows(IllegalArgumentException.class, () -> ModuleManifests.getRequiredModuleNames(this.modules, Lists.immutable.with("meta::core::CoreClass", "meta::unknown::Unknown2", "meta::unknown::Unknown1")));
+        Assert.assertEquals("Entry point elements not found: meta::unknown::Unknown1, meta::unknown::Unknown2", e.getMessage());
+    }
+}
@@ -141,6 +141,28 @@ public class TestModuleMetadataGenerator extends BaseReferenceTest
         Assert.assertEquals(platformFromMultiRepo, platformFromSingleRepo);
     }
 
+    @Test
+    public void testTypeHierarchyMetadata()
+    {
+        ModuleTypeHierarchyMetadata refTest = this.generator.generateTypeHierarchyMetadata("ref_test");
+        Assert.assertEquals("ref_test", refTest.getModuleName());
+        Assert.assertEquals(this.generator.getReferenceIdVersion(), refTest.getReferenceIdVersion());
+        Assert.assertTrue(refTest.getAvailableModules().contains("ref_test"));
+        Assert.assertTrue(refTest.getAvailableModules().contains("platform"));
+
+        TypeHierarchyMetadata simpleClass = refTest.getTypes().detect(t -> "test::model::SimpleClass".equals(t.getTypeId()));
+        Assert.assertNotNull(simpleClass);
+        Assert.assertEquals(Lists.immutable.with("test::model::SimpleClass", "meta::pure::metamodel::type::Any"), simpleClass.getGeneralizations());
+        Assert.assertEquals("test::model::SimpleClass.properties['name']", simpleClass.getPropertiesByName().get("name"));
+        Assert.assertEquals("test::model::SimpleClass.properties['id']", simpleClass.getPropertiesByName().get("id"));
+        refTest.getTypes().forEach(t -> Assert.assertEquals(t.getTypeId(), t.getGeneralizations().getFirst()));
+
+        Assert.assertEquals(
+                Lists.mutable.with(this.generator.generateTypeHierarchyMetadata("platform"), refTest),
+                this.generator.generateTypeHierarchyMetadata(Arrays.asList("platform", "ref_test")).sortThisBy(ModuleTypeHierarchyMetadata::getModuleName));
+        Assert.assertEquals(Lists.immutable.empty(), this.generator.generateTypeHierarchyMetadata("empty").getTypes());
+    }
+
     private ModuleMetadata getModuleMetadata(String moduleName)
     {
         ModuleMetadata.Builder builder = newModuleMetadataBuilder(moduleName);
@@ -162,6 +162,25 @@ public class TestModuleMetadataSerializer
         Assert.assertEquals(2, v2Deserialize.getCount());
     }
 
+    @Test
+    public void testTypeHierarchyMetadataNotSupportedByExtension()
+    {
+        // an extension which does not implement type hierarchy metadata reads it as absent
+        ModuleMetadataSerializer serializer = ModuleMetadataSerializer.builder().withExtension(newExtension(1)).withStringIndexer(StringIndexer.nullStringIndexer()).build();
+        ModuleTypeHierarchyMetadata typeHierarchy = ModuleTypeHierarchyMetadata.builder()
+                .withModuleName("simple_module")
+                .withReferenceIdVersion(1)
+                .withType(TypeHierarchyMetadata.builder()
+                        .withTypeId("model::classes::MySimpleClass")
+                        .withGeneralizations("model::classes::MySimpleClass", "meta::pure::metamodel::type::Any")
+                        .build())
+                .build();
+
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        serializer.serializeTypeHierarchyMetadata(stream, typeHierarchy);
+        Assert.assertNull(serializer.deserializeTypeHierarchyMetadata(new ByteArrayInputStream(stream.toByteArray())));
+    }
+
     private ModuleMetadataSerializerExtension newExtension(int version)
     {
         return newExtension(version, null, null);
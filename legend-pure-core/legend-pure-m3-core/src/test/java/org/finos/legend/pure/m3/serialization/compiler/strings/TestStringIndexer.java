@@ -16,6 +16,7 @@ package org.finos.legend.pure.m3.serialization.compiler.strings;
 
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.list.primitive.MutableIntList;
 import org.eclipse.collections.impl.Counter;
 import org.eclipse.collections.impl.factory.primitive.IntLists;
@@ -64,7 +65,7 @@ public class TestStringIndexer
     @Test
     public void testLoadingFromClassLoader()
     {
-        testStringIndexerHasVersions(StringIndexer.builder().withLoadedExtensions().build(), 0, 1, 2, 3);
+        testStringIndexerHasVersions(StringIndexer.builder().withLoadedExtensions().build(), 0, 1, 2, 3, 4);
     }
 
     @Test
@@ -76,7 +77,7 @@ public class TestStringIndexer
     @Test
     public void testDefaultStringIndexer()
     {
-        testStringIndexerHasVersions(StringIndexer.defaultStringIndexer(), 0, 1, 2, 3);
+        testStringIndexerHasVersions(StringIndexer.defaultStringIndexer(), 0, 1, 2, 3, 4);
     }
 
     private void testStringIndexerHasVersions(StringIndexer stringIndexer, int... expectedVersions)
@@ -183,6 +184,26 @@ public class TestStringIndexer
         Assert.assertEquals(2, v2Deserialize.getCount());
     }
 
+    @Test
+    public void testDefaultStringIndexerReadsOlderVersions()
+    {
+        ImmutableList<String> stringList = Lists.immutable.with("meta::pure::metamodel::type::Class", "model::test::MyTestClass", "/test_module/testClass.pure", "Integer.generalizations[0]", "test::model::TestClass.qualifiedProperties[id='qp(String[1])']", "caf\u00e9", "", "the", "the");
+        StringIndexer stringIndexer = StringIndexer.defaultStringIndexer();
+        stringIndexer.forEachVersion(version ->
+        {
+            ByteArrayOutputStream stream = new ByteArrayOutputStream();
+            Writer writer = stringIndexer.writeStringIndex(BinaryWriters.newBinaryWriter(stream), stringList, version);
+            stringList.forEach(writer::writeString);
+            writer.writeStringArray(stringList.toArray(new String[stringList.size()]));
+
+            Reader reader = stringIndexer.readStringIndex(BinaryReaders.newBinaryReader(stream.toByteArray()));
+            MutableList<String> readStrings = Lists.mutable.ofInitialCapacity(stringList.size());
+            stringList.forEach(s -> readStrings.add(reader.readString()));
+            Assert.assertEquals("version " + version, stringList, readStrings);
+            Assert.assertArrayEquals("version " + version, stringList.toArray(new String[stringList.size()]), reader.readStringArray());
+        });
+    }
+
     private StringIndexerExtension newExtension(int version)
     {
         return newExtension(
@@ -0,0 +1,75 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.serialization.compiler.strings.v4;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.finos.legend.pure.m3.serialization.compiler.strings.AbstractTestStringIndexer;
+import org.finos.legend.pure.m3.serialization.compiler.strings.StringIndexer;
+import org.finos.legend.pure.m3.serialization.compiler.strings.StringIndexerExtension;
+import org.finos.legend.pure.m3.serialization.compiler.strings.v3.StringIndexerV3;
+import org.finos.legend.pure.m4.serialization.binary.BinaryWriters;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+
+public class TestStringIndexerV4 extends AbstractTestStringIndexer
+{
+    @Test
+    public void testNonAsciiStrings()
+    {
+        testSerializationRoundTrip("caf\u00e9", "model::caf\u00e9::\u65e5\u672c", "/caf\u00e9/\uD83D\uDE00.pure", "\uD83D\uDE00.values['\u00e9']");
+    }
+
+    @Test
+    public void testEdgeCaseDelimitedStrings()
+    {
+        testSerializationRoundTrip("a::", "::a", ":::", "a::::b", "/a/", "//", "/a//b", "a.", ".a", "a..b", "import_", "import__a", "a[]", "a['']", "a[b='']", "[0]");
+    }
+
+    @Test
+    public void testSharedPrefixesAreSmallerThanV3()
+    {
+        MutableList<String> strings = Lists.mutable.empty();
+        for (int i = 0; i < 200; i++)
+        {
+            strings.add("meta::pure::functions::collection::tests::f" + i);
+            strings.add("/core/pure/functions/collection/tests/f" + i + ".pure");
+        }
+        int v3Size = getStringIndexSize(new StringIndexerV3(), strings);
+        int v4Size = getStringIndexSize(getExtension(), strings);
+        Assert.assertTrue("v3: " + v3Size + ", v4: " + v4Size, v4Size < v3Size);
+    }
+
+    private int getStringIndexSize(StringIndexerExtension extension, Iterable<String> strings)
+    {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        StringIndexer.builder().withExtension(extension).build().writeStringIndex(BinaryWriters.newBinaryWriter(stream), strings);
+        return stream.size();
+    }
+
+    @Override
+    protected int getExtensionVersion()
+    {
+        return 4;
+    }
+
+    @Override
+    protected StringIndexerExtension getExtension()
+    {
+        return new StringIndexerV4();
+    }
+}
@@ -0,0 +1,166 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.serialization.grammar;
+
+import org.antlr.v4.runtime.ANTLRInputStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenSource;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.finos.legend.pure.m3.serialization.grammar.m3parser.antlr.M3AntlrParser;
+import org.finos.legend.pure.m3.serialization.grammar.m3parser.antlr.M3Lexer;
+import org.finos.legend.pure.m4.serialization.grammar.antlr.AntlrSourceInformation;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+public class TestTokenStreamCache
+{
+    private static final String CODE = "import test::*;\n" +
+            "\n" +
+            "Class test::A\n" +
+            "{\n" +
+            "    // a comment\n" +
+            "    name : String[1];\n" +
+            "    value : Integer[0..1];\n" +
+            "    other(x : Integer[1]) { $this.value->toOne() + $x }: Integer[1];\n" +
+            "}\n" +
+            "\n" +
+            "function test::f(a : A[1]) : String[1]\n" +
+            "{\n" +
+            "    /* block\n" +
+            "       comment */\n" +
+            "    $a.name + 'string with \\' quote' + $a.other(3)->toString()\n" +
+            "}\n";
+
+    @Rule
+    public final TemporaryFolder tmp = new TemporaryFolder();
+
+    @After
+    public void resetDefault()
+    {
+        TokenStreamCache.setDefault(null);
+    }
+
+    @Test
+    public void testReplayedTokensMatchLexer() throws IOException
+    {
+        TokenStreamCache cache = TokenStreamCache.newCache(this.tmp.newFolder().toPath(), 0);
+        MutableList<String> expected = describeTokens(newLexer(CODE));
+
+        Assert.assertEquals(expected, describeTokens(cache.getTokenSource(newLexer(CODE), CODE)));
+        Assert.assertEquals(0L, cache.getHitCount());
+        Assert.assertEquals(1L, cache.getMissCount());
+        Assert.assertEquals(1L, cache.getWriteCount());
+
+        Assert.assertEquals(expected, describeTokens(cache.getTokenSource(newLexer(CODE), CODE)));
+        Assert.assertEquals(1L, cache.getHitCount());
+        Assert.assertEquals(1L, cache.getMissCount());
+        Assert.assertEquals(1L, cache.getWriteCount());
+    }
+
+    @Test
+    public void testDifferentCodeIsNotShared() throws IOException
+    {
+        TokenStreamCache cache = TokenStreamCache.newCache(this.tmp.newFolder().toPath(), 0);
+        String otherCode = CODE.replace("value", "val");
+
+        describeTokens(cache.getTokenSource(newLexer(CODE), CODE));
+        Assert.assertEquals(describeTokens(newLexer(otherCode)), describeTokens(cache.getTokenSource(newLexer(otherCode), otherCode)));
+        Assert.assertEquals(0L, cache.getHitCount());
+        Assert.assertEquals(2L, cache.getWriteCount());
+    }
+
+    @Test
+    public void testShortCodeIsNotCached() throws IOException
+    {
+        TokenStreamCache cache = TokenStreamCache.newCache(this.tmp.newFolder().toPath(), CODE.length() + 1);
+        M3Lexer lexer = newLexer(CODE);
+        Assert.assertSame(lexer, cache.getTokenSource(lexer, CODE));
+        Assert.assertEquals(0L, cache.getMissCount());
+    }
+
+    @Test
+    public void testLexerErrorIsNotCached() throws IOException
+    {
+        TokenStreamCache cache = TokenStreamCache.newCache(this.tmp.newFolder().toPath(), 0);
+        String badCode = CODE + "\n\u00A7";
+        describeTokens(cache.getTokenSource(newLexer(badCode), badCode));
+        Assert.assertEquals(1L, cache.getMissCount());
+        Assert.assertEquals(0L, cache.getWriteCount());
+    }
+
+    @Test
+    public void testCorruptEntryIsMiss() throws IOException
+    {
+        Path directory = this.tmp.newFolder().toPath();
+        TokenStreamCache cache = TokenStreamCache.newCache(directory, 0);
+        describeTokens(cache.getTokenSource(newLexer(CODE), CODE));
+        try (Stream<Path> files = Files.list(directory))
+        {
+            Path file = files.findFirst().orElseThrow(IllegalStateException::new);
+            Files.write(file, new byte[]{1, 2, 3});
+        }
+
+        Assert.assertEquals(describeTokens(newLexer(CODE)), describeTokens(cache.getTokenSource(newLexer(CODE), CODE)));
+        Assert.assertEquals(0L, cache.getHitCount());
+        Assert.assertEquals(2L, cache.getMissCount());
+        Assert.assertEquals(2L, cache.getWriteCount());
+    }
+
+    @Test
+    public void testParseWithDefaultCache() throws IOException
+    {
+        TokenStreamCache cache = TokenStreamCache.newCache(this.tmp.newFolder().toPath(), 0);
+        String expected = parse(CODE);
+
+        TokenStreamCache.setDefault(cache);
+        Assert.assertEquals(expected, parse(CODE));
+        Assert.assertEquals(expected, parse(CODE));
+        Assert.assertEquals(1L, cache.getHitCount());
+        Assert.assertEquals(1L, cache.getMissCount());
+    }
+
+    private static String parse(String code)
+    {
+        org.finos.legend.pure.m3.serialization.grammar.m3parser.antlr.M3Parser parser = M3AntlrParser.initAntlrParser(true, code, new AntlrSourceInformation(0, 0, "test.pure", true));
+        return parser.definition().toStringTree(parser);
+    }
+
+    private static M3Lexer newLexer(String code)
+    {
+        return new M3Lexer(new ANTLRInputStream(code));
+    }
+
+    private static MutableList<String> describeTokens(TokenSource tokenSource)
+    {
+        MutableList<String> tokens = Lists.mutable.empty();
+        Token token;
+        do
+        {
+            token = tokenSource.nextToken();
+            tokens.add(token.getType() + ":" + token.getChannel() + ":" + token.getStartIndex() + ":" + token.getStopIndex() + ":" + token.getLine() + ":" + token.getCharPositionInLine() + ":" + token.getText());
+        }
+        while (token.getType() != Token.EOF);
+        return tokens;
+    }
+}
@@ -60,6 +60,8 @@ import org.junit.Test;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 public abstract class TestGraphLoader extends AbstractPureTestWithCoreCompiledPlatform
 {
@@ -165,6 +167,61 @@ public abstract class TestGraphLoader extends AbstractPureTestWithCoreCompiledPl
         assertAllOfRuntimeLoaded(Sets.immutable.with("platform", "system"));
     }
 
+    @Test
+    public void testLoadAllReportsReferenceResolution()
+    {
+        assertInitialState();
+        MutableList<String> messages = Lists.mutable.empty();
+        this.loader.loadAll(new Message("")
+        {
+            @Override
+            public void setMessage(String message)
+            {
+                messages.add(message);
+                super.setMessage(message);
+            }
+        });
+        assertAllOfRuntimeLoaded(Sets.immutable.with("platform", "system"));
+
+        MutableList<String> passMessages = messages.select(m -> m.startsWith("    Resolving references, pass "));
+        MutableList<String> summaryMessages = messages.select(m -> m.startsWith("    Resolved references for "));
+        Verify.assertNotEmpty(passMessages);
+        Verify.assertNotEmpty(summaryMessages);
+        Assert.assertTrue(summaryMessages.toString(), summaryMessages.allSatisfy(m -> m.matches("    Resolved references for .+ nodes in .+ passes \\(.+ node resolutions, .+s\\)")));
+        Assert.assertTrue(passMessages.toString(), passMessages.get(0).startsWith("    Resolving references, pass 1 "));
+    }
+
+    @Test
+    public void testLoadAllResolvesReferencesInMultiplePasses()
+    {
+        // References which depend on other nodes (such as properties, which wait on their owner) cannot all be
+        // resolved in the first pass, so loading the whole PAR graph must complete in later passes.
+        assertInitialState();
+        MutableList<String> messages = Lists.mutable.empty();
+        this.loader.loadAll(new Message("")
+        {
+            @Override
+            public void setMessage(String message)
+            {
+                messages.add(message);
+                super.setMessage(message);
+            }
+        });
+        assertAllOfRuntimeLoaded(Sets.immutable.with("platform", "system"));
+
+        Pattern summaryPattern = Pattern.compile("    Resolved references for [\\d,]+ nodes in ([\\d,]+) passes .*");
+        MutableList<Integer> passCounts = messages.collectIf(
+                m -> summaryPattern.matcher(m).matches(),
+                m ->
+                {
+                    Matcher matcher = summaryPattern.matcher(m);
+                    matcher.matches();
+                    return Integer.parseInt(matcher.group(1).replace(",", ""));
+                });
+        Verify.assertNotEmpty(passCounts);
+        Assert.assertTrue(passCounts.toString(), passCounts.anySatisfy(c -> c > 1));
+    }
+
     @Test
     public void testLoadM3()
     {
@@ -0,0 +1,127 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.serialization.runtime;
+
+import org.finos.legend.pure.m3.execution.VoidFunctionExecution;
+import org.finos.legend.pure.m3.tests.AbstractPureTestWithCoreCompiled;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.m4.exception.PureCompilationException;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.regex.Pattern;
+
+public class TestParallelUnload extends AbstractPureTestWithCoreCompiled
+{
+    private static final String BASE_SOURCE = "base.pure";
+    private static final String DEPENDENT_SOURCE = "dependent.pure";
+    private static final int FUNCTION_COUNT = 30;
+
+    private static ForkJoinPool forkJoinPool;
+
+    @BeforeClass
+    public static void setUp()
+    {
+        forkJoinPool = new ForkJoinPool(4);
+        Message message = new Message("");
+        functionExecution = VoidFunctionExecution.VOID_FUNCTION_EXECUTION;
+        runtime = new PureRuntimeBuilder(getCodeStorage())
+                .withIncrementalCompilerForkJoinPool(forkJoinPool)
+                .setTransactionalByDefault(isTransactionalByDefault())
+                .withMessage(message)
+                .build();
+        functionExecution.init(runtime, message);
+        runtime.loadAndCompileCore(message);
+        runtime.loadAndCompileSystem(message);
+        repository = runtime.getModelRepository();
+        context = runtime.getContext();
+        processorSupport = runtime.getProcessorSupport();
+    }
+
+    @AfterClass
+    public static void shutDownPool()
+    {
+        forkJoinPool.shutdown();
+    }
+
+    @After
+    public void cleanRuntime()
+    {
+        for (String sourceId : new String[]{BASE_SOURCE, DEPENDENT_SOURCE})
+        {
+            if (runtime.getSourceById(sourceId) != null)
+            {
+                runtime.delete(sourceId);
+            }
+        }
+        runtime.compile();
+    }
+
+    @Test
+    public void testModifyWidelyUsedSource()
+    {
+        compileTestSource(BASE_SOURCE, generateBaseFunctions(1));
+        compileTestSource(DEPENDENT_SOURCE, generateDependentFunctions());
+        CoreInstance dependent = runtime.getFunction("test::dependent0():Integer[1]");
+
+        runtime.modify(BASE_SOURCE, generateBaseFunctions(2));
+        runtime.compile();
+
+        // every base function and every dependent is unbound and recompiled
+        Assert.assertTrue(runtime.getIncrementalCompiler().getLastUnboundCount() >= (2 * FUNCTION_COUNT));
+        for (int i = 0; i < FUNCTION_COUNT; i++)
+        {
+            CoreInstance function = runtime.getFunction("test::dependent" + i + "():Integer[1]");
+            Assert.assertNotNull(function);
+            Assert.assertTrue(function.hasBeenValidated());
+        }
+        Assert.assertSame(dependent, runtime.getFunction("test::dependent0():Integer[1]"));
+    }
+
+    @Test
+    public void testDeleteWidelyUsedSource()
+    {
+        compileTestSource(BASE_SOURCE, generateBaseFunctions(1));
+        compileTestSource(DEPENDENT_SOURCE, generateDependentFunctions());
+
+        runtime.delete(BASE_SOURCE);
+        PureCompilationException e = Assert.assertThrows(PureCompilationException.class, runtime::compile);
+        assertPureException(PureCompilationException.class, Pattern.compile("^The system can't find a match for the function: (test::)?base\\d+\\(\\).*", Pattern.DOTALL), DEPENDENT_SOURCE, e);
+    }
+
+    private static String generateBaseFunctions(int value)
+    {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < FUNCTION_COUNT; i++)
+        {
+            builder.append("function test::base").append(i).append("():Integer[1] { ").append(value).append(" }\n");
+        }
+        return builder.toString();
+    }
+
+    private static String generateDependentFunctions()
+    {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < FUNCTION_COUNT; i++)
+        {
+            builder.append("function test::dependent").append(i).append("():Integer[1] { test::base").append(i).append("() + 1 }\n");
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,73 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.serialization.runtime;
+
+import org.finos.legend.pure.m3.tests.AbstractPureTestWithCoreCompiled;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class TestRecompilationScope extends AbstractPureTestWithCoreCompiled
+{
+    private static final String SOURCE_A = "a.pure";
+    private static final String SOURCE_B = "b.pure";
+    private static final String SOURCE_C = "c.pure";
+
+    @BeforeClass
+    public static void setUp()
+    {
+        setUpRuntime();
+    }
+
+    @After
+    public void cleanRuntime()
+    {
+        for (String sourceId : new String[]{SOURCE_A, SOURCE_B, SOURCE_C})
+        {
+            if (runtime.getSourceById(sourceId) != null)
+            {
+                runtime.delete(sourceId);
+            }
+        }
+        runtime.compile();
+    }
+
+    @Test
+    public void testOnlyDependentsAreRecompiled()
+    {
+        compileTestSource(SOURCE_A, "function test::a():Integer[1] { 1 }\n");
+        compileTestSource(SOURCE_B, "function test::b():Integer[1] { test::a() + 1 }\n");
+        compileTestSource(SOURCE_C, "function test::c():Integer[1] { 1 }\n");
+        CoreInstance b = runtime.getFunction("test::b():Integer[1]");
+
+        // c has no dependents
+        runtime.modify(SOURCE_C, "function test::c():Integer[1] { 2 }\n");
+        runtime.compile();
+        int unboundWithoutDependents = runtime.getIncrementalCompiler().getLastUnboundCount();
+        int processedWithoutDependents = runtime.getIncrementalCompiler().getLastPostProcessedCount();
+
+        // a has one dependent (b)
+        runtime.modify(SOURCE_A, "function test::a():Integer[1] { 2 }\n");
+        runtime.compile();
+        Assert.assertEquals(unboundWithoutDependents + 1, runtime.getIncrementalCompiler().getLastUnboundCount());
+        Assert.assertEquals(processedWithoutDependents + 1, runtime.getIncrementalCompiler().getLastPostProcessedCount());
+
+        // b is recompiled in place and now refers to the new a
+        Assert.assertSame(b, runtime.getFunction("test::b():Integer[1]"));
+        Assert.assertTrue(b.hasBeenValidated());
+    }
+}
@@ -0,0 +1,124 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.serialization.runtime.cache;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.finos.legend.pure.m3.serialization.filesystem.repository.CodeRepositoryProviderHelper;
+import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.MutableRepositoryCodeStorage;
+import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.classpath.ClassLoaderCodeStorage;
+import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.composite.CompositeCodeStorage;
+import org.finos.legend.pure.m3.serialization.runtime.PureRuntime;
+import org.finos.legend.pure.m3.serialization.runtime.PureRuntimeBuilder;
+import org.finos.legend.pure.m3.serialization.runtime.binary.PureRepositoryJarTools;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class TestIncrementalFSGraphLoaderPureGraphCache
+{
+    @ClassRule
+    public static final TemporaryFolder TMP = new TemporaryFolder();
+
+    private static MutableRepositoryCodeStorage codeStorage;
+    private static PureRuntime runtime;
+
+    @BeforeClass
+    public static void setUp()
+    {
+        codeStorage = new CompositeCodeStorage(new ClassLoaderCodeStorage(CodeRepositoryProviderHelper.findPlatformCodeRepository()));
+        runtime = new PureRuntimeBuilder(codeStorage).build();
+        runtime.loadAndCompileCore();
+    }
+
+    @Test
+    public void testOnlyChangedRepositoriesAreWritten() throws IOException
+    {
+        Path cacheDir = TMP.newFolder().toPath();
+        IncrementalFSGraphLoaderPureGraphCache cache = newCache(cacheDir, true);
+        Assert.assertFalse(cache.getCacheState().isCached());
+
+        cache.cacheRepoAndSources();
+        cache.awaitPendingWrites();
+        Assert.assertEquals(Lists.immutable.with("platform"), cache.getLastWrittenRepositories());
+        Assert.assertTrue(cache.getCacheState().isCached());
+        Path jarPath = cacheDir.resolve("platform" + PureRepositoryJarTools.PURE_JAR_EXTENSION);
+        Assert.assertTrue(Files.exists(jarPath));
+        Assert.assertTrue(Files.exists(cacheDir.resolve("platform.checksum")));
+
+        // nothing has changed, so nothing is written
+        Files.createFile(cacheDir.resolve("stale" + PureRepositoryJarTools.PURE_JAR_EXTENSION));
+        cache.cacheRepoAndSources();
+        cache.awaitPendingWrites();
+        Assert.assertEquals(Lists.immutable.empty(), cache.getLastWrittenRepositories());
+        Assert.assertFalse(Files.exists(cacheDir.resolve("stale" + PureRepositoryJarTools.PURE_JAR_EXTENSION)));
+
+        // a corrupt PAR file is written again, even though the sources have not changed
+        corrupt(jarPath);
+        cache.cacheRepoAndSources();
+        cache.awaitPendingWrites();
+        Assert.assertEquals(Lists.immutable.with("platform"), cache.getLastWrittenRepositories());
+    }
+
+    @Test
+    public void testBuildFromCache() throws IOException
+    {
+        Path cacheDir = TMP.newFolder().toPath();
+        newCache(cacheDir, false).cacheRepoAndSources();
+
+        IncrementalFSGraphLoaderPureGraphCache cache = newCache(cacheDir, false);
+        Assert.assertTrue(cache.getCacheState().isCached());
+        PureRuntime newRuntime = new PureRuntimeBuilder(codeStorage).withCache(cache).buildAndTryToInitializeFromCache();
+        Assert.assertTrue(newRuntime.isInitialized());
+        Assert.assertEquals(Lists.immutable.empty(), cache.getLastSkippedRepositories());
+        Assert.assertEquals(runtime.getContext().getAllInstances().collect(CoreInstance::getName).toSortedList(), newRuntime.getContext().getAllInstances().collect(CoreInstance::getName).toSortedList());
+    }
+
+    @Test
+    public void testCorruptCacheIsNotLoaded() throws IOException
+    {
+        Path cacheDir = TMP.newFolder().toPath();
+        newCache(cacheDir, false).cacheRepoAndSources();
+        Path jarPath = cacheDir.resolve("platform" + PureRepositoryJarTools.PURE_JAR_EXTENSION);
+        corrupt(jarPath);
+
+        IncrementalFSGraphLoaderPureGraphCache cache = newCache(cacheDir, false);
+        PureRuntime newRuntime = new PureRuntimeBuilder(codeStorage).withCache(cache).buildAndTryToInitializeFromCache();
+        Assert.assertFalse(newRuntime.isInitialized());
+        Assert.assertEquals(Lists.immutable.with("platform"), cache.getLastSkippedRepositories());
+        Assert.assertFalse(Files.exists(jarPath));
+        Assert.assertFalse(Files.exists(cacheDir.resolve("platform.checksum")));
+    }
+
+    private static IncrementalFSGraphLoaderPureGraphCache newCache(Path cacheDir, boolean writeInBackground)
+    {
+        IncrementalFSGraphLoaderPureGraphCache cache = new IncrementalFSGraphLoaderPureGraphCache(cacheDir, writeInBackground, null);
+        cache.setPureRuntime(runtime);
+        return cache;
+    }
+
+    private static void corrupt(Path path) throws IOException
+    {
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[bytes.length / 2] ^= 0x5a;
+        Files.write(path, bytes);
+    }
+}
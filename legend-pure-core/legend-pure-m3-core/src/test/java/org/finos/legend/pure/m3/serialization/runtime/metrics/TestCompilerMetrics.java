@@ -0,0 +1,155 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.serialization.runtime.metrics;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.finos.legend.pure.m3.tests.AbstractPureTestWithCoreCompiled;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class TestCompilerMetrics extends AbstractPureTestWithCoreCompiled
+{
+    @BeforeClass
+    public static void setUp()
+    {
+        setUpRuntime(getExtra());
+    }
+
+    @After
+    public void cleanRuntime()
+    {
+        CompilerMetrics metrics = runtime.getCompilerMetrics();
+        metrics.setEnabled(false);
+        metrics.clear();
+        runtime.delete("testSource.pure");
+        runtime.compile();
+    }
+
+    @Test
+    public void testDisabledByDefault()
+    {
+        CompilerMetrics metrics = new CompilerMetrics();
+        Assert.assertFalse(metrics.isEnabled());
+
+        MutableList<CompilerPhaseMetrics> recorded = Lists.mutable.empty();
+        metrics.addListener(recorded::add);
+        metrics.startTimer().stop(CompilerPhase.PARSE, "repo", "/repo/source.pure", 5);
+        metrics.record(new CompilerPhaseMetrics(CompilerPhase.VALIDATE, "repo", null, 10L, 5, 100L));
+
+        Assert.assertEquals(Lists.mutable.empty(), recorded);
+        Assert.assertEquals(0L, metrics.getPhaseSummary(CompilerPhase.PARSE).getCount());
+        Assert.assertTrue(metrics.getPhaseSummaries().isEmpty());
+        Assert.assertTrue(metrics.getRepositorySummaries().isEmpty());
+        Assert.assertTrue(metrics.getSourceMetrics().isEmpty());
+    }
+
+    @Test
+    public void testRecordAndSummarize()
+    {
+        CompilerMetrics metrics = new CompilerMetrics(true);
+        MutableList<CompilerPhaseMetrics> recorded = Lists.mutable.empty();
+        metrics.addListener(recorded::add);
+
+        metrics.record(new CompilerPhaseMetrics(CompilerPhase.PARSE, "repo1", "/repo1/a.pure", 10L, 3, 100L));
+        metrics.record(new CompilerPhaseMetrics(CompilerPhase.PARSE, "repo1", "/repo1/b.pure", 20L, 4, 200L));
+        metrics.record(new CompilerPhaseMetrics(CompilerPhase.PARSE, "repo2", "/repo2/c.pure", 30L, 5, 300L));
+        metrics.record(new CompilerPhaseMetrics(CompilerPhase.VALIDATE, "repo1", null, 40L, 7, -1L));
+        metrics.record(new CompilerPhaseMetrics(CompilerPhase.UNLOAD, null, null, 50L, 2, 500L));
+        Assert.assertEquals(5, recorded.size());
+
+        CompilerMetricsSummary parse = metrics.getPhaseSummary(CompilerPhase.PARSE);
+        Assert.assertEquals(3L, parse.getCount());
+        Assert.assertEquals(60L, parse.getTotalDurationNanos());
+        Assert.assertEquals(12L, parse.getTotalInstanceCount());
+        Assert.assertEquals(600L, parse.getTotalAllocatedBytes());
+
+        // unknown allocation makes the total unknown
+        Assert.assertEquals(-1L, metrics.getPhaseSummary(CompilerPhase.VALIDATE).getTotalAllocatedBytes());
+
+        Assert.assertEquals(Lists.mutable.with(CompilerPhase.PARSE, CompilerPhase.UNLOAD, CompilerPhase.VALIDATE), metrics.getPhaseSummaries().keysView().toSortedList());
+        Assert.assertEquals(Lists.mutable.with("repo1", "repo2"), metrics.getRepositorySummaries().keysView().toSortedList());
+        Assert.assertEquals(30L, metrics.getRepositorySummaries().get("repo1").get(CompilerPhase.PARSE).getTotalDurationNanos());
+        Assert.assertEquals(1L, metrics.getRepositorySummaries().get("repo1").get(CompilerPhase.VALIDATE).getCount());
+        Assert.assertNull(metrics.getRepositorySummaries().get("repo2").get(CompilerPhase.VALIDATE));
+        Assert.assertEquals(Lists.mutable.with("/repo1/a.pure", "/repo1/b.pure", "/repo2/c.pure"), metrics.getSourceMetrics().keysView().toSortedList());
+        Assert.assertEquals(5, metrics.getSourceMetrics().get("/repo2/c.pure").getInstanceCount());
+
+        metrics.clear();
+        Assert.assertTrue(metrics.getPhaseSummaries().isEmpty());
+        Assert.assertTrue(metrics.getRepositorySummaries().isEmpty());
+        Assert.assertTrue(metrics.getSourceMetrics().isEmpty());
+    }
+
+    @Test
+    public void testTimer()
+    {
+        CompilerMetrics metrics = new CompilerMetrics(true);
+        CompilerMetrics.Timer timer = metrics.startTimer();
+        MutableList<Object> garbage = Lists.mutable.empty();
+        for (int i = 0; i < 1000; i++)
+        {
+            garbage.add(new long[16]);
+        }
+        timer.stop(CompilerPhase.POST_PROCESS, "repo", null, garbage.size());
+
+        CompilerMetricsSummary summary = metrics.getPhaseSummary(CompilerPhase.POST_PROCESS);
+        Assert.assertEquals(1L, summary.getCount());
+        Assert.assertEquals(1000L, summary.getTotalInstanceCount());
+        Assert.assertTrue(summary.getTotalDurationNanos() >= 0L);
+        if (CompilerMetrics.isAllocationMeasurementAvailable())
+        {
+            Assert.assertTrue(summary.toString(), summary.getTotalAllocatedBytes() >= 1000L * 16L * 8L);
+        }
+        else
+        {
+            Assert.assertEquals(-1L, summary.getTotalAllocatedBytes());
+        }
+    }
+
+    @Test
+    public void testCompilationMetrics()
+    {
+        CompilerMetrics metrics = runtime.getCompilerMetrics();
+        metrics.clear();
+        metrics.setEnabled(true);
+
+        compileTestSource("testSource.pure",
+                "Class test::A\n" +
+                        "{\n" +
+                        "  name : String[1];\n" +
+                        "}\n" +
+                        "\n" +
+                        "function test::f(a:test::A[1]):String[1]\n" +
+                        "{\n" +
+                        "  $a.name\n" +
+                        "}\n");
+
+        Assert.assertEquals(1L, metrics.getPhaseSummary(CompilerPhase.PARSE).getCount());
+        CompilerPhaseMetrics parse = metrics.getSourceMetrics().get("testSource.pure");
+        Assert.assertNotNull(parse);
+        Assert.assertEquals(CompilerPhase.PARSE, parse.getPhase());
+        Assert.assertTrue(parse.getInstanceCount() >= 2);
+        Assert.assertTrue(metrics.getPhaseSummary(CompilerPhase.POST_PROCESS).getCount() > 0L);
+        Assert.assertTrue(metrics.getPhaseSummary(CompilerPhase.VALIDATE).getCount() > 0L);
+        Assert.assertEquals(0L, metrics.getPhaseSummary(CompilerPhase.UNLOAD).getCount());
+
+        runtime.delete("testSource.pure");
+        runtime.compile();
+        Assert.assertEquals(1L, metrics.getPhaseSummary(CompilerPhase.UNLOAD).getCount());
+    }
+}
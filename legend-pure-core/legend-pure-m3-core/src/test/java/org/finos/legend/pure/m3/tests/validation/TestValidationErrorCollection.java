@@ -0,0 +1,61 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.tests.validation;
+
+import org.finos.legend.pure.m3.tests.AbstractPureTestWithCoreCompiled;
+import org.finos.legend.pure.m4.exception.PureCompilationException;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class TestValidationErrorCollection extends AbstractPureTestWithCoreCompiled
+{
+    @BeforeClass
+    public static void setUp()
+    {
+        setUpRuntime(getExtra());
+    }
+
+    @After
+    public void cleanRuntime()
+    {
+        runtime.delete("/test/testSource.pure");
+        runtime.compile();
+    }
+
+    @Test
+    public void testAllErrorsCollected()
+    {
+        PureCompilationException e = Assert.assertThrows(PureCompilationException.class, () -> compileTestSource(
+                "/test/testSource.pure",
+                "Class <<access.externalizable>> test::TestClass1\n" +
+                        "{\n" +
+                        "}\n" +
+                        "\n" +
+                        "Class test::TestClass2\n" +
+                        "{\n" +
+                        "}\n" +
+                        "\n" +
+                        "Class <<access.externalizable>> test::TestClass3\n" +
+                        "{\n" +
+                        "}\n"));
+        assertPureException(PureCompilationException.class, "Only functions may have an access level of externalizable", "/test/testSource.pure", 1, 1, 1, 39, 3, 1, e);
+
+        Throwable[] suppressed = e.getSuppressed();
+        Assert.assertEquals(1, suppressed.length);
+        assertPureException(PureCompilationException.class, "Only functions may have an access level of externalizable", "/test/testSource.pure", 9, 1, 9, 39, 11, 1, (PureCompilationException) suppressed[0]);
+    }
+}
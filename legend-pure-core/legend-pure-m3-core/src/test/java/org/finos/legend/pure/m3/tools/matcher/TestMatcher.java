@@ -0,0 +1,166 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.tools.matcher;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.finos.legend.pure.m3.compiler.Context;
+import org.finos.legend.pure.m3.navigation.M3Paths;
+import org.finos.legend.pure.m3.navigation.ProcessorSupport;
+import org.finos.legend.pure.m3.serialization.grammar.m3parser.inlinedsl.InlineDSLLibrary;
+import org.finos.legend.pure.m3.tests.AbstractPureTestWithCoreCompiled;
+import org.finos.legend.pure.m4.ModelRepository;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class TestMatcher extends AbstractPureTestWithCoreCompiled
+{
+    @BeforeClass
+    public static void setUp()
+    {
+        setUpRuntime(getExtra());
+    }
+
+    @Test
+    public void testRunnerOrder()
+    {
+        MutableList<String> calls = Lists.mutable.empty();
+        Matcher matcher = new Matcher(repository, context, processorSupport);
+        matcher.addMatch(new RecordingRunner(M3Paths.Any, "any", calls));
+        matcher.addMatch(new RecordingRunner(M3Paths.Type, "type", calls));
+        matcher.addMatch(new RecordingRunner(M3Paths.Class, "class", calls));
+
+        CoreInstance instance = processorSupport.package_getByUserPath(M3Paths.Package);
+
+        Assert.assertTrue(matcher.match(instance, new TestMatcherState(processorSupport, true)));
+        Assert.assertEquals(Lists.mutable.with("any", "type", "class"), calls);
+
+        calls.clear();
+        Assert.assertTrue(matcher.match(instance, new TestMatcherState(processorSupport, false)));
+        Assert.assertEquals(Lists.mutable.with("class", "type", "any"), calls);
+
+        // repeated matches use the same runners
+        calls.clear();
+        Assert.assertTrue(matcher.match(instance, new TestMatcherState(processorSupport, true)));
+        Assert.assertEquals(Lists.mutable.with("any", "type", "class"), calls);
+    }
+
+    @Test
+    public void testAnyOnly()
+    {
+        MutableList<String> calls = Lists.mutable.empty();
+        Matcher matcher = new Matcher(repository, context, processorSupport);
+        matcher.addMatch(new RecordingRunner(M3Paths.Any, "any", calls));
+        matcher.addMatch(new RecordingRunner(M3Paths.Enumeration, "enumeration", calls));
+
+        Assert.assertFalse(matcher.match(processorSupport.package_getByUserPath(M3Paths.Package), new TestMatcherState(processorSupport, true)));
+        Assert.assertEquals(Lists.mutable.with("any"), calls);
+    }
+
+    @Test
+    public void testAddingRunnerAfterMatching()
+    {
+        MutableList<String> calls = Lists.mutable.empty();
+        Matcher matcher = new Matcher(repository, context, processorSupport);
+        matcher.addMatch(new RecordingRunner(M3Paths.Any, "any", calls));
+
+        CoreInstance instance = processorSupport.package_getByUserPath(M3Paths.Package);
+        Assert.assertFalse(matcher.match(instance, new TestMatcherState(processorSupport, true)));
+        Assert.assertTrue(matcher.hasOnlyThreadSafeRunners(instance));
+
+        matcher.addMatch(new RecordingRunner(M3Paths.Class, "class", calls));
+        calls.clear();
+        Assert.assertTrue(matcher.match(instance, new TestMatcherState(processorSupport, true)));
+        Assert.assertEquals(Lists.mutable.with("any", "class"), calls);
+        Assert.assertFalse(matcher.hasOnlyThreadSafeRunners(instance));
+    }
+
+    @Test
+    public void testGeneralizationChange()
+    {
+        MutableList<String> calls = Lists.mutable.empty();
+        Matcher matcher = new Matcher(repository, context, processorSupport);
+        matcher.addMatch(new RecordingRunner(M3Paths.Any, "any", calls));
+        matcher.addMatch(new RecordingRunner(M3Paths.Class, "class", calls));
+
+        CoreInstance instance = processorSupport.package_getByUserPath(M3Paths.Package);
+        Assert.assertTrue(matcher.match(instance, new TestMatcherState(processorSupport, true)));
+
+        long version = context.getGeneralizationsVersion();
+        context.update(processorSupport.package_getByUserPath(M3Paths.Class));
+        Assert.assertNotEquals(version, context.getGeneralizationsVersion());
+
+        calls.clear();
+        Assert.assertTrue(matcher.match(instance, new TestMatcherState(processorSupport, true)));
+        Assert.assertEquals(Lists.mutable.with("any", "class"), calls);
+    }
+
+    private static class RecordingRunner implements MatchRunner<CoreInstance>
+    {
+        private final String className;
+        private final String id;
+        private final MutableList<String> calls;
+
+        private RecordingRunner(String className, String id, MutableList<String> calls)
+        {
+            this.className = className;
+            this.id = id;
+            this.calls = calls;
+        }
+
+        @Override
+        public String getClassName()
+        {
+            return this.className;
+        }
+
+        @Override
+        public boolean isThreadSafe()
+        {
+            return M3Paths.Any.equals(this.className);
+        }
+
+        @Override
+        public void run(CoreInstance instance, MatcherState state, Matcher matcher, ModelRepository modelRepository, Context context)
+        {
+            this.calls.add(this.id);
+        }
+    }
+
+    private static class TestMatcherState extends MatcherState
+    {
+        private final boolean mostGeneralRunnersFirst;
+
+        private TestMatcherState(ProcessorSupport processorSupport, boolean mostGeneralRunnersFirst)
+        {
+            super(processorSupport);
+            this.mostGeneralRunnersFirst = mostGeneralRunnersFirst;
+        }
+
+        @Override
+        public boolean mostGeneralRunnersFirst()
+        {
+            return this.mostGeneralRunnersFirst;
+        }
+
+        @Override
+        public InlineDSLLibrary getInlineDSLLibrary()
+        {
+            return null;
+        }
+    }
+}
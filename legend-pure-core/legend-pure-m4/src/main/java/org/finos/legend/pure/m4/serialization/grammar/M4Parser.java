@@ -16,13 +16,13 @@ package org.finos.legend.pure.m4.serialization.grammar;
 
 import org.antlr.v4.runtime.ANTLRInputStream;
 import org.antlr.v4.runtime.CommonTokenStream;
-import org.antlr.v4.runtime.atn.PredictionMode;
 import org.eclipse.collections.api.list.MutableList;
 import org.finos.legend.pure.m4.ModelRepository;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.serialization.grammar.antlr.AntlrDescriptiveErrorListener;
 import org.finos.legend.pure.m4.serialization.grammar.antlr.AntlrSourceInformation;
 import org.finos.legend.pure.m4.serialization.grammar.antlr.PureAntlrErrorStrategy;
+import org.finos.legend.pure.m4.serialization.grammar.antlr.PureAntlrParsing;
 import org.finos.legend.pure.m4.statelistener.M4StateListener;
 
 public class M4Parser
@@ -45,11 +45,9 @@ public class M4Parser
 
     private MutableList<CoreInstance> parseDefinition(boolean useFastParser, String code, String sourceName, ModelRepository repository, boolean addLines)
     {
-        M4AntlrParser parser = this.initAntlrParser(useFastParser, code, sourceName);
+        M4AntlrParser.DefinitionContext c = PureAntlrParsing.parse(M4AntlrParser.class, useFastParser, fastParser -> this.initAntlrParser(fastParser, code, sourceName).definition());
 
         M4GraphBuilder visitor = new M4GraphBuilder(sourceName, repository, addLines);
-        M4AntlrParser.DefinitionContext c = parser.definition();
-
         return visitor.visitDefinition(c);
     }
 
@@ -66,7 +64,7 @@ public class M4Parser
         parser.removeErrorListeners();
         parser.addErrorListener(pureErrorListener);
         parser.setErrorHandler(new PureAntlrErrorStrategy(sourceInformation));
-        parser.getInterpreter().setPredictionMode(fastParser ? PredictionMode.SLL : PredictionMode.LL);
+        PureAntlrParsing.setPredictionMode(parser, fastParser);
         return parser;
     }
 }
@@ -0,0 +1,290 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m4.serialization.grammar.antlr;
+
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.atn.ATN;
+import org.antlr.v4.runtime.atn.ParserATNSimulator;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.map.ConcurrentMutableMap;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Common front end for the Pure ANTLR parsers. Each parse is first attempted with the fast SLL prediction mode, with
+ * an error strategy which bails out on the first error ({@link PureAntlrErrorStrategy}). Only if that fails with a
+ * recognition error is the parse retried with full LL prediction. Statistics on fast parse success and fallback time
+ * are recorded per grammar.
+ * <p>
+ * Generated ANTLR parsers share their DFA caches statically across instances, so the caches warm up over the life of
+ * the JVM. They can grow without limit, so a bound on the number of DFA states per grammar can be set with
+ * {@link #setMaxDFAStates(int)}. When a parse starts for a grammar which exceeds the bound, the DFA cache for that
+ * grammar is cleared, but only if no other parse with that grammar is running: parses hold a read lock on the grammar's
+ * DFA cache and clearing it takes the write lock without waiting, so it is simply retried at the start of a later
+ * parse.
+ */
+public final class PureAntlrParsing
+{
+    private static final ConcurrentMutableMap<String, PureAntlrParsingStatistics> STATISTICS = ConcurrentHashMap.newMap();
+    private static final ConcurrentMutableMap<String, SharedDFA> SHARED_DFAS = ConcurrentHashMap.newMap();
+
+    private static volatile int maxDFAStates = -1;
+
+    private PureAntlrParsing()
+    {
+        // Utility class
+    }
+
+    /**
+     * Parse, first with the fast (SLL) parser and then, if that fails with a recognition error, with the full (LL)
+     * parser.
+     *
+     * @param grammar  generated ANTLR parser class (used to identify the grammar)
+     * @param function parse function; it must create a new ANTLR parser for each call
+     * @param <T>      result type
+     * @return parse result
+     */
+    public static <T> T parse(Class<? extends Parser> grammar, ParseFunction<T> function)
+    {
+        return parse(grammar, true, function);
+    }
+
+    /**
+     * Parse, first with the fast (SLL) parser if tryFastParser is true, and then with the full (LL) parser if that
+     * fails with a recognition error. If tryFastParser is false, only the full parser is used.
+     *
+     * @param grammar       generated ANTLR parser class (used to identify the grammar)
+     * @param tryFastParser whether to try the fast parser first
+     * @param function      parse function; it must create a new ANTLR parser for each call
+     * @param <T>           result type
+     * @return parse result
+     */
+    public static <T> T parse(Class<? extends Parser> grammar, boolean tryFastParser, ParseFunction<T> function)
+    {
+        PureAntlrParsingStatistics statistics = getStatistics(grammar);
+        SharedDFA sharedDFA = getSharedDFA(grammar);
+        sharedDFA.clearIfOverBound(statistics);
+        sharedDFA.lock.readLock().lock();
+        try
+        {
+            if (!tryFastParser)
+            {
+                statistics.noteSlowParse();
+                return function.parse(false);
+            }
+
+            statistics.noteFastParse();
+            long start = System.nanoTime();
+            try
+            {
+                return function.parse(true);
+            }
+            catch (PureParserException e)
+            {
+                if (!isFastParserFailure(true, e))
+                {
+                    throw e;
+                }
+                statistics.noteFastParseFailure();
+                statistics.noteSlowParse();
+                try
+                {
+                    return function.parse(false);
+                }
+                finally
+                {
+                    statistics.noteFallbackTime(System.nanoTime() - start);
+                }
+            }
+        }
+        finally
+        {
+            sharedDFA.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Warm up the shared DFA cache of a grammar by running a parse whose result is discarded. The parse function
+     * should use the fast parser. Parser errors are ignored, as warming up is best effort, and no statistics are
+     * recorded.
+     *
+     * @param grammar generated ANTLR parser class (used to identify the grammar)
+     * @param parse   parse to run
+     */
+    public static void warmUp(Class<? extends Parser> grammar, Runnable parse)
+    {
+        SharedDFA sharedDFA = getSharedDFA(grammar);
+        sharedDFA.lock.readLock().lock();
+        try
+        {
+            parse.run();
+        }
+        catch (PureParserException ignore)
+        {
+            // warming up is best effort
+        }
+        finally
+        {
+            sharedDFA.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Set the prediction mode of a newly created parser: SLL for the fast parser, LL otherwise. This also registers
+     * the shared DFA cache of the parser's grammar, so that it can be cleared if a bound on DFA states is set.
+     *
+     * @param parser     newly created parser
+     * @param fastParser whether this is the fast parser
+     */
+    public static void setPredictionMode(Parser parser, boolean fastParser)
+    {
+        ParserATNSimulator interpreter = parser.getInterpreter();
+        interpreter.setPredictionMode(fastParser ? PredictionMode.SLL : PredictionMode.LL);
+        getSharedDFA(parser.getClass()).register(interpreter);
+    }
+
+    /**
+     * Whether the exception indicates that the fast parser failed, in which case the parse should be retried with the
+     * full parser.
+     *
+     * @param fastParser whether the fast parser was used
+     * @param e          exception
+     * @return whether to retry with the full parser
+     */
+    public static boolean isFastParserFailure(boolean fastParser, Exception e)
+    {
+        return fastParser && (e instanceof PureParserException) && (e.getCause() instanceof RecognitionException);
+    }
+
+    public static PureAntlrParsingStatistics getStatistics(Class<? extends Parser> grammar)
+    {
+        return STATISTICS.getIfAbsentPutWithKey(grammar.getName(), PureAntlrParsingStatistics::new);
+    }
+
+    public static RichIterable<PureAntlrParsingStatistics> getAllStatistics()
+    {
+        return STATISTICS.valuesView().toList();
+    }
+
+    public static void clearStatistics()
+    {
+        STATISTICS.clear();
+    }
+
+    /**
+     * Get the bound on DFA states per grammar, or -1 if there is none.
+     *
+     * @return DFA states bound
+     */
+    public static int getMaxDFAStates()
+    {
+        return maxDFAStates;
+    }
+
+    /**
+     * Set the bound on DFA states per grammar. A negative value removes the bound.
+     *
+     * @param max maximum number of DFA states per grammar
+     */
+    public static void setMaxDFAStates(int max)
+    {
+        maxDFAStates = (max < 0) ? -1 : max;
+    }
+
+    /**
+     * Count the states in the shared DFA cache of the parser's grammar.
+     *
+     * @param parser parser
+     * @return number of DFA states
+     */
+    public static int countDFAStates(Parser parser)
+    {
+        return countDFAStates(parser.getInterpreter());
+    }
+
+    private static int countDFAStates(ParserATNSimulator interpreter)
+    {
+        return countDFAStates(interpreter.decisionToDFA);
+    }
+
+    private static int countDFAStates(DFA[] decisionToDFA)
+    {
+        int count = 0;
+        for (DFA dfa : decisionToDFA)
+        {
+            count += dfa.states.size();
+        }
+        return count;
+    }
+
+    private static SharedDFA getSharedDFA(Class<? extends Parser> grammar)
+    {
+        return SHARED_DFAS.getIfAbsentPut(grammar.getName(), SharedDFA::new);
+    }
+
+    private static class SharedDFA
+    {
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private volatile ATN atn;
+        private volatile DFA[] decisionToDFA;
+
+        private void register(ParserATNSimulator interpreter)
+        {
+            if (this.decisionToDFA == null)
+            {
+                // Generated parsers share a single static DFA array, so the first one registered is the one to clear
+                this.atn = interpreter.atn;
+                this.decisionToDFA = interpreter.decisionToDFA;
+            }
+        }
+
+        private void clearIfOverBound(PureAntlrParsingStatistics statistics)
+        {
+            int max = maxDFAStates;
+            DFA[] dfas = this.decisionToDFA;
+            if ((max < 0) || (dfas == null) || !this.lock.writeLock().tryLock())
+            {
+                return;
+            }
+            try
+            {
+                if (countDFAStates(dfas) > max)
+                {
+                    // Same as ParserATNSimulator.clearDFA, which is safe here as no parse with this grammar is running
+                    for (int d = 0; d < dfas.length; d++)
+                    {
+                        dfas[d] = new DFA(this.atn.getDecisionState(d), d);
+                    }
+                    statistics.noteDFAClear();
+                }
+            }
+            finally
+            {
+                this.lock.writeLock().unlock();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface ParseFunction<T>
+    {
+        T parse(boolean fastParser);
+    }
+}
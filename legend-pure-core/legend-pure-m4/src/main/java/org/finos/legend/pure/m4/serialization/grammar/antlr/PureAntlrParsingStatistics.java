@@ -0,0 +1,138 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m4.serialization.grammar.antlr;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Statistics on two-stage (SLL, then LL) parsing for one grammar. See {@link PureAntlrParsing}.
+ */
+public class PureAntlrParsingStatistics
+{
+    private final String grammar;
+    private final AtomicLong fastParseCount = new AtomicLong();
+    private final AtomicLong fastParseFailureCount = new AtomicLong();
+    private final AtomicLong slowParseCount = new AtomicLong();
+    private final AtomicLong fallbackNanos = new AtomicLong();
+    private final AtomicLong dfaClearCount = new AtomicLong();
+
+    PureAntlrParsingStatistics(String grammar)
+    {
+        this.grammar = grammar;
+    }
+
+    public String getGrammar()
+    {
+        return this.grammar;
+    }
+
+    /**
+     * Number of parses attempted with the fast (SLL) parser.
+     *
+     * @return fast parse count
+     */
+    public long getFastParseCount()
+    {
+        return this.fastParseCount.get();
+    }
+
+    /**
+     * Number of fast (SLL) parses which failed and were retried with the full (LL) parser.
+     *
+     * @return fast parse failure count
+     */
+    public long getFastParseFailureCount()
+    {
+        return this.fastParseFailureCount.get();
+    }
+
+    /**
+     * Number of parses done with the full (LL) parser, whether as a retry or directly.
+     *
+     * @return slow parse count
+     */
+    public long getSlowParseCount()
+    {
+        return this.slowParseCount.get();
+    }
+
+    /**
+     * Total time in nanoseconds spent on parses which fell back to the full (LL) parser, including the failed fast
+     * attempt.
+     *
+     * @return fallback time in nanoseconds
+     */
+    public long getFallbackNanos()
+    {
+        return this.fallbackNanos.get();
+    }
+
+    /**
+     * Number of times the DFA cache for this grammar was cleared because it exceeded the bound.
+     *
+     * @return DFA clear count
+     */
+    public long getDFAClearCount()
+    {
+        return this.dfaClearCount.get();
+    }
+
+    /**
+     * Fraction of fast (SLL) parses which succeeded, or 1.0 if there have been none.
+     *
+     * @return fast parse success rate
+     */
+    public double getFastParseSuccessRate()
+    {
+        long count = getFastParseCount();
+        return (count == 0) ? 1.0 : ((double) (count - getFastParseFailureCount()) / count);
+    }
+
+    void noteFastParse()
+    {
+        this.fastParseCount.incrementAndGet();
+    }
+
+    void noteFastParseFailure()
+    {
+        this.fastParseFailureCount.incrementAndGet();
+    }
+
+    void noteSlowParse()
+    {
+        this.slowParseCount.incrementAndGet();
+    }
+
+    void noteFallbackTime(long nanos)
+    {
+        this.fallbackNanos.addAndGet(nanos);
+    }
+
+    void noteDFAClear()
+    {
+        this.dfaClearCount.incrementAndGet();
+    }
+
+    @Override
+    public String toString()
+    {
+        return "<" + getClass().getSimpleName() + " grammar=" + this.grammar +
+                " fastParses=" + getFastParseCount() +
+                " fastParseFailures=" + getFastParseFailureCount() +
+                " slowParses=" + getSlowParseCount() +
+                " fallbackNanos=" + getFallbackNanos() +
+                " dfaClears=" + getDFAClearCount() + ">";
+    }
+}
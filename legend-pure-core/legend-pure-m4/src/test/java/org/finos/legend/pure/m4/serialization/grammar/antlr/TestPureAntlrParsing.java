@@ -0,0 +1,179 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m4.serialization.grammar.antlr;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.atn.ATNConfigSet;
+import org.antlr.v4.runtime.dfa.DFAState;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.finos.legend.pure.m4.ModelRepository;
+import org.finos.legend.pure.m4.coreinstance.SourceInformation;
+import org.finos.legend.pure.m4.serialization.grammar.M4AntlrLexer;
+import org.finos.legend.pure.m4.serialization.grammar.M4AntlrParser;
+import org.finos.legend.pure.m4.serialization.grammar.M4Parser;
+import org.finos.legend.pure.m4.statelistener.VoidM4StateListener;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestPureAntlrParsing
+{
+    @Before
+    public void clearStatistics()
+    {
+        PureAntlrParsing.clearStatistics();
+    }
+
+    @After
+    public void resetMaxDFAStates()
+    {
+        PureAntlrParsing.setMaxDFAStates(-1);
+        PureAntlrParsing.clearStatistics();
+    }
+
+    @Test
+    public void testFastParseSuccess()
+    {
+        MutableList<Boolean> modes = Lists.mutable.empty();
+        String result = PureAntlrParsing.parse(M4AntlrParser.class, fastParser ->
+        {
+            modes.add(fastParser);
+            return "ok";
+        });
+        Assert.assertEquals("ok", result);
+        Assert.assertEquals(Lists.mutable.with(true), modes);
+
+        PureAntlrParsingStatistics statistics = PureAntlrParsing.getStatistics(M4AntlrParser.class);
+        Assert.assertEquals(M4AntlrParser.class.getName(), statistics.getGrammar());
+        Assert.assertEquals(1L, statistics.getFastParseCount());
+        Assert.assertEquals(0L, statistics.getFastParseFailureCount());
+        Assert.assertEquals(0L, statistics.getSlowParseCount());
+        Assert.assertEquals(1.0, statistics.getFastParseSuccessRate(), 0.0);
+    }
+
+    @Test
+    public void testFallbackToFullParser()
+    {
+        MutableList<Boolean> modes = Lists.mutable.empty();
+        String result = PureAntlrParsing.parse(M4AntlrParser.class, fastParser ->
+        {
+            modes.add(fastParser);
+            if (fastParser)
+            {
+                throw new PureParserException(new SourceInformation("test.pure", 1, 1, 1, 1), "fast parser failure", new RecognitionException(null, null, null));
+            }
+            return "ok";
+        });
+        Assert.assertEquals("ok", result);
+        Assert.assertEquals(Lists.mutable.with(true, false), modes);
+
+        PureAntlrParsingStatistics statistics = PureAntlrParsing.getStatistics(M4AntlrParser.class);
+        Assert.assertEquals(1L, statistics.getFastParseCount());
+        Assert.assertEquals(1L, statistics.getFastParseFailureCount());
+        Assert.assertEquals(1L, statistics.getSlowParseCount());
+        Assert.assertEquals(0.0, statistics.getFastParseSuccessRate(), 0.0);
+        Assert.assertTrue(statistics.getFallbackNanos() >= 0L);
+    }
+
+    @Test
+    public void testNoFallbackForOtherErrors()
+    {
+        MutableList<Boolean> modes = Lists.mutable.empty();
+        PureParserException e = Assert.assertThrows(PureParserException.class, () -> PureAntlrParsing.parse(M4AntlrParser.class, fastParser ->
+        {
+            modes.add(fastParser);
+            throw new PureParserException(new SourceInformation("test.pure", 1, 1, 1, 1), "not a recognition error");
+        }));
+        Assert.assertEquals("not a recognition error", e.getInfo());
+        Assert.assertEquals(Lists.mutable.with(true), modes);
+        Assert.assertEquals(0L, PureAntlrParsing.getStatistics(M4AntlrParser.class).getFastParseFailureCount());
+    }
+
+    @Test
+    public void testFullParserOnly()
+    {
+        MutableList<Boolean> modes = Lists.mutable.empty();
+        PureAntlrParsing.parse(M4AntlrParser.class, false, fastParser -> modes.add(fastParser));
+        Assert.assertEquals(Lists.mutable.with(false), modes);
+
+        PureAntlrParsingStatistics statistics = PureAntlrParsing.getStatistics(M4AntlrParser.class);
+        Assert.assertEquals(0L, statistics.getFastParseCount());
+        Assert.assertEquals(1L, statistics.getSlowParseCount());
+    }
+
+    @Test
+    public void testDFABound()
+    {
+        // The M4 grammar is LL(1), so parsing never adds DFA states: add one directly
+        new M4Parser().parse("^Class Class\n" +
+                "{\n" +
+                "    Element.properties[name] : 'Class'\n" +
+                "}\n", new ModelRepository(), new VoidM4StateListener());
+        Assert.assertEquals(1L, PureAntlrParsing.getStatistics(M4AntlrParser.class).getFastParseCount());
+        addDFAState();
+        Assert.assertEquals(1, PureAntlrParsing.countDFAStates(newM4AntlrParser("")));
+
+        PureAntlrParsing.setMaxDFAStates(0);
+        Assert.assertEquals(0, PureAntlrParsing.getMaxDFAStates());
+        PureAntlrParsing.parse(M4AntlrParser.class, fastParser ->
+        {
+            // cleared when this parse started
+            Assert.assertEquals(0, PureAntlrParsing.countDFAStates(newM4AntlrParser("")));
+
+            // not cleared by a nested parse while this one is running
+            addDFAState();
+            PureAntlrParsing.parse(M4AntlrParser.class, fp -> null);
+            Assert.assertEquals(1, PureAntlrParsing.countDFAStates(newM4AntlrParser("")));
+            return null;
+        });
+        Assert.assertEquals(1L, PureAntlrParsing.getStatistics(M4AntlrParser.class).getDFAClearCount());
+        Assert.assertEquals(1, PureAntlrParsing.countDFAStates(newM4AntlrParser("")));
+
+        int count = PureAntlrParsing.parse(M4AntlrParser.class, fastParser -> PureAntlrParsing.countDFAStates(newM4AntlrParser("")));
+        Assert.assertEquals(0, count);
+        Assert.assertEquals(2L, PureAntlrParsing.getStatistics(M4AntlrParser.class).getDFAClearCount());
+
+        PureAntlrParsing.setMaxDFAStates(-5);
+        Assert.assertEquals(-1, PureAntlrParsing.getMaxDFAStates());
+    }
+
+    @Test
+    public void testWarmUp()
+    {
+        PureAntlrParsing.warmUp(M4AntlrParser.class, () ->
+        {
+            throw new PureParserException(new SourceInformation("test.pure", 1, 1, 1, 1), "warm up failure", new RecognitionException(null, null, null));
+        });
+
+        PureAntlrParsingStatistics statistics = PureAntlrParsing.getStatistics(M4AntlrParser.class);
+        Assert.assertEquals(0L, statistics.getFastParseCount());
+        Assert.assertEquals(0L, statistics.getSlowParseCount());
+    }
+
+    private static void addDFAState()
+    {
+        DFAState state = new DFAState(new ATNConfigSet());
+        newM4AntlrParser("").getInterpreter().decisionToDFA[0].states.put(state, state);
+    }
+
+    private static M4AntlrParser newM4AntlrParser(String code)
+    {
+        return new M4AntlrParser(new CommonTokenStream(new M4AntlrLexer(CharStreams.fromString(code))));
+    }
+}
@@ -16,7 +16,6 @@ package org.finos.legend.pure.m2.dsl.diagram.serialization.grammar;
 
 import org.antlr.v4.runtime.ANTLRInputStream;
 import org.antlr.v4.runtime.CommonTokenStream;
-import org.antlr.v4.runtime.atn.PredictionMode;
 import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.list.MutableList;
@@ -48,12 +47,31 @@ import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.serialization.grammar.antlr.AntlrDescriptiveErrorListener;
 import org.finos.legend.pure.m4.serialization.grammar.antlr.AntlrSourceInformation;
 import org.finos.legend.pure.m4.serialization.grammar.antlr.PureAntlrErrorStrategy;
+import org.finos.legend.pure.m4.serialization.grammar.antlr.PureAntlrParsing;
 import org.finos.legend.pure.m4.serialization.grammar.antlr.PureParserException;
 
-import static org.finos.legend.pure.m3.serialization.grammar.m3parser.antlr.ParsingUtils.isAntlrRecognitionExceptionUsingFastParser;
-
 public class DiagramParser implements Parser
 {
+    private static final String WARM_UP_CODE = "import meta::pure::warmup::*;\n" +
+            "\n" +
+            "Diagram meta::pure::warmup::D(width=10.0, height=10.0)\n" +
+            "{\n" +
+            "    TypeView A(type=meta::pure::warmup::A, stereotypesVisible=true, attributesVisible=true,\n" +
+            "               attributeStereotypesVisible=true, attributeTypesVisible=true,\n" +
+            "               color=#FFFFCC, lineWidth=1.0, position=(874.0, 199.5), width=353.0, height=57.2)\n" +
+            "    TypeView B(type=meta::pure::warmup::B, position=(75.0, 97.2), width=113.0, height=57.2)\n" +
+            "    AssociationView AB(association=meta::pure::warmup::AB, stereotypesVisible=true, nameVisible=false,\n" +
+            "                       color=#000000, lineWidth=1.0, lineStyle=SIMPLE, points=[(132.5, 77.0), (155.2, 77.0)],\n" +
+            "                       label='AB', source=A, target=B,\n" +
+            "                       sourcePropertyPosition=(132.5, 76.2), sourceMultiplicityPosition=(132.5, 80.0),\n" +
+            "                       targetPropertyPosition=(155.2, 76.2), targetMultiplicityPosition=(155.2, 80.0))\n" +
+            "    PropertyView A_b(property=meta::pure::warmup::A.b, stereotypesVisible=true, nameVisible=false,\n" +
+            "                     color=#000000, lineWidth=-1.0, lineStyle=SIMPLE, points=[(132.5, 77.0), (155.2, 77.0)],\n" +
+            "                     label='', source=A, target=B, propertyPosition=(132.5, 76.2), multiplicityPosition=(132.5, 80.0))\n" +
+            "    GeneralizationView B_A(color=#000000, lineWidth=1.0, lineStyle=SIMPLE, points=[(132.5, 77.0), (155.2, 77.0)],\n" +
+            "                           label='', source=B, target=A)\n" +
+            "}\n";
+
     @Override
     public String getName()
     {
@@ -75,28 +93,22 @@ public class DiagramParser implements Parser
 
     private String parseDefinition(boolean useFastParser, String code, String sourceName, boolean addLines, int offset, ModelRepository repository, M3M4StateListener listener, Context context, int count)
     {
-        AntlrSourceInformation sourceInformation = new AntlrSourceInformation(offset, 0, sourceName, addLines);
-        DiagramAntlrParser parser = initAntlrParser(useFastParser, code, sourceInformation);
-        try
+        return PureAntlrParsing.parse(DiagramAntlrParser.class, useFastParser, fastParser ->
         {
+            AntlrSourceInformation sourceInformation = new AntlrSourceInformation(offset, 0, sourceName, addLines);
+            DiagramAntlrParser parser = initAntlrParser(fastParser, code, sourceInformation);
             DiagramStoreGraphBuilder visitor = new DiagramStoreGraphBuilder(repository, count, sourceInformation);
             DiagramAntlrParser.DefinitionContext c = parser.definition();
             DiagramAntlrParser.ImportsContext imports = parser.imports();
             return visitor.visitDefinition(c);
-        }
-        catch (Exception e)
-        {
-            if (isAntlrRecognitionExceptionUsingFastParser(useFastParser, e))
-            {
-                //System.err.println("Error using fast Antlr Parser: " + ExceptionUtils.getStackTrace(e));
-                return this.parseDefinition(false, code, sourceName, addLines, offset, repository, listener, context, count);
-            }
-            else
-            {
-                throw e;
-            }
-        }
+        });
+    }
 
+    @Override
+    public void warmUp()
+    {
+        // Only the ANTLR parse is needed to populate the DFA caches: the result is discarded
+        PureAntlrParsing.warmUp(DiagramAntlrParser.class, () -> initAntlrParser(true, WARM_UP_CODE, new AntlrSourceInformation(0, 0, "warmUp.pure", false)).definition());
     }
 
     @Override
@@ -171,7 +183,7 @@ public class DiagramParser implements Parser
         parser.removeErrorListeners();
         parser.addErrorListener(pureErrorListener);
         parser.setErrorHandler(new PureAntlrErrorStrategy(sourceInformation));
-        parser.getInterpreter().setPredictionMode(fastParser ? PredictionMode.SLL : PredictionMode.LL);
+        PureAntlrParsing.setPredictionMode(parser, fastParser);
         return parser;
     }
 }
@@ -16,8 +16,6 @@ package org.finos.legend.pure.m2.inlinedsl.graph.antlr;
 
 import org.antlr.v4.runtime.ANTLRInputStream;
 import org.antlr.v4.runtime.CommonTokenStream;
-import org.antlr.v4.runtime.RecognitionException;
-import org.antlr.v4.runtime.atn.PredictionMode;
 import org.finos.legend.pure.m2.inlinedsl.graph.serialization.grammar.GraphLexer;
 import org.finos.legend.pure.m2.inlinedsl.graph.serialization.grammar.GraphParser;
 import org.finos.legend.pure.m3.compiler.Context;
@@ -28,6 +26,7 @@ import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.serialization.grammar.antlr.AntlrDescriptiveErrorListener;
 import org.finos.legend.pure.m4.serialization.grammar.antlr.AntlrSourceInformation;
 import org.finos.legend.pure.m4.serialization.grammar.antlr.PureAntlrErrorStrategy;
+import org.finos.legend.pure.m4.serialization.grammar.antlr.PureAntlrParsing;
 import org.finos.legend.pure.m4.serialization.grammar.antlr.PureParserException;
 
 public class GraphAntlrParser
@@ -37,28 +36,16 @@ public class GraphAntlrParser
         return this.parseDefinition(true, code, importId, fileName, offsetColumn - 1, offsetLine - 1, repository, context);
     }
 
-    private CoreInstance parseDefinition(boolean fastParser, String code, ImportGroup importId, String fileName, int offsetColumn, int offsetLine, ModelRepository repository, Context context) throws PureParserException
+    private CoreInstance parseDefinition(boolean useFastParser, String code, ImportGroup importId, String fileName, int offsetColumn, int offsetLine, ModelRepository repository, Context context) throws PureParserException
     {
-        AntlrSourceInformation sourceInformation = new AntlrSourceInformation(offsetLine, offsetColumn, fileName, true);
-        GraphParser graphParser = this.initializeParser(sourceInformation, fastParser, code);
-        try
+        return PureAntlrParsing.parse(GraphParser.class, useFastParser, fastParser ->
         {
+            AntlrSourceInformation sourceInformation = new AntlrSourceInformation(offsetLine, offsetColumn, fileName, true);
+            GraphParser graphParser = this.initializeParser(sourceInformation, fastParser, code);
             GraphAntlrTreeWalker treeWalker = new GraphAntlrTreeWalker(sourceInformation, importId);
             String result = treeWalker.visitDefinition(graphParser.definition());
             return new M3AntlrParser(false).parseInstance(fastParser, result, fileName, offsetLine, offsetColumn, importId, repository, context);
-        }
-        catch (Exception e)
-        {
-            if (fastParser && e instanceof PureParserException && e.getCause() instanceof RecognitionException)
-            {
-                //System.err.println("Error using fast Antlr Parser: " + ExceptionUtils.getStackTrace(e));
-                return this.parseDefinition(false, code, importId, fileName, offsetColumn, offsetLine, repository, context);
-            }
-            else
-            {
-                throw e;
-            }
-        }
+        });
     }
 
     private GraphParser initializeParser(AntlrSourceInformation sourceInformation, boolean fastParser, String code)
@@ -73,7 +60,7 @@ public class GraphAntlrParser
         graphParser.removeErrorListeners();
         graphParser.addErrorListener(pureErrorListener);
         graphParser.setErrorHandler(new PureAntlrErrorStrategy(sourceInformation));
-        graphParser.getInterpreter().setPredictionMode(fastParser ? PredictionMode.SLL : PredictionMode.LL);
+        PureAntlrParsing.setPredictionMode(graphParser, fastParser);
 
         return graphParser;
     }
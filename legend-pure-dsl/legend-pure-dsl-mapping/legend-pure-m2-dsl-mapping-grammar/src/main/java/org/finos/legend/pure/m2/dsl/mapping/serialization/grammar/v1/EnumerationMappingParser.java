@@ -16,7 +16,6 @@ package org.finos.legend.pure.m2.dsl.mapping.serialization.grammar.v1;
 
 import org.antlr.v4.runtime.ANTLRInputStream;
 import org.antlr.v4.runtime.CommonTokenStream;
-import org.antlr.v4.runtime.atn.PredictionMode;
 import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.list.MutableList;
@@ -42,10 +41,9 @@ import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.serialization.grammar.antlr.AntlrDescriptiveErrorListener;
 import org.finos.legend.pure.m4.serialization.grammar.antlr.AntlrSourceInformation;
 import org.finos.legend.pure.m4.serialization.grammar.antlr.PureAntlrErrorStrategy;
+import org.finos.legend.pure.m4.serialization.grammar.antlr.PureAntlrParsing;
 import org.finos.legend.pure.m4.serialization.grammar.antlr.PureParserException;
 
-import static org.finos.legend.pure.m3.serialization.grammar.m3parser.antlr.ParsingUtils.isAntlrRecognitionExceptionUsingFastParser;
-
 public class EnumerationMappingParser implements IMappingParser
 {
     @Override
@@ -68,27 +66,14 @@ public class EnumerationMappingParser implements IMappingParser
 
     public String parseMapping(boolean useFastParser, String content, String classPath, String classSourceInfo, String sourceName, int offset, String importId)
     {
-        AntlrSourceInformation sourceInformation = new AntlrSourceInformation(offset, 0, sourceName, true);
-        org.finos.legend.pure.m2.dsl.mapping.serialization.grammar.EnumerationMappingParser parser = initAntlrParser(useFastParser, content, sourceInformation);
-
-        try
+        return PureAntlrParsing.parse(org.finos.legend.pure.m2.dsl.mapping.serialization.grammar.EnumerationMappingParser.class, useFastParser, fastParser ->
         {
+            AntlrSourceInformation sourceInformation = new AntlrSourceInformation(offset, 0, sourceName, true);
+            org.finos.legend.pure.m2.dsl.mapping.serialization.grammar.EnumerationMappingParser parser = initAntlrParser(fastParser, content, sourceInformation);
             EnumerationMappingGraphBuilder visitor = new EnumerationMappingGraphBuilder(classPath, classSourceInfo, importId, sourceInformation);
             org.finos.legend.pure.m2.dsl.mapping.serialization.grammar.EnumerationMappingParser.MappingContext c = parser.mapping();
             return visitor.visitMapping(c);
-        }
-        catch (Exception e)
-        {
-            if (isAntlrRecognitionExceptionUsingFastParser(useFastParser, e))
-            {
-                //System.err.println("Error using fast Antlr Parser: " + ExceptionUtils.getStackTrace(e));
-                return this.parseMapping(false, content, classPath, classSourceInfo, sourceName, offset, importId);
-            }
-            else
-            {
-                throw e;
-            }
-        }
+        });
     }
 
 
@@ -164,7 +149,7 @@ public class EnumerationMappingParser implements IMappingParser
         parser.removeErrorListeners();
         parser.addErrorListener(pureErrorListener);
         parser.setErrorHandler(new PureAntlrErrorStrategy(sourceInformation));
-        parser.getInterpreter().setPredictionMode(fastParser ? PredictionMode.SLL : PredictionMode.LL);
+        PureAntlrParsing.setPredictionMode(parser, fastParser);
         return parser;
     }
 }
@@ -16,7 +16,6 @@ package org.finos.legend.pure.m2.dsl.mapping.serialization.grammar.v1;
 
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
-import org.antlr.v4.runtime.atn.PredictionMode;
 import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Sets;
@@ -65,12 +64,41 @@ import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.serialization.grammar.antlr.AntlrDescriptiveErrorListener;
 import org.finos.legend.pure.m4.serialization.grammar.antlr.AntlrSourceInformation;
 import org.finos.legend.pure.m4.serialization.grammar.antlr.PureAntlrErrorStrategy;
+import org.finos.legend.pure.m4.serialization.grammar.antlr.PureAntlrParsing;
 import org.finos.legend.pure.m4.serialization.grammar.antlr.PureParserException;
 
-import static org.finos.legend.pure.m3.serialization.grammar.m3parser.antlr.ParsingUtils.isAntlrRecognitionExceptionUsingFastParser;
-
 public class MappingParser implements IMappingParser
 {
+    private static final String WARM_UP_CODE = "import meta::pure::warmup::*;\n" +
+            "\n" +
+            "Mapping meta::pure::warmup::M\n" +
+            "(\n" +
+            "    include meta::pure::warmup::Base[meta::pure::warmup::S1 -> meta::pure::warmup::S2]\n" +
+            "\n" +
+            "    *meta::pure::warmup::A[a] extends [b] : Pure\n" +
+            "    {\n" +
+            "        ~src meta::pure::warmup::B\n" +
+            "        name : $src.name + 'x',\n" +
+            "        values : $src.values->map(v | $v * 2)\n" +
+            "    }\n" +
+            "\n" +
+            "    meta::pure::warmup::E : EnumerationMapping EM\n" +
+            "    {\n" +
+            "        X : ['1', '2'],\n" +
+            "        Y : '3'\n" +
+            "    }\n" +
+            "\n" +
+            "    MappingTests\n" +
+            "    [\n" +
+            "        t\n" +
+            "        (\n" +
+            "            ~query: {|meta::pure::warmup::A.all()->filter(a | $a.name == 'x')},\n" +
+            "            ~inputData: [<Object, meta::pure::warmup::B, '{\"name\":\"x\"}'>],\n" +
+            "            ~assert: '[]'\n" +
+            "        )\n" +
+            "    ]\n" +
+            ")\n";
+
     private ParserLibrary parserLibrary;
 
     public MappingParser()
@@ -97,23 +125,14 @@ public class MappingParser implements IMappingParser
 
     private String parseDefinition(boolean useFastParser, String code, String sourceName, boolean addLines, int offset, ModelRepository repository, M3M4StateListener listener, Context context, int count)
     {
-        AntlrSourceInformation sourceInformation = new AntlrSourceInformation(offset, 0, sourceName, addLines);
-        org.finos.legend.pure.m2.dsl.mapping.serialization.grammar.MappingParser parser = initAntlrParser(useFastParser, code, sourceInformation);
-        try
+        return PureAntlrParsing.parse(org.finos.legend.pure.m2.dsl.mapping.serialization.grammar.MappingParser.class, useFastParser, fastParser ->
         {
+            AntlrSourceInformation sourceInformation = new AntlrSourceInformation(offset, 0, sourceName, addLines);
+            org.finos.legend.pure.m2.dsl.mapping.serialization.grammar.MappingParser parser = initAntlrParser(fastParser, code, sourceInformation);
             MappingGraphBuilder visitor = new MappingGraphBuilder(repository, context, count, this.parserLibrary, sourceInformation);
             DefinitionContext defCtx = parser.definition();
             return visitor.visitDefinition(defCtx);
-        }
-        catch (Exception e)
-        {
-            if (isAntlrRecognitionExceptionUsingFastParser(useFastParser, e))
-            {
-                //System.err.println("Error using fast Antlr Parser: " + ExceptionUtils.getStackTrace(e));
-                return this.parseDefinition(false, code, sourceName, addLines, offset, repository, listener, context, count);
-            }
-            throw e;
-        }
+        });
     }
 
 
@@ -123,6 +142,13 @@ public class MappingParser implements IMappingParser
         throw new UnsupportedOperationException("Not Supported");
     }
 
+    @Override
+    public void warmUp()
+    {
+        // Only the ANTLR parse is needed to populate the DFA caches: the result is discarded
+        PureAntlrParsing.warmUp(org.finos.legend.pure.m2.dsl.mapping.serialization.grammar.MappingParser.class, () -> initAntlrParser(true, WARM_UP_CODE, new AntlrSourceInformation(0, 0, "warmUp.pure", false)).definition());
+    }
+
     @Override
     public Parser newInstance(ParserLibrary parserLibrary)
     {
@@ -196,7 +222,7 @@ public class MappingParser implements IMappingParser
         parser.removeErrorListeners();
         parser.addErrorListener(pureErrorListener);
         parser.setErrorHandler(new PureAntlrErrorStrategy(sourceInformation));
-        parser.getInterpreter().setPredictionMode(fastParser ? PredictionMode.SLL : PredictionMode.LL);
+        PureAntlrParsing.setPredictionMode(parser, fastParser);
         return parser;
     }
 }
@@ -16,7 +16,6 @@ package org.finos.legend.pure.m2.dsl.mapping.serialization.grammar.v1;
 
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
-import org.antlr.v4.runtime.atn.PredictionMode;
 import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Sets;
@@ -42,10 +41,9 @@ import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.serialization.grammar.antlr.AntlrDescriptiveErrorListener;
 import org.finos.legend.pure.m4.serialization.grammar.antlr.AntlrSourceInformation;
 import org.finos.legend.pure.m4.serialization.grammar.antlr.PureAntlrErrorStrategy;
+import org.finos.legend.pure.m4.serialization.grammar.antlr.PureAntlrParsing;
 import org.finos.legend.pure.m4.serialization.grammar.antlr.PureParserException;
 
-import static org.finos.legend.pure.m3.serialization.grammar.m3parser.antlr.ParsingUtils.isAntlrRecognitionExceptionUsingFastParser;
-
 public class OperationParser implements IMappingParser
 {
     @Override
@@ -68,27 +66,14 @@ public class OperationParser implements IMappingParser
 
     public String parseMapping(boolean useFastParser, String content, String id, String extendsId, String setSourceInfo, boolean root, String classPath, String classSourceInfo, String mappingPath, String sourceName, int offset, String importId, ModelRepository repository, Context context)
     {
-        AntlrSourceInformation sourceInformation = new AntlrSourceInformation(offset, 0, sourceName, true);
-        org.finos.legend.pure.m2.dsl.mapping.serialization.grammar.OperationParser parser = initAntlrParser(useFastParser, content, sourceInformation);
-
-        try
+        return PureAntlrParsing.parse(org.finos.legend.pure.m2.dsl.mapping.serialization.grammar.OperationParser.class, useFastParser, fastParser ->
         {
+            AntlrSourceInformation sourceInformation = new AntlrSourceInformation(offset, 0, sourceName, true);
+            org.finos.legend.pure.m2.dsl.mapping.serialization.grammar.OperationParser parser = initAntlrParser(fastParser, content, sourceInformation);
             OperationGraphBuilder visitor = new OperationGraphBuilder(id, setSourceInfo, root, classPath, classSourceInfo, mappingPath, importId, sourceInformation, repository, context);
             org.finos.legend.pure.m2.dsl.mapping.serialization.grammar.OperationParser.MappingContext c = parser.mapping();
             return visitor.visitMapping(c);
-        }
-        catch (Exception e)
-        {
-            if (isAntlrRecognitionExceptionUsingFastParser(useFastParser, e))
-            {
-                //System.err.println("Error using fast Antlr Parser: " + ExceptionUtils.getStackTrace(e));
-                return this.parseMapping(false, content, id, extendsId, setSourceInfo, root, classPath, classSourceInfo, mappingPath, sourceName, offset, importId, repository, context);
-            }
-            else
-            {
-                throw e;
-            }
-        }
+        });
     }
 
     @Override
@@ -163,7 +148,7 @@ public class OperationParser implements IMappingParser
         parser.removeErrorListeners();
         parser.addErrorListener(pureErrorListener);
         parser.setErrorHandler(new PureAntlrErrorStrategy(sourceInformation));
-        parser.getInterpreter().setPredictionMode(fastParser ? PredictionMode.SLL : PredictionMode.LL);
+        PureAntlrParsing.setPredictionMode(parser, fastParser);
         return parser;
     }
 }
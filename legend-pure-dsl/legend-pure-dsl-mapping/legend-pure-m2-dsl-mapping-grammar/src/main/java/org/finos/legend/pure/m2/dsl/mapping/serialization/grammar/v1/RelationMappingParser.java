@@ -16,7 +16,6 @@ package org.finos.legend.pure.m2.dsl.mapping.serialization.grammar.v1;
 
 import org.antlr.v4.runtime.ANTLRInputStream;
 import org.antlr.v4.runtime.CommonTokenStream;
-import org.antlr.v4.runtime.atn.PredictionMode;
 import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Sets;
@@ -44,10 +43,9 @@ import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.serialization.grammar.antlr.AntlrDescriptiveErrorListener;
 import org.finos.legend.pure.m4.serialization.grammar.antlr.AntlrSourceInformation;
 import org.finos.legend.pure.m4.serialization.grammar.antlr.PureAntlrErrorStrategy;
+import org.finos.legend.pure.m4.serialization.grammar.antlr.PureAntlrParsing;
 import org.finos.legend.pure.m4.serialization.grammar.antlr.PureParserException;
 
-import static org.finos.legend.pure.m3.serialization.grammar.m3parser.antlr.ParsingUtils.isAntlrRecognitionExceptionUsingFastParser;
-
 public class RelationMappingParser implements Parser
 {
     @Override
@@ -70,26 +68,14 @@ public class RelationMappingParser implements Parser
 
     public String parseMapping(boolean useFastParser, String content, String id, String extendsId, String setSourceInfo, boolean root, String classPath, String classSourceInfo, String mappingPath, String sourceName, int offset, String importId, ModelRepository repository, Context context)
     {
-        AntlrSourceInformation sourceInformation = new AntlrSourceInformation(offset, 0, sourceName, true);
-        org.finos.legend.pure.m2.dsl.mapping.serialization.grammar.RelationMappingParser parser = initAntlrParser(useFastParser, content, sourceInformation);
-
-        try
+        return PureAntlrParsing.parse(org.finos.legend.pure.m2.dsl.mapping.serialization.grammar.RelationMappingParser.class, useFastParser, fastParser ->
         {
+            AntlrSourceInformation sourceInformation = new AntlrSourceInformation(offset, 0, sourceName, true);
+            org.finos.legend.pure.m2.dsl.mapping.serialization.grammar.RelationMappingParser parser = initAntlrParser(fastParser, content, sourceInformation);
             RelationMappingGraphBuilder visitor = new RelationMappingGraphBuilder(importId, repository, new M3ProcessorSupport(context, repository), sourceInformation);
             org.finos.legend.pure.m2.dsl.mapping.serialization.grammar.RelationMappingParser.MappingContext c = parser.mapping();
             return visitor.visitMapping(c, id, extendsId, setSourceInfo, root, classPath, classSourceInfo, mappingPath);
-        }
-        catch (Exception e)
-        {
-            if (isAntlrRecognitionExceptionUsingFastParser(useFastParser, e))
-            {
-                return this.parseMapping(false, content, id, extendsId, setSourceInfo, root, classPath, classSourceInfo, mappingPath, sourceName, offset, importId, repository, context);
-            }
-            else
-            {
-                throw e;
-            }
-        }
+        });
     }
 
     @Override
@@ -165,7 +151,7 @@ public class RelationMappingParser implements Parser
         parser.removeErrorListeners();
         parser.addErrorListener(pureErrorListener);
         parser.setErrorHandler(new PureAntlrErrorStrategy(sourceInformation));
-        parser.getInterpreter().setPredictionMode(fastParser ? PredictionMode.SLL : PredictionMode.LL);
+        PureAntlrParsing.setPredictionMode(parser, fastParser);
         return parser;
     }
 }
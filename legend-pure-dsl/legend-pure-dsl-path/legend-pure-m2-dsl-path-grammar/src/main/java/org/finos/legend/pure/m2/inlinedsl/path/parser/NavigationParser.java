@@ -16,16 +16,15 @@ package org.finos.legend.pure.m2.inlinedsl.path.parser;
 
 import org.antlr.v4.runtime.ANTLRInputStream;
 import org.antlr.v4.runtime.CommonTokenStream;
-import org.antlr.v4.runtime.atn.PredictionMode;
 import org.finos.legend.pure.m2.inlinedsl.path.serialization.grammar.NavigationLexer;
 import org.finos.legend.pure.m3.compiler.Context;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel._import.ImportGroup;
-import org.finos.legend.pure.m3.serialization.grammar.m3parser.antlr.ParsingUtils;
 import org.finos.legend.pure.m4.ModelRepository;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.serialization.grammar.antlr.AntlrDescriptiveErrorListener;
 import org.finos.legend.pure.m4.serialization.grammar.antlr.AntlrSourceInformation;
 import org.finos.legend.pure.m4.serialization.grammar.antlr.PureAntlrErrorStrategy;
+import org.finos.legend.pure.m4.serialization.grammar.antlr.PureAntlrParsing;
 import org.finos.legend.pure.m4.serialization.grammar.antlr.PureParserException;
 
 public class NavigationParser
@@ -39,20 +38,12 @@ public class NavigationParser
 
     private CoreInstance parseDefinition(boolean useFastParser, String code, String sourceName, boolean addLines, int offsetLine, int offsetColumn, ModelRepository repository, Context context, ImportGroup importId)
     {
-        org.finos.legend.pure.m2.inlinedsl.path.serialization.grammar.NavigationParser parser = this.initAntlrParser(useFastParser, code, sourceName, offsetLine, offsetColumn, addLines);
-        try
+        return PureAntlrParsing.parse(org.finos.legend.pure.m2.inlinedsl.path.serialization.grammar.NavigationParser.class, useFastParser, fastParser ->
         {
+            org.finos.legend.pure.m2.inlinedsl.path.serialization.grammar.NavigationParser parser = this.initAntlrParser(fastParser, code, sourceName, offsetLine, offsetColumn, addLines);
             NavigationGraphBuilder visitor = new NavigationGraphBuilder(importId, this.sourceInformation, repository, context);
             return visitor.visitDefinition(parser.definition());
-        }
-        catch (Exception e)
-        {
-            if (ParsingUtils.isAntlrRecognitionExceptionUsingFastParser(useFastParser, e))
-            {
-                return this.parseDefinition(false, code, sourceName, false, offsetLine, offsetColumn, repository, context, importId);
-            }
-            throw e;
-        }
+        });
     }
 
     private org.finos.legend.pure.m2.inlinedsl.path.serialization.grammar.NavigationParser initAntlrParser(boolean fastParser, String code, String sourceName, int offsetLine, int offsetColumn, boolean addLines)
@@ -68,7 +59,7 @@ public class NavigationParser
         parser.removeErrorListeners();
         parser.addErrorListener(pureErrorListener);
         parser.setErrorHandler(new PureAntlrErrorStrategy(this.sourceInformation));
-        parser.getInterpreter().setPredictionMode(fastParser ? PredictionMode.SLL : PredictionMode.LL);
+        PureAntlrParsing.setPredictionMode(parser, fastParser);
         return parser;
     }
 }
@@ -40,6 +40,7 @@ import org.finos.legend.pure.runtime.java.compiled.metadata.MetadataHolder;
 import org.finos.legend.pure.runtime.java.shared.listeners.ExecutionEndListener;
 import org.finos.legend.pure.runtime.java.shared.listeners.ExecutionListeners;
 import org.finos.legend.pure.runtime.java.shared.listeners.IdentifiableExecutionEndListener;
+import org.finos.legend.pure.runtime.java.shared.memoization.FunctionMemoizationCache;
 
 public class CompiledExecutionSupport implements ExecutionSupport
 {
@@ -70,7 +71,11 @@ public class CompiledExecutionSupport implements ExecutionSupport
 
     private final MutableList<CompiledExtension> compiledExtensions;
 
-    public CompiledExecutionSupport(JavaCompilerState javaCompilerState, CompiledProcessorSupport processorSupport, SourceRegistry sourceRegistry, RepositoryCodeStorage codeStorage, IncrementalCompiler incrementalCompiler, ExecutionActivityListener executionActivityListener, ConsoleCompiled console, FunctionCache functionCache, ClassCache classCache, MetadataProvider metadataProvider, MutableSet<String> extraSupportedTypes, MutableList<CompiledExtension> compiledExtensions, RuntimeOptions options)
+    private final FunctionMemoizationCache functionMemoizationCache;
+
+    private volatile boolean constraintValidationEnabled = true;
+
+    public CompiledExecutionSupport(JavaCompilerState javaCompilerState, CompiledProcessorSupport processorSupport, SourceRegistry sourceRegistry, RepositoryCodeStorage codeStorage, IncrementalCompiler incrementalCompiler, ExecutionActivityListener executionActivityListener, ConsoleCompiled console, FunctionCache functionCache, ClassCache classCache, MetadataProvider metadataProvider, MutableSet<String> extraSupportedTypes, MutableList<CompiledExtension> compiledExtensions, RuntimeOptions options, FunctionMemoizationCache functionMemoizationCache)
     {
         this.javaCompilerState = javaCompilerState;
         this.sourceRegistry = sourceRegistry;
@@ -86,6 +91,12 @@ public class CompiledExecutionSupport implements ExecutionSupport
         this.extraSupportedTypes = extraSupportedTypes;
         this.options = (options == null) ? name -> false : options;
         this.compiledExtensions = compiledExtensions;
+        this.functionMemoizationCache = (functionMemoizationCache == null) ? new FunctionMemoizationCache() : functionMemoizationCache;
+    }
+
+    public CompiledExecutionSupport(JavaCompilerState javaCompilerState, CompiledProcessorSupport processorSupport, SourceRegistry sourceRegistry, RepositoryCodeStorage codeStorage, IncrementalCompiler incrementalCompiler, ExecutionActivityListener executionActivityListener, ConsoleCompiled console, FunctionCache functionCache, ClassCache classCache, MetadataProvider metadataProvider, MutableSet<String> extraSupportedTypes, MutableList<CompiledExtension> compiledExtensions, RuntimeOptions options)
+    {
+        this(javaCompilerState, processorSupport, sourceRegistry, codeStorage, incrementalCompiler, executionActivityListener, console, functionCache, classCache, metadataProvider, extraSupportedTypes, compiledExtensions, options, null);
     }
 
     public CompiledExecutionSupport(JavaCompilerState javaCompilerState, CompiledProcessorSupport processorSupport, SourceRegistry sourceRegistry, RepositoryCodeStorage codeStorage, IncrementalCompiler incrementalCompiler, ExecutionActivityListener executionActivityListener, ConsoleCompiled console, FunctionCache functionCache, ClassCache classCache, MetadataProvider metadataProvider, MutableSet<String> extraSupportedTypes, MutableList<CompiledExtension> compiledExtensions)
@@ -195,6 +206,27 @@ public class CompiledExecutionSupport implements ExecutionSupport
         return this.classCache;
     }
 
+    public FunctionMemoizationCache getFunctionMemoizationCache()
+    {
+        return this.functionMemoizationCache;
+    }
+
+    public boolean isConstraintValidationEnabled()
+    {
+        return this.constraintValidationEnabled;
+    }
+
+    /**
+     * Enable or disable evaluation of function pre/post-constraints and class constraints. Validation should only be
+     * disabled for trusted calls whose inputs are known to be valid.
+     *
+     * @param constraintValidationEnabled whether constraints should be validated
+     */
+    public void setConstraintValidationEnabled(boolean constraintValidationEnabled)
+    {
+        this.constraintValidationEnabled = constraintValidationEnabled;
+    }
+
     public void registerExecutionEndListener(ExecutionEndListener executionEndListener)
     {
         this.executionListeners.registerExecutionEndListener(executionEndListener);
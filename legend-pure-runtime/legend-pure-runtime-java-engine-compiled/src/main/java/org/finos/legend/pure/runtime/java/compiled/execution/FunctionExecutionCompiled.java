@@ -72,6 +72,8 @@ import org.finos.legend.pure.runtime.java.compiled.serialization.GraphSerializer
 import org.finos.legend.pure.runtime.java.compiled.serialization.PreCompiledPureGraphCache;
 import org.finos.legend.pure.runtime.java.compiled.statelistener.JavaCompilerEventObserver;
 import org.finos.legend.pure.runtime.java.compiled.statelistener.VoidJavaCompilerEventObserver;
+import org.finos.legend.pure.runtime.java.shared.memoization.FunctionMemoizationCache;
+import org.finos.legend.pure.runtime.java.shared.memoization.FunctionMemoizationCompilerEventHandler;
 
 import java.io.IOException;
 import java.io.OutputStream;
@@ -102,6 +104,10 @@ public class FunctionExecutionCompiled implements FunctionExecution, PureRuntime
 
     private Metadata providedMetadata = null;
 
+    private final FunctionMemoizationCache functionMemoizationCache = new FunctionMemoizationCache();
+
+    private final FunctionMemoizationCompilerEventHandler functionMemoizationEventHandler = new FunctionMemoizationCompilerEventHandler(this.functionMemoizationCache);
+
     private FunctionExecutionCompiled(ExecutionActivityListener executionActivityListener, JavaCompilerEventObserver javaCompilerEventObserver, boolean includePureStackTrace, MutableList<CompiledExtension> extensions)
     {
         this.executionActivityListener = executionActivityListener;
@@ -123,6 +129,8 @@ public class FunctionExecutionCompiled implements FunctionExecution, PureRuntime
         runtime.addEventHandler(this);
         runtime.getIncrementalCompiler().addCompilerEventHandler(this.javaCompilerEventHandler);
         runtime.getIncrementalCompiler().addCompilerEventHandler(this.metadataCompilerEventHandler);
+        runtime.getIncrementalCompiler().removeCompilerEventHandler(this.functionMemoizationEventHandler);
+        runtime.getIncrementalCompiler().addCompilerEventHandler(this.functionMemoizationEventHandler);
 
         initializeFromRuntimeState();
 
@@ -175,14 +183,35 @@ public class FunctionExecutionCompiled implements FunctionExecution, PureRuntime
                 this.metadataCompilerEventHandler,
                 this.extraSupportedTypes,
                 this.extensions,
-                this.runtime.getOptions()
+                this.runtime.getOptions(),
+                this.functionMemoizationCache
         );
     }
 
+    public FunctionMemoizationCache getFunctionMemoizationCache()
+    {
+        return this.functionMemoizationCache;
+    }
+
     @Override
     public CoreInstance start(CoreInstance functionDefinition, ListIterable<? extends CoreInstance> arguments)
+    {
+        return start(functionDefinition, arguments, true);
+    }
+
+    /**
+     * Execute a function, optionally skipping evaluation of function pre/post-constraints and class constraints.
+     * Constraint validation should only be disabled for trusted calls whose inputs are known to be valid.
+     *
+     * @param functionDefinition  function to execute
+     * @param arguments           function arguments
+     * @param validateConstraints whether to validate constraints
+     * @return function result
+     */
+    public CoreInstance start(CoreInstance functionDefinition, ListIterable<? extends CoreInstance> arguments, boolean validateConstraints)
     {
         CompiledExecutionSupport executionSupport = getExecutionSupport();
+        executionSupport.setConstraintValidationEnabled(validateConstraints);
         Exception exception = null;
         try
         {
@@ -51,6 +51,7 @@ import java.nio.file.Path;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Predicate;
 import java.util.jar.JarOutputStream;
 
@@ -201,22 +202,42 @@ public class JavaStandaloneLibraryGenerator
 
     public void serializeAndWriteDistributedMetadata(Path directory) throws IOException
     {
-        DistributedBinaryGraphSerializer.newSerializer(this.runtime).serializeToDirectory(directory);
+        serializeAndWriteDistributedMetadata(directory, null);
+    }
+
+    public void serializeAndWriteDistributedMetadata(Path directory, ForkJoinPool forkJoinPool) throws IOException
+    {
+        DistributedBinaryGraphSerializer.newSerializer(this.runtime, forkJoinPool).serializeToDirectory(directory);
     }
 
     public void serializeAndWriteDistributedMetadata(String repositoryName, Path directory) throws IOException
     {
-        DistributedBinaryGraphSerializer.newSerializer(this.runtime, repositoryName).serializeToDirectory(directory);
+        serializeAndWriteDistributedMetadata(repositoryName, directory, null);
+    }
+
+    public void serializeAndWriteDistributedMetadata(String repositoryName, Path directory, ForkJoinPool forkJoinPool) throws IOException
+    {
+        DistributedBinaryGraphSerializer.newSerializer(this.runtime, repositoryName, forkJoinPool).serializeToDirectory(directory);
     }
 
     public void serializeAndWriteDistributedMetadata(JarOutputStream jarOutputStream) throws IOException
     {
-        DistributedBinaryGraphSerializer.newSerializer(this.runtime).serializeToJar(jarOutputStream);
+        serializeAndWriteDistributedMetadata(jarOutputStream, null);
+    }
+
+    public void serializeAndWriteDistributedMetadata(JarOutputStream jarOutputStream, ForkJoinPool forkJoinPool) throws IOException
+    {
+        DistributedBinaryGraphSerializer.newSerializer(this.runtime, forkJoinPool).serializeToJar(jarOutputStream);
     }
 
     public void serializeAndWriteDistributedMetadata(String repositoryName, JarOutputStream jarOutputStream) throws IOException
     {
-        DistributedBinaryGraphSerializer.newSerializer(this.runtime, repositoryName).serializeToJar(jarOutputStream);
+        serializeAndWriteDistributedMetadata(repositoryName, jarOutputStream, null);
+    }
+
+    public void serializeAndWriteDistributedMetadata(String repositoryName, JarOutputStream jarOutputStream, ForkJoinPool forkJoinPool) throws IOException
+    {
+        DistributedBinaryGraphSerializer.newSerializer(this.runtime, repositoryName, forkJoinPool).serializeToJar(jarOutputStream);
     }
 
     public void compileSerializeAndWriteClassesAndMetadata(JarOutputStream jarOutputStream) throws IOException, PureJavaCompileException
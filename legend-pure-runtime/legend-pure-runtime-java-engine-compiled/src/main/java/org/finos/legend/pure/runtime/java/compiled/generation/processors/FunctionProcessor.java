@@ -34,6 +34,7 @@ import org.finos.legend.pure.runtime.java.compiled.generation.JavaPackageAndImpo
 import org.finos.legend.pure.runtime.java.compiled.generation.ProcessorContext;
 import org.finos.legend.pure.runtime.java.compiled.generation.processors.type.TypeProcessor;
 import org.finos.legend.pure.runtime.java.compiled.generation.processors.valuespecification.ValueSpecificationProcessor;
+import org.finos.legend.pure.runtime.java.shared.memoization.FunctionMemoizationCache;
 
 public class FunctionProcessor
 {
@@ -45,7 +46,9 @@ public class FunctionProcessor
 
         String func = "public static " + (typeParams.isEmpty() ? "" : "<" + typeParams + "> ") + functionSignature(functionDefinition, false, true, false, "", processorContext, true) + "\n" +
                 "{\n" +
-                processFunctionDefinitionContent(functionDefinition, functionDefinition, true, processorContext, processorSupport) + "\n" +
+                (FunctionMemoizationCache.isMemoized(functionDefinition, processorSupport) ?
+                 processMemoizedFunctionDefinitionContent(functionDefinition, processorContext, processorSupport) :
+                 processFunctionDefinitionContent(functionDefinition, functionDefinition, true, processorContext, processorSupport)) + "\n" +
                 "}";
 
         // Constraints
@@ -59,8 +62,10 @@ public class FunctionProcessor
             ListIterable<? extends CoreInstance> params = Instance.getValueForMetaPropertyToManyResolved(functionType, M3Properties.parameters, processorSupport);
             String stringParams = params.collect(ci -> " _" + Instance.getValueForMetaPropertyToOneResolved(ci, M3Properties.name, processorContext.getSupport()).getName()).makeString(", ");
 
+            String unconstrainedCall = IdBuilder.sourceToId(functionDefinition.getSourceInformation()) + "." + functionNameToJava(functionDefinition) + "(" + functionType.getValueForMetaPropertyToMany("parameters").collect(ci -> "_" + ci.getValueForMetaPropertyToOne(M3Properties.name).getName()).makeString(", ") + ", es)";
             String executor = "public static " + (typeParams.isEmpty() ? "" : "<" + typeParams + "> ") + functionSignature(functionDefinition, true, true, false, "_withConstraints", processorContext, true) + "\n" +
                     "{\n" +
+                    "if (!CompiledSupport.isConstraintValidationEnabled(es)){return " + unconstrainedCall + ";}\n" +
                     preConstraints.collect(constraint ->
                     {
                         CoreInstance definition = Instance.getValueForMetaPropertyToOneResolved(constraint, M3Properties.functionDefinition, processorContext.getSupport());
@@ -68,7 +73,7 @@ public class FunctionProcessor
                         String ruleId = Instance.getValueForMetaPropertyToOneResolved(constraint, M3Properties.name, processorContext.getSupport()).getName();
                         return "if(! (" + eval + ")){throw new org.finos.legend.pure.m3.exception.PureExecutionException(_sourceInformation, \"Constraint (PRE):[" + ruleId + "] violated. (Function:" + functionDefinition.getName() + ")\");}\n";
                     }).makeString("") +
-                    "     final " + returnType + " _return = " + IdBuilder.sourceToId(functionDefinition.getSourceInformation()) + "." + functionNameToJava(functionDefinition) + "(" + functionType.getValueForMetaPropertyToMany("parameters").collect(ci -> "_" + ci.getValueForMetaPropertyToOne(M3Properties.name).getName()).makeString(", ") + ", es);\n" +
+                    "     final " + returnType + " _return = " + unconstrainedCall + ";\n" +
 
                     postConstraints.collect(constraint ->
                     {
@@ -87,6 +92,18 @@ public class FunctionProcessor
     }
 
 
+    private static String processMemoizedFunctionDefinitionContent(CoreInstance functionDefinition, ProcessorContext processorContext, ProcessorSupport processorSupport)
+    {
+        // The function body is evaluated lazily in a lambda, so that it is only executed on a cache miss
+        CoreInstance functionType = processorSupport.function_getFunctionType(functionDefinition);
+        String returnType = TypeProcessor.typeToJavaPrimitiveWithMul(Instance.getValueForMetaPropertyToOneResolved(functionType, M3Properties.returnType, processorSupport), Instance.getValueForMetaPropertyToOneResolved(functionType, M3Properties.returnMultiplicity, processorSupport), true, processorContext);
+        String arguments = Instance.getValueForMetaPropertyToManyResolved(functionType, M3Properties.parameters, processorSupport).collect(p -> "_" + Instance.getValueForMetaPropertyToOneResolved(p, M3Properties.name, processorSupport).getName()).makeString(", ");
+        return "return (" + returnType + ") ((CompiledExecutionSupport) es).getFunctionMemoizationCache().getIfAbsentPut(\"" + functionNameToJava(functionDefinition) + "\", Lists.mutable.<Object>with(" + arguments + "), () ->\n" +
+                "{\n" +
+                processFunctionDefinitionContent(functionDefinition, functionDefinition, true, processorContext, processorSupport) + "\n" +
+                "});";
+    }
+
     public static String functionSignature(CoreInstance func, boolean addSourceInformation, boolean fullName, boolean tail, String suffix, ProcessorContext processorContext, boolean typeParams)
     {
         ProcessorSupport processorSupport = processorContext.getSupport();
@@ -119,6 +119,23 @@ public class CompiledSupport
 
     private static final String TEMP_TYPE_NAME = "tempTypeName";
 
+    // Cache of _validate methods by class (null if the class has no _validate method), to avoid repeated reflective lookup
+    private static final ClassValue<Method> VALIDATE_METHODS = new ClassValue<Method>()
+    {
+        @Override
+        protected Method computeValue(Class<?> type)
+        {
+            try
+            {
+                return type.getMethod("_validate", boolean.class, SourceInformation.class, ExecutionSupport.class);
+            }
+            catch (NoSuchMethodException e)
+            {
+                return null;
+            }
+        }
+    };
+
     private static final DecimalFormat DECIMAL_FORMAT;
 
     static
@@ -1987,17 +2004,33 @@ public class CompiledSupport
         }
     }
 
+    /**
+     * Whether constraints should be validated. Validation can only be disabled on a {@link CompiledExecutionSupport},
+     * so it is always enabled for any other execution support.
+     *
+     * @param es execution support
+     * @return whether constraints should be validated
+     */
+    public static boolean isConstraintValidationEnabled(ExecutionSupport es)
+    {
+        return !(es instanceof CompiledExecutionSupport) || ((CompiledExecutionSupport) es).isConstraintValidationEnabled();
+    }
+
     public static Object validate(boolean goDeep, Object o, SourceInformation si, ExecutionSupport es)
     {
-        try
+        if (!isConstraintValidationEnabled(es))
         {
-            Method validateMethod = o.getClass().getMethod("_validate", boolean.class, SourceInformation.class, ExecutionSupport.class);
-            return validateMethod.invoke(o, goDeep, si, es);
+            return o;
         }
-        catch (NoSuchMethodException ns)
+        Method validateMethod = VALIDATE_METHODS.get(o.getClass());
+        if (validateMethod == null)
         {
             return o;
         }
+        try
+        {
+            return validateMethod.invoke(o, goDeep, si, es);
+        }
         catch (IllegalAccessException | IllegalArgumentException ex)
         {
             throw new PureExecutionException("Failed to invoke _validate function.", ex, Stacks.mutable.empty());
@@ -19,48 +19,35 @@ import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.map.ImmutableMap;
-import org.eclipse.collections.api.map.MutableMap;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.Enum;
 import org.finos.legend.pure.m3.navigation.M3Paths;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.coreinstance.SourceInformation;
 import org.finos.legend.pure.runtime.java.compiled.metadata.MetadataLazy;
 import org.finos.legend.pure.runtime.java.compiled.serialization.model.Obj;
-import org.finos.legend.pure.runtime.java.compiled.serialization.model.PropertyValue;
-import org.finos.legend.pure.runtime.java.compiled.serialization.model.PropertyValueMany;
-import org.finos.legend.pure.runtime.java.compiled.serialization.model.PropertyValueOne;
-import org.finos.legend.pure.runtime.java.compiled.serialization.model.PropertyValueVisitor;
 import org.finos.legend.pure.runtime.java.compiled.serialization.model.RValue;
 
 public abstract class AbstractLazyReflectiveCoreInstance extends PersistentReflectiveCoreInstance
 {
-    private static final PropertyValueVisitor<Object> VALUES_VISITOR = new PropertyValueVisitor<Object>()
-    {
-        @Override
-        public Object visit(PropertyValueMany many)
-        {
-            return many.getValues();
-        }
-
-        @Override
-        public Object visit(PropertyValueOne one)
-        {
-            return one.getValue();
-        }
-    };
-
     private final MetadataLazy metadataLazy;
     private final ImmutableMap<String, Object> propertyValues;
+    private final Obj obj;
     private volatile CoreInstance classifier;
 
-    protected AbstractLazyReflectiveCoreInstance(String id, SourceInformation sourceInformation, MetadataLazy metadataLazy, ImmutableMap<String, Object> propertyValues, CoreInstance classifier)
+    private AbstractLazyReflectiveCoreInstance(String id, SourceInformation sourceInformation, MetadataLazy metadataLazy, ImmutableMap<String, Object> propertyValues, Obj obj, CoreInstance classifier)
     {
         super(id, sourceInformation);
         this.metadataLazy = metadataLazy;
         this.propertyValues = (propertyValues == null) ? Maps.immutable.empty() : propertyValues;
+        this.obj = obj;
         this.classifier = classifier;
     }
 
+    protected AbstractLazyReflectiveCoreInstance(String id, SourceInformation sourceInformation, MetadataLazy metadataLazy, ImmutableMap<String, Object> propertyValues, CoreInstance classifier)
+    {
+        this(id, sourceInformation, metadataLazy, propertyValues, null, classifier);
+    }
+
     protected AbstractLazyReflectiveCoreInstance(String id, SourceInformation sourceInformation, MetadataLazy metadataLazy, ImmutableMap<String, Object> propertyValues)
     {
         this(id, sourceInformation, metadataLazy, propertyValues, null);
@@ -76,14 +63,18 @@ public abstract class AbstractLazyReflectiveCoreInstance extends PersistentRefle
         this(id, sourceInformation, null, null, classifier);
     }
 
+    /**
+     * Create an instance whose property values are read from the given Obj. Each property value is only looked up
+     * (and, for a lazily decoded Obj, decoded) when it is first loaded.
+     */
     protected AbstractLazyReflectiveCoreInstance(Obj obj, MetadataLazy metadataLazy)
     {
-        this(obj.getName(), obj.getSourceInformation(), metadataLazy, buildPropertyValuesMap(obj));
+        this(obj.getName(), obj.getSourceInformation(), metadataLazy, null, obj, null);
     }
 
     protected AbstractLazyReflectiveCoreInstance(AbstractLazyReflectiveCoreInstance source)
     {
-        this(source.getName(), source.getSourceInformation(), source.metadataLazy, source.propertyValues, source.classifier);
+        this(source.getName(), source.getSourceInformation(), source.metadataLazy, source.propertyValues, source.obj, source.classifier);
     }
 
     @Override
@@ -102,7 +93,7 @@ public abstract class AbstractLazyReflectiveCoreInstance extends PersistentRefle
     @SuppressWarnings("unchecked")
     protected <T> T loadValueFromMetadata(String property)
     {
-        Object value = this.propertyValues.get(property);
+        Object value = getRawPropertyValue(property);
         if (value == null)
         {
             return null;
@@ -136,7 +127,7 @@ public abstract class AbstractLazyReflectiveCoreInstance extends PersistentRefle
     @SuppressWarnings("unchecked")
     protected <T> RichIterable<T> loadValuesFromMetadata(String property)
     {
-        Object values = this.propertyValues.get(property);
+        Object values = getRawPropertyValue(property);
         if (values == null)
         {
             return Lists.immutable.empty();
@@ -150,11 +141,8 @@ public abstract class AbstractLazyReflectiveCoreInstance extends PersistentRefle
         return (RichIterable<T>) this.metadataLazy.valuesToObjects((ListIterable<RValue>) values);
     }
 
-    private static ImmutableMap<String, Object> buildPropertyValuesMap(Obj obj)
+    private Object getRawPropertyValue(String property)
     {
-        ListIterable<PropertyValue> propertyValues = obj.getPropertyValues();
-        MutableMap<String, Object> map = Maps.mutable.ofInitialCapacity(propertyValues.size());
-        propertyValues.forEach(pv -> map.put(pv.getProperty(), pv.visit(VALUES_VISITOR)));
-        return map.toImmutable();
+        return (this.obj == null) ? this.propertyValues.get(property) : this.obj.getRawPropertyValue(property);
     }
 }
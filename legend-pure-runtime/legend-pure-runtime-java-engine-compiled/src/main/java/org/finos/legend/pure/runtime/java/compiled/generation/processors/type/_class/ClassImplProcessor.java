@@ -1077,7 +1077,7 @@ public class ClassImplProcessor
         StringBuilder validateItems = new StringBuilder();
         String validate =         "    public " + (stateAndDeep ? "" : "static ") + className + " _validate(" + (stateAndDeep ? "boolean goDeep," : "") + (extraParameters == null ? "" : extraParameters + ",") + " SourceInformation sourceInformation, final ExecutionSupport es)\n" +
                         "    {\n" +
-                        (stateAndDeep ? "        if (!this.hasCompileState(CompiledSupport.CONSTRAINTS_VALIDATED))\n" +
+                        (stateAndDeep ? "        if (!this.hasCompileState(CompiledSupport.CONSTRAINTS_VALIDATED) && CompiledSupport.isConstraintValidationEnabled(es))\n" +
                                 "        {\n" : "") +
                         allConstraints.collectWithIndex((constraint, index) ->
                         {
@@ -17,13 +17,11 @@ package org.finos.legend.pure.runtime.java.compiled.generation.processors.type._
 import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Maps;
-import org.eclipse.collections.api.factory.Sets;
 import org.eclipse.collections.api.list.ImmutableList;
 import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.map.MutableMap;
-import org.eclipse.collections.api.set.MutableSet;
 import org.finos.legend.pure.m3.coreinstance.lazy.AbstractLazyConcreteElement;
 import org.finos.legend.pure.m3.coreinstance.lazy.AbstractLazyCoreInstance;
 import org.finos.legend.pure.m3.coreinstance.lazy.AbstractLazyVirtualPackage;
@@ -440,32 +438,18 @@ public class ClassPeltImplProcessor
                 .append("        super(repository, instanceData, referenceIdResolver);\n");
         if (simpleProperties.notEmpty())
         {
-            MutableSet<String> backRefProperties = Sets.mutable.empty();
+            builder.append("        MutableMap<String, PropertyValues> propertyValuesByName = indexPropertyValues(instanceData);\n");
             simpleProperties.forEach(propertyInfo ->
             {
+                builder.append("        this._").append(propertyInfo.name).append(" = ");
                 if (propertyInfo.isBackRef())
                 {
-                    backRefProperties.add(propertyInfo.name);
-                    builder.append("        MutableList<Supplier<? extends ").append(propertyInfo.holderTypeJava).append(">> ").append(propertyInfo.name).append(" = Lists.mutable.empty();\n");
+                    builder.append("newBackReferencePropertyValue(propertyValuesByName.get(\"").append(propertyInfo.name).append("\"), backReferences, \"").append(propertyInfo.name).append("\", referenceIdResolver, internalIdResolver, primitiveValueResolver, elementBuilder, true");
                 }
-            });
-            if (backRefProperties.notEmpty())
-            {
-                builder.append("        collectBackReferences(backReferences, referenceIdResolver, internalIdResolver, elementBuilder");
-                M3PropertyPaths.BACK_REFERENCE_PROPERTY_PATHS.collect(ImmutableList::getLast, Lists.mutable.ofInitialCapacity(M3PropertyPaths.BACK_REFERENCE_PROPERTY_PATHS.size()))
-                        .sortThis()
-                        .forEach(p -> builder.append(", ").append(backRefProperties.contains(p) ? p : "null"));
-                builder.append(");\n");
-            }
-            builder.append("        MutableMap<String, PropertyValues> propertyValuesByName = indexPropertyValues(instanceData);\n");
-            simpleProperties.forEach(propertyInfo ->
-            {
-                builder.append("        this._").append(propertyInfo.name).append(" = ")
-                        .append(propertyInfo.toOne ? "newToOnePropertyValue" : "newToManyPropertyValue")
-                        .append("(propertyValuesByName.get(\"").append(propertyInfo.name).append("\"), referenceIdResolver, internalIdResolver, primitiveValueResolver, true");
-                if (propertyInfo.isBackRef())
+                else
                 {
-                    builder.append(", ").append(propertyInfo.name);
+                    builder.append(propertyInfo.toOne ? "newToOnePropertyValue" : "newToManyPropertyValue")
+                            .append("(propertyValuesByName.get(\"").append(propertyInfo.name).append("\"), referenceIdResolver, internalIdResolver, primitiveValueResolver, true");
                 }
                 if (propertyInfo.primitiveType)
                 {
@@ -1100,34 +1084,20 @@ public class ClassPeltImplProcessor
         builder.append("    @Override\n")
                 .append("    protected void initialize(InstanceData instanceData, ListIterable<? extends BackReference> backReferences, ReferenceIdResolver referenceIdResolver, IntFunction<? extends CoreInstance> internalIdResolver, PrimitiveValueResolver primitiveValueResolver, ElementBuilder elementBuilder)\n")
                 .append("    {\n");
-        MutableSet<String> backRefProperties = Sets.mutable.empty();
-        simpleProperties.forEach(propertyInfo ->
-        {
-            if (propertyInfo.isBackRef())
-            {
-                backRefProperties.add(propertyInfo.name);
-                builder.append("        MutableList<Supplier<? extends ").append(propertyInfo.holderTypeJava).append(">> ").append(propertyInfo.name).append(" = Lists.mutable.empty();\n");
-            }
-        });
-        if (backRefProperties.notEmpty())
-        {
-            builder.append("        collectBackReferences(backReferences, referenceIdResolver, internalIdResolver, elementBuilder");
-            M3PropertyPaths.BACK_REFERENCE_PROPERTY_PATHS.collect(ImmutableList::getLast, Lists.mutable.ofInitialCapacity(M3PropertyPaths.BACK_REFERENCE_PROPERTY_PATHS.size()))
-                    .sortThis()
-                    .forEach(p -> builder.append(", ").append(backRefProperties.contains(p) ? p : "null"));
-            builder.append(");\n");
-        }
         builder.append("        MutableMap<String, PropertyValues> propertyValuesByName = indexPropertyValues(instanceData);\n");
         simpleProperties.forEach(propertyInfo ->
         {
             if (!propertyInfo.isPackageChildren() && !M3Properties.name.equals(propertyInfo.name) && !M3Properties._package.equals(propertyInfo.name))
             {
-                builder.append("        this._").append(propertyInfo.name).append(" = ")
-                        .append(propertyInfo.toOne ? "newToOnePropertyValue" : "newToManyPropertyValue")
-                        .append("(propertyValuesByName.get(\"").append(propertyInfo.name).append("\"), referenceIdResolver, internalIdResolver, primitiveValueResolver, true");
+                builder.append("        this._").append(propertyInfo.name).append(" = ");
                 if (propertyInfo.isBackRef())
                 {
-                    builder.append(", ").append(propertyInfo.name);
+                    builder.append("newBackReferencePropertyValue(propertyValuesByName.get(\"").append(propertyInfo.name).append("\"), backReferences, \"").append(propertyInfo.name).append("\", referenceIdResolver, internalIdResolver, primitiveValueResolver, elementBuilder, true");
+                }
+                else
+                {
+                    builder.append(propertyInfo.toOne ? "newToOnePropertyValue" : "newToManyPropertyValue")
+                            .append("(propertyValuesByName.get(\"").append(propertyInfo.name).append("\"), referenceIdResolver, internalIdResolver, primitiveValueResolver, true");
                 }
                 if (propertyInfo.primitiveType)
                 {
@@ -1148,23 +1118,6 @@ public class ClassPeltImplProcessor
         builder.append("    @Override\n")
                 .append("    protected void initialize(ListIterable<? extends BackReference> backReferences, ReferenceIdResolvers referenceIds, ElementBuilder elementBuilder)\n")
                 .append("    {\n");
-        MutableSet<String> backRefProperties = Sets.mutable.empty();
-        simpleProperties.forEach(propertyInfo ->
-        {
-            if (propertyInfo.isBackRef())
-            {
-                backRefProperties.add(propertyInfo.name);
-                builder.append("        MutableList<Supplier<? extends ").append(propertyInfo.holderTypeJava).append(">> ").append(propertyInfo.name).append(" = Lists.mutable.empty();\n");
-            }
-        });
-        if (backRefProperties.notEmpty())
-        {
-            builder.append("        collectBackReferences(backReferences, referenceIds, elementBuilder");
-            M3PropertyPaths.BACK_REFERENCE_PROPERTY_PATHS.collect(ImmutableList::getLast, Lists.mutable.ofInitialCapacity(M3PropertyPaths.BACK_REFERENCE_PROPERTY_PATHS.size()))
-                    .sortThis()
-                    .forEach(p -> builder.append(", ").append(backRefProperties.contains(p) ? p : "null"));
-            builder.append(");\n");
-        }
         simpleProperties.forEach(propertyInfo ->
         {
             if (!propertyInfo.isPackageChildren() && !M3Properties.name.equals(propertyInfo.name) && !M3Properties._package.equals(propertyInfo.name))
@@ -1172,7 +1125,7 @@ public class ClassPeltImplProcessor
                 builder.append("        this._").append(propertyInfo.name).append(" = ");
                 if (propertyInfo.isBackRef())
                 {
-                    builder.append("ManyValues.fromSuppliers(").append(propertyInfo.name).append(");\n");
+                    builder.append("newBackReferencePropertyValue(backReferences, \"").append(propertyInfo.name).append("\", referenceIds, elementBuilder);\n");
                 }
                 else
                 {
@@ -389,6 +389,7 @@ public class MetadataLazy implements Metadata
         DistributedBinaryGraphDeserializer deserializer = DistributedBinaryGraphDeserializer.newBuilder(classLoader)
                 .withNoMetadataName()
                 .withObjValidation()
+                .withLazyObjDecoding()
                 .build();
         return new MetadataLazy(classLoader, deserializer);
     }
@@ -414,7 +415,7 @@ public class MetadataLazy implements Metadata
         {
             throw new IllegalArgumentException("metadata names are required");
         }
-        DistributedBinaryGraphDeserializer.Builder builder = DistributedBinaryGraphDeserializer.newBuilder(classLoader).withObjValidation();
+        DistributedBinaryGraphDeserializer.Builder builder = DistributedBinaryGraphDeserializer.newBuilder(classLoader).withObjValidation().withLazyObjDecoding();
         specs.forEach(spec -> builder.withMetadataName(spec.getName()));
         DistributedBinaryGraphDeserializer deserializer = builder.build();
         return new MetadataLazy(classLoader, deserializer);
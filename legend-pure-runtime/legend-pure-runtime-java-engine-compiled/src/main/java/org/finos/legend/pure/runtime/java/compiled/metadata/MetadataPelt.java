@@ -23,6 +23,7 @@ import org.eclipse.collections.api.map.ConcurrentMutableMap;
 import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.set.SetIterable;
 import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
 import org.eclipse.collections.impl.utility.LazyIterate;
 import org.finos.legend.pure.m3.navigation.M3Paths;
@@ -35,6 +36,7 @@ import org.finos.legend.pure.m3.serialization.compiler.metadata.ConcreteElementM
 import org.finos.legend.pure.m3.serialization.compiler.metadata.MetadataIndex;
 import org.finos.legend.pure.m3.serialization.compiler.metadata.ModuleBackReferenceIndex;
 import org.finos.legend.pure.m3.serialization.compiler.metadata.ModuleManifest;
+import org.finos.legend.pure.m3.serialization.compiler.metadata.ModuleManifests;
 import org.finos.legend.pure.m3.serialization.compiler.metadata.ModuleMetadataSerializer;
 import org.finos.legend.pure.m3.serialization.compiler.reference.ReferenceIdResolver;
 import org.finos.legend.pure.m3.serialization.compiler.strings.StringIndexer;
@@ -191,8 +193,11 @@ public class MetadataPelt implements Metadata
     public static class Builder
     {
         private final MutableSet<String> repositories = Sets.mutable.empty();
+        private final MutableSet<String> entryPoints = Sets.mutable.empty();
+        private boolean prefetchEntryPoints = true;
         private ClassLoader classLoader;
         private Path directory;
+        private boolean lazyBackReferences = false;
 
         private Builder()
         {
@@ -222,6 +227,54 @@ public class MetadataPelt implements Metadata
             return this;
         }
 
+        /**
+         * Add an entry point element. If any entry points are specified, only the modules which contain the entry
+         * points, along with their dependencies, are loaded; other modules of the repositories (and their
+         * dependencies) are ignored. Note that this means back references from ignored modules are not available.
+         *
+         * @param path entry point element path
+         * @return this builder
+         * @see #withPrefetchEntryPoints
+         */
+        public Builder withEntryPoint(String path)
+        {
+            this.entryPoints.add(Objects.requireNonNull(path));
+            return this;
+        }
+
+        public Builder withEntryPoints(Iterable<? extends String> paths)
+        {
+            paths.forEach(this::withEntryPoint);
+            return this;
+        }
+
+        /**
+         * Set whether the entry points and all the elements they reference (directly or indirectly) should be
+         * prefetched when the metadata is built. This is true by default, and has no effect if there are no entry
+         * points. Other elements of the loaded modules are still loaded lazily on demand.
+         *
+         * @param prefetchEntryPoints whether to prefetch the entry points and their reference closure
+         * @return this builder
+         */
+        public Builder withPrefetchEntryPoints(boolean prefetchEntryPoints)
+        {
+            this.prefetchEntryPoints = prefetchEntryPoints;
+            return this;
+        }
+
+        /**
+         * Set whether back references should be loaded lazily, on first access of a back reference property. See
+         * {@link ElementLoader.Builder#withLazyBackReferences}.
+         *
+         * @param lazyBackReferences whether to load back references lazily
+         * @return this builder
+         */
+        public Builder withLazyBackReferences(boolean lazyBackReferences)
+        {
+            this.lazyBackReferences = lazyBackReferences;
+            return this;
+        }
+
         public MetadataPelt build()
         {
             Objects.requireNonNull(this.classLoader, "class loader must be provided");
@@ -256,7 +309,8 @@ public class MetadataPelt implements Metadata
                         .withFileDeserializer(fileDeserializer)
                         .withElementBuilder(CompiledElementBuilder.newElementBuilder(this.classLoader))
                         .withAvailableReferenceIdExtensions(this.classLoader)
-                        .withDefaultReferenceIdVersion(1);
+                        .withDefaultReferenceIdVersion(1)
+                        .withLazyBackReferences(this.lazyBackReferences);
                 if (this.directory == null)
                 {
                     elementLoaderBuilder.withClassLoader(this.classLoader);
@@ -266,7 +320,12 @@ public class MetadataPelt implements Metadata
                     elementLoaderBuilder.withDirectory(this.directory);
                 }
 
-                return new MetadataPelt(metadataIndex, elementLoaderBuilder.build());
+                ElementLoader elementLoader = elementLoaderBuilder.build();
+                if (this.prefetchEntryPoints && this.entryPoints.notEmpty())
+                {
+                    elementLoader.prefetchElements(this.entryPoints, -1);
+                }
+                return new MetadataPelt(metadataIndex, elementLoader);
             }
             finally
             {
@@ -277,28 +336,41 @@ public class MetadataPelt implements Metadata
 
         private MetadataIndex buildMetadataIndex(FileDeserializer fileDeserializer)
         {
-            MetadataIndex.Builder metadataIndexBuilder = MetadataIndex.builder();
-            MutableSet<String> modulesFound = Sets.mutable.ofInitialCapacity(this.repositories.size());
+            MutableMap<String, ModuleManifest> manifests = Maps.mutable.empty();
+            MutableMap<String, ModuleBackReferenceIndex> backRefIndexes = Maps.mutable.empty();
             Deque<String> modulesToLoad = new ArrayDeque<>(this.repositories);
             while (!modulesToLoad.isEmpty())
             {
                 String module = modulesToLoad.pollFirst();
-                if (modulesFound.add(module))
+                if (!manifests.containsKey(module))
                 {
                     ModuleManifest manifest = (this.directory == null) ?
                                               fileDeserializer.deserializeModuleManifest(this.classLoader, module) :
                                               fileDeserializer.deserializeModuleManifest(this.directory, module);
-                    metadataIndexBuilder.withModule(manifest);
+                    manifests.put(module, manifest);
                     modulesToLoad.addAll(manifest.getDependencies().castToList());
-                    ModuleBackReferenceIndex backRefIndex = (this.directory == null) ?
-                                                            fileDeserializer.deserializeModuleBackReferenceIndexIfPresent(this.classLoader, module) :
-                                                            fileDeserializer.deserializeModuleBackReferenceIndexIfPresent(this.directory, module);
-                    if (backRefIndex != null)
-                    {
-                        metadataIndexBuilder.withBackReferenceIndex(backRefIndex);
-                    }
                 }
             }
+
+            SetIterable<String> modules = manifests.keysView().toSet();
+            if (this.entryPoints.notEmpty())
+            {
+                modules = ModuleManifests.getRequiredModuleNames(manifests.valuesView(), this.entryPoints);
+                LOGGER.debug("Loading {} of {} modules for entry points: {}", modules.size(), manifests.size(), modules);
+            }
+
+            MetadataIndex.Builder metadataIndexBuilder = MetadataIndex.builder();
+            modules.forEach(module ->
+            {
+                metadataIndexBuilder.withModule(manifests.get(module));
+                ModuleBackReferenceIndex backRefIndex = (this.directory == null) ?
+                                                        fileDeserializer.deserializeModuleBackReferenceIndexIfPresent(this.classLoader, module) :
+                                                        fileDeserializer.deserializeModuleBackReferenceIndexIfPresent(this.directory, module);
+                if (backRefIndex != null)
+                {
+                    metadataIndexBuilder.withBackReferenceIndex(backRefIndex);
+                }
+            });
             return metadataIndexBuilder.build();
         }
     }
@@ -15,13 +15,11 @@
 package org.finos.legend.pure.runtime.java.compiled.serialization;
 
 import org.eclipse.collections.api.factory.Lists;
-import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.list.MutableList;
-import org.eclipse.collections.api.map.MutableMap;
-import org.eclipse.collections.api.map.primitive.MutableObjectBooleanMap;
+import org.eclipse.collections.api.map.ConcurrentMutableMap;
 import org.eclipse.collections.api.set.SetIterable;
-import org.eclipse.collections.impl.factory.primitive.ObjectBooleanMaps;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
 import org.finos.legend.pure.m3.compiler.Context;
 import org.finos.legend.pure.m3.navigation.Instance;
 import org.finos.legend.pure.m3.navigation.M3Paths;
@@ -232,8 +230,9 @@ public class GraphSerializer
     {
         private final SetIterable<CoreInstance> primitiveTypes;
         private final CoreInstance enumerationClass;
-        private final MutableObjectBooleanMap<CoreInstance> enumerationCache = ObjectBooleanMaps.mutable.empty();
-        private final MutableMap<CoreInstance, String> classifierIdCache = Maps.mutable.empty();
+        // concurrent, as Objs may be built from multiple threads (see DistributedBinaryGraphSerializer)
+        private final ConcurrentMutableMap<CoreInstance, Boolean> enumerationCache = ConcurrentHashMap.newMap();
+        private final ConcurrentMutableMap<CoreInstance, String> classifierIdCache = ConcurrentHashMap.newMap();
 
         public ClassifierCaches(ProcessorSupport processorSupport)
         {
@@ -17,10 +17,14 @@ package org.finos.legend.pure.runtime.java.compiled.serialization.binary;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.primitive.MutableObjectIntMap;
+import org.eclipse.collections.api.map.primitive.ObjectIntMap;
+import org.eclipse.collections.impl.factory.primitive.ObjectIntMaps;
 import org.finos.legend.pure.m4.coreinstance.SourceInformation;
 import org.finos.legend.pure.m4.coreinstance.primitive.date.DateFunctions;
 import org.finos.legend.pure.m4.coreinstance.primitive.date.LatestDate;
 import org.finos.legend.pure.m4.serialization.Reader;
+import org.finos.legend.pure.m4.serialization.binary.BinaryReaders;
 import org.finos.legend.pure.runtime.java.compiled.serialization.model.EnumRef;
 import org.finos.legend.pure.runtime.java.compiled.serialization.model.Obj;
 import org.finos.legend.pure.runtime.java.compiled.serialization.model.ObjRef;
@@ -29,8 +33,10 @@ import org.finos.legend.pure.runtime.java.compiled.serialization.model.PropertyV
 import org.finos.legend.pure.runtime.java.compiled.serialization.model.PropertyValueMany;
 import org.finos.legend.pure.runtime.java.compiled.serialization.model.PropertyValueOne;
 import org.finos.legend.pure.runtime.java.compiled.serialization.model.RValue;
+import org.finos.legend.pure.runtime.java.compiled.serialization.model.RawPropertyValueConsumer;
 
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
 
 abstract class AbstractBinaryObjDeserializer implements BinaryObjDeserializer
 {
@@ -47,6 +53,103 @@ abstract class AbstractBinaryObjDeserializer implements BinaryObjDeserializer
         return Obj.newObj(classifier, identifier, name, propertiesList, sourceInformation, isEnum);
     }
 
+    /**
+     * Deserialize an Obj from the given bytes, decoding only the header (classifier, identifier, name, and source
+     * information). The returned Obj is a view over the bytes: property values are decoded from them on access. The
+     * bytes must not be modified afterwards.
+     *
+     * @param bytes  bytes
+     * @param offset offset of the serialized Obj
+     * @param length length of the serialized Obj
+     * @return lazily decoded Obj
+     */
+    public Obj deserializeLazily(byte[] bytes, int offset, int length)
+    {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, offset, length);
+        try (Reader reader = BinaryReaders.newBinaryReader(buffer))
+        {
+            byte code = reader.readByte();
+            boolean isEnum = BinaryGraphSerializationTypes.isEnum(code);
+            String classifier = readClassifier(reader);
+            String identifier = readIdentifier(reader);
+            String name = BinaryGraphSerializationTypes.hasName(code) ? readName(reader) : null;
+            SourceInformation sourceInformation = BinaryGraphSerializationTypes.hasSourceInfo(code) ? readSourceInformation(reader) : null;
+            int propertyValueCount = reader.readInt();
+            return new LazyBinaryObj(this, classifier, identifier, name, sourceInformation, isEnum, bytes, buffer.position(), offset + length, propertyValueCount);
+        }
+    }
+
+    ListIterable<PropertyValue> readPropertyValues(byte[] bytes, int start, int end, int propertyValueCount)
+    {
+        try (Reader reader = BinaryReaders.newBinaryReader(bytes, start, end - start))
+        {
+            return readPropertyValues(reader, propertyValueCount);
+        }
+    }
+
+    void forEachRawPropertyValue(byte[] bytes, int start, int end, int propertyValueCount, RawPropertyValueConsumer consumer)
+    {
+        try (Reader reader = BinaryReaders.newBinaryReader(bytes, start, end - start))
+        {
+            for (int i = 0; i < propertyValueCount; i++)
+            {
+                boolean isMany = reader.readBoolean();
+                String propertyName = readString(reader);
+                if (isMany)
+                {
+                    consumer.acceptMany(propertyName, readManyRValues(reader));
+                }
+                else
+                {
+                    consumer.acceptOne(propertyName, readRValue(reader));
+                }
+            }
+        }
+    }
+
+    /**
+     * Index the property values in the given bytes by property name, without decoding the values. The index maps each
+     * property name to the offset of its serialized property value, which can then be decoded with
+     * {@link #readRawPropertyValue}.
+     */
+    ObjectIntMap<String> indexPropertyValues(byte[] bytes, int start, int end, int propertyValueCount)
+    {
+        MutableObjectIntMap<String> index = ObjectIntMaps.mutable.ofInitialCapacity(propertyValueCount);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, start, end - start);
+        try (Reader reader = BinaryReaders.newBinaryReader(buffer))
+        {
+            for (int i = 0; i < propertyValueCount; i++)
+            {
+                int offset = buffer.position();
+                boolean isMany = reader.readBoolean();
+                index.put(readString(reader), offset);
+                if (isMany)
+                {
+                    skipManyRValues(reader);
+                }
+                else
+                {
+                    skipRValue(reader);
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Decode the single property value at the given offset, returning an {@link RValue} for a to-one value or a
+     * {@link ListIterable} of {@link RValue}s for a to-many value.
+     */
+    Object readRawPropertyValue(byte[] bytes, int offset, int end)
+    {
+        try (Reader reader = BinaryReaders.newBinaryReader(bytes, offset, end - offset))
+        {
+            boolean isMany = reader.readBoolean();
+            skipString(reader);
+            return isMany ? readManyRValues(reader) : readRValue(reader);
+        }
+    }
+
     protected SourceInformation readSourceInformation(Reader reader)
     {
         String sourceId = readString(reader);
@@ -76,7 +179,11 @@ abstract class AbstractBinaryObjDeserializer implements BinaryObjDeserializer
 
     protected ListIterable<PropertyValue> readPropertyValues(Reader reader)
     {
-        int propertiesSize = reader.readInt();
+        return readPropertyValues(reader, reader.readInt());
+    }
+
+    private ListIterable<PropertyValue> readPropertyValues(Reader reader, int propertiesSize)
+    {
         switch (propertiesSize)
         {
             case 0:
@@ -193,5 +300,61 @@ abstract class AbstractBinaryObjDeserializer implements BinaryObjDeserializer
         }
     }
 
+    private void skipManyRValues(Reader reader)
+    {
+        int valueCount = reader.readInt();
+        for (int i = 0; i < valueCount; i++)
+        {
+            skipRValue(reader);
+        }
+    }
+
+    private void skipRValue(Reader reader)
+    {
+        byte valueType = reader.readByte();
+        switch (valueType)
+        {
+            case BinaryGraphSerializationTypes.OBJ_REF:
+            case BinaryGraphSerializationTypes.ENUM_REF:
+            {
+                skipString(reader);
+                skipString(reader);
+                break;
+            }
+            case BinaryGraphSerializationTypes.PRIMITIVE_BOOLEAN:
+            {
+                reader.skipBoolean();
+                break;
+            }
+            case BinaryGraphSerializationTypes.PRIMITIVE_DOUBLE:
+            {
+                reader.skipDouble();
+                break;
+            }
+            case BinaryGraphSerializationTypes.PRIMITIVE_LONG:
+            {
+                reader.skipLong();
+                break;
+            }
+            case BinaryGraphSerializationTypes.PRIMITIVE_STRING:
+            case BinaryGraphSerializationTypes.PRIMITIVE_DATE:
+            {
+                skipString(reader);
+                break;
+            }
+            case BinaryGraphSerializationTypes.PRIMITIVE_DECIMAL:
+            {
+                reader.skipString();
+                break;
+            }
+            default:
+            {
+                throw new UnsupportedOperationException("serialization for RValue type not supported: " + valueType);
+            }
+        }
+    }
+
     protected abstract String readString(Reader reader);
+
+    protected abstract void skipString(Reader reader);
 }
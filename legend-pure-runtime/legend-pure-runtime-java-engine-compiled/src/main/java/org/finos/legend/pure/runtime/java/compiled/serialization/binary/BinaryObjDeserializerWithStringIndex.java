@@ -31,4 +31,10 @@ class BinaryObjDeserializerWithStringIndex extends AbstractBinaryObjDeserializer
         int stringId = reader.readInt();
         return this.stringIndex.getString(stringId);
     }
+
+    @Override
+    protected void skipString(Reader reader)
+    {
+        reader.skipInt();
+    }
 }
@@ -23,11 +23,13 @@ import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.tools.GraphNodeIterable;
 import org.finos.legend.pure.m4.tools.GraphWalkFilterResult;
 
+import java.util.concurrent.ForkJoinPool;
+
 class DistributedBinaryFullGraphSerializer extends DistributedBinaryGraphSerializer
 {
-    DistributedBinaryFullGraphSerializer(PureRuntime runtime)
+    DistributedBinaryFullGraphSerializer(PureRuntime runtime, ForkJoinPool forkJoinPool)
     {
-        super(runtime, null);
+        super(runtime, null, forkJoinPool);
     }
 
     @Override
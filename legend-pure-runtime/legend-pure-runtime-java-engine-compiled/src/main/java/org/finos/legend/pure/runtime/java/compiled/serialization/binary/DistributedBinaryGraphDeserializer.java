@@ -207,6 +207,7 @@ public abstract class DistributedBinaryGraphDeserializer
     {
         private final FileReader fileReader;
         private boolean validateObjs = true;
+        private boolean lazyObjDecoding = false;
         private MutableSet<String> metadataNames = null;
 
         private Builder(FileReader fileReader)
@@ -230,6 +231,24 @@ public abstract class DistributedBinaryGraphDeserializer
             return withObjValidation(false);
         }
 
+        /**
+         * If true, Objs are returned as views over their serialized bytes which decode property values on access,
+         * rather than being fully decoded when they are read.
+         *
+         * @param lazyObjDecoding whether to decode Obj property values lazily
+         * @return this builder
+         */
+        public Builder withLazyObjDecoding(boolean lazyObjDecoding)
+        {
+            this.lazyObjDecoding = lazyObjDecoding;
+            return this;
+        }
+
+        public Builder withLazyObjDecoding()
+        {
+            return withLazyObjDecoding(true);
+        }
+
         public Builder withNoMetadataName()
         {
             this.metadataNames = null;
@@ -279,7 +298,7 @@ public abstract class DistributedBinaryGraphDeserializer
         {
             if (this.metadataNames == null)
             {
-                return new Single(this.fileReader, null, this.validateObjs);
+                return new Single(this.fileReader, null, this.validateObjs, this.lazyObjDecoding);
             }
             switch (this.metadataNames.size())
             {
@@ -289,11 +308,11 @@ public abstract class DistributedBinaryGraphDeserializer
                 }
                 case 1:
                 {
-                    return new Single(this.fileReader, this.metadataNames.getAny(), this.validateObjs);
+                    return new Single(this.fileReader, this.metadataNames.getAny(), this.validateObjs, this.lazyObjDecoding);
                 }
                 default:
                 {
-                    return new Many(this.fileReader, this.metadataNames, this.validateObjs);
+                    return new Many(this.fileReader, this.metadataNames, this.validateObjs, this.lazyObjDecoding);
                 }
             }
         }
@@ -319,25 +338,30 @@ public abstract class DistributedBinaryGraphDeserializer
             return this.filePath;
         }
 
-        private Obj getObj(FileReader fileReader, StringIndex stringIndex, String classifierId)
+        private Obj getObj(FileReader fileReader, StringIndex stringIndex, String classifierId, boolean lazy)
         {
-            return getObj(getBytes(fileReader), stringIndex, classifierId);
+            return getObj(getBytes(fileReader), stringIndex, classifierId, lazy);
         }
 
-        private Obj getObj(Reader reader, long currentOffset, StringIndex stringIndex, String classifierId)
+        private Obj getObj(Reader reader, long currentOffset, StringIndex stringIndex, String classifierId, boolean lazy)
         {
-            return getObj(getBytes(reader, currentOffset), stringIndex, classifierId);
+            return getObj(getBytes(reader, currentOffset), stringIndex, classifierId, lazy);
         }
 
-        private Obj getObj(byte[] bytes, StringIndex stringIndex, String classifierId)
+        private Obj getObj(byte[] bytes, StringIndex stringIndex, String classifierId, boolean lazy)
         {
+            AbstractBinaryObjDeserializer deserializer = getDeserializer(stringIndex, classifierId);
+            if (lazy)
+            {
+                return deserializer.deserializeLazily(bytes, 0, bytes.length);
+            }
             try (Reader reader = BinaryReaders.newBinaryReader(bytes))
             {
-                return getDeserializer(stringIndex, classifierId).deserialize(reader);
+                return deserializer.deserialize(reader);
             }
         }
 
-        private BinaryObjDeserializer getDeserializer(StringIndex stringIndex, String classifierId)
+        private AbstractBinaryObjDeserializer getDeserializer(StringIndex stringIndex, String classifierId)
         {
             return new BinaryObjDeserializerWithStringIndexAndImplicitIdentifiers(stringIndex, this.identifier, classifierId);
         }
@@ -426,8 +450,9 @@ public abstract class DistributedBinaryGraphDeserializer
         private final LazyStringIndex stringIndex;
         private final ImmutableMap<String, ClassifierIndex> classifierIndexes;
         private final boolean validateObjs;
+        private final boolean lazyObjDecoding;
 
-        private Single(FileReader fileReader, String metadataName, boolean validateObjs)
+        private Single(FileReader fileReader, String metadataName, boolean validateObjs, boolean lazyObjDecoding)
         {
             this.metadataName = DistributedMetadataHelper.validateMetadataNameIfPresent(metadataName);
             this.fileReader = fileReader;
@@ -435,11 +460,12 @@ public abstract class DistributedBinaryGraphDeserializer
             RichIterable<String> classifierIds = this.stringIndex.getClassifierIds();
             this.classifierIndexes = classifierIds.toMap(id -> id, ClassifierIndex::new, Maps.mutable.withInitialCapacity(classifierIds.size())).toImmutable();
             this.validateObjs = validateObjs;
+            this.lazyObjDecoding = lazyObjDecoding;
         }
 
         private Single(FileReader fileReader, boolean validateObjs)
         {
-            this(fileReader, null, validateObjs);
+            this(fileReader, null, validateObjs, false);
         }
 
         @Override
@@ -501,7 +527,7 @@ public abstract class DistributedBinaryGraphDeserializer
                 }
                 return null;
             }
-            return possiblyValidate(sourceCoordinates.getObj(this.fileReader, this.stringIndex, classifierIndex.getClassifierId()));
+            return possiblyValidate(sourceCoordinates.getObj(this.fileReader, this.stringIndex, classifierIndex.getClassifierId(), this.lazyObjDecoding));
         }
 
         @Override
@@ -546,7 +572,7 @@ public abstract class DistributedBinaryGraphDeserializer
                     int offset = 0;
                     for (SourceCoordinates sourceCoordinates : fileSourceCoordinates)
                     {
-                        Obj obj = possiblyValidate(sourceCoordinates.getObj(reader, offset, this.stringIndex, classifierIndex.getClassifierId()));
+                        Obj obj = possiblyValidate(sourceCoordinates.getObj(reader, offset, this.stringIndex, classifierIndex.getClassifierId(), this.lazyObjDecoding));
                         offset = sourceCoordinates.getOffsetAfterReading();
                         objs.add(obj);
                     }
@@ -656,9 +682,9 @@ public abstract class DistributedBinaryGraphDeserializer
         private final ListIterable<Single> deserializers;
         private final boolean validateObjs;
 
-        private Many(FileReader fileReader, Set<String> metadataNames, boolean validateObjs)
+        private Many(FileReader fileReader, Set<String> metadataNames, boolean validateObjs, boolean lazyObjDecoding)
         {
-            this.deserializers = Iterate.collect(metadataNames, n -> new Single(fileReader, n, false), Lists.mutable.ofInitialCapacity(metadataNames.size()));
+            this.deserializers = Iterate.collect(metadataNames, n -> new Single(fileReader, n, false, lazyObjDecoding), Lists.mutable.ofInitialCapacity(metadataNames.size()));
             this.validateObjs = validateObjs;
         }
 
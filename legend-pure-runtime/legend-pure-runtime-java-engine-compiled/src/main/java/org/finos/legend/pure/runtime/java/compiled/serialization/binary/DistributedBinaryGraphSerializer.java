@@ -27,6 +27,7 @@ import org.finos.legend.pure.m3.navigation.ProcessorSupport;
 import org.finos.legend.pure.m3.serialization.filesystem.repository.CodeRepository;
 import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.MutableRepositoryCodeStorage;
 import org.finos.legend.pure.m3.serialization.runtime.PureRuntime;
+import org.finos.legend.pure.m3.tools.forkjoin.ForkJoinTools;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.serialization.Writer;
 import org.finos.legend.pure.m4.serialization.binary.BinaryWriters;
@@ -37,25 +38,34 @@ import org.finos.legend.pure.runtime.java.compiled.serialization.model.Obj;
 import java.io.ByteArrayOutputStream;
 import java.nio.file.Path;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 import java.util.jar.JarOutputStream;
 
 public abstract class DistributedBinaryGraphSerializer
 {
     private static final int MAX_BIN_FILE_BYTES = 512 * 1024;
+    private static final int PARALLEL_CLASSIFIER_THRESHOLD = 1;
 
     private final DistributedMetadataSpecification metadataSpecification;
     protected final PureRuntime runtime;
     protected final ProcessorSupport processorSupport;
     private final IdBuilder idBuilder;
     private final GraphSerializer.ClassifierCaches classifierCaches;
+    private final ForkJoinPool forkJoinPool;
 
-    protected DistributedBinaryGraphSerializer(PureRuntime runtime, DistributedMetadataSpecification metadataSpecification)
+    protected DistributedBinaryGraphSerializer(PureRuntime runtime, DistributedMetadataSpecification metadataSpecification, ForkJoinPool forkJoinPool)
     {
         this.metadataSpecification = metadataSpecification;
         this.runtime = runtime;
         this.processorSupport = runtime.getProcessorSupport();
         this.idBuilder = newPossiblyHashedIdBuilder(this.metadataSpecification, this.processorSupport);
         this.classifierCaches = new GraphSerializer.ClassifierCaches(this.processorSupport);
+        this.forkJoinPool = forkJoinPool;
+    }
+
+    protected DistributedBinaryGraphSerializer(PureRuntime runtime, DistributedMetadataSpecification metadataSpecification)
+    {
+        this(runtime, metadataSpecification, null);
     }
 
     public void serializeToDirectory(Path directory)
@@ -85,6 +95,19 @@ public abstract class DistributedBinaryGraphSerializer
         SerializationCollector serializationCollector = new SerializationCollector();
         collectInstancesForSerialization(serializationCollector);
 
+        // Serialize and write
+        if (this.forkJoinPool == null)
+        {
+            serializeSequentially(fileWriter, serializationCollector);
+        }
+        else
+        {
+            serializeInParallel(fileWriter, serializationCollector);
+        }
+    }
+
+    private void serializeSequentially(FileWriter fileWriter, SerializationCollector serializationCollector)
+    {
         // Build string cache
         DistributedStringCache stringCache = buildStringCache(serializationCollector);
         BinaryObjSerializer serializer = new BinaryObjSerializerWithStringCacheAndImplicitIdentifiers(stringCache);
@@ -93,83 +116,74 @@ public abstract class DistributedBinaryGraphSerializer
         stringCache.write(getMetadataName(), fileWriter);
 
         // Write instances
-        int partition = 0;
-        int partitionTotalBytes = 0;
-        WriterBufferOutputStream binByteStream = new WriterBufferOutputStream(MAX_BIN_FILE_BYTES);
-        try (Writer binFileWriter = BinaryWriters.newBinaryWriter(binByteStream))
+        InstanceWriter instanceWriter = new InstanceWriter(fileWriter, stringCache);
+        for (String classifierId : stringCache.getClassifierIds().toSortedList())
         {
-            WriterBufferOutputStream indexByteStream = new WriterBufferOutputStream();
-            try (Writer indexWriter = BinaryWriters.newBinaryWriter(indexByteStream))
-            {
-                for (String classifierId : stringCache.getClassifierIds().toSortedList())
-                {
-                    ListIterable<Obj> classifierObjs = getClassifierObjs(serializationCollector.instancesForSerialization.remove(classifierId), serializationCollector.objUpdates.remove(classifierId));
+            ListIterable<Obj> classifierObjs = getClassifierObjs(serializationCollector.instancesForSerialization.remove(classifierId), serializationCollector.objUpdates.remove(classifierId));
+            instanceWriter.writeClassifier(classifierId, serializeClassifierObjs(classifierObjs, serializer));
+        }
+        instanceWriter.finish();
+    }
 
-                    // Initial index information
-                    indexWriter.writeInt(classifierObjs.size()); // total obj count
-                    indexWriter.writeInt(partition); // initial partition
-                    indexWriter.writeInt(partitionTotalBytes); // initial byte offset in partition
+    private void serializeInParallel(FileWriter fileWriter, SerializationCollector serializationCollector)
+    {
+        // Build Objs and collect strings for each classifier
+        MutableList<String> classifierIds = Sets.mutable.withAll(serializationCollector.instancesForSerialization.keySet())
+                .withAll(serializationCollector.objUpdates.keySet())
+                .toSortedList();
+        ListIterable<ClassifierObjs> classifierObjs = ForkJoinTools.collect(this.forkJoinPool, classifierIds, classifierId -> buildClassifierObjs(classifierId, serializationCollector), PARALLEL_CLASSIFIER_THRESHOLD);
 
-                    MutableList<ObjIndexInfo> partitionObjIndexInfos = Lists.mutable.empty();
-                    WriterBufferOutputStream objByteStream = new WriterBufferOutputStream();
-                    try (Writer objWriter = BinaryWriters.newBinaryWriter(objByteStream))
-                    {
-                        for (Obj obj : classifierObjs)
-                        {
-                            // Obj serialization
-                            serializer.serializeObj(objWriter, obj);
-                            int objByteCount = objByteStream.size();
-                            if (partitionTotalBytes + objByteCount > MAX_BIN_FILE_BYTES)
-                            {
-                                // Write current partition
-                                try (Writer partitionWriter = fileWriter.getWriter(DistributedMetadataHelper.getMetadataPartitionBinFilePath(getMetadataName(), partition)))
-                                {
-                                    binByteStream.writeAndReset(partitionWriter);
-                                }
-
-                                // Write partition portion of classifier index
-                                indexWriter.writeInt(partitionObjIndexInfos.size());
-                                partitionObjIndexInfos.forEach(info -> info.write(indexWriter, stringCache));
-
-                                // New partition
-                                partition++;
-                                if (partition < 0)
-                                {
-                                    throw new RuntimeException("Too many partitions");
-                                }
-                                partitionTotalBytes = 0;
-                                partitionObjIndexInfos.clear();
-                            }
-                            objByteStream.writeAndReset(binFileWriter);
-                            partitionTotalBytes += objByteCount;
-                            partitionObjIndexInfos.add(new ObjIndexInfo(obj.getIdentifier(), objByteCount));
-                        }
-                    }
+        // Build string cache
+        DistributedStringCache stringCache = DistributedStringCache.merge(classifierObjs.collect(ClassifierObjs::getStringCacheBuilder));
+        BinaryObjSerializer serializer = new BinaryObjSerializerWithStringCacheAndImplicitIdentifiers(stringCache);
 
-                    // Write final partition portion of classifier index
-                    if (partitionObjIndexInfos.notEmpty())
-                    {
-                        indexWriter.writeInt(partitionObjIndexInfos.size());
-                        partitionObjIndexInfos.forEach(info -> info.write(indexWriter, stringCache));
-                    }
+        // Write string cache
+        stringCache.write(getMetadataName(), fileWriter);
 
-                    // Write classifier index
-                    try (Writer indexFileWriter = fileWriter.getWriter(DistributedMetadataHelper.getMetadataClassifierIndexFilePath(getMetadataName(), classifierId)))
-                    {
-                        indexByteStream.writeAndReset(indexFileWriter);
-                    }
-                }
-            }
+        // Serialize instances
+        ListIterable<SerializedObjs> serializedObjs = ForkJoinTools.collect(this.forkJoinPool, classifierObjs, c -> serializeClassifierObjs(c.getObjs(), serializer), PARALLEL_CLASSIFIER_THRESHOLD);
+        MutableMap<String, SerializedObjs> serializedObjsByClassifier = Maps.mutable.ofInitialCapacity(classifierIds.size());
+        classifierIds.forEachWithIndex((classifierId, i) -> serializedObjsByClassifier.put(classifierId, serializedObjs.get(i)));
+
+        // Write instances (sequentially, so that the file layout is exactly as for sequential serialization)
+        InstanceWriter instanceWriter = new InstanceWriter(fileWriter, stringCache);
+        for (String classifierId : stringCache.getClassifierIds().toSortedList())
+        {
+            SerializedObjs classifierSerializedObjs = serializedObjsByClassifier.remove(classifierId);
+            instanceWriter.writeClassifier(classifierId, (classifierSerializedObjs == null) ? SerializedObjs.EMPTY : classifierSerializedObjs);
+        }
+        instanceWriter.finish();
+    }
+
+    private ClassifierObjs buildClassifierObjs(String classifierId, SerializationCollector serializationCollector)
+    {
+        MutableList<Obj> objs = buildClassifierObjs(serializationCollector.instancesForSerialization.get(classifierId), serializationCollector.objUpdates.get(classifierId));
+        // collect strings before validation, which may remove Objs, to match the sequential string cache exactly
+        StringCache.Builder<DistributedStringCache> stringCacheBuilder = DistributedStringCache.newBuilder().withObjs(objs);
+        return new ClassifierObjs(validateClassifierObjs(objs), stringCacheBuilder);
+    }
+
+    private SerializedObjs serializeClassifierObjs(ListIterable<Obj> classifierObjs, BinaryObjSerializer serializer)
+    {
+        if (classifierObjs.isEmpty())
+        {
+            return SerializedObjs.EMPTY;
         }
 
-        // Write final partition
-        if (binByteStream.size() > 0)
+        String[] identifiers = new String[classifierObjs.size()];
+        int[] sizes = new int[classifierObjs.size()];
+        WriterBufferOutputStream objByteStream = new WriterBufferOutputStream();
+        try (Writer objWriter = BinaryWriters.newBinaryWriter(objByteStream))
         {
-            try (Writer partitionWriter = fileWriter.getWriter(DistributedMetadataHelper.getMetadataPartitionBinFilePath(getMetadataName(), partition)))
+            classifierObjs.forEachWithIndex((obj, i) ->
             {
-                binByteStream.write(partitionWriter);
-            }
+                int start = objByteStream.size();
+                serializer.serializeObj(objWriter, obj);
+                identifiers[i] = obj.getIdentifier();
+                sizes[i] = objByteStream.size() - start;
+            });
         }
+        return new SerializedObjs(identifiers, sizes, objByteStream.toByteArray());
     }
 
     protected String getMetadataName()
@@ -188,6 +202,11 @@ public abstract class DistributedBinaryGraphSerializer
     }
 
     private ListIterable<Obj> getClassifierObjs(ListIterable<? extends CoreInstance> classifierInstances, ListIterable<? extends Obj> classifierObjUpdates)
+    {
+        return validateClassifierObjs(buildClassifierObjs(classifierInstances, classifierObjUpdates));
+    }
+
+    private MutableList<Obj> buildClassifierObjs(ListIterable<? extends CoreInstance> classifierInstances, ListIterable<? extends Obj> classifierObjUpdates)
     {
         MutableList<Obj> classifierObjs = Lists.mutable.withInitialCapacity(((classifierInstances == null) ? 0 : classifierInstances.size()) + ((classifierObjUpdates == null) ? 0 : classifierObjUpdates.size()));
         if (classifierInstances != null)
@@ -200,6 +219,11 @@ public abstract class DistributedBinaryGraphSerializer
         {
             classifierObjs.addAllIterable(classifierObjUpdates);
         }
+        return classifierObjs;
+    }
+
+    private ListIterable<Obj> validateClassifierObjs(MutableList<Obj> classifierObjs)
+    {
         if (classifierObjs.size() > 1)
         {
             // TODO there is a known issue with id conflicts for ImportGroups - remove conflicts until issue is fixed
@@ -250,10 +274,37 @@ public abstract class DistributedBinaryGraphSerializer
 
     public static DistributedBinaryGraphSerializer newSerializer(PureRuntime runtime)
     {
-        return new DistributedBinaryFullGraphSerializer(runtime);
+        return newSerializer(runtime, (ForkJoinPool) null);
+    }
+
+    /**
+     * Create a serializer for the full graph. If a fork join pool is supplied, Objs are built and serialized in
+     * parallel; the output is identical to that of sequential serialization, but all Objs are held in memory at once.
+     *
+     * @param runtime      Pure runtime
+     * @param forkJoinPool fork join pool for parallel serialization (may be null)
+     * @return full graph serializer
+     */
+    public static DistributedBinaryGraphSerializer newSerializer(PureRuntime runtime, ForkJoinPool forkJoinPool)
+    {
+        return new DistributedBinaryFullGraphSerializer(runtime, forkJoinPool);
     }
 
     public static DistributedBinaryGraphSerializer newSerializer(PureRuntime runtime, String repositoryName)
+    {
+        return newSerializer(runtime, repositoryName, null);
+    }
+
+    /**
+     * Create a serializer for a single repository. If a fork join pool is supplied, Objs are built and serialized in
+     * parallel; the output is identical to that of sequential serialization, but all Objs are held in memory at once.
+     *
+     * @param runtime        Pure runtime
+     * @param repositoryName repository to serialize
+     * @param forkJoinPool   fork join pool for parallel serialization (may be null)
+     * @return repository serializer
+     */
+    public static DistributedBinaryGraphSerializer newSerializer(PureRuntime runtime, String repositoryName, ForkJoinPool forkJoinPool)
     {
         MutableRepositoryCodeStorage codeStorage = runtime.getCodeStorage();
         CodeRepository repository = codeStorage.getRepository(repositoryName);
@@ -272,7 +323,7 @@ public abstract class DistributedBinaryGraphSerializer
         }
         MutableSet<String> directDependencies = allRepositories.collectIf(r -> (r != repository) && repository.isVisible(r), CodeRepository::getName, Sets.mutable.empty());
         DistributedMetadataSpecification metadataSpecification = DistributedMetadataSpecification.newSpecification(repositoryName, directDependencies);
-        return new DistributedBinaryRepositorySerializer(metadataSpecification, runtime);
+        return new DistributedBinaryRepositorySerializer(metadataSpecification, runtime, forkJoinPool);
     }
 
     public static void serialize(PureRuntime runtime, Path directory)
@@ -325,21 +376,139 @@ public abstract class DistributedBinaryGraphSerializer
         }
     }
 
-    private static class ObjIndexInfo
+    private static class ClassifierObjs
+    {
+        private final ListIterable<Obj> objs;
+        private final StringCache.Builder<DistributedStringCache> stringCacheBuilder;
+
+        private ClassifierObjs(ListIterable<Obj> objs, StringCache.Builder<DistributedStringCache> stringCacheBuilder)
+        {
+            this.objs = objs;
+            this.stringCacheBuilder = stringCacheBuilder;
+        }
+
+        ListIterable<Obj> getObjs()
+        {
+            return this.objs;
+        }
+
+        StringCache.Builder<DistributedStringCache> getStringCacheBuilder()
+        {
+            return this.stringCacheBuilder;
+        }
+    }
+
+    private static class SerializedObjs
+    {
+        private static final SerializedObjs EMPTY = new SerializedObjs(new String[0], new int[0], new byte[0]);
+
+        private final String[] identifiers;
+        private final int[] sizes;
+        private final byte[] bytes;
+
+        private SerializedObjs(String[] identifiers, int[] sizes, byte[] bytes)
+        {
+            this.identifiers = identifiers;
+            this.sizes = sizes;
+            this.bytes = bytes;
+        }
+
+        int size()
+        {
+            return this.sizes.length;
+        }
+    }
+
+    private class InstanceWriter
     {
-        private final String identifier;
-        private final int size;
+        private final FileWriter fileWriter;
+        private final StringCache stringCache;
+        private final WriterBufferOutputStream binByteStream = new WriterBufferOutputStream(MAX_BIN_FILE_BYTES);
+        private int partition = 0;
+        private int partitionTotalBytes = 0;
+
+        private InstanceWriter(FileWriter fileWriter, StringCache stringCache)
+        {
+            this.fileWriter = fileWriter;
+            this.stringCache = stringCache;
+        }
+
+        void writeClassifier(String classifierId, SerializedObjs objs)
+        {
+            WriterBufferOutputStream indexByteStream = new WriterBufferOutputStream();
+            try (Writer indexWriter = BinaryWriters.newBinaryWriter(indexByteStream))
+            {
+                // Initial index information
+                indexWriter.writeInt(objs.size()); // total obj count
+                indexWriter.writeInt(this.partition); // initial partition
+                indexWriter.writeInt(this.partitionTotalBytes); // initial byte offset in partition
+
+                int partitionStart = 0;
+                int offset = 0;
+                for (int i = 0; i < objs.size(); i++)
+                {
+                    int objByteCount = objs.sizes[i];
+                    if (this.partitionTotalBytes + objByteCount > MAX_BIN_FILE_BYTES)
+                    {
+                        // Write current partition
+                        writePartition();
+
+                        // Write partition portion of classifier index
+                        writeIndexEntries(indexWriter, objs, partitionStart, i);
+
+                        // New partition
+                        this.partition++;
+                        if (this.partition < 0)
+                        {
+                            throw new RuntimeException("Too many partitions");
+                        }
+                        this.partitionTotalBytes = 0;
+                        partitionStart = i;
+                    }
+                    this.binByteStream.write(objs.bytes, offset, objByteCount);
+                    offset += objByteCount;
+                    this.partitionTotalBytes += objByteCount;
+                }
+
+                // Write final partition portion of classifier index
+                if (partitionStart < objs.size())
+                {
+                    writeIndexEntries(indexWriter, objs, partitionStart, objs.size());
+                }
+            }
+
+            // Write classifier index
+            try (Writer indexFileWriter = this.fileWriter.getWriter(DistributedMetadataHelper.getMetadataClassifierIndexFilePath(getMetadataName(), classifierId)))
+            {
+                indexByteStream.write(indexFileWriter);
+            }
+        }
+
+        void finish()
+        {
+            // Write final partition
+            if (this.binByteStream.size() > 0)
+            {
+                writePartition();
+            }
+        }
 
-        private ObjIndexInfo(String identifier, int size)
+        private void writePartition()
         {
-            this.identifier = identifier;
-            this.size = size;
+            try (Writer partitionWriter = this.fileWriter.getWriter(DistributedMetadataHelper.getMetadataPartitionBinFilePath(getMetadataName(), this.partition)))
+            {
+                this.binByteStream.writeAndReset(partitionWriter);
+            }
         }
 
-        private void write(Writer writer, StringCache stringCache)
+        private void writeIndexEntries(Writer indexWriter, SerializedObjs objs, int start, int end)
         {
-            writer.writeInt(stringCache.getStringId(this.identifier));
-            writer.writeInt(this.size);
+            indexWriter.writeInt(end - start);
+            for (int i = start; i < end; i++)
+            {
+                indexWriter.writeInt(this.stringCache.getStringId(objs.identifiers[i]));
+                indexWriter.writeInt(objs.sizes[i]);
+            }
         }
     }
 
@@ -57,13 +57,14 @@ import org.finos.legend.pure.runtime.java.compiled.serialization.model.PropertyV
 import org.finos.legend.pure.runtime.java.compiled.serialization.model.PropertyValueOne;
 import org.finos.legend.pure.runtime.java.compiled.serialization.model.RValue;
 
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 
 class DistributedBinaryRepositorySerializer extends DistributedBinaryGraphSerializer
 {
-    DistributedBinaryRepositorySerializer(DistributedMetadataSpecification metadataSpecification, PureRuntime runtime)
+    DistributedBinaryRepositorySerializer(DistributedMetadataSpecification metadataSpecification, PureRuntime runtime, ForkJoinPool forkJoinPool)
     {
-        super(runtime, metadataSpecification);
+        super(runtime, metadataSpecification, forkJoinPool);
     }
 
     @Override
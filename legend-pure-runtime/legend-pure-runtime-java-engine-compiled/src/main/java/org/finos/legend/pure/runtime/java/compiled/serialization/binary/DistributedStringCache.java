@@ -71,6 +71,21 @@ public class DistributedStringCache extends StringCache
         return new DistributedStringCacheBuilder();
     }
 
+    /**
+     * Build a string cache from the strings collected by several builders (each from {@link #newBuilder()}). This
+     * allows builders to be populated in parallel. The result does not depend on how strings are distributed among
+     * the builders or on the order of the builders.
+     *
+     * @param builders string cache builders
+     * @return string cache with all the strings collected by the builders
+     */
+    static DistributedStringCache merge(Iterable<? extends Builder<DistributedStringCache>> builders)
+    {
+        DistributedStringCacheBuilder merged = new DistributedStringCacheBuilder();
+        builders.forEach(b -> merged.addAll((DistributedStringCacheBuilder) b));
+        return merged.build();
+    }
+
     static int getStartOfPartition(int index)
     {
         return index - (index & PARTITION_MASK);
@@ -136,6 +151,13 @@ public class DistributedStringCache extends StringCache
             addOtherString(string);
         }
 
+        private void addAll(DistributedStringCacheBuilder other)
+        {
+            this.classifierIds.addAll(other.classifierIds);
+            this.identifiers.putAll(other.identifiers);
+            this.otherStrings.addAll(other.otherStrings);
+        }
+
         private void addClassifierId(String classifierId)
         {
             this.classifierIds.add(Objects.requireNonNull(classifierId));
@@ -0,0 +1,123 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.serialization.binary;
+
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.map.primitive.ObjectIntMap;
+import org.finos.legend.pure.m4.coreinstance.SourceInformation;
+import org.finos.legend.pure.runtime.java.compiled.serialization.model.Obj;
+import org.finos.legend.pure.runtime.java.compiled.serialization.model.PropertyValue;
+import org.finos.legend.pure.runtime.java.compiled.serialization.model.RawPropertyValueConsumer;
+
+/**
+ * An Obj which is a view over its serialized bytes. The header (classifier, identifier, name, and source information)
+ * is decoded eagerly, but property values are only decoded on access. {@link #getRawPropertyValue} decodes just the
+ * requested property, using an index of property offsets which is built (without decoding values) on first use.
+ * {@link #forEachRawPropertyValue} decodes directly from the bytes without materializing {@link PropertyValue}
+ * objects, while {@link #getPropertyValues()} decodes once and caches the result.
+ */
+class LazyBinaryObj extends Obj
+{
+    private final AbstractBinaryObjDeserializer deserializer;
+    private final boolean isEnum;
+    private final byte[] bytes;
+    private final int start;
+    private final int end;
+    private final int propertyValueCount;
+    private volatile ListIterable<PropertyValue> propertyValues; //NOSONAR we actually want to protect the pointer
+    private volatile ObjectIntMap<String> propertyOffsets; //NOSONAR we actually want to protect the pointer
+
+    LazyBinaryObj(AbstractBinaryObjDeserializer deserializer, String classifier, String identifier, String name, SourceInformation sourceInformation, boolean isEnum, byte[] bytes, int start, int end, int propertyValueCount)
+    {
+        super(classifier, identifier, name, null, sourceInformation);
+        this.deserializer = deserializer;
+        this.isEnum = isEnum;
+        this.bytes = bytes;
+        this.start = start;
+        this.end = end;
+        this.propertyValueCount = propertyValueCount;
+    }
+
+    @Override
+    public boolean isEnum()
+    {
+        return this.isEnum;
+    }
+
+    @Override
+    public ListIterable<PropertyValue> getPropertyValues()
+    {
+        ListIterable<PropertyValue> result = this.propertyValues;
+        if (result == null)
+        {
+            synchronized (this)
+            {
+                result = this.propertyValues;
+                if (result == null)
+                {
+                    this.propertyValues = result = this.deserializer.readPropertyValues(this.bytes, this.start, this.end, this.propertyValueCount);
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public int getPropertyValueCount()
+    {
+        return this.propertyValueCount;
+    }
+
+    @Override
+    public Object getRawPropertyValue(String property)
+    {
+        if (this.propertyValues != null)
+        {
+            return super.getRawPropertyValue(property);
+        }
+        int offset = getPropertyOffsets().getIfAbsent(property, -1);
+        return (offset == -1) ? null : this.deserializer.readRawPropertyValue(this.bytes, offset, this.end);
+    }
+
+    @Override
+    public void forEachRawPropertyValue(RawPropertyValueConsumer consumer)
+    {
+        if (this.propertyValues != null)
+        {
+            super.forEachRawPropertyValue(consumer);
+        }
+        else
+        {
+            this.deserializer.forEachRawPropertyValue(this.bytes, this.start, this.end, this.propertyValueCount, consumer);
+        }
+    }
+
+    private ObjectIntMap<String> getPropertyOffsets()
+    {
+        ObjectIntMap<String> result = this.propertyOffsets;
+        if (result == null)
+        {
+            synchronized (this)
+            {
+                result = this.propertyOffsets;
+                if (result == null)
+                {
+                    this.propertyOffsets = result = this.deserializer.indexPropertyValues(this.bytes, this.start, this.end, this.propertyValueCount);
+                }
+            }
+        }
+        return result;
+    }
+}
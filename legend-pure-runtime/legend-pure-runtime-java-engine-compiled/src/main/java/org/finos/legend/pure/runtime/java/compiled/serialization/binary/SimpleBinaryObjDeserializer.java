@@ -23,4 +23,10 @@ class SimpleBinaryObjDeserializer extends AbstractBinaryObjDeserializer
     {
         return reader.readString();
     }
+
+    @Override
+    protected void skipString(Reader reader)
+    {
+        reader.skipString();
+    }
 }
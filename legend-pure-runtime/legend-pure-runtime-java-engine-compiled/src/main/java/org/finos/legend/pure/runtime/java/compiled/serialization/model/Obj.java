@@ -71,6 +71,52 @@ public class Obj
         return this.sourceInformation;
     }
 
+    public int getPropertyValueCount()
+    {
+        return getPropertyValues().size();
+    }
+
+    /**
+     * Apply the consumer to the raw values of each of the properties of this Obj, in order.
+     *
+     * @param consumer raw property value consumer
+     */
+    public void forEachRawPropertyValue(RawPropertyValueConsumer consumer)
+    {
+        getPropertyValues().forEach(new PropertyValueConsumer()
+        {
+            @Override
+            protected void accept(PropertyValueMany many)
+            {
+                consumer.acceptMany(many.getProperty(), many.getValues());
+            }
+
+            @Override
+            protected void accept(PropertyValueOne one)
+            {
+                consumer.acceptOne(one.getProperty(), one.getValue());
+            }
+        });
+    }
+
+    /**
+     * Get the raw value of the given property: an {@link RValue} for a {@link PropertyValueOne}, a
+     * {@link ListIterable} of {@link RValue}s for a {@link PropertyValueMany}, or null if there is no value for the
+     * property.
+     *
+     * @param property property name
+     * @return raw property value (or null)
+     */
+    public Object getRawPropertyValue(String property)
+    {
+        PropertyValue propertyValue = getPropertyValues().detect(pv -> property.equals(pv.getProperty()));
+        if (propertyValue == null)
+        {
+            return null;
+        }
+        return (propertyValue instanceof PropertyValueMany) ? ((PropertyValueMany) propertyValue).getValues() : ((PropertyValueOne) propertyValue).getValue();
+    }
+
     public boolean isEnum()
     {
         return false;
@@ -95,7 +141,7 @@ public class Obj
                 this.identifier.equals(that.identifier) &&
                 Objects.equals(this.name, that.name) &&
                 Objects.equals(this.sourceInformation, that.sourceInformation) &&
-                this.properties.equals(that.properties);
+                getPropertyValues().equals(that.getPropertyValues());
     }
 
     @Override
@@ -127,7 +173,7 @@ public class Obj
         }
         if (writePropertyValues)
         {
-            this.properties.appendString(safeAppendable, ", properties=[", ", ", "]");
+            getPropertyValues().appendString(safeAppendable, ", properties=[", ", ", "]");
         }
         if (this.sourceInformation != null)
         {
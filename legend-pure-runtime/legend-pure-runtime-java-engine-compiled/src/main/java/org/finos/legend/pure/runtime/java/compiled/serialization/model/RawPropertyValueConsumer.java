@@ -0,0 +1,28 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.serialization.model;
+
+import org.eclipse.collections.api.list.ListIterable;
+
+/**
+ * Consumer of the raw values of an {@link Obj}'s properties, which does not require the property values to be
+ * materialized as {@link PropertyValue} objects.
+ */
+public interface RawPropertyValueConsumer
+{
+    void acceptOne(String property, RValue value);
+
+    void acceptMany(String property, ListIterable<RValue> values);
+}
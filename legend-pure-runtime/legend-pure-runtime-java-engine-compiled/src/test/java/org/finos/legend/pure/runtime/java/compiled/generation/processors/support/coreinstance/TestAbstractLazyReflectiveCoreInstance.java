@@ -0,0 +1,128 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package org.finos.legend.pure.runtime.java.compiled.generation.processors.support.coreinstance;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.MutableList;
+import org.finos.legend.pure.runtime.java.compiled.metadata.MetadataLazy;
+import org.finos.legend.pure.runtime.java.compiled.serialization.binary.DistributedBinaryGraphDeserializer;
+import org.finos.legend.pure.runtime.java.compiled.serialization.model.Obj;
+import org.finos.legend.pure.runtime.java.compiled.serialization.model.Primitive;
+import org.finos.legend.pure.runtime.java.compiled.serialization.model.PropertyValue;
+import org.finos.legend.pure.runtime.java.compiled.serialization.model.PropertyValueMany;
+import org.finos.legend.pure.runtime.java.compiled.serialization.model.PropertyValueOne;
+import org.finos.legend.pure.runtime.java.compiled.serialization.model.RawPropertyValueConsumer;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+
+public class TestAbstractLazyReflectiveCoreInstance
+{
+    private final MetadataLazy metadataLazy = MetadataLazy.newMetadata(getClass().getClassLoader(), DistributedBinaryGraphDeserializer.newBuilder(Collections.emptyMap()).withMetadataNames(Lists.immutable.empty()).build());
+
+    @Test
+    public void testPropertyValuesNotDecodedAtConstruction()
+    {
+        RecordingObj obj = new RecordingObj(Lists.immutable.with(
+                new PropertyValueOne("name", new Primitive("test")),
+                new PropertyValueMany("values", Lists.immutable.with(new Primitive(1L), new Primitive(2L))),
+                new PropertyValueOne("flag", new Primitive(true))));
+
+        TestInstance instance = new TestInstance(obj, this.metadataLazy);
+        Assert.assertEquals(Lists.fixedSize.empty(), obj.accessed);
+
+        Assert.assertEquals("test", instance.loadValue("name"));
+        Assert.assertEquals(Lists.fixedSize.with("name"), obj.accessed);
+
+        Assert.assertEquals(Lists.fixedSize.with(1L, 2L), Lists.mutable.withAll(instance.loadValues("values")));
+        Assert.assertEquals(Lists.fixedSize.with("name", "values"), obj.accessed);
+
+        Assert.assertNull(instance.loadValue("noSuchProperty"));
+        Assert.assertEquals(Lists.fixedSize.empty(), Lists.mutable.withAll(instance.loadValues("noSuchProperty")));
+        Assert.assertEquals(Lists.fixedSize.with("name", "values", "noSuchProperty", "noSuchProperty"), obj.accessed);
+    }
+
+    @Test
+    public void testCopyReadsFromSameObj()
+    {
+        RecordingObj obj = new RecordingObj(Lists.immutable.with(new PropertyValueOne("name", new Primitive("test"))));
+        TestInstance copy = new TestInstance(obj, this.metadataLazy).copy();
+        Assert.assertEquals(Lists.fixedSize.empty(), obj.accessed);
+        Assert.assertEquals("test", copy.loadValue("name"));
+        Assert.assertEquals(Lists.fixedSize.with("name"), obj.accessed);
+    }
+
+    private static class RecordingObj extends Obj
+    {
+        private final MutableList<String> accessed = Lists.mutable.empty();
+
+        private RecordingObj(ListIterable<PropertyValue> propertyValues)
+        {
+            super("meta::pure::metamodel::type::Class", "test::TestClass", "TestClass", propertyValues, null);
+        }
+
+        @Override
+        public Object getRawPropertyValue(String property)
+        {
+            this.accessed.add(property);
+            return super.getRawPropertyValue(property);
+        }
+
+        @Override
+        public void forEachRawPropertyValue(RawPropertyValueConsumer consumer)
+        {
+            throw new AssertionError("property values should not be materialized");
+        }
+    }
+
+    private static class TestInstance extends AbstractLazyReflectiveCoreInstance
+    {
+        private TestInstance(Obj obj, MetadataLazy metadataLazy)
+        {
+            super(obj, metadataLazy);
+        }
+
+        private TestInstance(TestInstance source)
+        {
+            super(source);
+        }
+
+        Object loadValue(String property)
+        {
+            return loadValueFromMetadata(property);
+        }
+
+        RichIterable<Object> loadValues(String property)
+        {
+            return loadValuesFromMetadata(property);
+        }
+
+        @Override
+        public TestInstance copy()
+        {
+            return new TestInstance(this);
+        }
+
+        @Override
+        public String getFullSystemPath()
+        {
+            return "Root::test::TestClass";
+        }
+    }
+}
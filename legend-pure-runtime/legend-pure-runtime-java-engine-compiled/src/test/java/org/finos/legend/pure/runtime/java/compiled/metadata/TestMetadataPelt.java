@@ -118,6 +118,43 @@ public class TestMetadataPelt extends AbstractReferenceTest
         testMetadataFromClassLoader(Lists.immutable.with("platform"), Sets.immutable.with("platform"));
     }
 
+    @Test
+    public void testEntryPoints()
+    {
+        String platformElement = "meta::pure::metamodel::type::Class";
+        String refTestElement = "test::model::SimpleClass";
+
+        MetadataPelt platformOnly = MetadataPelt.builder()
+                .withClassLoader(Thread.currentThread().getContextClassLoader())
+                .withDirectory(serializationDir)
+                .withRepositories(repositories)
+                .withEntryPoint(platformElement)
+                .build();
+        Assert.assertTrue(platformOnly.hasElement(platformElement));
+        Assert.assertFalse(platformOnly.hasElement(refTestElement));
+        Assert.assertEquals(platformElement, PackageableElement.getUserPathForPackageableElement(platformOnly.getElementByPath(platformElement)));
+        testMetadata(platformOnly, Sets.immutable.with("platform"));
+
+        MetadataPelt withRefTest = MetadataPelt.builder()
+                .withClassLoader(Thread.currentThread().getContextClassLoader())
+                .withDirectory(serializationDir)
+                .withRepositories(repositories)
+                .withEntryPoint(refTestElement)
+                .withPrefetchEntryPoints(false)
+                .build();
+        Assert.assertTrue(withRefTest.hasElement(platformElement));
+        Assert.assertTrue(withRefTest.hasElement(refTestElement));
+        testMetadata(withRefTest, Sets.immutable.with("ref_test", "platform"));
+
+        IllegalArgumentException e = Assert.assertThrows(IllegalArgumentException.class, () -> MetadataPelt.builder()
+                .withClassLoader(Thread.currentThread().getContextClassLoader())
+                .withDirectory(serializationDir)
+                .withRepositories(repositories)
+                .withEntryPoint("test::model::DoesNotExist")
+                .build());
+        Assert.assertEquals("Entry point elements not found: test::model::DoesNotExist", e.getMessage());
+    }
+
     private void testMetadataFromClassLoader(Iterable<String> specifiedRepos, SetIterable<String> allExpectedRepos)
     {
         try (URLClassLoader classLoader = new URLClassLoader(new URL[]{serializationDir.toUri().toURL()}))
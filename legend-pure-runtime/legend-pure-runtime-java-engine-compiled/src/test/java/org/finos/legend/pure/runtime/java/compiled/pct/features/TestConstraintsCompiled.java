@@ -14,17 +14,23 @@
 
 package org.finos.legend.pure.runtime.java.compiled.pct.features;
 
+import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.impl.tuple.Tuples;
 import org.finos.legend.pure.m3.exception.PureExecutionException;
+import org.finos.legend.pure.m3.execution.ExecutionSupport;
 import org.finos.legend.pure.m3.execution.FunctionExecution;
 import org.finos.legend.pure.m3.tests.elements._class.AbstractTestConstraints;
+import org.finos.legend.pure.runtime.java.compiled.execution.FunctionExecutionCompiled;
 import org.finos.legend.pure.runtime.java.compiled.execution.FunctionExecutionCompiledBuilder;
 import org.finos.legend.pure.runtime.java.compiled.factory.JavaModelFactoryRegistryLoader;
+import org.finos.legend.pure.runtime.java.compiled.generation.processors.support.CompiledSupport;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import java.util.regex.Pattern;
+
 public class TestConstraintsCompiled extends AbstractTestConstraints
 {
     @BeforeClass
@@ -75,6 +81,60 @@ public class TestConstraintsCompiled extends AbstractTestConstraints
         assertPureException(PureExecutionException.class, "Constraint :[nameNotEmpty] violated in the Class SuperClass", "/test/source2.pure", 7, 3, e);
     }
 
+    @Test
+    public void testClassConstraintValidationCanBeDisabled()
+    {
+        String sourceCode = "Class test::NamedClass\n" +
+                "[\n" +
+                "  nameNotEmpty: $this.name->length() > 0\n" +
+                "]\n" +
+                "{\n" +
+                "  name : String[1];\n" +
+                "}\n" +
+                "\n" +
+                "function test::testNew():Any[*]\n" +
+                "{\n" +
+                "  ^test::NamedClass(name='')\n" +
+                "}\n";
+        runtime.createInMemoryAndCompile(Tuples.pair("/test/source1.pure", sourceCode));
+
+        PureExecutionException e = Assert.assertThrows(PureExecutionException.class, () -> execute("test::testNew():Any[*]"));
+        assertPureException(PureExecutionException.class, "Constraint :[nameNotEmpty] violated in the Class NamedClass", "/test/source1.pure", 11, 3, e);
+
+        Assert.assertNotNull(((FunctionExecutionCompiled) functionExecution).start(runtime.getFunction("test::testNew():Any[*]"), Lists.immutable.empty(), false));
+    }
+
+    @Test
+    public void testFunctionConstraintValidationCanBeDisabled()
+    {
+        String sourceCode = "function test::positive(i:Integer[1]):Integer[1]\n" +
+                "[\n" +
+                "  positive: $i > 0\n" +
+                "]\n" +
+                "{\n" +
+                "  $i\n" +
+                "}\n" +
+                "\n" +
+                "function test::testCall():Any[*]\n" +
+                "{\n" +
+                "  test::positive(-1)\n" +
+                "}\n";
+        runtime.createInMemoryAndCompile(Tuples.pair("/test/source1.pure", sourceCode));
+
+        PureExecutionException e = Assert.assertThrows(PureExecutionException.class, () -> execute("test::testCall():Any[*]"));
+        assertPureException(Pattern.compile("^" + Pattern.quote("Constraint (PRE):[positive] violated. (Function:positive") + ".*\\)$"), e);
+
+        Assert.assertNotNull(((FunctionExecutionCompiled) functionExecution).start(runtime.getFunction("test::testCall():Any[*]"), Lists.immutable.empty(), false));
+    }
+
+    @Test
+    public void testConstraintValidationAlwaysEnabledForOtherExecutionSupport()
+    {
+        Assert.assertTrue(CompiledSupport.isConstraintValidationEnabled(new ExecutionSupport()
+        {
+        }));
+    }
+
     protected static FunctionExecution getFunctionExecution()
     {
         return new FunctionExecutionCompiledBuilder().build();
@@ -0,0 +1,102 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.pct.features;
+
+import org.finos.legend.pure.m3.execution.FunctionExecution;
+import org.finos.legend.pure.m3.tests.AbstractPureTestWithCoreCompiled;
+import org.finos.legend.pure.runtime.java.compiled.execution.FunctionExecutionCompiled;
+import org.finos.legend.pure.runtime.java.compiled.execution.FunctionExecutionCompiledBuilder;
+import org.finos.legend.pure.runtime.java.compiled.factory.JavaModelFactoryRegistryLoader;
+import org.finos.legend.pure.runtime.java.shared.memoization.FunctionMemoizationCache;
+import org.finos.legend.pure.runtime.java.shared.memoization.FunctionMemoizationStats;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class TestFunctionMemoizationCompiled extends AbstractPureTestWithCoreCompiled
+{
+    private static final String SOURCE_ID = "memoization.pure";
+    private static final String OTHER_SOURCE_ID = "other.pure";
+
+    @BeforeClass
+    public static void setUp()
+    {
+        setUpRuntime(getFunctionExecution(), JavaModelFactoryRegistryLoader.loader());
+    }
+
+    @After
+    public void cleanRuntime()
+    {
+        runtime.delete(SOURCE_ID);
+        runtime.delete(OTHER_SOURCE_ID);
+        runtime.compile();
+    }
+
+    @Test
+    public void testMemoizedFunction()
+    {
+        compileTestSource(SOURCE_ID,
+                "function <<meta::pure::profiles::functionType.Memoize>> test::square(i:Integer[1]):Integer[1]\n" +
+                        "{\n" +
+                        "  $i * $i\n" +
+                        "}\n" +
+                        "\n" +
+                        "function test::testMemoized():Boolean[1]\n" +
+                        "{\n" +
+                        "  assertEquals([9, 9, 16, 9], [test::square(3), test::square(3), test::square(4), test::square(3)])\n" +
+                        "}\n");
+        FunctionMemoizationCache cache = ((FunctionExecutionCompiled) functionExecution).getFunctionMemoizationCache();
+        cache.resetStats();
+        execute("test::testMemoized():Boolean[1]");
+
+        FunctionMemoizationStats stats = cache.getStats();
+        Assert.assertEquals(2, stats.getMisses());
+        Assert.assertEquals(2, stats.getHits());
+        Assert.assertEquals(2, stats.getSize());
+
+        // compiling anything invalidates the cache
+        compileTestSource(OTHER_SOURCE_ID, "function test::other():Integer[1]\n{\n  1\n}\n");
+        Assert.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testUnmarkedFunctionIsNotMemoized()
+    {
+        compileTestSource(SOURCE_ID,
+                "function test::square(i:Integer[1]):Integer[1]\n" +
+                        "{\n" +
+                        "  $i * $i\n" +
+                        "}\n" +
+                        "\n" +
+                        "function test::testNotMemoized():Boolean[1]\n" +
+                        "{\n" +
+                        "  assertEquals([9, 9], [test::square(3), test::square(3)])\n" +
+                        "}\n");
+        FunctionMemoizationCache cache = ((FunctionExecutionCompiled) functionExecution).getFunctionMemoizationCache();
+        cache.resetStats();
+        execute("test::testNotMemoized():Boolean[1]");
+
+        FunctionMemoizationStats stats = cache.getStats();
+        Assert.assertEquals(0, stats.getMisses());
+        Assert.assertEquals(0, stats.getHits());
+        Assert.assertEquals(0, cache.size());
+    }
+
+    protected static FunctionExecution getFunctionExecution()
+    {
+        return new FunctionExecutionCompiledBuilder().build();
+    }
+}
@@ -54,7 +54,9 @@ import org.finos.legend.pure.runtime.java.compiled.serialization.model.ObjRef;
 import org.finos.legend.pure.runtime.java.compiled.serialization.model.Primitive;
 import org.finos.legend.pure.runtime.java.compiled.serialization.model.PropertyValue;
 import org.finos.legend.pure.runtime.java.compiled.serialization.model.PropertyValueMany;
+import org.finos.legend.pure.runtime.java.compiled.serialization.model.RValue;
 import org.finos.legend.pure.runtime.java.compiled.serialization.model.RValueVisitor;
+import org.finos.legend.pure.runtime.java.compiled.serialization.model.RawPropertyValueConsumer;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -141,9 +143,15 @@ public abstract class TestDistributedBinaryGraphSerialization
     }
 
     private void testSerialization(ListIterable<Obj> expectedObjs, ListIterable<String> metadataNames, boolean strictForPackages) throws IOException
+    {
+        testSerialization(expectedObjs, metadataNames, strictForPackages, false);
+        testSerialization(expectedObjs, metadataNames, strictForPackages, true);
+    }
+
+    private void testSerialization(ListIterable<Obj> expectedObjs, ListIterable<String> metadataNames, boolean strictForPackages, boolean lazyObjDecoding) throws IOException
     {
         // Deserialize
-        DistributedBinaryGraphDeserializer.Builder deserializerBuilder = DistributedBinaryGraphDeserializer.newBuilder(getFileReader());
+        DistributedBinaryGraphDeserializer.Builder deserializerBuilder = DistributedBinaryGraphDeserializer.newBuilder(getFileReader()).withLazyObjDecoding(lazyObjDecoding);
         if ((metadataNames == null) || metadataNames.isEmpty())
         {
             deserializerBuilder.withNoMetadataName();
@@ -185,6 +193,13 @@ public abstract class TestDistributedBinaryGraphSerialization
             if ((found == null) || strictForPackages || !M3Paths.Package.equals(classifierId))
             {
                 Assert.assertEquals(obj, deserializer.getInstance(classifierId, identifier));
+                if (found != null)
+                {
+                    Assert.assertEquals(identifier, collectRawPropertyValues(obj), collectRawPropertyValues(deserializer.getInstance(classifierId, identifier)));
+                    Obj fresh = deserializer.getInstance(classifierId, identifier);
+                    obj.getPropertyValues().forEach(pv -> Assert.assertEquals(identifier + "." + pv.getProperty(), obj.getRawPropertyValue(pv.getProperty()), fresh.getRawPropertyValue(pv.getProperty())));
+                    Assert.assertNull(identifier, fresh.getRawPropertyValue("__no_such_property__"));
+                }
             }
             else
             {
@@ -243,6 +258,27 @@ public abstract class TestDistributedBinaryGraphSerialization
         }
     }
 
+    private static ListIterable<Pair<String, Object>> collectRawPropertyValues(Obj obj)
+    {
+        MutableList<Pair<String, Object>> values = Lists.mutable.withInitialCapacity(obj.getPropertyValueCount());
+        obj.forEachRawPropertyValue(new RawPropertyValueConsumer()
+        {
+            @Override
+            public void acceptOne(String property, RValue value)
+            {
+                values.add(Tuples.pair(property, value));
+            }
+
+            @Override
+            public void acceptMany(String property, ListIterable<RValue> rValues)
+            {
+                values.add(Tuples.pair(property, rValues));
+            }
+        });
+        Assert.assertEquals(obj.getPropertyValues().size(), values.size());
+        return values;
+    }
+
     private Obj normalizeObj(Obj obj)
     {
         MutableList<PropertyValue> normalizedPropertyValues = normalizePropertyValues(obj);
@@ -0,0 +1,68 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.runtime.serialization.binary;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.finos.legend.pure.m3.tests.AbstractPureTestWithCoreCompiled;
+import org.finos.legend.pure.runtime.java.compiled.factory.JavaModelFactoryRegistryLoader;
+import org.finos.legend.pure.runtime.java.compiled.serialization.binary.DistributedBinaryGraphSerializer;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+public class TestParallelDistributedBinaryGraphSerialization extends AbstractPureTestWithCoreCompiled
+{
+    @BeforeClass
+    public static void setUp()
+    {
+        setUpRuntime(getFunctionExecution(), JavaModelFactoryRegistryLoader.loader());
+    }
+
+    @Test
+    public void testParallelSerializationIsIdentical()
+    {
+        Map<String, byte[]> sequential = new LinkedHashMap<>();
+        DistributedBinaryGraphSerializer.newSerializer(runtime).serializeToInMemoryByteArrays(sequential);
+
+        Map<String, byte[]> parallel = new LinkedHashMap<>();
+        ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+        try
+        {
+            DistributedBinaryGraphSerializer.newSerializer(runtime, forkJoinPool).serializeToInMemoryByteArrays(parallel);
+        }
+        finally
+        {
+            forkJoinPool.shutdown();
+        }
+
+        // files must be written in the same order with the same content
+        Assert.assertEquals(Lists.mutable.withAll(sequential.keySet()), Lists.mutable.withAll(parallel.keySet()));
+        MutableList<String> mismatches = Lists.mutable.empty();
+        sequential.forEach((path, bytes) ->
+        {
+            if (!Arrays.equals(bytes, parallel.get(path)))
+            {
+                mismatches.add(path);
+            }
+        });
+        Assert.assertEquals(Lists.fixedSize.empty(), mismatches);
+    }
+}
@@ -0,0 +1,181 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.interpreted;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.map.ConcurrentMutableMap;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.finos.legend.pure.m3.navigation.Instance;
+import org.finos.legend.pure.m3.navigation.M3Properties;
+import org.finos.legend.pure.m3.navigation.ProcessorSupport;
+import org.finos.legend.pure.m3.navigation._class._Class;
+import org.finos.legend.pure.m3.serialization.runtime.CompilerEventHandler;
+import org.finos.legend.pure.m3.serialization.runtime.Source;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+
+import java.util.SortedMap;
+
+/**
+ * Cache of resolved constraint evaluation plans for functions (pre- and post-constraints) and classes (constraints
+ * in the class hierarchy). Plans are computed the first time a function is executed or a class is instantiated and
+ * are discarded whenever the graph is compiled, invalidated, or reset.
+ */
+public class ConstraintPlanCache implements CompilerEventHandler
+{
+    private final ConcurrentMutableMap<CoreInstance, FunctionConstraintPlan> functionPlans = ConcurrentHashMap.newMap();
+    private final ConcurrentMutableMap<CoreInstance, ListIterable<CoreInstance>> classConstraints = ConcurrentHashMap.newMap();
+
+    public FunctionConstraintPlan getFunctionConstraintPlan(CoreInstance function, ProcessorSupport processorSupport)
+    {
+        FunctionConstraintPlan plan = this.functionPlans.get(function);
+        if (plan == null)
+        {
+            plan = FunctionConstraintPlan.newPlan(function, processorSupport);
+            FunctionConstraintPlan existing = this.functionPlans.putIfAbsent(function, plan);
+            if (existing != null)
+            {
+                plan = existing;
+            }
+        }
+        return plan;
+    }
+
+    public ListIterable<CoreInstance> getClassConstraints(CoreInstance _class, ProcessorSupport processorSupport)
+    {
+        ListIterable<CoreInstance> constraints = this.classConstraints.get(_class);
+        if (constraints == null)
+        {
+            constraints = _Class.computeConstraintsInHierarchy(_class, processorSupport).toImmutable();
+            ListIterable<CoreInstance> existing = this.classConstraints.putIfAbsent(_class, constraints);
+            if (existing != null)
+            {
+                constraints = existing;
+            }
+        }
+        return constraints;
+    }
+
+    public void clear()
+    {
+        this.functionPlans.clear();
+        this.classConstraints.clear();
+    }
+
+    @Override
+    public void finishedCompilingCore(RichIterable<? extends Source> compiledSources)
+    {
+        clear();
+    }
+
+    @Override
+    public void compiled(SortedMap<String, RichIterable<? extends Source>> compiledSourcesByRepo, RichIterable<? extends CoreInstance> consolidatedCoreInstances)
+    {
+        clear();
+    }
+
+    @Override
+    public void invalidate(RichIterable<? extends CoreInstance> consolidatedCoreInstances)
+    {
+        clear();
+    }
+
+    @Override
+    public boolean isInitialized()
+    {
+        return true;
+    }
+
+    @Override
+    public void reset()
+    {
+        clear();
+    }
+
+    public static class FunctionConstraintPlan
+    {
+        private static final FunctionConstraintPlan EMPTY = new FunctionConstraintPlan(Lists.immutable.empty(), Lists.immutable.empty());
+
+        private final ImmutableList<ConstraintPlan> preConstraints;
+        private final ImmutableList<ConstraintPlan> postConstraints;
+
+        private FunctionConstraintPlan(ImmutableList<ConstraintPlan> preConstraints, ImmutableList<ConstraintPlan> postConstraints)
+        {
+            this.preConstraints = preConstraints;
+            this.postConstraints = postConstraints;
+        }
+
+        public ImmutableList<ConstraintPlan> getPreConstraints()
+        {
+            return this.preConstraints;
+        }
+
+        public ImmutableList<ConstraintPlan> getPostConstraints()
+        {
+            return this.postConstraints;
+        }
+
+        public boolean isEmpty()
+        {
+            return this.preConstraints.isEmpty() && this.postConstraints.isEmpty();
+        }
+
+        public static FunctionConstraintPlan empty()
+        {
+            return EMPTY;
+        }
+
+        private static FunctionConstraintPlan newPlan(CoreInstance function, ProcessorSupport processorSupport)
+        {
+            ListIterable<? extends CoreInstance> pre = Instance.getValueForMetaPropertyToManyResolved(function, M3Properties.preConstraints, processorSupport);
+            ListIterable<? extends CoreInstance> post = Instance.getValueForMetaPropertyToManyResolved(function, M3Properties.postConstraints, processorSupport);
+            return (pre.isEmpty() && post.isEmpty()) ?
+                   EMPTY :
+                   new FunctionConstraintPlan(pre.collect(c -> ConstraintPlan.newPlan(c, processorSupport)).toImmutable(), post.collect(c -> ConstraintPlan.newPlan(c, processorSupport)).toImmutable());
+        }
+    }
+
+    public static class ConstraintPlan
+    {
+        private final String ruleId;
+        private final CoreInstance expression;
+
+        private ConstraintPlan(String ruleId, CoreInstance expression)
+        {
+            this.ruleId = ruleId;
+            this.expression = expression;
+        }
+
+        public String getRuleId()
+        {
+            return this.ruleId;
+        }
+
+        public CoreInstance getExpression()
+        {
+            return this.expression;
+        }
+
+        private static ConstraintPlan newPlan(CoreInstance constraint, ProcessorSupport processorSupport)
+        {
+            CoreInstance definition = Instance.getValueForMetaPropertyToOneResolved(constraint, M3Properties.functionDefinition, processorSupport);
+            CoreInstance expression = Instance.getValueForMetaPropertyToOneResolved(definition, M3Properties.expressionSequence, processorSupport);
+            String ruleId = Instance.getValueForMetaPropertyToOneResolved(constraint, M3Properties.name, processorSupport).getName();
+            return new ConstraintPlan(ruleId, expression);
+        }
+    }
+}
@@ -21,6 +21,17 @@ import org.finos.legend.pure.runtime.java.shared.listeners.IdentifiableExecution
 public class ExecutionSupport implements org.finos.legend.pure.m3.execution.ExecutionSupport
 {
     private final ExecutionListeners executionListeners = new ExecutionListeners();
+    private boolean constraintValidationEnabled = true;
+
+    public boolean isConstraintValidationEnabled()
+    {
+        return this.constraintValidationEnabled;
+    }
+
+    public void setConstraintValidationEnabled(boolean constraintValidationEnabled)
+    {
+        this.constraintValidationEnabled = constraintValidationEnabled;
+    }
 
     public void registerExecutionEndListener(ExecutionEndListener executionEndListener)
     {
@@ -14,22 +14,21 @@
 
 package org.finos.legend.pure.runtime.java.interpreted;
 
-import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.factory.Stacks;
+import org.eclipse.collections.api.list.ImmutableList;
 import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.stack.MutableStack;
 import org.eclipse.collections.impl.list.Interval;
-import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.constraint.Constraint;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.ConcreteFunctionDefinition;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.FunctionCoreInstanceWrapper;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.LambdaFunction;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.LambdaFunctionCoreInstanceWrapper;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.NativeFunctionCoreInstanceWrapper;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.PackageableFunction;
-import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.PackageableFunctionCoreInstanceWrapper;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.property.Property;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.property.PropertyCoreInstanceWrapper;
 import org.finos.legend.pure.m3.exception.PureAssertFailException;
@@ -39,6 +38,7 @@ import org.finos.legend.pure.m3.execution.ExecutionPlatform;
 import org.finos.legend.pure.m3.execution.FunctionExecution;
 import org.finos.legend.pure.m3.execution.OutputWriter;
 import org.finos.legend.pure.m3.navigation.Instance;
+import org.finos.legend.pure.m3.navigation.M3Paths;
 import org.finos.legend.pure.m3.navigation.M3ProcessorSupport;
 import org.finos.legend.pure.m3.navigation.M3Properties;
 import org.finos.legend.pure.m3.navigation.PackageableElement.PackageableElement;
@@ -57,7 +57,10 @@ import org.finos.legend.pure.m3.statelistener.ExecutionActivityListener;
 import org.finos.legend.pure.m3.statelistener.VoidExecutionActivityListener;
 import org.finos.legend.pure.m4.ModelRepository;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.m4.coreinstance.primitive.PrimitiveCoreInstance;
 import org.finos.legend.pure.m4.exception.PureException;
+import org.finos.legend.pure.runtime.java.interpreted.ConstraintPlanCache.ConstraintPlan;
+import org.finos.legend.pure.runtime.java.interpreted.ConstraintPlanCache.FunctionConstraintPlan;
 import org.finos.legend.pure.runtime.java.interpreted.VariableContext.VariableNameConflictException;
 import org.finos.legend.pure.runtime.java.interpreted.extension.InterpretedExtension;
 import org.finos.legend.pure.runtime.java.interpreted.extension.InterpretedExtensionLoader;
@@ -223,6 +226,8 @@ import org.finos.legend.pure.runtime.java.interpreted.natives.grammar.math.seque
 import org.finos.legend.pure.runtime.java.interpreted.natives.grammar.string.operation.JoinStrings;
 import org.finos.legend.pure.runtime.java.interpreted.profiler.Profiler;
 import org.finos.legend.pure.runtime.java.interpreted.profiler.VoidProfiler;
+import org.finos.legend.pure.runtime.java.shared.memoization.FunctionMemoizationCache;
+import org.finos.legend.pure.runtime.java.shared.memoization.FunctionMemoizationCompilerEventHandler;
 
 import java.io.IOException;
 import java.io.OutputStream;
@@ -251,6 +256,9 @@ public class FunctionExecutionInterpreted implements FunctionExecution
     private MutableMap<String, NativeFunction> nativeFunctions;
     private final int maxSQLRows;
     private final MutableList<InterpretedExtension> extensions;
+    private final FunctionMemoizationCache memoizationCache = new FunctionMemoizationCache();
+    private final FunctionMemoizationCompilerEventHandler memoizationEventHandler = new FunctionMemoizationCompilerEventHandler(this.memoizationCache);
+    private final ConstraintPlanCache constraintPlans = new ConstraintPlanCache();
 
     public FunctionExecutionInterpreted()
     {
@@ -287,7 +295,12 @@ public class FunctionExecutionInterpreted implements FunctionExecution
         ModelRepository repository = runtime.getModelRepository();
         this.storage = runtime.getCodeStorage();
         this.message = message;
-
+        this.memoizationCache.invalidate();
+        runtime.getIncrementalCompiler().removeCompilerEventHandler(this.memoizationEventHandler);
+        runtime.getIncrementalCompiler().addCompilerEventHandler(this.memoizationEventHandler);
+        this.constraintPlans.clear();
+        runtime.getIncrementalCompiler().removeCompilerEventHandler(this.constraintPlans);
+        runtime.getIncrementalCompiler().addCompilerEventHandler(this.constraintPlans);
 
         registerGrammarNatives(repository);
         registerEssentialNatives(repository);
@@ -601,6 +614,16 @@ public class FunctionExecutionInterpreted implements FunctionExecution
         return this.executionActivityListener;
     }
 
+    public FunctionMemoizationCache getMemoizationCache()
+    {
+        return this.memoizationCache;
+    }
+
+    public ConstraintPlanCache getConstraintPlanCache()
+    {
+        return this.constraintPlans;
+    }
+
     public void addNativeFunction(String signature, NativeFunction function)
     {
         this.nativeFunctions.put(signature, function);
@@ -608,10 +631,25 @@ public class FunctionExecutionInterpreted implements FunctionExecution
 
     @Override
     public CoreInstance start(CoreInstance function, ListIterable<? extends CoreInstance> arguments)
+    {
+        return start(function, arguments, true);
+    }
+
+    /**
+     * Execute a function, optionally skipping evaluation of function pre/post-constraints and class constraints.
+     * Constraint validation should only be disabled for trusted calls whose inputs are known to be valid.
+     *
+     * @param function            function to execute
+     * @param arguments           function arguments
+     * @param validateConstraints whether to validate constraints
+     * @return function result
+     */
+    public CoreInstance start(CoreInstance function, ListIterable<? extends CoreInstance> arguments, boolean validateConstraints)
     {
         this.cancelExecution.set(false);
         Exception isException = null;
         ExecutionSupport executionSupport = new ExecutionSupport();
+        executionSupport.setConstraintValidationEnabled(validateConstraints);
         try
         {
             CoreInstance result = this.executeFunction(false, FunctionCoreInstanceWrapper.toFunction(function), arguments, new Stack<>(), new Stack<>(), VariableContext.newVariableContext(), Stacks.mutable.empty(), VoidProfiler.VOID_PROFILER, new InstantiationContext(), executionSupport);
@@ -724,6 +762,29 @@ public class FunctionExecutionInterpreted implements FunctionExecution
     }
 
     public CoreInstance executeFunction(boolean limitScope, org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.Function<?> function, ListIterable<? extends CoreInstance> params, Stack<MutableMap<String, CoreInstance>> resolvedTypeParameters, Stack<MutableMap<String, CoreInstance>> resolvedMultiplicityParameters, VariableContext varContext, MutableStack<CoreInstance> functionExpressionCallStack, Profiler profiler, InstantiationContext instantiationContext, ExecutionSupport executionSupport)
+    {
+        ProcessorSupport processorSupport = this.runtime.getProcessorSupport();
+        if ((function instanceof ConcreteFunctionDefinition) && this.memoizationCache.isMemoizedFunction(function, processorSupport))
+        {
+            MutableList<Object> memoizationKey = params.collect(p -> toMemoizationKey(p, processorSupport), Lists.mutable.ofInitialCapacity(params.size()));
+            return this.memoizationCache.getIfAbsentPut(function, memoizationKey, () -> executeFunctionWithoutMemoization(limitScope, function, params, resolvedTypeParameters, resolvedMultiplicityParameters, varContext, functionExpressionCallStack, profiler, instantiationContext, executionSupport));
+        }
+        return executeFunctionWithoutMemoization(limitScope, function, params, resolvedTypeParameters, resolvedMultiplicityParameters, varContext, functionExpressionCallStack, profiler, instantiationContext, executionSupport);
+    }
+
+    private static Object toMemoizationKey(CoreInstance param, ProcessorSupport processorSupport)
+    {
+        // Values of instance values are compared by value for primitives and by identity otherwise; any other argument
+        // is compared by identity
+        if (!processorSupport.instance_instanceOf(param, M3Paths.InstanceValue))
+        {
+            return param;
+        }
+        ListIterable<? extends CoreInstance> values = param.getValueForMetaPropertyToMany(M3Properties.values);
+        return values.collect(v -> (v instanceof PrimitiveCoreInstance) ? ((PrimitiveCoreInstance<?>) v).getValue() : v, Lists.mutable.ofInitialCapacity(values.size()));
+    }
+
+    private CoreInstance executeFunctionWithoutMemoization(boolean limitScope, org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.Function<?> function, ListIterable<? extends CoreInstance> params, Stack<MutableMap<String, CoreInstance>> resolvedTypeParameters, Stack<MutableMap<String, CoreInstance>> resolvedMultiplicityParameters, VariableContext varContext, MutableStack<CoreInstance> functionExpressionCallStack, Profiler profiler, InstantiationContext instantiationContext, ExecutionSupport executionSupport)
     {
         try
         {
@@ -751,17 +812,15 @@ public class FunctionExecutionInterpreted implements FunctionExecution
                 variableContext.markVariableScopeBoundary();
             }
 
-            if (function instanceof PackageableFunction)
+            FunctionConstraintPlan constraintPlan = (((executionSupport == null) || executionSupport.isConstraintValidationEnabled()) && ((function instanceof PackageableFunction) || Function.isPackageableFunction(function, processorSupport))) ?
+                    this.constraintPlans.getFunctionConstraintPlan(function, processorSupport) :
+                    FunctionConstraintPlan.empty();
+            for (ConstraintPlan constraint : constraintPlan.getPreConstraints())
             {
-                for (CoreInstance constraint : ((PackageableFunction<?>) function)._preConstraints())
+                CoreInstance evaluatedConstraint = this.executeValueSpecification(constraint.getExpression(), new Stack<>(), new Stack<>(), Stacks.mutable.empty(), variableContext, VoidProfiler.VOID_PROFILER, instantiationContext, executionSupport);
+                if (!PrimitiveUtilities.getBooleanValue(evaluatedConstraint.getValueForMetaPropertyToOne(M3Properties.values)))
                 {
-                    CoreInstance definition = Instance.getValueForMetaPropertyToOneResolved(Instance.getValueForMetaPropertyToOneResolved(constraint, M3Properties.functionDefinition, processorSupport), M3Properties.expressionSequence, processorSupport);
-                    String ruleId = Instance.getValueForMetaPropertyToOneResolved(constraint, M3Properties.name, processorSupport).getName();
-                    CoreInstance evaluatedConstraint = this.executeValueSpecification(definition, new Stack<>(), new Stack<>(), Stacks.mutable.empty(), variableContext, VoidProfiler.VOID_PROFILER, instantiationContext, executionSupport);
-                    if (!PrimitiveUtilities.getBooleanValue(evaluatedConstraint.getValueForMetaPropertyToOne(M3Properties.values)))
-                    {
-                        throw new PureExecutionException(functionExpressionCallStack.isEmpty() ? null : functionExpressionCallStack.peek().getSourceInformation(), "Constraint (PRE):[" + ruleId + "] violated. (Function:" + function.getName() + ")", functionExpressionCallStack);
-                    }
+                    throw new PureExecutionException(functionExpressionCallStack.isEmpty() ? null : functionExpressionCallStack.peek().getSourceInformation(), "Constraint (PRE):[" + constraint.getRuleId() + "] violated. (Function:" + function.getName() + ")", functionExpressionCallStack);
                 }
             }
 
@@ -805,30 +864,23 @@ public class FunctionExecutionInterpreted implements FunctionExecution
                 throw new PureExecutionException("Unsupported function for execution " + function.getName() + " of type " + PackageableElement.getUserPathForPackageableElement(function.getClassifier()) + " (class " + function.getClass().getName() + ")", functionExpressionCallStack);
             }
 
-            if (Function.isPackageableFunction(function, processorSupport))
+            ImmutableList<ConstraintPlan> postConstraints = constraintPlan.getPostConstraints();
+            if (postConstraints.notEmpty())
             {
-                PackageableFunction<?> packageableFunction = PackageableFunctionCoreInstanceWrapper.toPackageableFunction(function);
-                RichIterable<? extends Constraint> postConstraints = packageableFunction._postConstraints();
-                if (postConstraints.notEmpty())
+                try
                 {
-                    try
-                    {
-                        variableContext.registerValue("return", result);
-                    }
-                    catch (VariableNameConflictException e)
-                    {
-                        throw new PureExecutionException(functionExpressionCallStack.peek().getSourceInformation(), e.getMessage(), e, functionExpressionCallStack);
-                    }
-                    for (Constraint constraint : postConstraints)
+                    variableContext.registerValue("return", result);
+                }
+                catch (VariableNameConflictException e)
+                {
+                    throw new PureExecutionException(functionExpressionCallStack.peek().getSourceInformation(), e.getMessage(), e, functionExpressionCallStack);
+                }
+                for (ConstraintPlan constraint : postConstraints)
+                {
+                    CoreInstance evaluatedConstraint = this.executeValueSpecification(constraint.getExpression(), new Stack<>(), new Stack<>(), Stacks.mutable.empty(), variableContext, VoidProfiler.VOID_PROFILER, instantiationContext, executionSupport);
+                    if (!PrimitiveUtilities.getBooleanValue(evaluatedConstraint.getValueForMetaPropertyToOne(M3Properties.values)))
                     {
-                        org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.valuespecification.ValueSpecification definition = constraint._functionDefinition()._expressionSequence().getOnly();
-                        String ruleId = constraint._name();
-                        CoreInstance evaluatedConstraint = this.executeValueSpecification(definition, new Stack<>(), new Stack<>(), Stacks.mutable.empty(), variableContext, VoidProfiler.VOID_PROFILER, instantiationContext, executionSupport);
-
-                        if (!PrimitiveUtilities.getBooleanValue(evaluatedConstraint.getValueForMetaPropertyToOne(M3Properties.values)))
-                        {
-                            throw new PureExecutionException(functionExpressionCallStack.isEmpty() ? null : functionExpressionCallStack.peek().getSourceInformation(), "Constraint (POST):[" + ruleId + "] violated. (Function:" + function.getName() + ")", functionExpressionCallStack);
-                        }
+                        throw new PureExecutionException(functionExpressionCallStack.isEmpty() ? null : functionExpressionCallStack.peek().getSourceInformation(), "Constraint (POST):[" + constraint.getRuleId() + "] violated. (Function:" + function.getName() + ")", functionExpressionCallStack);
                     }
                 }
             }
@@ -23,7 +23,6 @@ import org.finos.legend.pure.m3.navigation.Instance;
 import org.finos.legend.pure.m3.navigation.M3Properties;
 import org.finos.legend.pure.m3.navigation.PrimitiveUtilities;
 import org.finos.legend.pure.m3.navigation.ProcessorSupport;
-import org.finos.legend.pure.m3.navigation._class._Class;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.coreinstance.SourceInformation;
 import org.finos.legend.pure.runtime.java.interpreted.ExecutionSupport;
@@ -43,12 +42,16 @@ public class DefaultConstraintHandler
 
     public static CoreInstance handleConstraints(CoreInstance _class, CoreInstance instance, SourceInformation sourceInformation, FunctionExecutionInterpreted functionExecution, Stack<MutableMap<String, CoreInstance>> resolvedTypeParameters, Stack<MutableMap<String, CoreInstance>> resolvedMultiplicityParameters, VariableContext variableContext, MutableStack<CoreInstance> functionExpressionCallStack, Profiler profiler, InstantiationContext instantiationContext, ExecutionSupport executionSupport) throws PureExecutionException
     {
+        if ((executionSupport != null) && !executionSupport.isConstraintValidationEnabled())
+        {
+            return instance;
+        }
         ProcessorSupport processorSupport = functionExecution.getProcessorSupport();
         CoreInstance evaluatedSource = Instance.getValueForMetaPropertyToOneResolved(instance, M3Properties.values, processorSupport);
         CoreInstance override = Instance.getValueForMetaPropertyToOneResolved(evaluatedSource, M3Properties.elementOverride, processorSupport);
         return override != null && Instance.getValueForMetaPropertyToOneResolved(override, M3Properties.constraintsManager, processorSupport) != null ?
                 functionExecution.executeLambdaFromNative(Instance.getValueForMetaPropertyToOneResolved(override, M3Properties.constraintsManager, processorSupport), Lists.mutable.with(instance), resolvedTypeParameters, resolvedMultiplicityParameters, variableContext, functionExpressionCallStack, profiler, instantiationContext, executionSupport) :
-                defaultHandleConstraints(_Class.computeConstraintsInHierarchy(_class, functionExecution.getProcessorSupport()), instance, instance.getValueForMetaPropertyToOne(M3Properties.genericType), sourceInformation, functionExecution, functionExpressionCallStack, instantiationContext, executionSupport);
+                defaultHandleConstraints(functionExecution.getConstraintPlanCache().getClassConstraints(_class, processorSupport), instance, instance.getValueForMetaPropertyToOne(M3Properties.genericType), sourceInformation, functionExecution, functionExpressionCallStack, instantiationContext, executionSupport);
     }
 
     public static CoreInstance defaultHandleConstraints(ListIterable<? extends CoreInstance> constraints, CoreInstance instance, CoreInstance genericType, SourceInformation sourceInformation, FunctionExecutionInterpreted functionExecution, MutableStack<CoreInstance> functionExpressionCallStack, InstantiationContext instantiationContext, ExecutionSupport executionSupport) throws PureExecutionException
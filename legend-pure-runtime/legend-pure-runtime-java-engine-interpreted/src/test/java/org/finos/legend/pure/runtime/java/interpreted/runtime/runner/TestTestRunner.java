@@ -24,6 +24,7 @@ import org.finos.legend.pure.m3.execution.test.AssertFailTestStatus;
 import org.finos.legend.pure.m3.execution.test.ErrorTestStatus;
 import org.finos.legend.pure.m3.execution.test.SuccessTestStatus;
 import org.finos.legend.pure.m3.execution.test.TestCallBack;
+import org.finos.legend.pure.m3.execution.test.TestCollection;
 import org.finos.legend.pure.m3.execution.test.TestRunner;
 import org.finos.legend.pure.m3.execution.test.TestStatus;
 import org.finos.legend.pure.m3.navigation.PackageableElement.PackageableElement;
@@ -182,6 +183,53 @@ public class TestTestRunner extends AbstractPureTestWithCoreCompiled
         Verify.assertInstanceOf(SuccessTestStatus.class, group.getStatus());
     }
 
+    @Test
+    public void testRunParallel()
+    {
+        compileTestSource("fromString.pure", "function <<test.BeforePackage>> a::b::setUp():Nil[0]\n" +
+                "{\n" +
+                "   print('setup AB', 1);\n" +
+                "}\n" +
+                "function <<test.Test>> a::b::test():Boolean[1]\n" +
+                "{\n" +
+                "   print('1', 1);\n" +
+                "   assert(true, |'');\n" +
+                "}\n" +
+                "function <<test.Test>> a::b::test2():Boolean[1]\n" +
+                "{\n" +
+                "   print('1.2', 1);\n" +
+                "   assert(true, |'');\n" +
+                "}\n" +
+                "function <<test.Test>> a::b::c::test():Boolean[1]\n" +
+                "{\n" +
+                "   print('2', 1);\n" +
+                "   assert(false, |'');\n" +
+                "}\n" +
+                "function <<test.Test>> a::b::d::test():Nil[0]\n" +
+                "{\n" +
+                "   print('3', 1);\n" +
+                "   print([1, 2, 3, 4]->at(5), 1);\n" +
+                "}\n" +
+                "function <<test.Test>> a::b::d::test2():Boolean[1]\n" +
+                "{\n" +
+                "   print('4', 1);\n" +
+                "   assert(true, |'');\n" +
+                "}\n");
+        UnitTestTestCallBack serialCallback = new UnitTestTestCallBack();
+        new TestRunner(TestCollection.collectTests("a", runtime.getProcessorSupport(), functionExecution.getClass()), false, functionExecution, serialCallback, false, null, 1, null).run();
+
+        UnitTestTestCallBack parallelCallback = new UnitTestTestCallBack();
+        TestRunner parallelRunner = new TestRunner(TestCollection.collectTests("a", runtime.getProcessorSupport(), functionExecution.getClass()), false, functionExecution, parallelCallback, false, null, 4, null);
+        Assert.assertEquals(4, parallelRunner.getParallelism());
+        parallelRunner.run();
+
+        Assert.assertEquals(serialCallback.getTests(), parallelCallback.getTests());
+        Assert.assertEquals(
+                serialCallback.getGroups().collect(g -> PackageableElement.getUserPathForPackageableElement(g.getFunction()) + " " + g.getStatus().getClass().getSimpleName() + " " + g.getMessage()),
+                parallelCallback.getGroups().collect(g -> PackageableElement.getUserPathForPackageableElement(g.getFunction()) + " " + g.getStatus().getClass().getSimpleName() + " " + g.getMessage()));
+        Verify.assertSize(5, parallelCallback.getGroups());
+    }
+
     protected static FunctionExecution getFunctionExecution()
     {
         return new FunctionExecutionInterpreted();
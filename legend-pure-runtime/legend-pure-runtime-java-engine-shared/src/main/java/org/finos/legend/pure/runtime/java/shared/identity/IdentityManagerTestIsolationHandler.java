@@ -0,0 +1,65 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.shared.identity;
+
+import org.finos.legend.pure.m3.execution.test.TestIsolationHandler;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+
+/**
+ * Test isolation handler which gives each test the same authenticated user (by default, the user of the thread which
+ * created the handler) and restores the thread's previous user once the test is finished, so that no test sees a user
+ * set by another.
+ */
+public class IdentityManagerTestIsolationHandler implements TestIsolationHandler
+{
+    private final String userId;
+    private final ThreadLocal<String> previousUserId = new ThreadLocal<>();
+
+    public IdentityManagerTestIsolationHandler(String userId)
+    {
+        this.userId = userId;
+    }
+
+    public IdentityManagerTestIsolationHandler()
+    {
+        this(IdentityManager.getAuthenticatedUserId());
+    }
+
+    @Override
+    public void beforeTest(CoreInstance testFunction)
+    {
+        this.previousUserId.set(IdentityManager.getAuthenticatedUserId());
+        IdentityManager.clear();
+        if ((this.userId != null) && !this.userId.isEmpty())
+        {
+            IdentityManager.setAuthenticatedUserId(this.userId);
+        }
+    }
+
+    @Override
+    public void afterTest(CoreInstance testFunction)
+    {
+        String previous = this.previousUserId.get();
+        this.previousUserId.remove();
+        if ((previous == null) || previous.isEmpty())
+        {
+            IdentityManager.clear();
+        }
+        else
+        {
+            IdentityManager.setAuthenticatedUserId(previous);
+        }
+    }
+}
@@ -0,0 +1,247 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.shared.memoization;
+
+import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.list.ListIterable;
+import org.finos.legend.pure.m3.navigation.Instance;
+import org.finos.legend.pure.m3.navigation.M3Properties;
+import org.finos.legend.pure.m3.navigation.ProcessorSupport;
+import org.finos.legend.pure.m3.navigation.profile.Profile;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded cache of results of deterministic functions, keyed by function and argument values. Functions opt in to
+ * memoization with the {@code meta::pure::profiles::functionType.Memoize} stereotype. The cache holds at most
+ * {@link #getMaxSize()} entries and evicts the least recently used entry when full. It must be cleared whenever the
+ * graph is recompiled, as cached results may refer to instances which are no longer valid.
+ */
+public class FunctionMemoizationCache
+{
+    public static final String MEMOIZE_PROFILE = "meta::pure::profiles::functionType";
+    public static final String MEMOIZE_STEREOTYPE = "Memoize";
+    public static final int DEFAULT_MAX_SIZE = 10_000;
+
+    private static final Object NULL_RESULT = new Object();
+
+    private final int maxSize;
+    private final LinkedHashMap<CacheKey, Object> cache;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+    private volatile CoreInstance memoizeStereotype;
+
+    public FunctionMemoizationCache(int maxSize)
+    {
+        if (maxSize < 0)
+        {
+            throw new IllegalArgumentException("Invalid max size: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.cache = new LinkedHashMap<CacheKey, Object>(16, 0.75f, true)
+        {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, Object> eldest)
+            {
+                if (size() > FunctionMemoizationCache.this.maxSize)
+                {
+                    FunctionMemoizationCache.this.evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public FunctionMemoizationCache()
+    {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Get the cached result of applying function to arguments, or compute it with resultFunction and cache it. The
+     * computation happens outside the cache lock, so memoized functions may call other memoized functions. If two
+     * threads compute the same entry concurrently, the first result to be stored wins.
+     *
+     * @param function       function identifier (e.g., the function instance or its path)
+     * @param arguments      argument values, which must have value-based equality where equality is intended
+     * @param resultFunction function to compute the result on a cache miss
+     * @return function result
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getIfAbsentPut(Object function, ListIterable<?> arguments, Function0<? extends T> resultFunction)
+    {
+        if (this.maxSize == 0)
+        {
+            this.misses.incrementAndGet();
+            return resultFunction.value();
+        }
+
+        CacheKey key = new CacheKey(function, arguments);
+        Object cached;
+        synchronized (this.cache)
+        {
+            cached = this.cache.get(key);
+        }
+        if (cached != null)
+        {
+            this.hits.incrementAndGet();
+            return (cached == NULL_RESULT) ? null : (T) cached;
+        }
+
+        this.misses.incrementAndGet();
+        T result = resultFunction.value();
+        synchronized (this.cache)
+        {
+            Object existing = this.cache.putIfAbsent(key, (result == null) ? NULL_RESULT : result);
+            if (existing != null)
+            {
+                return (existing == NULL_RESULT) ? null : (T) existing;
+            }
+        }
+        return result;
+    }
+
+    public int getMaxSize()
+    {
+        return this.maxSize;
+    }
+
+    public int size()
+    {
+        synchronized (this.cache)
+        {
+            return this.cache.size();
+        }
+    }
+
+    /**
+     * Remove all cached results, and forget the resolved memoization stereotype. This should be called whenever the
+     * graph is recompiled.
+     */
+    public void invalidate()
+    {
+        this.memoizeStereotype = null;
+        synchronized (this.cache)
+        {
+            if (!this.cache.isEmpty())
+            {
+                this.cache.clear();
+                this.invalidations.incrementAndGet();
+            }
+        }
+    }
+
+    public FunctionMemoizationStats getStats()
+    {
+        return new FunctionMemoizationStats(size(), this.maxSize, this.hits.get(), this.misses.get(), this.evictions.get(), this.invalidations.get());
+    }
+
+    public void resetStats()
+    {
+        this.hits.set(0L);
+        this.misses.set(0L);
+        this.evictions.set(0L);
+        this.invalidations.set(0L);
+    }
+
+    /**
+     * Whether the given function is marked for memoization with the {@code functionType.Memoize} stereotype.
+     *
+     * @param function         function
+     * @param processorSupport processor support
+     * @return whether the function should be memoized
+     */
+    public static boolean isMemoized(CoreInstance function, ProcessorSupport processorSupport)
+    {
+        ListIterable<? extends CoreInstance> stereotypes = Instance.getValueForMetaPropertyToManyResolved(function, M3Properties.stereotypes, processorSupport);
+        return stereotypes.notEmpty() && hasStereotype(stereotypes, findMemoizeStereotype(processorSupport));
+    }
+
+    /**
+     * Whether the given function is marked for memoization with the {@code functionType.Memoize} stereotype. Unlike
+     * {@link #isMemoized}, the stereotype is only resolved once, and is kept until the cache is next invalidated, so
+     * this is suitable for checking every function call.
+     *
+     * @param function         function
+     * @param processorSupport processor support
+     * @return whether the function should be memoized
+     */
+    public boolean isMemoizedFunction(CoreInstance function, ProcessorSupport processorSupport)
+    {
+        ListIterable<? extends CoreInstance> stereotypes = Instance.getValueForMetaPropertyToManyResolved(function, M3Properties.stereotypes, processorSupport);
+        if (stereotypes.isEmpty())
+        {
+            return false;
+        }
+        CoreInstance stereotype = this.memoizeStereotype;
+        if (stereotype == null)
+        {
+            this.memoizeStereotype = stereotype = findMemoizeStereotype(processorSupport);
+        }
+        return hasStereotype(stereotypes, stereotype);
+    }
+
+    private static CoreInstance findMemoizeStereotype(ProcessorSupport processorSupport)
+    {
+        return Profile.findStereotype(MEMOIZE_PROFILE, MEMOIZE_STEREOTYPE, processorSupport, true);
+    }
+
+    private static boolean hasStereotype(ListIterable<? extends CoreInstance> stereotypes, CoreInstance stereotype)
+    {
+        return stereotypes.anySatisfy(s -> s == stereotype);
+    }
+
+    private static class CacheKey
+    {
+        private final Object function;
+        private final ListIterable<?> arguments;
+        private final int hashCode;
+
+        private CacheKey(Object function, ListIterable<?> arguments)
+        {
+            this.function = function;
+            this.arguments = arguments;
+            this.hashCode = (31 * function.hashCode()) + arguments.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object other)
+        {
+            if (this == other)
+            {
+                return true;
+            }
+            if (!(other instanceof CacheKey))
+            {
+                return false;
+            }
+            CacheKey that = (CacheKey) other;
+            return (this.hashCode == that.hashCode) && Objects.equals(this.function, that.function) && this.arguments.equals(that.arguments);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.hashCode;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.shared.memoization;
+
+import org.eclipse.collections.api.RichIterable;
+import org.finos.legend.pure.m3.serialization.runtime.CompilerEventHandler;
+import org.finos.legend.pure.m3.serialization.runtime.Source;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+
+import java.util.SortedMap;
+
+/**
+ * Compiler event handler which invalidates a {@link FunctionMemoizationCache} whenever anything is compiled,
+ * invalidated, or reset.
+ */
+public class FunctionMemoizationCompilerEventHandler implements CompilerEventHandler
+{
+    private final FunctionMemoizationCache cache;
+
+    public FunctionMemoizationCompilerEventHandler(FunctionMemoizationCache cache)
+    {
+        this.cache = cache;
+    }
+
+    @Override
+    public void finishedCompilingCore(RichIterable<? extends Source> compiledSources)
+    {
+        this.cache.invalidate();
+    }
+
+    @Override
+    public void compiled(SortedMap<String, RichIterable<? extends Source>> compiledSourcesByRepo, RichIterable<? extends CoreInstance> consolidatedCoreInstances)
+    {
+        this.cache.invalidate();
+    }
+
+    @Override
+    public void invalidate(RichIterable<? extends CoreInstance> consolidatedCoreInstances)
+    {
+        this.cache.invalidate();
+    }
+
+    @Override
+    public boolean isInitialized()
+    {
+        return true;
+    }
+
+    @Override
+    public void reset()
+    {
+        this.cache.invalidate();
+    }
+}
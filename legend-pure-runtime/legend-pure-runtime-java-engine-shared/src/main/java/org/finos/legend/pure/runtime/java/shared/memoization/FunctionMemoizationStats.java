@@ -0,0 +1,77 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.shared.memoization;
+
+public class FunctionMemoizationStats
+{
+    private final int size;
+    private final int maxSize;
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final long invalidations;
+
+    FunctionMemoizationStats(int size, int maxSize, long hits, long misses, long evictions, long invalidations)
+    {
+        this.size = size;
+        this.maxSize = maxSize;
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.invalidations = invalidations;
+    }
+
+    public int getSize()
+    {
+        return this.size;
+    }
+
+    public int getMaxSize()
+    {
+        return this.maxSize;
+    }
+
+    public long getHits()
+    {
+        return this.hits;
+    }
+
+    public long getMisses()
+    {
+        return this.misses;
+    }
+
+    public long getEvictions()
+    {
+        return this.evictions;
+    }
+
+    public long getInvalidations()
+    {
+        return this.invalidations;
+    }
+
+    public double getHitRate()
+    {
+        long total = this.hits + this.misses;
+        return (total == 0L) ? 0.0 : ((double) this.hits / total);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "<FunctionMemoizationStats size=" + this.size + " maxSize=" + this.maxSize + " hits=" + this.hits + " misses=" + this.misses + " evictions=" + this.evictions + " invalidations=" + this.invalidations + ">";
+    }
+}
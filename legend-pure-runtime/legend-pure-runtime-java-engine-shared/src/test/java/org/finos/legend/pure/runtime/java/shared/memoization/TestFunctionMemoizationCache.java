@@ -0,0 +1,94 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.shared.memoization;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TestFunctionMemoizationCache
+{
+    @Test
+    public void testHitsAndMisses()
+    {
+        FunctionMemoizationCache cache = new FunctionMemoizationCache(10);
+        AtomicInteger computations = new AtomicInteger();
+
+        Assert.assertEquals("a1", cache.getIfAbsentPut("f", Lists.mutable.with("a", 1L), () -> "a" + computations.incrementAndGet()));
+        Assert.assertEquals("a1", cache.getIfAbsentPut("f", Lists.mutable.with("a", 1L), () -> "a" + computations.incrementAndGet()));
+        Assert.assertEquals("a2", cache.getIfAbsentPut("f", Lists.mutable.with("a", 2L), () -> "a" + computations.incrementAndGet()));
+        Assert.assertEquals("a3", cache.getIfAbsentPut("g", Lists.mutable.with("a", 1L), () -> "a" + computations.incrementAndGet()));
+        Assert.assertEquals(3, computations.get());
+
+        FunctionMemoizationStats stats = cache.getStats();
+        Assert.assertEquals(3, stats.getSize());
+        Assert.assertEquals(1L, stats.getHits());
+        Assert.assertEquals(3L, stats.getMisses());
+        Assert.assertEquals(0.25, stats.getHitRate(), 0.0);
+    }
+
+    @Test
+    public void testNullResult()
+    {
+        FunctionMemoizationCache cache = new FunctionMemoizationCache(10);
+        AtomicInteger computations = new AtomicInteger();
+
+        Assert.assertNull(cache.getIfAbsentPut("f", Lists.mutable.empty(), () -> computations.incrementAndGet() > 0 ? null : "x"));
+        Assert.assertNull(cache.getIfAbsentPut("f", Lists.mutable.empty(), () -> computations.incrementAndGet() > 0 ? null : "x"));
+        Assert.assertEquals(1, computations.get());
+    }
+
+    @Test
+    public void testEviction()
+    {
+        FunctionMemoizationCache cache = new FunctionMemoizationCache(2);
+        cache.getIfAbsentPut("f", Lists.mutable.with(1), () -> 1);
+        cache.getIfAbsentPut("f", Lists.mutable.with(2), () -> 2);
+        // touch 1 so that 2 is the least recently used
+        cache.getIfAbsentPut("f", Lists.mutable.with(1), () -> -1);
+        cache.getIfAbsentPut("f", Lists.mutable.with(3), () -> 3);
+
+        Assert.assertEquals(2, cache.size());
+        Assert.assertEquals(1L, cache.getStats().getEvictions());
+        Assert.assertEquals(Integer.valueOf(1), cache.getIfAbsentPut("f", Lists.mutable.with(1), () -> -1));
+        Assert.assertEquals(Integer.valueOf(-2), cache.getIfAbsentPut("f", Lists.mutable.with(2), () -> -2));
+    }
+
+    @Test
+    public void testInvalidate()
+    {
+        FunctionMemoizationCache cache = new FunctionMemoizationCache(10);
+        cache.getIfAbsentPut("f", Lists.mutable.with(1), () -> 1);
+        cache.invalidate();
+
+        Assert.assertEquals(0, cache.size());
+        Assert.assertEquals(1L, cache.getStats().getInvalidations());
+        Assert.assertEquals(Integer.valueOf(2), cache.getIfAbsentPut("f", Lists.mutable.with(1), () -> 2));
+    }
+
+    @Test
+    public void testZeroSizeDisablesCaching()
+    {
+        FunctionMemoizationCache cache = new FunctionMemoizationCache(0);
+        AtomicInteger computations = new AtomicInteger();
+        cache.getIfAbsentPut("f", Lists.mutable.empty(), computations::incrementAndGet);
+        cache.getIfAbsentPut("f", Lists.mutable.empty(), computations::incrementAndGet);
+
+        Assert.assertEquals(2, computations.get());
+        Assert.assertEquals(0, cache.size());
+    }
+}
@@ -16,7 +16,6 @@ package org.finos.legend.pure.m2.relational.serialization.grammar.v1;
 
 import org.antlr.v4.runtime.ANTLRInputStream;
 import org.antlr.v4.runtime.CommonTokenStream;
-import org.antlr.v4.runtime.atn.PredictionMode;
 import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Sets;
@@ -85,12 +84,39 @@ import org.finos.legend.pure.m4.exception.PureCompilationException;
 import org.finos.legend.pure.m4.serialization.grammar.antlr.AntlrDescriptiveErrorListener;
 import org.finos.legend.pure.m4.serialization.grammar.antlr.AntlrSourceInformation;
 import org.finos.legend.pure.m4.serialization.grammar.antlr.PureAntlrErrorStrategy;
+import org.finos.legend.pure.m4.serialization.grammar.antlr.PureAntlrParsing;
 import org.finos.legend.pure.m4.serialization.grammar.antlr.PureParserException;
 
-import static org.finos.legend.pure.m3.serialization.grammar.m3parser.antlr.ParsingUtils.isAntlrRecognitionExceptionUsingFastParser;
-
 public class RelationalParser implements IRelationalParser
 {
+    private static final String WARM_UP_CODE = "import meta::pure::warmup::*;\n" +
+            "\n" +
+            "Database meta::pure::warmup::DB\n" +
+            "(\n" +
+            "    include meta::pure::warmup::BaseDB\n" +
+            "\n" +
+            "    Schema S\n" +
+            "    (\n" +
+            "        Table person\n" +
+            "        (\n" +
+            "            id INTEGER PRIMARY KEY,\n" +
+            "            firstName VARCHAR(200),\n" +
+            "            age INTEGER,\n" +
+            "            firmId INTEGER NOT NULL\n" +
+            "        )\n" +
+            "        Table firm(id INTEGER PRIMARY KEY, legalName VARCHAR(200))\n" +
+            "        View adults\n" +
+            "        (\n" +
+            "            ~filter AdultFilter\n" +
+            "            id : person.id PRIMARY KEY,\n" +
+            "            name : concat(person.firstName, ' ', toUpper(person.firstName))\n" +
+            "        )\n" +
+            "    )\n" +
+            "\n" +
+            "    Join firm_person(S.firm.id = S.person.firmId and S.firm.id in (1, 2))\n" +
+            "    Filter AdultFilter(S.person.age >= 18 or S.person.firstName is not null)\n" +
+            ")\n";
+
     private AntlrSourceInformation sourceInformation;
     private ParserLibrary parserLibrary;
 
@@ -119,24 +145,12 @@ public class RelationalParser implements IRelationalParser
 
     private String parseDefinition(boolean useFastParser, String code, String sourceName, boolean addLines, int offset, ModelRepository repository, M3M4StateListener listener, Context context, int count, String importId)
     {
-        org.finos.legend.pure.m2.relational.serialization.grammar.v1.antlr.RelationalParser parser = this.initAntlrParser(useFastParser, code, sourceName, offset, 0, addLines);
-        try
+        return PureAntlrParsing.parse(org.finos.legend.pure.m2.relational.serialization.grammar.v1.antlr.RelationalParser.class, useFastParser, fastParser ->
         {
+            org.finos.legend.pure.m2.relational.serialization.grammar.v1.antlr.RelationalParser parser = this.initAntlrParser(fastParser, code, sourceName, offset, 0, addLines);
             RelationalGraphBuilder visitor = new RelationalGraphBuilder(importId, this.sourceInformation, this.parserLibrary);
             return visitor.visitDefinition(parser.definition());
-        }
-        catch (Exception e)
-        {
-            if (isAntlrRecognitionExceptionUsingFastParser(useFastParser, e))
-            {
-//                System.err.println("Error using fast Antlr Parser: " + ExceptionUtils.getStackTrace(e));
-                return this.parseDefinition(false, code, sourceName, addLines, offset, repository, listener, context, count, importId);
-            }
-            else
-            {
-                throw e;
-            }
-        }
+        });
     }
 
     @Override
@@ -147,25 +161,12 @@ public class RelationalParser implements IRelationalParser
 
     private String parseMapping(boolean useFastParser, String content, String id, String extendsId, String setSourceInfo, boolean root, String classPath, String classSourceInfo, String mappingPath, String sourceName, int offset, String importId, ModelRepository repository, Context context) throws PureParserException
     {
-        org.finos.legend.pure.m2.relational.serialization.grammar.v1.antlr.RelationalParser parser = this.initAntlrParser(useFastParser, content, sourceName, offset, 0, true);
-
-        try
+        return PureAntlrParsing.parse(org.finos.legend.pure.m2.relational.serialization.grammar.v1.antlr.RelationalParser.class, useFastParser, fastParser ->
         {
+            org.finos.legend.pure.m2.relational.serialization.grammar.v1.antlr.RelationalParser parser = this.initAntlrParser(fastParser, content, sourceName, offset, 0, true);
             RelationalGraphBuilder visitor = new RelationalGraphBuilder(importId, this.sourceInformation, this.parserLibrary);
             return visitor.visitMappingBlock(parser.mapping(), id, extendsId, setSourceInfo, root, classPath, classSourceInfo, mappingPath);
-        }
-        catch (Exception e)
-        {
-            if (isAntlrRecognitionExceptionUsingFastParser(useFastParser, e))
-            {
-//                System.err.println("Error using fast Antlr Parser: " + ExceptionUtils.getStackTrace(e));
-                return this.parseMapping(false, content, id, extendsId, setSourceInfo, root, classPath, classSourceInfo, mappingPath, sourceName, offset, importId, repository, context);
-            }
-            else
-            {
-                throw e;
-            }
-        }
+        });
     }
 
     public String parseMilestoningDefinition(String type, String content, String sourceName, int rowOffset, int colOffset, String importId)
@@ -175,10 +176,9 @@ public class RelationalParser implements IRelationalParser
 
     private String parseMilestoningDefinition(Boolean useFastParser, String type, String content, String sourceName, int rowOffset, int colOffset, String importId)
     {
-        org.finos.legend.pure.m2.relational.serialization.grammar.v1.antlr.RelationalParser parser = this.initAntlrParser(useFastParser, content, sourceName, rowOffset, colOffset, true);
-
-        try
+        return PureAntlrParsing.parse(org.finos.legend.pure.m2.relational.serialization.grammar.v1.antlr.RelationalParser.class, useFastParser, fastParser ->
         {
+            org.finos.legend.pure.m2.relational.serialization.grammar.v1.antlr.RelationalParser parser = this.initAntlrParser(fastParser, content, sourceName, rowOffset, colOffset, true);
             if ("business".equals(type))
             {
                 RelationalGraphBuilder visitor = new RelationalGraphBuilder(importId, this.sourceInformation, this.parserLibrary);
@@ -190,19 +190,7 @@ public class RelationalParser implements IRelationalParser
                 return visitor.visitProcessingMilestoningInnerDefinition(parser.processingMilestoningInnerDefinition());
             }
             return null;
-        }
-        catch (Exception e)
-        {
-            if (isAntlrRecognitionExceptionUsingFastParser(useFastParser, e))
-            {
-//                System.err.println("Error using fast Antlr Parser: " + ExceptionUtils.getStackTrace(e));
-                return this.parseMilestoningDefinition(false, type, content, sourceName, rowOffset, colOffset, importId);
-            }
-            else
-            {
-                throw e;
-            }
-        }
+        });
     }
 
     @Override
@@ -269,10 +257,22 @@ public class RelationalParser implements IRelationalParser
         );
     }
 
+    @Override
+    public void warmUp()
+    {
+        // Only the ANTLR parse is needed to populate the DFA caches: the result is discarded
+        PureAntlrParsing.warmUp(org.finos.legend.pure.m2.relational.serialization.grammar.v1.antlr.RelationalParser.class, () -> newAntlrParser(true, WARM_UP_CODE, new AntlrSourceInformation(0, 0, "warmUp.pure", false)).definition());
+    }
+
     private org.finos.legend.pure.m2.relational.serialization.grammar.v1.antlr.RelationalParser initAntlrParser(boolean fastParser, String code, String sourceName, int offsetLine, int offsetColumn, boolean addLines)
     {
         this.sourceInformation = new AntlrSourceInformation(offsetLine, offsetColumn, sourceName, addLines);
-        AntlrDescriptiveErrorListener pureErrorListener = new AntlrDescriptiveErrorListener(this.sourceInformation);
+        return newAntlrParser(fastParser, code, this.sourceInformation);
+    }
+
+    private static org.finos.legend.pure.m2.relational.serialization.grammar.v1.antlr.RelationalParser newAntlrParser(boolean fastParser, String code, AntlrSourceInformation sourceInformation)
+    {
+        AntlrDescriptiveErrorListener pureErrorListener = new AntlrDescriptiveErrorListener(sourceInformation);
 
         org.finos.legend.pure.m2.relational.serialization.grammar.v1.antlr.RelationalLexer lexer = new org.finos.legend.pure.m2.relational.serialization.grammar.v1.antlr.RelationalLexer(new ANTLRInputStream(code));
         lexer.removeErrorListeners();
@@ -281,8 +281,8 @@ public class RelationalParser implements IRelationalParser
         org.finos.legend.pure.m2.relational.serialization.grammar.v1.antlr.RelationalParser parser = new org.finos.legend.pure.m2.relational.serialization.grammar.v1.antlr.RelationalParser(new CommonTokenStream(lexer));
         parser.removeErrorListeners();
         parser.addErrorListener(pureErrorListener);
-        parser.setErrorHandler(new PureAntlrErrorStrategy(this.sourceInformation));
-        parser.getInterpreter().setPredictionMode(fastParser ? PredictionMode.SLL : PredictionMode.LL);
+        parser.setErrorHandler(new PureAntlrErrorStrategy(sourceInformation));
+        PureAntlrParsing.setPredictionMode(parser, fastParser);
         return parser;
     }
 